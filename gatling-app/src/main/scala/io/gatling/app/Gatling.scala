@@ -16,6 +16,7 @@
 
 package io.gatling.app
 
+import java.nio.file.Path
 import java.util.concurrent.TimeUnit
 
 import scala.util.control.NonFatal
@@ -45,11 +46,19 @@ object Gatling extends StrictLogging {
     SLF4JBridgeHandler.removeHandlersForRootLogger()
     SLF4JBridgeHandler.install()
     new GatlingArgsParser(args).parseArguments match {
-      case Left(gatlingArgs) => start(gatlingArgs)
-      case Right(statusCode) => statusCode.code
+      case Left(gatlingArgs) if gatlingArgs.compare.nonEmpty => compare(gatlingArgs.compare)
+      case Left(gatlingArgs)                                 => start(gatlingArgs)
+      case Right(statusCode)                                 => statusCode.code
     }
   }
 
+  private def compare(summaries: List[Path]): Int =
+    try {
+      new ResultsComparator(loadConfiguration().reports).compare(summaries).code
+    } finally {
+      flushLoggers()
+    }
+
   private def start(gatlingArgs: GatlingArgs): Int =
     try {
       // [e]
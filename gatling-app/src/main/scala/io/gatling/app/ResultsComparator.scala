@@ -0,0 +1,114 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.app
+
+import java.nio.file.{ Files, Path }
+
+import scala.util.control.NonFatal
+
+import io.gatling.app.cli.StatusCode
+import io.gatling.charts.stats.{ Group, ResultsSummary, SummaryEntry, SummaryStats }
+import io.gatling.commons.util.Throwables._
+import io.gatling.core.config.ReportsConfiguration
+import io.gatling.shared.util.NumberHelper.RichDouble
+
+/**
+ * Compares the results summaries of several runs with a baseline one, without parsing any log file.
+ *
+ * Only the response times of OK requests and groups are compared: the mean and the configured percentiles.
+ */
+private[app] final class ResultsComparator(configuration: ReportsConfiguration) {
+  private val metrics: List[(String, SummaryStats => Double)] = {
+    import configuration.indicators._
+    ("mean", (stats: SummaryStats) => stats.mean) ::
+      List(percentile1, percentile2, percentile3, percentile4).map(rank => (s"${rank.toRank} percentile", (stats: SummaryStats) => stats.percentile(rank).toDouble))
+  }
+
+  def compare(paths: List[Path]): StatusCode = {
+    val summaries = paths.map(summaryFile).map(file => read(file).map(file -> _))
+    summaries.collectFirst { case Left(message) => message } match {
+      case Some(message) =>
+        println(message)
+        StatusCode.InvalidArguments
+
+      case _ =>
+        summaries.collect { case Right(summary) => summary } match {
+          case (baselineFile, baseline) :: others if others.nonEmpty =>
+            val baselineEntries = baseline.entries.map(entry => key(entry) -> entry).toMap
+            println(s"Baseline: $baselineFile")
+            val regressions = others.map { case (file, summary) => compare(baselineEntries, file, summary) }.sum
+            if (regressions == 0) StatusCode.Success else StatusCode.RegressionsDetected
+
+          case _ =>
+            println("Comparing results summaries requires a baseline and at least one other summary")
+            StatusCode.InvalidArguments
+        }
+    }
+  }
+
+  private def summaryFile(path: Path): Path =
+    if (Files.isDirectory(path)) path.resolve(ResultsSummary.FileName) else path
+
+  private def read(file: Path): Either[String, ResultsSummary] =
+    if (!Files.isRegularFile(file)) {
+      Left(s"Results summary $file doesn't exist")
+    } else {
+      try {
+        Right(ResultsSummary.read(file))
+      } catch {
+        case NonFatal(e) => Left(s"Results summary $file can't be read: ${e.detailedMessage}")
+      }
+    }
+
+  private def key(entry: SummaryEntry): (Option[Group], Option[String]) = (entry.group, entry.request)
+
+  private def name(entry: SummaryEntry): String =
+    if (entry.path.isEmpty) "Global" else entry.path.mkString(" / ")
+
+  private def isRegression(baselineValue: Double, value: Double): Boolean =
+    value - baselineValue >= configuration.comparison.minRegressionDelta &&
+      value > baselineValue * (1 + configuration.comparison.regressionThreshold / 100)
+
+  private def compare(baselineEntries: Map[(Option[Group], Option[String]), SummaryEntry], file: Path, summary: ResultsSummary): Int = {
+    println(s"Comparing $file (${summary.simulationClassName}, ${summary.duration / 1000}s)")
+
+    var regressions = 0
+    summary.entries.foreach { entry =>
+      baselineEntries.get(key(entry)) match {
+        case Some(baselineEntry) =>
+          for {
+            baselineStats <- baselineEntry.ok
+            stats <- entry.ok
+            (metricName, metric) <- metrics
+          } {
+            val baselineValue = metric(baselineStats)
+            val value = metric(stats)
+            if (isRegression(baselineValue, value)) {
+              regressions += 1
+              println(f"  REGRESSION ${name(entry)} $metricName: $baselineValue%.0f ms -> $value%.0f ms (+${(value / baselineValue - 1) * 100}%.1f%%)")
+            }
+          }
+
+        case _ =>
+          println(s"  ${name(entry)}: not in the baseline")
+      }
+    }
+
+    println(s"  $regressions regression(s)")
+    regressions
+  }
+}
@@ -20,7 +20,7 @@ import java.nio.file.Path
 
 import io.gatling.app.cli.StatusCode
 import io.gatling.charts.report.{ ReportsGenerationInputs, ReportsGenerator }
-import io.gatling.charts.stats.{ LogFileData, LogFileReader }
+import io.gatling.charts.stats.{ LogFileData, LogFileReader, ResultsCheckpoint }
 import io.gatling.core.cli.GatlingArgs
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.shared.model.assertion.{ AssertionMessage, AssertionResult, AssertionValidator }
@@ -47,11 +47,18 @@ private final class RunResultProcessor(gatlingArgs: GatlingArgs, configuration:
 
   private def initLogFileData(runResult: RunResult): Option[LogFileData] =
     if (reportsGenerationEnabled || runResult.hasAssertions) {
-      val start = System.currentTimeMillis()
-      println("Parsing log file(s)...")
-      val logFileData = LogFileReader(runResult.runId, resultsDirectory, configuration).read()
-      println(s"Parsing log file(s) done in ${(System.currentTimeMillis() - start) / 1000}s.")
-      Some(logFileData)
+      // in reports-only mode, the run might still be going on and only have an incomplete checkpoint
+      ResultsCheckpoint.read(resultsDirectory, runResult.runId, acceptIncomplete = gatlingArgs.reportsOnly.isDefined) match {
+        case Some(logFileData) =>
+          println("Using checkpointed statistics")
+          Some(logFileData)
+        case _ =>
+          val start = System.currentTimeMillis()
+          println("Parsing log file(s)...")
+          val logFileData = LogFileReader(runResult.runId, resultsDirectory, configuration).read()
+          println(s"Parsing log file(s) done in ${(System.currentTimeMillis() - start) / 1000}s.")
+          Some(logFileData)
+      }
     } else {
       None
     }
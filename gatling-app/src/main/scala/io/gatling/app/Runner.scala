@@ -22,6 +22,7 @@ import scala.concurrent.Await
 import scala.concurrent.duration._
 import scala.util.{ Failure, Try }
 
+import io.gatling.charts.stats.IncrementalReportsDataWriter
 import io.gatling.commons.util._
 import io.gatling.core.CoreComponents
 import io.gatling.core.action.Exit
@@ -34,6 +35,7 @@ import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.scenario.{ Population, SimulationParams }
 import io.gatling.core.stats.{ DataWritersStatsEngine, StatsEngine }
 import io.gatling.core.stats.writer.RunMessage
+import io.gatling.core.structure.PopulationBuilder
 
 import com.typesafe.scalalogging.StrictLogging
 import io.netty.channel.EventLoopGroup
@@ -119,14 +121,25 @@ private[gatling] class Runner(system: ActorSystem, eventLoopGroup: EventLoopGrou
   private final def loadCoreComponents(simulationParams: SimulationParams, runMessage: RunMessage): CoreComponents = {
     val statsEngine = newStatsEngine(simulationParams, runMessage)
     val throttler = Throttler.actor(simulationParams.throttlings(configuration)).map(system.actorOf)
-    val injector = system.actorOf(Injector.actor(eventLoopGroup, statsEngine, clock))
+    val injector = system.actorOf(Injector.actor(eventLoopGroup, statsEngine, clock, configuration.core.eventLoopLocalClosedInjection))
     val controller = system.actorOf(Controller.actor(statsEngine, injector, throttler, simulationParams))
     val exit = new Exit(injector)
     new CoreComponents(system, eventLoopGroup, controller, throttler, statsEngine, clock, exit, configuration)
   }
 
-  protected def newStatsEngine(simulationParams: SimulationParams, runMessage: RunMessage): StatsEngine =
-    DataWritersStatsEngine(simulationParams, runMessage, system, clock, gatlingArgs.resultsDirectory, configuration)
+  protected def newStatsEngine(simulationParams: SimulationParams, runMessage: RunMessage): StatsEngine = {
+    val incrementalReportsDataWriter = gatlingArgs.resultsDirectory.filter(_ => configuration.reports.incremental.enabled).map { resultsDirectory =>
+      new IncrementalReportsDataWriter(
+        runMessage,
+        PopulationBuilder.flatten(simulationParams.rootPopulationBuilders).map(_.scenarioBuilder.name),
+        simulationParams.assertions,
+        resultsDirectory,
+        configuration.reports
+      )
+    }
+
+    DataWritersStatsEngine(simulationParams, runMessage, system, clock, gatlingArgs.resultsDirectory, configuration, incrementalReportsDataWriter.toList)
+  }
 
   private final def loadPopulations(simulationParams: SimulationParams, coreComponents: CoreComponents): PopulationFlows[String, Population] =
     GatlingLifecycleException.manage(t => new GatlingLifecycleException.ScenariosBuilding(t)) {
@@ -48,6 +48,12 @@ private[app] final class GatlingArgsParser(args: Array[String]) {
 
     opt[String](BuildToolVersion)
       .foreach(value => gatlingArgs = gatlingArgs.copy(buildToolVersion = value.trimToOption))
+
+    opt[Seq[String]]("compare")
+      .abbr("cmp")
+      .valueName("<baseline>,<summary>...")
+      .text("Compares results summaries or run directories with the first one and reports regressions, instead of running a simulation")
+      .foreach(values => gatlingArgs = gatlingArgs.copy(compare = values.flatMap(_.trimToOption).map(Paths.get(_)).toList))
   }
 
   private def tryDecodeBase64(raw: String): String =
@@ -20,6 +20,7 @@ object StatusCode {
   case object Success extends StatusCode(0)
   case object InvalidArguments extends StatusCode(1)
   case object AssertionsFailed extends StatusCode(2)
+  case object RegressionsDetected extends StatusCode(3)
 }
 
 private[gatling] sealed abstract class StatusCode(val code: Int) extends Product with Serializable
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.app
+
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path }
+
+import io.gatling.app.cli.StatusCode
+import io.gatling.charts.stats.{ ResultsSummary, SummaryEntry, SummaryStats }
+import io.gatling.core.config.GatlingConfiguration
+
+import com.tdunning.math.stats.AVLTreeDigest
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ResultsComparatorSpec extends AnyFlatSpecLike with Matchers {
+  private val comparator = new ResultsComparator(
+    GatlingConfiguration
+      .loadForTest(
+        "gatling.charting.comparison.regressionThreshold" -> 10,
+        "gatling.charting.comparison.minRegressionDelta" -> 5
+      )
+      .reports
+  )
+
+  // all the indicators of a constant response time are equal to it
+  private def stats(responseTime: Int): SummaryStats = {
+    val digest = new AVLTreeDigest(100.0)
+    (1 to 10).foreach(_ => digest.add(responseTime.toDouble))
+    new SummaryStats(10, responseTime * 10L, responseTime.toLong * responseTime * 10L, digest)
+  }
+
+  private def summary(responseTimes: (String, Int)*): Path = {
+    val entries = responseTimes.map { case (request, responseTime) =>
+      new SummaryEntry(None, Some(request), Some(stats(responseTime)), Some(stats(responseTime)), None, Nil)
+    }
+    val file = Files.createTempFile("gatling", ResultsSummary.FileName)
+    ResultsSummary.write(new ResultsSummary("3.x", "computerdatabase.BasicSimulation", "", 0L, 60000L, entries), file)
+    file
+  }
+
+  private def compare(paths: Path*): (StatusCode, String) = {
+    val out = new ByteArrayOutputStream
+    val statusCode = Console.withOut(out)(comparator.compare(paths.toList))
+    (statusCode, out.toString(UTF_8))
+  }
+
+  "ResultsComparator" should "report a regression exceeding both the threshold and the minimum delta" in {
+    val (statusCode, output) = compare(summary("home" -> 100), summary("home" -> 120))
+
+    statusCode shouldBe StatusCode.RegressionsDetected
+    output should include("REGRESSION home mean: 100 ms -> 120 ms (+20.0%)")
+  }
+
+  it should "not report an increase under the threshold" in {
+    val (statusCode, output) = compare(summary("home" -> 100), summary("home" -> 109))
+
+    statusCode shouldBe StatusCode.Success
+    output should include("0 regression(s)")
+  }
+
+  it should "not report an increase under the minimum delta, however large relatively" in {
+    compare(summary("home" -> 10), summary("home" -> 14))._1 shouldBe StatusCode.Success
+    compare(summary("home" -> 10), summary("home" -> 15))._1 shouldBe StatusCode.RegressionsDetected
+  }
+
+  it should "count the regressions of every compared summary" in {
+    val (statusCode, output) = compare(summary("home" -> 100), summary("home" -> 100), summary("home" -> 200))
+
+    statusCode shouldBe StatusCode.RegressionsDetected
+    output should include("0 regression(s)")
+    output should include("5 regression(s)")
+  }
+
+  it should "skip requests that are not in the baseline" in {
+    val (statusCode, output) = compare(summary("home" -> 100), summary("home" -> 100, "search" -> 1000))
+
+    statusCode shouldBe StatusCode.Success
+    output should include("search: not in the baseline")
+  }
+
+  it should "require a baseline and at least one other summary" in {
+    compare(summary("home" -> 100))._1 shouldBe StatusCode.InvalidArguments
+  }
+
+  it should "reject a missing summary" in {
+    val missing = Files.createTempDirectory("gatling").resolve(ResultsSummary.FileName)
+    val (statusCode, output) = compare(summary("home" -> 100), missing)
+
+    statusCode shouldBe StatusCode.InvalidArguments
+    output should include(s"Results summary $missing doesn't exist")
+  }
+
+  it should "reject an invalid summary" in {
+    val invalid = Files.writeString(Files.createTempFile("gatling", ResultsSummary.FileName), "not a summary")
+    val (statusCode, output) = compare(summary("home" -> 100), invalid)
+
+    statusCode shouldBe StatusCode.InvalidArguments
+    output should include(s"Results summary $invalid can't be read")
+  }
+}
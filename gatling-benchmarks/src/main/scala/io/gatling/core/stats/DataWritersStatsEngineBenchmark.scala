@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats
+
+import java.util.concurrent.atomic.LongAdder
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.actor.ActorSystem
+import io.gatling.core.stats.writer.{ DataWriter, DataWriterData, DataWriterMessage }
+
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State, TearDown, Threads }
+
+object DataWritersStatsEngineBenchmark {
+  private object CountingData extends DataWriterData
+
+  // consumes the messages without doing anything with them so the benchmark measures the cost on the logResponse side
+  private final class CountingDataWriter(received: LongAdder) extends DataWriter[CountingData.type]("counting-data-writer") {
+    override def onInit(): CountingData.type = CountingData
+    override def onFlush(data: CountingData.type): Unit = {}
+    override def onCrash(cause: String, data: CountingData.type): Unit = {}
+    override def onStop(data: CountingData.type): Unit = {}
+    override def onMessage(message: DataWriterMessage.LoadEvent, data: CountingData.type): Unit = received.increment()
+  }
+
+  private val Groups = List("group")
+  private val Message = Some("status.find.is(200), but actually found 500")
+}
+
+@State(Scope.Benchmark)
+class DataWritersStatsEngineBenchmark {
+  import DataWritersStatsEngineBenchmark._
+
+  private val clock = new DefaultClock
+  private val system = new ActorSystem
+  private val received = new LongAdder
+  private val statsEngine = {
+    val dataWriters = List(system.actorOf(new CountingDataWriter(received)), system.actorOf(new CountingDataWriter(received)))
+    val engine = new DataWritersStatsEngine(dataWriters, system, clock)
+    engine.start()
+    engine
+  }
+
+  @TearDown
+  def tearDown(): Unit = system.close()
+
+  @Benchmark
+  @Threads(4)
+  def logOkResponse(): Unit = {
+    val now = clock.nowMillis
+    statsEngine.logResponse("scenario", Groups, "request", now - 10, now, OK, None, None)
+  }
+
+  @Benchmark
+  @Threads(4)
+  def logKoResponse(): Unit = {
+    val now = clock.nowMillis
+    statsEngine.logResponse("scenario", Groups, "request", now - 10, now, KO, Some("500"), Message)
+  }
+}
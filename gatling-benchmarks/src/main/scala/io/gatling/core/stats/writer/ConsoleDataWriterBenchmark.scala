@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.time.ZoneId
+import java.time.format.DateTimeFormatter
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.config.ConsoleDataWriterConfiguration
+
+import org.openjdk.jmh.annotations.{ Benchmark, OperationsPerInvocation, Scope, Setup, State }
+
+object ConsoleDataWriterBenchmark {
+  private val Scenario = "scenario"
+  final val EventCount = 1024
+
+  // synthetic load: 64 requests spread over a few group hierarchies, 1 response out of 16 failing with one of 4 messages
+  private val Events: Array[DataWriterMessage.LoadEvent.Response] = {
+    val groupHierarchies = Array(Nil, List("group1"), List("group1", "group2"), List("group3"))
+    Array.tabulate(EventCount) { i =>
+      val failed = i % 16 == 0
+      DataWriterMessage.LoadEvent.Response(
+        Scenario,
+        groupHierarchies(i % groupHierarchies.length),
+        s"request${i % 64}",
+        i.toLong,
+        i.toLong + 10,
+        if (failed) KO else OK,
+        Some(if (failed) "500" else "200"),
+        if (failed) Some(s"status.find.is(200), but actually found ${500 + i % 4}") else None
+      )
+    }
+  }
+}
+
+@State(Scope.Thread)
+class ConsoleDataWriterBenchmark {
+  import ConsoleDataWriterBenchmark._
+
+  private val writer = new ConsoleDataWriter(
+    RunMessage("ConsoleDataWriterBenchmark", "consoledatawriterbenchmark", 0, "", "", ZoneId.systemDefault),
+    List(ShortScenarioDescription(Scenario, None)),
+    new DefaultClock,
+    new ConsoleDataWriterConfiguration(light = false, writePeriod = 5.seconds),
+    None
+  )
+
+  private var data: ConsoleData = _
+
+  @Setup
+  def setUp(): Unit = {
+    data = new ConsoleData(0, DateTimeFormatter.ISO_DATE_TIME, () => true)
+    recordResponses()
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EventCount)
+  def recordResponses(): ConsoleData = {
+    var i = 0
+    while (i < Events.length) {
+      writer.onMessage(Events(i), data)
+      i += 1
+    }
+    data
+  }
+
+  @Benchmark
+  def snapshot(): Int =
+    data.requestsCounters.size + data.errorsCounters.size
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import io.gatling.commons.stats.{ KO, OK }
+
+import org.openjdk.jmh.annotations.{ Benchmark, OperationsPerInvocation, Scope, State }
+
+object LiveMetricsBenchmark {
+  final val EventCount = 1024
+
+  // synthetic load: 64 requests with response times spread up to a few seconds, 1 response out of 16 failing
+  private val Events: Array[DataWriterMessage.LoadEvent.Response] =
+    Array.tabulate(EventCount) { i =>
+      DataWriterMessage.LoadEvent.Response(
+        "scenario",
+        Nil,
+        s"request${i % 64}",
+        0,
+        (i * 7919L) % 3000,
+        if (i % 16 == 0) KO else OK,
+        None,
+        None
+      )
+    }
+}
+
+@State(Scope.Thread)
+class LiveMetricsBenchmark {
+  import LiveMetricsBenchmark._
+
+  private val aggregator = new LiveMetricsAggregator(windowPeriods = 6, maxRequests = 500, periodSeconds = 5, percentiles = Array(50.0, 75.0, 95.0, 99.0))
+
+  @Benchmark
+  @OperationsPerInvocation(EventCount)
+  def record(): LiveMetricsAggregator = {
+    var i = 0
+    while (i < Events.length) {
+      aggregator.record(Events(i))
+      i += 1
+    }
+    aggregator
+  }
+
+  @Benchmark
+  def rotate(): LiveMetricsSnapshot = {
+    record()
+    aggregator.rotate()
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.sse.fsm
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+
+import io.netty.bootstrap.{ Bootstrap, ServerBootstrap }
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.channel._
+import io.netty.channel.nio.NioIoHandler
+import io.netty.channel.socket.nio.{ NioServerSocketChannel, NioSocketChannel }
+import io.netty.handler.codec.http._
+import io.netty.util.ReferenceCountUtil
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+object SseStreamDecoderBenchmark {
+  final val EventCount = 1000
+
+  private[fsm] val EncodedEvents: Array[Byte] =
+    (0 until EventCount)
+      .map(i => s"""event: update
+                   |id: $i
+                   |data: {"symbol":"GTLG","price":${100 + i % 17}.${i % 100},"volume":${i * 31}}
+                   |
+                   |""".stripMargin)
+      .mkString
+      .getBytes(UTF_8)
+}
+
+/**
+ * Decode a pre-encoded stream of events split into chunks of various sizes.
+ */
+@State(Scope.Thread)
+class SseStreamDecoderBenchmark {
+  import SseStreamDecoderBenchmark._
+
+  @Param(Array("64", "1460", "16384"))
+  var chunkSize: Int = _
+
+  private var chunks: Array[ByteBuf] = _
+
+  @Setup
+  def setup(): Unit =
+    chunks = EncodedEvents.grouped(chunkSize).map(chunk => Unpooled.wrappedBuffer(chunk)).toArray
+
+  // events are only consumed, as when they're received while no check is pending
+  @Benchmark
+  @OperationsPerInvocation(EventCount)
+  def decode(bh: Blackhole): Unit = {
+    val decoder = new SseStreamDecoder(event => bh.consume(event))
+    chunks.foreach(decoder.decodeStream)
+  }
+
+  // events are rendered as JSON, as when a check is applied to every one of them
+  @Benchmark
+  @OperationsPerInvocation(EventCount)
+  def decodeAndRender(bh: Blackhole): Unit = {
+    val decoder = new SseStreamDecoder(event => bh.consume(event.asJsonString))
+    chunks.foreach(decoder.decodeStream)
+  }
+}
+
+object SseStubServerBenchmark {
+  final val Batch = 1000
+
+  /**
+   * Streams the same events over and over again to whoever connects, as long as the socket is writable.
+   */
+  private final class SseStubHandler extends ChannelInboundHandlerAdapter {
+    private val events = Unpooled.wrappedBuffer(SseStreamDecoderBenchmark.EncodedEvents)
+
+    private def writeEvents(ctx: ChannelHandlerContext): Unit = {
+      while (ctx.channel.isActive && ctx.channel.isWritable) {
+        ctx.write(new DefaultHttpContent(events.retainedDuplicate))
+      }
+      ctx.flush()
+      ()
+    }
+
+    override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = {
+      msg match {
+        case _: HttpRequest =>
+          val response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK)
+          response.headers
+            .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.TEXT_EVENT_STREAM)
+            .set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+          ctx.write(response)
+          writeEvents(ctx)
+        case _ =>
+      }
+      ReferenceCountUtil.release(msg)
+      ()
+    }
+
+    override def channelWritabilityChanged(ctx: ChannelHandlerContext): Unit =
+      writeEvents(ctx)
+  }
+
+  private final class SseClientHandler(decoder: SseStreamDecoder) extends ChannelInboundHandlerAdapter {
+    override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = {
+      msg match {
+        case content: HttpContent => decoder.decodeStream(content.content)
+        case _                    =>
+      }
+      ReferenceCountUtil.release(msg)
+      ()
+    }
+  }
+}
+
+/**
+ * Receive events from a local stub server over a real socket, measuring how many events a single connection can decode.
+ */
+@State(Scope.Benchmark)
+class SseStubServerBenchmark {
+  import SseStubServerBenchmark._
+
+  private val received = new AtomicLong
+  private val group = new MultiThreadIoEventLoopGroup(2, NioIoHandler.newFactory)
+  private var serverChannel: Channel = _
+  private var clientChannel: Channel = _
+
+  @Setup
+  def setup(): Unit = {
+    serverChannel = new ServerBootstrap()
+      .group(group)
+      .channel(classOf[NioServerSocketChannel])
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = {
+          ch.pipeline.addLast(new HttpServerCodec, new SseStubHandler)
+          ()
+        }
+      })
+      .bind(new InetSocketAddress("127.0.0.1", 0))
+      .sync()
+      .channel
+
+    clientChannel = new Bootstrap()
+      .group(group)
+      .channel(classOf[NioSocketChannel])
+      .handler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = {
+          val decoder = new SseStreamDecoder(_ => received.lazySet(received.get + 1))
+          ch.pipeline.addLast(new HttpClientCodec, new SseClientHandler(decoder))
+          ()
+        }
+      })
+      .connect(serverChannel.localAddress)
+      .sync()
+      .channel
+
+    val request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/events")
+    request.headers.set(HttpHeaderNames.ACCEPT, HttpHeaderValues.TEXT_EVENT_STREAM)
+    clientChannel.writeAndFlush(request).sync()
+    ()
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    clientChannel.close().sync()
+    serverChannel.close().sync()
+    group.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    ()
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Batch)
+  def receive(): Long = {
+    val target = received.get + Batch
+    while (received.get < target) {
+      LockSupport.parkNanos(1000)
+    }
+    received.get
+  }
+}
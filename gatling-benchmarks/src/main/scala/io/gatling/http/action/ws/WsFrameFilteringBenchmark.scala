@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.TimeUnit
+
+import io.gatling.core.session.StaticValueExpression
+import io.gatling.http.check.ws.WsFrameCheck
+
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+object WsFrameFilteringBenchmark {
+  final val FrameCount = 1000
+
+  // 1 frame out of 20 is the one the virtual user is waiting for, the other ones are just noise on the connection
+  private val Frames: Array[Array[Byte]] =
+    (0 until FrameCount)
+      .map { i =>
+        val kind = if (i % 20 == 0) "trade" else "quote"
+        s"""{"type":"$kind","symbol":"GTLG","price":${100 + i % 17}.${i % 100},"volume":${i * 31},"venue":"XGAT"}""".getBytes(UTF_8)
+      }
+      .toArray
+
+  private val Check: WsFrameCheck.Text =
+    WsFrameCheck.Text(StaticValueExpression("trade"), Nil, Nil, isSilent = false, resolvedName = "trade", substringMatchConditions = Nil)
+      .matchingSubstring(""""type":"trade"""")
+}
+
+/**
+ * Per-connection inbound TEXT frames throughput while a check is pending.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+class WsFrameFilteringBenchmark {
+  import WsFrameFilteringBenchmark._
+
+  private var buffers: Array[ByteBuf] = _
+
+  @Setup
+  def setup(): Unit =
+    buffers = Frames.map(bytes => Unpooled.wrappedBuffer(bytes))
+
+  // historical behavior: every frame is decoded before being matched
+  @Benchmark
+  @OperationsPerInvocation(FrameCount)
+  def decodeThenMatch(bh: Blackhole): Unit =
+    buffers.foreach { buffer =>
+      val text = new WsInboundTextFrame(buffer).text
+      if (text.contains(""""type":"trade"""")) {
+        bh.consume(text)
+      }
+    }
+
+  // frames are matched on their raw bytes, only the matching ones get decoded
+  @Benchmark
+  @OperationsPerInvocation(FrameCount)
+  def matchRawThenDecode(bh: Blackhole): Unit =
+    buffers.foreach { buffer =>
+      val frame = new WsInboundTextFrame(buffer)
+      if (Check.matchesSubstrings(frame)) {
+        bh.consume(frame.text)
+      }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+import java.util.concurrent.atomic.AtomicReference
+
+import io.gatling.http.client.impl.DefaultHttpClient
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.client.uri.Uri
+
+import io.netty.bootstrap.ServerBootstrap
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.channel._
+import io.netty.channel.nio.NioIoHandler
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.handler.codec.http._
+import org.openjdk.jmh.annotations._
+
+object Http1PipeliningBenchmark {
+
+  private val Body = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer("""{"status":"ok"}""", UTF_8))
+
+  /**
+   * Answers each request as soon as it's decoded. HttpServerCodec decodes pipelined requests in order, so responses are written in
+   * order.
+   */
+  private final class OkHandler extends SimpleChannelInboundHandler[HttpRequest] {
+    override def channelRead0(ctx: ChannelHandlerContext, request: HttpRequest): Unit = {
+      val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Body.duplicate)
+      response.headers
+        .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+        .setInt(HttpHeaderNames.CONTENT_LENGTH, Body.readableBytes)
+      ctx.write(response)
+      ()
+    }
+
+    override def channelReadComplete(ctx: ChannelHandlerContext): Unit = {
+      ctx.flush()
+      ()
+    }
+  }
+}
+
+/**
+ * Sends batches of concurrent GET requests over shared HTTP/1.1 connections capped by a per-remote connection budget, with and without
+ * pipelining.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class Http1PipeliningBenchmark {
+  import Http1PipeliningBenchmark._
+
+  @Param(Array("0", "8", "32"))
+  var http1PipeliningDepth: Int = _
+
+  @Param(Array("4"))
+  var maxConnectionsPerRemote: Int = _
+
+  @Param(Array("1000"))
+  var requests: Int = _
+
+  private val serverGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory)
+  private val clientGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory)
+  private var serverChannel: Channel = _
+  private var client: DefaultHttpClient = _
+  private var request: Request = _
+
+  // the first failure, so a broken client fails the benchmark instead of measuring errors
+  private val failure = new AtomicReference[Throwable]
+
+  private def newListener(completed: CountDownLatch): HttpListener =
+    new HttpListener {
+      override def onFinalClientRequest(request: Request): Unit = ()
+      override def onHttpResponse(status: HttpResponseStatus, headers: HttpHeaders): Unit = ()
+      override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
+        if (last) {
+          completed.countDown()
+        }
+      override def onThrowable(e: Throwable): Unit = {
+        failure.compareAndSet(null, e)
+        completed.countDown()
+      }
+    }
+
+  @Setup
+  def setup(): Unit = {
+    serverChannel = new ServerBootstrap()
+      .group(serverGroup)
+      .channel(classOf[NioServerSocketChannel])
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = {
+          ch.pipeline.addLast(new HttpServerCodec, new OkHandler)
+          ()
+        }
+      })
+      .bind(new InetSocketAddress("127.0.0.1", 0))
+      .sync()
+      .channel
+
+    client = new DefaultHttpClient(
+      new HttpClientConfig()
+        .setHttp1PipeliningDepth(http1PipeliningDepth)
+        .setMaxConnectionsPerRemote(maxConnectionsPerRemote)
+    )
+    val port = serverChannel.localAddress.asInstanceOf[InetSocketAddress].getPort
+    request = new RequestBuilder("get", HttpMethod.GET, Uri.create(s"http://127.0.0.1:$port/ok"), InetAddressNameResolver.JAVA_RESOLVER)
+      .setRequestTimeout(30000)
+      .build()
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    client.close()
+    serverChannel.close().sync()
+    clientGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    serverGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    ()
+  }
+
+  @Benchmark
+  def sharedConnections(): Long = {
+    val completed = new CountDownLatch(requests)
+    val eventLoop = clientGroup.next()
+    for (_ <- 0 until requests) {
+      // -1 is the shared connections client id
+      client.sendRequest(request, -1, eventLoop, newListener(completed), null)
+    }
+    if (!completed.await(1, TimeUnit.MINUTES)) {
+      throw new IllegalStateException(s"${completed.getCount} requests didn't complete")
+    }
+    val e = failure.getAndSet(null)
+    if (e != null) {
+      throw new IllegalStateException("Request failed", e)
+    }
+    completed.getCount
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client
+
+import java.lang.management.ManagementFactory
+import java.net.InetSocketAddress
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+import java.util.concurrent.atomic.{ AtomicLong, AtomicReference }
+import java.util.concurrent.locks.LockSupport
+
+import io.gatling.http.client.impl.DefaultHttpClient
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.client.uri.Uri
+
+import io.netty.bootstrap.ServerBootstrap
+import io.netty.buffer.ByteBuf
+import io.netty.channel._
+import io.netty.channel.group.DefaultChannelGroup
+import io.netty.channel.nio.NioIoHandler
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.handler.codec.http.{ HttpHeaders, HttpMethod, HttpObjectAggregator, HttpResponseStatus, HttpServerCodec }
+import io.netty.handler.codec.http.websocketx._
+import io.netty.util.concurrent.GlobalEventExecutor
+import org.openjdk.jmh.annotations._
+
+object WsFanOutBenchmark {
+
+  /**
+   * Echoes TEXT frames and keeps track of the connected WebSockets so frames can be broadcast to all of them.
+   */
+  private final class EchoBroadcastHandler(webSockets: DefaultChannelGroup) extends SimpleChannelInboundHandler[WebSocketFrame] {
+    override def userEventTriggered(ctx: ChannelHandlerContext, evt: AnyRef): Unit =
+      evt match {
+        case _: WebSocketServerProtocolHandler.HandshakeComplete =>
+          webSockets.add(ctx.channel)
+          ()
+        case _ => ctx.fireUserEventTriggered(evt)
+      }
+
+    override def channelRead0(ctx: ChannelHandlerContext, frame: WebSocketFrame): Unit =
+      frame match {
+        case text: TextWebSocketFrame =>
+          ctx.writeAndFlush(text.retain())
+          ()
+        case _ =>
+      }
+  }
+
+  private def usedHeap(): Long = {
+    // a couple of full GCs so that only reachable objects are counted
+    System.gc()
+    System.gc()
+    ManagementFactory.getMemoryMXBean.getHeapMemoryUsage.getUsed
+  }
+}
+
+/**
+ * Reports the heap retained per connection as a secondary result of [[WsFanOutBenchmark]].
+ *
+ * The heap measurement includes the server side of the connections, which is the same in both modes.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+class WsFanOutHeap {
+  var heapBytesPerConnection: Long = _
+}
+
+/**
+ * Opens many idle WebSocket connections against a local echo/broadcast server, reports the heap retained per connection and measures how
+ * long it takes for a broadcast frame to reach all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class WsFanOutBenchmark {
+  import WsFanOutBenchmark._
+
+  @Param(Array("false", "true"))
+  var leanWebSocketPipeline: Boolean = _
+
+  @Param(Array("5000"))
+  var connections: Int = _
+
+  private val received = new AtomicLong
+  private val serverGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory)
+  private val clientGroup = new MultiThreadIoEventLoopGroup(2, NioIoHandler.newFactory)
+  private val webSockets = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE)
+  private var serverChannel: Channel = _
+  private var client: DefaultHttpClient = _
+  private var heapBytesPerConnection: Long = _
+
+  // the first failure, so a broken client fails the benchmark instead of measuring fewer connections
+  private val failure = new AtomicReference[Throwable]
+
+  private def newListener(opened: CountDownLatch): WebSocketListener =
+    new WebSocketListener {
+      override def onWebSocketOpen(): Unit = opened.countDown()
+      override def onTextFrame(frame: TextWebSocketFrame): Unit = {
+        received.incrementAndGet()
+        ()
+      }
+      override def onBinaryFrame(frame: BinaryWebSocketFrame): Unit = ()
+      override def onPongFrame(frame: PongWebSocketFrame): Unit = ()
+      override def onCloseFrame(frame: CloseWebSocketFrame): Unit = ()
+      override def onHttpResponse(status: HttpResponseStatus, headers: HttpHeaders): Unit = ()
+      override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit = ()
+      override def onThrowable(e: Throwable): Unit = {
+        failure.compareAndSet(null, e)
+        ()
+      }
+    }
+
+  @Setup
+  def setup(): Unit = {
+    serverChannel = new ServerBootstrap()
+      .group(serverGroup)
+      .channel(classOf[NioServerSocketChannel])
+      .option[Integer](ChannelOption.SO_BACKLOG, 4096)
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = {
+          ch.pipeline.addLast(
+            new HttpServerCodec,
+            new HttpObjectAggregator(65536),
+            new WebSocketServerProtocolHandler("/ws"),
+            new EchoBroadcastHandler(webSockets)
+          )
+          ()
+        }
+      })
+      .bind(new InetSocketAddress("127.0.0.1", 0))
+      .sync()
+      .channel
+
+    client = new DefaultHttpClient(new HttpClientConfig().setLeanWebSocketPipeline(leanWebSocketPipeline))
+    val port = serverChannel.localAddress.asInstanceOf[InetSocketAddress].getPort
+    val uri = Uri.create(s"ws://127.0.0.1:$port/ws")
+
+    val heapBefore = usedHeap()
+    val opened = new CountDownLatch(connections)
+    for (i <- 0 until connections) {
+      val request = new RequestBuilder("ws", HttpMethod.GET, uri, InetAddressNameResolver.JAVA_RESOLVER)
+        .setRequestTimeout(30000)
+        .build()
+      client.sendRequest(request, i.toLong, clientGroup.next(), newListener(opened), null)
+    }
+    if (!opened.await(1, TimeUnit.MINUTES)) {
+      throw new IllegalStateException(s"${opened.getCount} WebSocket connections didn't open", failure.get)
+    }
+    val e = failure.get
+    if (e != null) {
+      throw new IllegalStateException("WebSocket connection failed", e)
+    }
+    heapBytesPerConnection = (usedHeap() - heapBefore) / connections
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    client.close()
+    webSockets.close().sync()
+    serverChannel.close().sync()
+    clientGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    serverGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    ()
+  }
+
+  @Benchmark
+  def broadcast(heap: WsFanOutHeap): Long = {
+    heap.heapBytesPerConnection = heapBytesPerConnection
+    val target = received.get + webSockets.size
+    webSockets.writeAndFlush(new TextWebSocketFrame("""{"type":"broadcast","payload":"Hello, everyone!"}"""))
+    while (received.get < target) {
+      LockSupport.parkNanos(1000)
+    }
+    received.get
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl
+
+import io.gatling.http.client.{ HttpListener, Request }
+
+import io.netty.buffer.ByteBuf
+import io.netty.channel.DefaultEventLoop
+import io.netty.handler.codec.http.{ HttpHeaders, HttpResponseStatus }
+import org.openjdk.jmh.annotations._
+
+object RequestTimeoutBenchmark {
+  final val Batch = 1000
+  private val Timeout = 60000L
+
+  private val NoopListener: HttpListener = new HttpListener {
+    override def onFinalClientRequest(request: Request): Unit = {}
+    override def onHttpResponse(status: HttpResponseStatus, headers: HttpHeaders): Unit = {}
+    override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit = {}
+    override def onThrowable(e: Throwable): Unit = {}
+  }
+}
+
+/**
+ * Start then cancel request timeouts from within the event loop, as the HTTP client does when responses arrive before the timeout.
+ */
+@State(Scope.Benchmark)
+class RequestTimeoutBenchmark {
+  import RequestTimeoutBenchmark._
+
+  private val eventLoop = new DefaultEventLoop
+  private val wheel = new RequestTimeoutWheel(10)
+  private val timeouts = new Array[RequestTimeout.DefaultRequestTimeout](Batch)
+
+  private def inEventLoop(f: => Unit): Unit = {
+    val task: Runnable = () => f
+    eventLoop.submit(task).sync()
+    ()
+  }
+
+  @Setup
+  def setup(): Unit =
+    inEventLoop(wheel.start(eventLoop))
+
+  @TearDown
+  def tearDown(): Unit = {
+    eventLoop.shutdownGracefully().sync()
+    ()
+  }
+
+  private def startAndCancel(wheel: RequestTimeoutWheel): Unit =
+    inEventLoop {
+      var i = 0
+      while (i < Batch) {
+        val timeout = RequestTimeout.requestTimeout(Timeout, NoopListener).asInstanceOf[RequestTimeout.DefaultRequestTimeout]
+        timeout.start(eventLoop, wheel)
+        timeouts(i) = timeout
+        i += 1
+      }
+      i = 0
+      while (i < Batch) {
+        timeouts(i).cancel()
+        i += 1
+      }
+    }
+
+  @Benchmark
+  @OperationsPerInvocation(Batch)
+  def scheduledTask(): Unit =
+    startAndCancel(null)
+
+  @Benchmark
+  @OperationsPerInvocation(Batch)
+  def timeoutWheel(): Unit =
+    startAndCancel(wheel)
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl.request
+
+import io.netty.buffer.{ ByteBuf, ByteBufAllocator, Unpooled }
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http._
+import io.netty.util.AsciiString
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State, TearDown }
+
+object Http1RequestHeadEncoderBenchmark {
+  private val Headers: HttpHeaders =
+    new DefaultHttpHeaders(false)
+      .add(HttpHeaderNames.HOST, new AsciiString("gatling.io"))
+      .add(HttpHeaderNames.ACCEPT, new AsciiString("text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"))
+      .add(HttpHeaderNames.ACCEPT_ENCODING, new AsciiString("gzip, deflate"))
+      .add(HttpHeaderNames.ACCEPT_LANGUAGE, new AsciiString("en-US,en;q=0.5"))
+      .add(HttpHeaderNames.USER_AGENT, new AsciiString("Mozilla/5.0 (X11; Linux x86_64; rv:120.0) Gecko/20100101 Firefox/120.0"))
+      .add(HttpHeaderNames.COOKIE, "JSESSIONID=0123456789ABCDEF; tracking=abcdef")
+      .add(HttpHeaderNames.CONTENT_LENGTH, new AsciiString("0"))
+
+  private val Request: FullHttpRequest =
+    new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/computers?f=macbook&p=2", Unpooled.EMPTY_BUFFER, Headers, EmptyHttpHeaders.INSTANCE)
+}
+
+@State(Scope.Thread)
+class Http1RequestHeadEncoderBenchmark {
+  import Http1RequestHeadEncoderBenchmark._
+
+  private val codecChannel = new EmbeddedChannel(new HttpRequestEncoder)
+  private val headEncoder = new Http1RequestHeadEncoder
+
+  @TearDown
+  def tearDown(): Unit = {
+    codecChannel.finishAndReleaseAll()
+    ()
+  }
+
+  @Benchmark
+  def codec(): Int = {
+    // retain as the codec releases the FullHttpRequest content once encoded
+    codecChannel.writeOutbound(Request.retain())
+    var size = 0
+    var buf = codecChannel.readOutbound[ByteBuf]()
+    while (buf != null) {
+      size += buf.readableBytes
+      buf.release()
+      buf = codecChannel.readOutbound[ByteBuf]()
+    }
+    size
+  }
+
+  @Benchmark
+  def direct(): Int = {
+    val buf = headEncoder.encode(ByteBufAllocator.DEFAULT, Request)
+    val size = buf.readableBytes
+    buf.release()
+    size
+  }
+}
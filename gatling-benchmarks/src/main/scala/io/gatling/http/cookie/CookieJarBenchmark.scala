@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.cookie
+
+import io.gatling.http.client.uri.Uri
+
+import io.netty.handler.codec.http.cookie.{ ClientCookieEncoder, Cookie, DefaultCookie }
+import org.openjdk.jmh.annotations._
+
+object CookieJarBenchmark {
+  private val Domains = Array("gatling.io", "www.gatling.io", "sso.gatling.io", "api.gatling.io", "cdn.example.com")
+  private val Paths = Array("/", "/app/", "/app/admin/", "/api/")
+  private val RequestUri = Uri.create("https://www.gatling.io/app/admin/users?page=2")
+
+  private def newCookie(i: Int): Cookie = {
+    val cookie = new DefaultCookie(s"cookie$i", s"value$i")
+    cookie.setDomain(Domains(i % Domains.length))
+    cookie.setPath(Paths(i % Paths.length))
+    cookie
+  }
+}
+
+@State(Scope.Thread)
+class CookieJarBenchmark {
+  import CookieJarBenchmark._
+
+  @Param(Array("10", "50", "200"))
+  var cookieCount: Int = _
+
+  private var jar: CookieJar = _
+  private var newCookie: Cookie = _
+
+  @Setup
+  def setup(): Unit = {
+    jar = CookieJar(RequestUri, List.tabulate(cookieCount)(CookieJarBenchmark.newCookie), 0L)
+    newCookie = CookieJarBenchmark.newCookie(cookieCount / 2)
+  }
+
+  // Cookie header computation before the jar got indexed and cached rendered headers
+  @Benchmark
+  def scanAndEncode(): String = {
+    val secure = RequestUri.isSecured
+    val requestDomain = RequestUri.getHost
+    val requestPath = RequestUri.getNonEmptyPath
+    val matching = jar.store.filter { case (key, storedCookie) =>
+      (requestDomain == key.domain || requestDomain.endsWith("." + key.domain)) &&
+      (key.path == requestPath || (requestPath.startsWith(key.path) && (key.path.last == '/' || requestPath.charAt(key.path.length) == '/'))) &&
+      (secure || !storedCookie.cookie.isSecure)
+    }
+    val sorted = matching.toList.sortWith { case ((key1, storedCookie1), (key2, storedCookie2)) =>
+      if (key1.path.length == key2.path.length) storedCookie1.creationTime < storedCookie2.creationTime
+      else key1.path.length >= key2.path.length
+    }
+    ClientCookieEncoder.LAX.encode(sorted.map(_._2.cookie): _*)
+  }
+
+  @Benchmark
+  def renderCached(): String =
+    jar.render(RequestUri).header
+
+  // the rendered Cookie header cache is empty after each update
+  @Benchmark
+  def addThenRender(): String =
+    jar.add(RequestUri, newCookie :: Nil, 1L).render(RequestUri).header
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.util
+
+import java.nio.ByteBuffer
+import java.security.KeyStore
+import javax.net.ssl.{ KeyManagerFactory, SSLContext, SSLEngine }
+import javax.net.ssl.SSLEngineResult.HandshakeStatus
+
+import scala.util.Using
+
+import io.gatling.core.config.GatlingConfiguration
+
+import io.netty.buffer.ByteBufAllocator
+import io.netty.handler.ssl.SslContext
+import io.netty.util.ReferenceCountUtil
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State, TearDown }
+
+object TlsSessionSharingBenchmark {
+  private val PeerHost = "localhost"
+  private val PeerPort = 8443
+  private val BufferSize = 64 * 1024
+  private val Empty = ByteBuffer.allocate(0)
+  private val MaxRounds = 100
+
+  private val configuration = GatlingConfiguration.loadForTest()
+  private val sslContextsFactory = new SslContextsFactory(configuration.ssl, enableHostnameVerification = false)
+
+  // stands in for a local TLS server
+  private val ServerSslContext: SSLContext = {
+    val keyStore = KeyStore.getInstance("JKS")
+    Using.resource(getClass.getClassLoader.getResourceAsStream("ssltest-keystore.jks")) { is =>
+      keyStore.load(is, "changeit".toCharArray)
+    }
+    val kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm)
+    kmf.init(keyStore, "changeit".toCharArray)
+    val context = SSLContext.getInstance("TLS")
+    context.init(kmf.getKeyManagers, null, null)
+    context
+  }
+
+  private def runDelegatedTasks(engine: SSLEngine): Unit = {
+    var task = engine.getDelegatedTask
+    while (task != null) {
+      task.run()
+      task = engine.getDelegatedTask
+    }
+  }
+
+  private def isHandshaking(engine: SSLEngine): Boolean =
+    engine.getHandshakeStatus != HandshakeStatus.NOT_HANDSHAKING && engine.getHandshakeStatus != HandshakeStatus.FINISHED
+
+  private def pump(from: SSLEngine, to: SSLEngine, network: ByteBuffer, app: ByteBuffer): Unit = {
+    from.wrap(Empty, network)
+    runDelegatedTasks(from)
+    network.flip()
+    to.unwrap(network, app)
+    network.compact()
+    runDelegatedTasks(to)
+    app.clear()
+  }
+
+  private def handshake(clientSslContext: SslContext): Boolean = {
+    val client = clientSslContext.newEngine(ByteBufAllocator.DEFAULT, PeerHost, PeerPort)
+    val server = ServerSslContext.createSSLEngine()
+    server.setUseClientMode(false)
+    val clientToServer = ByteBuffer.allocate(BufferSize)
+    val serverToClient = ByteBuffer.allocate(BufferSize)
+    val app = ByteBuffer.allocate(BufferSize)
+
+    try {
+      client.beginHandshake()
+      server.beginHandshake()
+      var rounds = 0
+      while ((isHandshaking(client) || isHandshaking(server)) && rounds < MaxRounds) {
+        pump(client, server, clientToServer, app)
+        pump(server, client, serverToClient, app)
+        rounds += 1
+      }
+      // deliver post handshake messages, such as TLSv1.3 session tickets
+      pump(server, client, serverToClient, app)
+      rounds < MaxRounds
+    } finally {
+      ReferenceCountUtil.release(client)
+    }
+  }
+}
+
+@State(Scope.Thread)
+class TlsSessionSharingBenchmark {
+  import TlsSessionSharingBenchmark._
+
+  private val sharedSslContexts = sslContextsFactory.newSslContexts(http2Enabled = false, None)
+
+  @TearDown
+  def tearDown(): Unit =
+    sharedSslContexts.close()
+
+  // what virtual users perform by default when not sharing connections
+  @Benchmark
+  def perUserSslContext(): Boolean = {
+    val sslContexts = sslContextsFactory.newSslContexts(http2Enabled = false, None)
+    try {
+      handshake(sslContexts.getSslContext)
+    } finally {
+      sslContexts.close()
+    }
+  }
+
+  // what virtual users perform with shareTlsSessions
+  @Benchmark
+  def sharedSslContext(): Boolean =
+    handshake(sharedSslContexts.getSslContext)
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+
+import jakarta.jms.{ Connection, DeliveryMode, Destination, MessageProducer, Session => JmsSession }
+import org.apache.activemq.ActiveMQConnectionFactory
+import org.apache.activemq.broker.BrokerService
+import org.openjdk.jmh.annotations._
+
+/**
+ * Sends persistent messages, ie synchronously acknowledged by the broker, through an embedded in-VM ActiveMQ broker, either directly from the calling thread
+ * like virtual users' event loops do by default, or from a JmsSender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class JmsSendBenchmark {
+  @Param(Array("0", "4"))
+  var sendThreads: Int = _
+
+  @Param(Array("1", "32"))
+  var sendBatchSize: Int = _
+
+  @Param(Array("10000"))
+  var messages: Int = _
+
+  @Param(Array("10000"))
+  var sendQueueSize: Int = _
+
+  private var broker: BrokerService = _
+  private var connection: Connection = _
+  private var session: JmsSession = _
+  private var destination: Destination = _
+  private var producer: MessageProducer = _
+  private var sender: JmsSender = _
+
+  @Setup
+  def setup(): Unit = {
+    broker = new BrokerService
+    broker.setBrokerName("sendBenchmark")
+    broker.setPersistent(false)
+    broker.setUseJmx(false)
+    broker.start()
+
+    connection = new ActiveMQConnectionFactory("vm://sendBenchmark?create=false").createConnection()
+    connection.start()
+
+    session = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+    destination = session.createQueue("requests")
+    producer = session.createProducer(destination)
+    producer.setDeliveryMode(DeliveryMode.PERSISTENT)
+
+    // drain the queue so producer flow control never kicks in
+    val consumerSession = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+    consumerSession.createConsumer(destination).setMessageListener(_ => ())
+
+    if (sendThreads > 0) {
+      sender = new JmsSender(connection, sendThreads, sendBatchSize, sendQueueSize)
+    }
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    if (sender != null) {
+      sender.close()
+    }
+    connection.close()
+    broker.stop()
+  }
+
+  @Benchmark
+  def send(): Long =
+    if (sender == null) {
+      for (_ <- 0 until messages) {
+        producer.send(session.createTextMessage("ping"))
+      }
+      0L
+    } else {
+      val countDown = new CountDownLatch(messages)
+      for (_ <- 0 until messages) {
+        sender.send(destination, DeliveryMode.PERSISTENT, session.createTextMessage("ping"), () => countDown.countDown(), _ => countDown.countDown())
+      }
+      countDown.await(1, TimeUnit.MINUTES)
+      countDown.getCount
+    }
+}
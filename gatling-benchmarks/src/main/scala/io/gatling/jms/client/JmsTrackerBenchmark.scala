@@ -0,0 +1,166 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+import java.util.concurrent.atomic.{ AtomicLong, AtomicReference }
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.stats.Status
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.action.Action
+import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.controller.Controller
+import io.gatling.core.session.{ GroupBlock, Session }
+import io.gatling.core.stats.StatsEngine
+
+import jakarta.jms.{ Connection, DeliveryMode, MessageProducer, Session => JmsSession }
+import org.apache.activemq.ActiveMQConnectionFactory
+import org.apache.activemq.broker.BrokerService
+import org.openjdk.jmh.annotations._
+
+object JmsTrackerBenchmark {
+  private object NoopStatsEngine extends StatsEngine {
+    override private[gatling] def start(): Unit = {}
+    override private[gatling] def stop(controller: ActorRef[Controller.Command], crash: Boolean): Unit = {}
+    override def logUserStart(scenario: String): Unit = {}
+    override def logUserEnd(scenario: String): Unit = {}
+    override def logResponse(
+        scenario: String,
+        groups: List[String],
+        requestName: String,
+        startTimestamp: Long,
+        endTimestamp: Long,
+        status: Status,
+        responseCode: Option[String],
+        message: Option[String]
+    ): Unit = {}
+    override def logGroupEnd(scenario: String, groupBlock: GroupBlock, exitTimestamp: Long): Unit = {}
+    override def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit = {}
+  }
+
+  /**
+   * Counts correlated replies down instead of resuming a virtual user
+   */
+  private final class CountDownAction(latch: AtomicReference[CountDownLatch]) extends Action {
+    override def name: String = "countDown"
+    override def !(session: Session): Unit = latch.get.countDown()
+    override protected def execute(session: Session): Unit = latch.get.countDown()
+  }
+
+  private val EmptySession = Session("Scenario", 0, null)
+}
+
+/**
+ * Sends batches of request messages through an embedded in-VM ActiveMQ broker, to a replier echoing them on a reply queue consumed by
+ * several listener threads, and measures how long it takes for the tracker to correlate all the replies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class JmsTrackerBenchmark {
+  import JmsTrackerBenchmark._
+
+  @Param(Array("0", "16"))
+  var trackerShards: Int = _
+
+  @Param(Array("4"))
+  var listenerThreads: Int = _
+
+  @Param(Array("20000"))
+  var inFlight: Int = _
+
+  private val clock = new DefaultClock
+  private val matchIds = new AtomicLong
+  private val latch = new AtomicReference[CountDownLatch]
+  private val next = new CountDownAction(latch)
+  private var broker: BrokerService = _
+  private var connection: Connection = _
+  private var actorSystem: ActorSystem = _
+  private var tracker: JmsMessageTracker = _
+  private var requestSession: JmsSession = _
+  private var requestProducer: MessageProducer = _
+
+  @Setup
+  def setup(): Unit = {
+    broker = new BrokerService
+    broker.setBrokerName("benchmark")
+    broker.setPersistent(false)
+    broker.setUseJmx(false)
+    broker.start()
+
+    val connectionFactory = new ActiveMQConnectionFactory("vm://benchmark?create=false")
+    connectionFactory.setUseAsyncSend(true)
+    connection = connectionFactory.createConnection()
+    connection.start()
+
+    actorSystem = new ActorSystem
+    val configuration = GatlingConfiguration.loadForTest()
+    tracker =
+      if (trackerShards > 0) {
+        new ShardedJmsTracker(trackerShards, NoopStatsEngine, clock, actorSystem.scheduler, 1.second)
+      } else {
+        JmsTracker.messageTracker(actorSystem.actorOf(JmsTracker.actor("jmsTracker", NoopStatsEngine, clock, configuration)))
+      }
+
+    // replier
+    val replierSession = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+    val replyProducer = replierSession.createProducer(replierSession.createQueue("replies"))
+    replyProducer.setDeliveryMode(DeliveryMode.NON_PERSISTENT)
+    replierSession.createConsumer(replierSession.createQueue("requests")).setMessageListener { request =>
+      val reply = replierSession.createTextMessage("pong")
+      reply.setJMSCorrelationID(request.getJMSCorrelationID)
+      replyProducer.send(reply)
+    }
+
+    // tracker listeners, each session has its own dispatch thread
+    for (_ <- 1 to listenerThreads) {
+      val listenerSession = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+      listenerSession.createConsumer(listenerSession.createQueue("replies")).setMessageListener { reply =>
+        tracker ! JmsTracker.Command.MessageReceived(reply.getJMSCorrelationID, clock.nowMillis, reply)
+      }
+    }
+
+    requestSession = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+    requestProducer = requestSession.createProducer(requestSession.createQueue("requests"))
+    requestProducer.setDeliveryMode(DeliveryMode.NON_PERSISTENT)
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    connection.close()
+    broker.stop()
+    actorSystem.close()
+  }
+
+  @Benchmark
+  def requestReply(): Long = {
+    val countDown = new CountDownLatch(inFlight)
+    latch.set(countDown)
+    for (_ <- 0 until inFlight) {
+      val matchId = matchIds.incrementAndGet().toString
+      tracker ! JmsTracker.Command.MessageSent(matchId, clock.nowMillis, 60000, Nil, EmptySession, next, "request")
+      val request = requestSession.createTextMessage("ping")
+      request.setJMSCorrelationID(matchId)
+      requestProducer.send(request)
+    }
+    countDown.await(1, TimeUnit.MINUTES)
+    countDown.getCount
+  }
+}
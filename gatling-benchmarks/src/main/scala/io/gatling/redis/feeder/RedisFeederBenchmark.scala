@@ -0,0 +1,185 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.redis.feeder
+
+import java.{ util => ju }
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.{ US_ASCII, UTF_8 }
+import java.util.concurrent.TimeUnit
+
+import io.gatling.core.feeder.CloseableFeeder
+import io.gatling.redis.Predef._
+
+import com.redis.RedisClientPool
+import io.netty.bootstrap.ServerBootstrap
+import io.netty.buffer.ByteBuf
+import io.netty.channel._
+import io.netty.channel.nio.NioIoHandler
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.handler.codec.ByteToMessageDecoder
+import org.openjdk.jmh.annotations._
+
+object RedisFeederBenchmark {
+  private val Value = "value"
+
+  /**
+   * Decodes RESP commands, ie arrays of bulk strings
+   */
+  private final class CommandDecoder extends ByteToMessageDecoder {
+    private def readLine(in: ByteBuf): String = {
+      val eol = in.indexOf(in.readerIndex, in.writerIndex, '\n')
+      if (eol < 0) {
+        null
+      } else {
+        val line = in.toString(in.readerIndex, eol - 1 - in.readerIndex, US_ASCII)
+        in.readerIndex(eol + 1)
+        line
+      }
+    }
+
+    private def readCommand(in: ByteBuf): Array[String] = {
+      val header = readLine(in)
+      if (header == null) {
+        null
+      } else {
+        val args = new Array[String](header.substring(1).toInt)
+        var i = 0
+        var complete = true
+        while (complete && i < args.length) {
+          val length = readLine(in)
+          if (length == null || in.readableBytes < length.substring(1).toInt + 2) {
+            complete = false
+          } else {
+            args(i) = in.readCharSequence(length.substring(1).toInt, UTF_8).toString
+            in.skipBytes(2)
+            i += 1
+          }
+        }
+        if (complete) args else null
+      }
+    }
+
+    override def decode(ctx: ChannelHandlerContext, in: ByteBuf, out: ju.List[AnyRef]): Unit = {
+      var decoding = true
+      while (decoding) {
+        in.markReaderIndex()
+        val command = readCommand(in)
+        if (command == null) {
+          in.resetReaderIndex()
+          decoding = false
+        } else {
+          out.add(command)
+        }
+      }
+    }
+  }
+
+  /**
+   * Stands in for a Redis server holding an infinite list: answers LPOP with a single value and EVAL with as many values as its last argument, after a
+   * simulated network latency
+   */
+  private final class ListHandler(latencyMicros: Long) extends SimpleChannelInboundHandler[Array[String]] {
+    private def bulk(value: String): String = s"$$${value.length}\r\n$value\r\n"
+
+    override def channelRead0(ctx: ChannelHandlerContext, command: Array[String]): Unit = {
+      val reply = command(0).toUpperCase(ju.Locale.ROOT) match {
+        case "LPOP" => bulk(Value)
+        case "EVAL" =>
+          val count = command(command.length - 1).toInt
+          s"*$count\r\n" + bulk(Value) * count
+        case _ => "+OK\r\n"
+      }
+      ctx.executor.schedule(
+        new Runnable {
+          override def run(): Unit = {
+            ctx.writeAndFlush(ctx.alloc.buffer.writeBytes(reply.getBytes(UTF_8)))
+            ()
+          }
+        },
+        latencyMicros,
+        TimeUnit.MICROSECONDS
+      )
+      ()
+    }
+  }
+}
+
+/**
+ * Reads records from a Redis list through a local stand-in server with a simulated network latency, one LPOP round-trip per record or prefetched by
+ * batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class RedisFeederBenchmark {
+  import RedisFeederBenchmark._
+
+  @Param(Array("0", "100", "1000"))
+  var prefetchBatchSize: Int = _
+
+  @Param(Array("200"))
+  var latencyMicros: Long = _
+
+  @Param(Array("2000"))
+  var records: Int = _
+
+  private val serverGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory)
+  private var serverChannel: Channel = _
+  private var clientPool: RedisClientPool = _
+
+  @Setup
+  def setup(): Unit = {
+    serverChannel = new ServerBootstrap()
+      .group(serverGroup)
+      .channel(classOf[NioServerSocketChannel])
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = {
+          ch.pipeline.addLast(new CommandDecoder, new ListHandler(latencyMicros))
+          ()
+        }
+      })
+      .bind(new InetSocketAddress("127.0.0.1", 0))
+      .sync()
+      .channel
+
+    clientPool = new RedisClientPool("127.0.0.1", serverChannel.localAddress.asInstanceOf[InetSocketAddress].getPort)
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    clientPool.close()
+    serverChannel.close().sync()
+    serverGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync()
+    ()
+  }
+
+  @Benchmark
+  def feed(): Int = {
+    val builder = redisFeeder(clientPool, "key")
+    val feeder = (if (prefetchBatchSize > 0) builder.prefetch(prefetchBatchSize) else builder).apply()
+    var fed = 0
+    while (fed < records && feeder.hasNext) {
+      feeder.next()
+      fed += 1
+    }
+    feeder match {
+      case closeable: CloseableFeeder[_] => closeable.close()
+      case _                             =>
+    }
+    fed
+  }
+}
@@ -19,6 +19,7 @@ package io.gatling.charts.config
 import java.nio.file.{ Path, Paths }
 
 import io.gatling.charts.FileNamingConventions
+import io.gatling.charts.stats.ResultsSummary
 import io.gatling.core.config.GatlingFiles
 
 private[charts] object ChartsFiles {
@@ -48,6 +49,8 @@ private[charts] class ChartsFiles(runUuid: String, resultsDirectory: Path) {
 
   val globalFile: Path = resultDirectory.resolve("index.html")
 
+  val summaryFile: Path = resultDirectory.resolve(ResultsSummary.FileName)
+
   def requestFile(requestName: String): Path =
     resultDirectory.resolve(requestName.toRequestFileName + ".html")
 
@@ -22,7 +22,7 @@ import java.time.ZoneId
 
 import io.gatling.charts.component.{ ComponentLibrary, RequestStatistics, Stats }
 import io.gatling.charts.config.ChartsFiles
-import io.gatling.charts.stats.{ GeneralStats, Group, GroupStatsPath, LogFileData, RequestStatsPath }
+import io.gatling.charts.stats.{ GeneralStats, Group, GroupStatsPath, LogFileData, RequestStatsPath, ResultsSummary }
 import io.gatling.charts.template.ConsoleTemplate
 import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.core.config.ReportsConfiguration
@@ -86,6 +86,7 @@ private[gatling] final class ReportsGenerator(
 
     copyAssets()
     reportGenerators.foreach(_.generate())
+    ResultsSummary.write(ResultsSummary(reportsGenerationInputs.logFileData, reportsConfiguration.useGroupDurationMetric), chartsFiles.summaryFile)
 
     println(new ConsoleTemplate(rootContainer.stats, reportsGenerationInputs.logFileData.errors(None, None)).getOutput)
 
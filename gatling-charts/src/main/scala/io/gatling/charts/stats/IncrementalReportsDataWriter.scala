@@ -0,0 +1,96 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.nio.file.Path
+
+import scala.util.control.NonFatal
+
+import io.gatling.commons.stats.assertion.Assertion
+import io.gatling.core.actor.Cancellable
+import io.gatling.core.config.{ GatlingFiles, ReportsConfiguration }
+import io.gatling.core.stats.writer.{ DataWriter, DataWriterData, DataWriterMessage, RunMessage }
+
+private[stats] final class IncrementalReportsData(val results: IncrementalResults, val checkpointFile: Path, val timer: Cancellable) extends DataWriterData
+
+/**
+ * Maintains the reports' statistics while the run is going on and periodically checkpoints them in the run directory,
+ * so generating the reports at the end of the run is only rendering.
+ */
+private[gatling] final class IncrementalReportsDataWriter(
+    runMessage: RunMessage,
+    scenarios: Seq[String],
+    assertions: Seq[Assertion],
+    resultsDirectory: Path,
+    configuration: ReportsConfiguration
+) extends DataWriter[IncrementalReportsData]("incremental-reports-data-writer") {
+
+  override def onInit(): IncrementalReportsData = {
+    val results = new IncrementalResults(
+      runMessage,
+      scenarios.toArray,
+      assertions.toList,
+      // buckets are merged by pairs
+      math.max(configuration.maxPlotsPerSeries / 2 * 2, 2),
+      configuration.indicators.lowerBound,
+      configuration.indicators.higherBound,
+      configuration.maxRequestNames,
+      configuration.maxErrorMessages
+    )
+
+    val checkpointFile = GatlingFiles.simulationLogDirectory(runMessage.runId, create = true, resultsDirectory).resolve(ResultsCheckpoint.FileName)
+
+    val timer = scheduler.scheduleAtFixedRate(configuration.incremental.checkpointPeriod) {
+      self ! DataWriterMessage.Flush
+    }
+
+    new IncrementalReportsData(results, checkpointFile, timer)
+  }
+
+  override def onFlush(data: IncrementalReportsData): Unit =
+    checkpoint(data, complete = false)
+
+  override def onMessage(message: DataWriterMessage.LoadEvent, data: IncrementalReportsData): Unit =
+    message match {
+      case user: DataWriterMessage.LoadEvent.User           => data.results.addUser(user)
+      case group: DataWriterMessage.LoadEvent.Group         => data.results.addGroup(group)
+      case response: DataWriterMessage.LoadEvent.Response   => data.results.addResponse(response)
+      case responses: DataWriterMessage.LoadEvent.Responses => data.results.addResponses(responses.records)
+      case error: DataWriterMessage.LoadEvent.Error         => data.results.addError(error)
+      case _: DataWriterMessage.LoadEvent.Gauge             =>
+    }
+
+  override def onCrash(cause: String, data: IncrementalReportsData): Unit = {
+    data.timer.cancel()
+    checkpoint(data, complete = false)
+  }
+
+  override def onStop(data: IncrementalReportsData): Unit = {
+    data.timer.cancel()
+    checkpoint(data, complete = true)
+  }
+
+  private def checkpoint(data: IncrementalReportsData, complete: Boolean): Unit =
+    try {
+      val start = System.nanoTime()
+      if (data.results.checkpoint(data.checkpointFile, complete)) {
+        logger.debug(s"Checkpointed reports statistics in ${(System.nanoTime() - start) / 1000000}ms")
+      }
+    } catch {
+      case NonFatal(e) => logger.error(s"Failed to checkpoint reports statistics into ${data.checkpointFile}", e)
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.{ util => ju }
+import java.nio.file.Path
+
+import io.gatling.commons.stats.Status
+import io.gatling.commons.stats.assertion.Assertion
+import io.gatling.commons.util.StringHelper._
+import io.gatling.core.stats.message.MessageEvent
+import io.gatling.core.stats.writer.{ DataWriterMessage, ResponseRecords, RunMessage }
+
+private[stats] object IncrementalResults {
+  private val InitialStep = 1000L
+
+  private def sanitize(s: String): String = s.replaceIf(c => c == '\n' || c == '\r' || c == '\t', ' ')
+
+  private final class SanitizedRequest(val group: Option[Group], val name: String)
+}
+
+/**
+ * Feeds a [[ResultsHolder]] while the run is going on, instead of after parsing the log file.
+ *
+ * The run duration isn't known upfront, so buckets start with a 1 second step from the run start and, whenever an event
+ * falls past the last bucket, every pair of consecutive buckets is merged and the step doubles. The number of buckets in
+ * use then always stays between half the capacity and the capacity.
+ */
+private[stats] final class IncrementalResults(
+    runMessage: RunMessage,
+    scenarios: Array[String],
+    assertions: List[Assertion],
+    capacity: Int,
+    lowerBound: Int,
+    higherBound: Int,
+    maxRequestNames: Int,
+    maxErrorMessages: Int
+) {
+  import IncrementalResults._
+
+  private val origin = runMessage.start
+  private val buckets = StatsHelper.buckets(0, capacity * InitialStep, InitialStep.toDouble)
+  private val resultsHolder =
+    new ResultsHolder(origin, origin + capacity * InitialStep, buckets, lowerBound, higherBound, maxRequestNames, maxErrorMessages)
+  private val sanitizedScenarios = scenarios.map(sanitize)
+  private var sanitizedRequests = new Array[SanitizedRequest](16)
+  private var step = InitialStep
+  private var usedBuckets = 0
+  private var injectStart = Long.MaxValue
+  private var injectEnd = Long.MinValue
+
+  // session counters compute their bucket width when they're created, so they must all exist before the first compaction
+  resultsHolder.getSessionDeltaPerSecBuffers(None)
+  sanitizedScenarios.foreach(scenario => resultsHolder.getSessionDeltaPerSecBuffers(Some(scenario)))
+
+  private def track(start: Long, end: Long): Unit = {
+    injectStart = math.min(injectStart, start)
+    injectEnd = math.max(injectEnd, end)
+
+    while ((end - origin) / step >= capacity) {
+      resultsHolder.compact()
+      step *= 2
+      usedBuckets = (usedBuckets + 1) / 2
+      for (i <- buckets.indices) {
+        buckets(i) = (step * i + step / 2).toInt
+      }
+    }
+
+    usedBuckets = math.max(usedBuckets, bucket(end) + 1)
+  }
+
+  private def bucket(timestamp: Long): Int = math.max((timestamp - origin) / step, 0L).toInt
+
+  def addUser(user: DataWriterMessage.LoadEvent.User): Unit = {
+    // like the log file parser, only user starts move the inject start
+    track(if (user.start) user.timestamp else Long.MaxValue, user.timestamp)
+    resultsHolder.addUserRecord(UserRecord(sanitize(user.scenario), if (user.start) MessageEvent.Start else MessageEvent.End, user.timestamp))
+  }
+
+  def addResponse(response: DataWriterMessage.LoadEvent.Response): Unit =
+    addResponse(
+      Option.when(response.groupHierarchy.nonEmpty)(Group(response.groupHierarchy.map(sanitize))),
+      sanitize(response.name),
+      response.startTimestamp,
+      response.endTimestamp,
+      response.status,
+      response.message
+    )
+
+  def addResponses(records: ResponseRecords): Unit =
+    for (i <- 0 until records.size) {
+      val request = sanitizedRequest(records, i)
+      addResponse(request.group, request.name, records.startTimestamp(i), records.endTimestamp(i), records.status(i), records.message(i))
+    }
+
+  private def sanitizedRequest(records: ResponseRecords, index: Int): SanitizedRequest = {
+    val key = records.request(index)
+    if (key.id >= sanitizedRequests.length) {
+      sanitizedRequests = ju.Arrays.copyOf(sanitizedRequests, math.max(sanitizedRequests.length * 2, key.id + 1))
+    }
+    var request = sanitizedRequests(key.id)
+    if (request == null) {
+      request = new SanitizedRequest(Option.when(key.groupHierarchy.nonEmpty)(Group(key.groupHierarchy.map(sanitize))), sanitize(key.name))
+      sanitizedRequests(key.id) = request
+    }
+    request
+  }
+
+  private def addResponse(
+      group: Option[Group],
+      name: String,
+      startTimestamp: Long,
+      endTimestamp: Long,
+      status: Status,
+      message: Option[String]
+  ): Unit = {
+    track(startTimestamp, endTimestamp)
+    resultsHolder.addRequestRecord(
+      RequestRecord(
+        group,
+        name,
+        status,
+        startTimestamp,
+        bucket(startTimestamp),
+        bucket(endTimestamp),
+        (endTimestamp - startTimestamp).toInt,
+        message.flatMap(sanitize(_).trimToOption),
+        incoming = false
+      )
+    )
+  }
+
+  def addGroup(group: DataWriterMessage.LoadEvent.Group): Unit = {
+    track(group.startTimestamp, group.endTimestamp)
+    resultsHolder.addGroupRecord(
+      GroupRecord(
+        Group(group.groupHierarchy.map(sanitize)),
+        group.duration,
+        group.cumulatedResponseTime,
+        group.status,
+        group.startTimestamp,
+        bucket(group.startTimestamp)
+      )
+    )
+  }
+
+  def addError(error: DataWriterMessage.LoadEvent.Error): Unit =
+    resultsHolder.addErrorRecord(ErrorRecord(sanitize(error.message), error.timestamp))
+
+  /**
+   * @return
+   *   false if no event was recorded yet so there's nothing to checkpoint
+   */
+  def checkpoint(file: Path, complete: Boolean): Boolean =
+    if (injectEnd > injectStart) {
+      val runInfo =
+        new RunInfo(injectStart, injectEnd, runMessage.simulationClassName, runMessage.runDescription, origin, sanitizedScenarios, assertions)
+      ResultsCheckpoint.write(file, complete, runInfo, step, usedBuckets, lowerBound, higherBound, resultsHolder)
+      true
+    } else {
+      false
+    }
+}
@@ -195,6 +195,15 @@ private[gatling] final class LogFileData(
       .getGroupDurationGeneralStatsBuffers(group, status)
       .stats
 
+  def requestSummaryStats(requestName: Option[String], group: Option[Group], status: Option[Status]): Option[SummaryStats] =
+    SummaryStats(resultsHolder.getRequestGeneralStatsBuffers(requestName, group, status))
+
+  def groupCumulatedResponseTimeSummaryStats(group: Group, status: Option[Status]): Option[SummaryStats] =
+    SummaryStats(resultsHolder.getGroupCumulatedResponseTimeGeneralStatsBuffers(group, status))
+
+  def groupDurationSummaryStats(group: Group, status: Option[Status]): Option[SummaryStats] =
+    SummaryStats(resultsHolder.getGroupDurationGeneralStatsBuffers(group, status))
+
   def numberOfRequestInResponseTimeRanges(requestName: Option[String], group: Option[Group]): Ranges = {
     val counts = resultsHolder.getResponseTimeRangeBuffers(requestName, group)
     Ranges(
@@ -211,12 +220,11 @@ private[gatling] final class LogFileData(
     resultsHolder.getResponseTimePercentilesBuffers(requestName, group, status).percentiles
 
   private def timeAgainstGlobalNumberOfRequestsPerSec(buffer: PercentilesBuffers): Seq[IntVsTimePlot] = {
-    val globalCountsByBucket = resultsHolder.getRequestsPerSecBuffer(None, None).counts
+    val globalCounts = resultsHolder.getRequestsPerSecBuffer(None, None)
 
     buffer.digests.view.zipWithIndex
       .collect { case (Some(digest), bucketNumber) =>
-        val count = globalCountsByBucket(bucketNumber)
-        new IntVsTimePlot(toNumberPerSec(count.total), digest.quantile(0.95).toInt)
+        new IntVsTimePlot(toNumberPerSec(globalCounts.total(bucketNumber)), digest.quantile(0.95).toInt)
       }
       .toSeq
       .sortBy(_.time)
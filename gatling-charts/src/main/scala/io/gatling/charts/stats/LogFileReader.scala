@@ -234,7 +234,15 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
   }
 }
 
-private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Double, lowerBound: Int, higherBound: Int)
+private final class SecondPassParser(
+    logFile: File,
+    runInfo: RunInfo,
+    step: Double,
+    lowerBound: Int,
+    higherBound: Int,
+    maxRequestNames: Int,
+    maxErrorMessages: Int
+)
     extends LogFileParser[ResultsHolder](logFile)
     with StrictLogging {
 
@@ -246,7 +254,9 @@ private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Doub
       runInfo.injectEnd,
       buckets,
       lowerBound,
-      higherBound
+      higherBound,
+      maxRequestNames,
+      maxErrorMessages
     )
 
   private def skipRunRecord(): Unit = {
@@ -388,7 +398,9 @@ private[gatling] final class LogFileReader(logFile: File, configuration: Gatling
         runInfo,
         step,
         configuration.reports.indicators.lowerBound,
-        configuration.reports.indicators.higherBound
+        configuration.reports.indicators.higherBound,
+        configuration.reports.maxRequestNames,
+        configuration.reports.maxErrorMessages
       )
     )(_.parse())
 
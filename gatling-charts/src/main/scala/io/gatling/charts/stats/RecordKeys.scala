@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.{ util => ju }
+
+import com.typesafe.scalalogging.StrictLogging
+
+private object RecordKeys {
+  val OtherRequestsName = "Other requests"
+  val OtherErrorsMessage = "Other errors"
+}
+
+/**
+ * Interns the groups, request names and error messages of the records fed into a [[ResultsHolder]], so all the buffers
+ * share a single instance per distinct value.
+ *
+ * Past maxRequestNames distinct requests, new requests are folded into a single one per group, and past
+ * maxErrorMessages distinct messages, new messages are folded into a single one, so the number of buffers stays bounded
+ * when request names or error messages are dynamic. 0 means no limit.
+ */
+private final class RecordKeys(maxRequestNames: Int, maxErrorMessages: Int) extends StrictLogging {
+  import RecordKeys._
+
+  private val groups = new ju.HashMap[List[String], Group]
+  private val requests = new ju.HashMap[RequestStatsPath, RequestStatsPath]
+  private val errorMessages = new ju.HashMap[String, String]
+  private var requestNamesCount = 0
+  private var requestNamesOverflow = false
+  private var errorMessagesOverflow = false
+
+  def group(group: Group): Group = {
+    val interned = groups.putIfAbsent(group.hierarchy, group)
+    if (interned == null) group else interned
+  }
+
+  def request(name: String, group: Option[Group]): RequestStatsPath = {
+    val path = RequestStatsPath(name, group.map(this.group))
+    val interned = requests.get(path)
+    if (interned != null) {
+      interned
+    } else if (maxRequestNames <= 0 || requestNamesCount < maxRequestNames) {
+      requestNamesCount += 1
+      requests.put(path, path)
+      path
+    } else {
+      if (!requestNamesOverflow) {
+        requestNamesOverflow = true
+        logger.warn(
+          s"More than $maxRequestNames distinct request names, the next ones are reported as '$OtherRequestsName'. Raise gatling.charting.maxRequestNames if they should be reported separately."
+        )
+      }
+      val other = RequestStatsPath(OtherRequestsName, path.group)
+      val internedOther = requests.putIfAbsent(other, other)
+      if (internedOther == null) other else internedOther
+    }
+  }
+
+  def errorMessage(message: String): String = {
+    val interned = errorMessages.get(message)
+    if (interned != null) {
+      interned
+    } else if (maxErrorMessages <= 0 || errorMessages.size < maxErrorMessages) {
+      errorMessages.put(message, message)
+      message
+    } else {
+      if (!errorMessagesOverflow) {
+        errorMessagesOverflow = true
+        logger.warn(
+          s"More than $maxErrorMessages distinct error messages, the next ones are reported as '$OtherErrorsMessage'. Raise gatling.charting.maxErrorMessages if they should be reported separately."
+        )
+      }
+      OtherErrorsMessage
+    }
+  }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.io.{ BufferedInputStream, BufferedOutputStream, DataInputStream, DataOutputStream }
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path, StandardCopyOption }
+
+import scala.collection.mutable
+import scala.util.Using
+
+import io.gatling.charts.stats.buffers._
+import io.gatling.commons.stats.{ KO, OK, Status }
+import io.gatling.commons.stats.assertion.Assertion
+import io.gatling.commons.util.GatlingVersion
+import io.gatling.core.config.GatlingFiles
+
+import com.tdunning.math.stats.{ AVLTreeDigest, TDigest }
+import com.typesafe.scalalogging.StrictLogging
+
+/**
+ * Snapshot of the statistics maintained during the run, so reports can be rendered without parsing the log file.
+ *
+ * Only the buckets in use are written, so a checkpoint can be read back into a regular [[ResultsHolder]] whose buckets
+ * are exactly the ones the run covered so far.
+ */
+private[gatling] object ResultsCheckpoint extends StrictLogging {
+  val FileName = "simulation.state"
+
+  def file(resultsDirectory: Path, runId: String): Path =
+    GatlingFiles.resultDirectory(runId, resultsDirectory).resolve(FileName)
+
+  private[stats] def write(
+      file: Path,
+      complete: Boolean,
+      runInfo: RunInfo,
+      step: Long,
+      usedBuckets: Int,
+      lowerBound: Int,
+      higherBound: Int,
+      resultsHolder: ResultsHolder
+  ): Unit = {
+    val tmpFile = file.resolveSibling(s"$FileName.tmp")
+    Using.resource(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) { os =>
+      val writer = new CheckpointWriter(os, usedBuckets)
+      writer.string(GatlingVersion.ThisVersion.fullVersion)
+      os.writeBoolean(complete)
+      writer.runInfo(runInfo)
+      os.writeInt(lowerBound)
+      os.writeInt(higherBound)
+      os.writeLong(step)
+      os.writeInt(usedBuckets)
+      writer.holder(resultsHolder)
+    }
+    Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+  }
+
+  /**
+   * @param acceptIncomplete
+   *   if a checkpoint taken while the run was still going on can be used
+   * @return
+   *   the checkpointed data, if the checkpoint exists, was written by this Gatling version and is usable
+   */
+  def read(resultsDirectory: Path, runId: String, acceptIncomplete: Boolean): Option[LogFileData] = {
+    val stateFile = file(resultsDirectory, runId)
+    if (Files.exists(stateFile)) {
+      Using.resource(new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) { is =>
+        val reader = new CheckpointReader(is)
+        val gatlingVersion = reader.string()
+        if (gatlingVersion != GatlingVersion.ThisVersion.fullVersion) {
+          logger.info(s"Ignoring $stateFile generated with Gatling $gatlingVersion")
+          None
+        } else if (!is.readBoolean() && !acceptIncomplete) {
+          logger.info(s"Ignoring $stateFile as the run didn't complete")
+          None
+        } else {
+          val runInfo = reader.runInfo()
+          val lowerBound = is.readInt()
+          val higherBound = is.readInt()
+          val step = is.readLong()
+          val usedBuckets = is.readInt()
+          // buckets are relative to the run start while the report timelines are relative to the inject start
+          val offset = runInfo.runStart - runInfo.injectStart
+          val resultsHolder = new ResultsHolder(
+            runInfo.injectStart,
+            runInfo.injectStart + usedBuckets * step,
+            StatsHelper.buckets(offset, offset + usedBuckets * step, step.toDouble),
+            lowerBound,
+            higherBound,
+            // names were already capped when the statistics were recorded
+            0,
+            0
+          )
+          reader.holder(resultsHolder)
+          resultsHolder.flushTrailingConcurrentUsers()
+          Some(new LogFileData(runInfo, resultsHolder, step.toDouble))
+        }
+      }
+    } else {
+      None
+    }
+  }
+}
+
+private final class CheckpointWriter(os: DataOutputStream, usedBuckets: Int) {
+  def string(s: String): Unit = {
+    val bytes = s.getBytes(UTF_8)
+    os.writeInt(bytes.length)
+    os.write(bytes)
+  }
+
+  private def optionalString(s: Option[String]): Unit = {
+    os.writeBoolean(s.isDefined)
+    s.foreach(string)
+  }
+
+  private def group(group: Group): Unit = {
+    os.writeInt(group.hierarchy.size)
+    group.hierarchy.foreach(string)
+  }
+
+  private def optionalGroup(g: Option[Group]): Unit = {
+    os.writeBoolean(g.isDefined)
+    g.foreach(group)
+  }
+
+  private def key(key: BufferKey): Unit = {
+    optionalString(key.requestName)
+    optionalGroup(key.group)
+    os.writeByte(key.status match {
+      case Some(OK) => 1
+      case Some(KO) => 2
+      case _        => 0
+    })
+  }
+
+  private def digest(digest: TDigest): Unit = {
+    val buffer = ByteBuffer.allocate(digest.byteSize)
+    digest.asBytes(buffer)
+    os.writeInt(buffer.position())
+    os.write(buffer.array, 0, buffer.position())
+  }
+
+  private def map[K, V](entries: collection.Map[K, V])(writeEntry: (K, V) => Unit): Unit = {
+    os.writeInt(entries.size)
+    entries.foreach { case (k, v) => writeEntry(k, v) }
+  }
+
+  private def counts(buffer: CountsBuffer): Unit = {
+    ints(buffer.oks)
+    ints(buffer.kos)
+  }
+
+  private def percentiles(buffer: PercentilesBuffers): Unit =
+    for (i <- 0 until usedBuckets) {
+      os.writeBoolean(buffer.digests(i).isDefined)
+      buffer.digests(i).foreach(digest)
+    }
+
+  private def ints(array: Array[Int]): Unit =
+    for (i <- 0 until usedBuckets) {
+      os.writeInt(array(i))
+    }
+
+  private def generalStats(buffer: GeneralStatsBuffer): Unit = {
+    map(buffer.counts) { (time, count) =>
+      os.writeInt(time)
+      os.writeInt(count)
+    }
+    digest(buffer.digest)
+    os.writeLong(buffer.sum)
+    os.writeLong(buffer.sumOfSquares)
+  }
+
+  def runInfo(runInfo: RunInfo): Unit = {
+    os.writeLong(runInfo.injectStart)
+    os.writeLong(runInfo.injectEnd)
+    string(runInfo.simulationClassName)
+    string(runInfo.runDescription)
+    os.writeLong(runInfo.runStart)
+    os.writeInt(runInfo.scenarios.length)
+    runInfo.scenarios.foreach(string)
+    os.writeInt(runInfo.assertions.size)
+    runInfo.assertions.foreach { assertion =>
+      import io.gatling.shared.model.assertion.AssertionPicklers._
+
+      import boopickle.Default._
+      val byteBuffer = Pickle.intoBytes(assertion)
+      val bytes = new Array[Byte](byteBuffer.remaining)
+      byteBuffer.get(bytes)
+      os.writeInt(bytes.length)
+      os.write(bytes)
+    }
+  }
+
+  def holder(resultsHolder: ResultsHolder): Unit = {
+    map(resultsHolder.groupAndRequestsNameBuffer.map) { (path, time) =>
+      path match {
+        case RequestStatsPath(request, g) =>
+          os.writeBoolean(true)
+          string(request)
+          optionalGroup(g)
+        case GroupStatsPath(g) =>
+          os.writeBoolean(false)
+          group(g)
+      }
+      os.writeLong(time)
+    }
+    map(resultsHolder.scenarioNameBuffer.map) { (scenario, time) =>
+      string(scenario)
+      os.writeLong(time)
+    }
+    map(resultsHolder.requestsPerSecBuffers) { (k, buffer) =>
+      key(k)
+      counts(buffer)
+    }
+    map(resultsHolder.responsesPerSecBuffers) { (k, buffer) =>
+      key(k)
+      counts(buffer)
+    }
+    map(resultsHolder.responseTimePercentilesBuffers) { (k, buffer) =>
+      key(k)
+      percentiles(buffer)
+    }
+    map(resultsHolder.groupPercentilesBuffers) { case (k, (cumulatedResponseTimeBuffer, durationBuffer)) =>
+      key(k)
+      percentiles(cumulatedResponseTimeBuffer)
+      percentiles(durationBuffer)
+    }
+    map(resultsHolder.sessionDeltaPerSecBuffers) { (scenario, counters) =>
+      optionalString(scenario)
+      os.writeInt(counters.currentBuffer)
+      ints(counters.startCounts)
+      ints(counters.concurrentUsers)
+      ints(counters.maxConcurrentUsers)
+    }
+    map(resultsHolder.responseTimeRangeBuffers) { (k, buffer) =>
+      key(k)
+      os.writeInt(buffer.low)
+      os.writeInt(buffer.middle)
+      os.writeInt(buffer.high)
+      os.writeInt(buffer.ko)
+    }
+    map(resultsHolder.errorsBuffers) { (k, errors) =>
+      key(k)
+      map(errors) { (message, count) =>
+        string(message)
+        os.writeInt(count)
+      }
+    }
+    map(resultsHolder.requestGeneralStatsBuffers) { (k, buffer) =>
+      key(k)
+      generalStats(buffer)
+    }
+    map(resultsHolder.groupDurationGeneralStatsBuffers) { (k, buffer) =>
+      key(k)
+      generalStats(buffer)
+    }
+    map(resultsHolder.groupCumulatedResponseTimeGeneralStatsBuffers) { (k, buffer) =>
+      key(k)
+      generalStats(buffer)
+    }
+  }
+}
+
+private final class CheckpointReader(is: DataInputStream) {
+  def string(): String = new String(is.readNBytes(is.readInt()), UTF_8)
+
+  private def optionalString(): Option[String] = Option.when(is.readBoolean())(string())
+
+  private def group(): Group = Group(List.fill(is.readInt())(string()))
+
+  private def optionalGroup(): Option[Group] = Option.when(is.readBoolean())(group())
+
+  private def key(): BufferKey = {
+    val requestName = optionalString()
+    val group = optionalGroup()
+    val status: Option[Status] = is.readByte() match {
+      case 1 => Some(OK)
+      case 2 => Some(KO)
+      case _ => None
+    }
+    BufferKey(requestName, group, status)
+  }
+
+  private def digest(): AVLTreeDigest = AVLTreeDigest.fromBytes(ByteBuffer.wrap(is.readNBytes(is.readInt())))
+
+  private def repeat(readEntry: => Unit): Unit =
+    for (_ <- 0 until is.readInt()) {
+      readEntry
+    }
+
+  private def counts(buffer: CountsBuffer): CountsBuffer = {
+    ints(buffer.oks)
+    ints(buffer.kos)
+    buffer
+  }
+
+  private def percentiles(buffer: PercentilesBuffers): PercentilesBuffers = {
+    for (i <- buffer.digests.indices) {
+      buffer.digests(i) = Option.when(is.readBoolean())(digest())
+    }
+    buffer
+  }
+
+  private def ints(array: Array[Int]): Unit =
+    for (i <- array.indices) {
+      array(i) = is.readInt()
+    }
+
+  private def generalStats(buffer: GeneralStatsBuffer): Unit = {
+    repeat {
+      val time = is.readInt()
+      buffer.counts.put(time, is.readInt())
+    }
+    buffer.digest.add(digest())
+    buffer.sum = is.readLong()
+    buffer.sumOfSquares = is.readLong()
+  }
+
+  def runInfo(): RunInfo = {
+    val injectStart = is.readLong()
+    val injectEnd = is.readLong()
+    val simulationClassName = string()
+    val runDescription = string()
+    val runStart = is.readLong()
+    val scenarios = Array.fill(is.readInt())(string())
+    val assertions = List.fill(is.readInt()) {
+      import io.gatling.shared.model.assertion.AssertionPicklers._
+
+      import boopickle.Default._
+      Unpickle.apply[Assertion].fromBytes(ByteBuffer.wrap(is.readNBytes(is.readInt())))
+    }
+    new RunInfo(injectStart, injectEnd, simulationClassName, runDescription, runStart, scenarios, assertions)
+  }
+
+  def holder(resultsHolder: ResultsHolder): Unit = {
+    repeat {
+      val path =
+        if (is.readBoolean()) {
+          val request = string()
+          RequestStatsPath(request, optionalGroup())
+        } else {
+          GroupStatsPath(group())
+        }
+      resultsHolder.groupAndRequestsNameBuffer.update(path, is.readLong())
+    }
+    repeat {
+      val scenario = string()
+      resultsHolder.scenarioNameBuffer.update(scenario, is.readLong())
+    }
+    repeat {
+      resultsHolder.requestsPerSecBuffers += key() -> counts(new CountsBuffer(resultsHolder.buckets))
+    }
+    repeat {
+      resultsHolder.responsesPerSecBuffers += key() -> counts(new CountsBuffer(resultsHolder.buckets))
+    }
+    repeat {
+      resultsHolder.responseTimePercentilesBuffers += key() -> percentiles(new PercentilesBuffers(resultsHolder.buckets))
+    }
+    repeat {
+      val k = key()
+      val cumulatedResponseTimeBuffer = percentiles(new PercentilesBuffers(resultsHolder.buckets))
+      val durationBuffer = percentiles(new PercentilesBuffers(resultsHolder.buckets))
+      resultsHolder.groupPercentilesBuffers += k -> (cumulatedResponseTimeBuffer, durationBuffer)
+    }
+    repeat {
+      val counters = resultsHolder.getSessionDeltaPerSecBuffers(optionalString())
+      counters.currentBuffer = is.readInt()
+      ints(counters.startCounts)
+      ints(counters.concurrentUsers)
+      ints(counters.maxConcurrentUsers)
+    }
+    repeat {
+      val k = key()
+      val buffer = resultsHolder.getResponseTimeRangeBuffers(k.requestName, k.group)
+      buffer.low = is.readInt()
+      buffer.middle = is.readInt()
+      buffer.high = is.readInt()
+      buffer.ko = is.readInt()
+    }
+    repeat {
+      val k = key()
+      val errors: mutable.Map[String, Int] = resultsHolder.getErrorsBuffers(k.requestName, k.group)
+      repeat {
+        val message = string()
+        errors.put(message, is.readInt())
+      }
+    }
+    repeat {
+      val k = key()
+      generalStats(resultsHolder.getRequestGeneralStatsBuffers(k.requestName, k.group, k.status))
+    }
+    repeat {
+      val k = key()
+      generalStats(resultsHolder.getGroupDurationGeneralStatsBuffers(k.group.getOrElse(Group.Root), k.status))
+    }
+    repeat {
+      val k = key()
+      generalStats(resultsHolder.getGroupCumulatedResponseTimeGeneralStatsBuffers(k.group.getOrElse(Group.Root), k.status))
+    }
+  }
+}
@@ -26,7 +26,9 @@ private class ResultsHolder(
     override val maxTimestamp: Long,
     override val buckets: Array[Int],
     override val lowerBound: Int,
-    override val higherBound: Int
+    override val higherBound: Int,
+    maxRequestNames: Int,
+    maxErrorMessages: Int
 ) extends GeneralStatsBuffers(math.ceil((maxTimestamp - minTimestamp) / 1000.0).toInt)
     with Buckets
     with RunTimes
@@ -38,12 +40,15 @@ private class ResultsHolder(
     with ErrorsBuffers
     with RequestPercentilesBuffers
     with GroupPercentilesBuffers {
+  private val keys = new RecordKeys(maxRequestNames, maxErrorMessages)
+
   def addUserRecord(record: UserRecord): Unit = {
     addSessionBuffers(record)
     addScenarioName(record)
   }
 
-  def addGroupRecord(record: GroupRecord): Unit = {
+  def addGroupRecord(groupRecord: GroupRecord): Unit = {
+    val record = groupRecord.copy(group = keys.group(groupRecord.group))
     addGroupName(record)
     updateGroupGeneralStatsBuffers(record)
     updateGroupPercentilesBuffers(record)
@@ -54,13 +59,15 @@ private class ResultsHolder(
   private def addAllParentGroups(group: Group): Unit = {
     addGroupName(GroupRecord(group, 0, 0, OK, 0, 0))
     group.hierarchy.reverse match {
-      case _ :: tail if tail.nonEmpty => addAllParentGroups(Group(tail.reverse))
+      case _ :: tail if tail.nonEmpty => addAllParentGroups(keys.group(Group(tail.reverse)))
       case _                          =>
     }
   }
 
-  def addRequestRecord(record: RequestRecord): Unit =
-    if (!record.incoming) {
+  def addRequestRecord(requestRecord: RequestRecord): Unit =
+    if (!requestRecord.incoming) {
+      val path = keys.request(requestRecord.name, requestRecord.group)
+      val record = requestRecord.copy(group = path.group, name = path.request, errorMessage = requestRecord.errorMessage.map(keys.errorMessage))
       record.group.foreach(addAllParentGroups)
       updateRequestsPerSecBuffers(record)
       updateResponsesPerSecBuffers(record)
@@ -72,5 +79,16 @@ private class ResultsHolder(
     }
 
   def addErrorRecord(record: ErrorRecord): Unit =
-    updateGlobalError(record.message)
+    updateGlobalError(keys.errorMessage(record.message))
+
+  /**
+   * Merges every pair of consecutive time buckets, so the time step can double when the run outgrows the buckets
+   */
+  def compact(): Unit = {
+    compactRequestsPerSecBuffers()
+    compactResponsesPerSecBuffers()
+    compactRequestPercentilesBuffers()
+    compactGroupPercentilesBuffers()
+    compactSessionDeltaPerSecBuffers()
+  }
 }
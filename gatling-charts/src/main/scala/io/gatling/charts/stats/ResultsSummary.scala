@@ -0,0 +1,226 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.io.{ BufferedInputStream, BufferedOutputStream, DataInputStream, DataOutputStream }
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path }
+
+import scala.util.Using
+
+import io.gatling.charts.stats.buffers.GeneralStatsBuffer
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.GatlingVersion
+
+import com.tdunning.math.stats.{ AVLTreeDigest, TDigest }
+
+object SummaryStats {
+  private[stats] def apply(buffer: GeneralStatsBuffer): Option[SummaryStats] =
+    Option.when(buffer.digest.size > 0)(new SummaryStats(buffer.digest.size, buffer.sum, buffer.sumOfSquares, buffer.digest))
+}
+
+/**
+ * Response time statistics that can be merged, e.g. across runs or load generators: exact count, sum and sum of squares,
+ * and a t-digest for the percentiles.
+ */
+final class SummaryStats(val count: Long, val sum: Long, val sumOfSquares: Long, val digest: TDigest) {
+  def min: Int = digest.getMin.toInt
+
+  def max: Int = digest.getMax.toInt
+
+  def mean: Double = sum.toDouble / count
+
+  def stdDev: Double = math.sqrt(math.max(sumOfSquares.toDouble / count - mean * mean, 0))
+
+  def percentile(rank: Double): Int = math.round(digest.quantile(rank / 100.0)).toInt
+
+  def merge(other: SummaryStats): SummaryStats = {
+    val mergedDigest = new AVLTreeDigest(digest.compression)
+    mergedDigest.add(digest)
+    mergedDigest.add(other.digest)
+    new SummaryStats(count + other.count, sum + other.sum, sumOfSquares + other.sumOfSquares, mergedDigest)
+  }
+}
+
+/**
+ * @param group
+ *   the group of the request, or the group itself for group entries, None for the global entry
+ * @param request
+ *   the request name, None for group and global entries
+ * @param requestsPerSecond
+ *   the OK and KO throughput over time, empty for group entries
+ */
+final class SummaryEntry(
+    val group: Option[Group],
+    val request: Option[String],
+    val total: Option[SummaryStats],
+    val ok: Option[SummaryStats],
+    val ko: Option[SummaryStats],
+    val requestsPerSecond: Seq[CountsVsTimePlot]
+) {
+  def path: List[String] = group.map(_.hierarchy).getOrElse(Nil) ++ request.toList
+}
+
+/**
+ * Aggregated results of a run, small enough to be kept for every run and compared without parsing the log files.
+ *
+ * @param duration
+ *   the run duration in milliseconds
+ */
+final class ResultsSummary(
+    val gatlingVersion: String,
+    val simulationClassName: String,
+    val runDescription: String,
+    val runStart: Long,
+    val duration: Long,
+    val entries: Seq[SummaryEntry]
+)
+
+private[gatling] object ResultsSummary {
+  val FileName = "simulation.summary"
+
+  private val Magic = "GATLING-SUMMARY"
+  // unlike the log file, summaries are meant to be compared across Gatling versions, so their format is versioned on its own
+  private val FormatVersion = 1
+
+  def apply(logFileData: LogFileData, useGroupDurationMetric: Boolean): ResultsSummary = {
+    val global = new SummaryEntry(
+      None,
+      None,
+      logFileData.requestSummaryStats(None, None, None),
+      logFileData.requestSummaryStats(None, None, Some(OK)),
+      logFileData.requestSummaryStats(None, None, Some(KO)),
+      logFileData.numberOfRequestsPerSecond(None, None)
+    )
+
+    val entries = logFileData.statsPaths.map {
+      case RequestStatsPath(request, group) =>
+        new SummaryEntry(
+          group,
+          Some(request),
+          logFileData.requestSummaryStats(Some(request), group, None),
+          logFileData.requestSummaryStats(Some(request), group, Some(OK)),
+          logFileData.requestSummaryStats(Some(request), group, Some(KO)),
+          logFileData.numberOfRequestsPerSecond(Some(request), group)
+        )
+      case GroupStatsPath(group) =>
+        val stats =
+          if (useGroupDurationMetric) logFileData.groupDurationSummaryStats(group, _)
+          else logFileData.groupCumulatedResponseTimeSummaryStats(group, _)
+        new SummaryEntry(Some(group), None, stats(None), stats(Some(OK)), stats(Some(KO)), Nil)
+    }
+
+    val runInfo = logFileData.runInfo
+    new ResultsSummary(
+      GatlingVersion.ThisVersion.fullVersion,
+      runInfo.simulationClassName,
+      runInfo.runDescription,
+      runInfo.runStart,
+      runInfo.injectEnd - runInfo.injectStart,
+      global :: entries
+    )
+  }
+
+  def write(summary: ResultsSummary, file: Path): Unit =
+    Using.resource(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) { os =>
+      def writeString(s: String): Unit = {
+        val bytes = s.getBytes(UTF_8)
+        os.writeInt(bytes.length)
+        os.write(bytes)
+      }
+
+      def writeStats(stats: Option[SummaryStats]): Unit = {
+        os.writeBoolean(stats.isDefined)
+        stats.foreach { stats =>
+          os.writeLong(stats.count)
+          os.writeLong(stats.sum)
+          os.writeLong(stats.sumOfSquares)
+          val buffer = ByteBuffer.allocate(stats.digest.smallByteSize)
+          stats.digest.asSmallBytes(buffer)
+          os.writeInt(buffer.position())
+          os.write(buffer.array, 0, buffer.position())
+        }
+      }
+
+      writeString(Magic)
+      os.writeInt(FormatVersion)
+      writeString(summary.gatlingVersion)
+      writeString(summary.simulationClassName)
+      writeString(summary.runDescription)
+      os.writeLong(summary.runStart)
+      os.writeLong(summary.duration)
+      os.writeInt(summary.entries.size)
+      summary.entries.foreach { entry =>
+        os.writeBoolean(entry.group.isDefined)
+        entry.group.foreach { group =>
+          os.writeInt(group.hierarchy.size)
+          group.hierarchy.foreach(writeString)
+        }
+        os.writeBoolean(entry.request.isDefined)
+        entry.request.foreach(writeString)
+        writeStats(entry.total)
+        writeStats(entry.ok)
+        writeStats(entry.ko)
+        os.writeInt(entry.requestsPerSecond.size)
+        entry.requestsPerSecond.foreach { plot =>
+          os.writeInt(plot.time)
+          os.writeInt(plot.oks)
+          os.writeInt(plot.kos)
+        }
+      }
+    }
+
+  def read(file: Path): ResultsSummary =
+    Using.resource(new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) { is =>
+      def readString(): String = new String(is.readNBytes(is.readInt()), UTF_8)
+
+      def readStats(): Option[SummaryStats] =
+        Option.when(is.readBoolean()) {
+          val count = is.readLong()
+          val sum = is.readLong()
+          val sumOfSquares = is.readLong()
+          val digest = AVLTreeDigest.fromBytes(ByteBuffer.wrap(is.readNBytes(is.readInt())))
+          new SummaryStats(count, sum, sumOfSquares, digest)
+        }
+
+      require(readString() == Magic, s"$file is not a Gatling results summary")
+      val formatVersion = is.readInt()
+      require(formatVersion == FormatVersion, s"$file has format version $formatVersion while only $FormatVersion is supported")
+
+      val gatlingVersion = readString()
+      val simulationClassName = readString()
+      val runDescription = readString()
+      val runStart = is.readLong()
+      val duration = is.readLong()
+      val entries = List.fill(is.readInt()) {
+        val group = Option.when(is.readBoolean())(Group(List.fill(is.readInt())(readString())))
+        val request = Option.when(is.readBoolean())(readString())
+        val total = readStats()
+        val ok = readStats()
+        val ko = readStats()
+        val requestsPerSecond = List.fill(is.readInt()) {
+          val time = is.readInt()
+          val oks = is.readInt()
+          new CountsVsTimePlot(time, oks, is.readInt())
+        }
+        new SummaryEntry(group, request, total, ok, ko, requestsPerSecond)
+      }
+
+      new ResultsSummary(gatlingVersion, simulationClassName, runDescription, runStart, duration, entries)
+    }
+}
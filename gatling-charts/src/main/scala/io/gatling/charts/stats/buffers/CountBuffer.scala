@@ -19,23 +19,38 @@ package io.gatling.charts.stats.buffers
 import io.gatling.charts.stats.CountsVsTimePlot
 import io.gatling.commons.stats.{ OK, Status }
 
-@SuppressWarnings(Array("org.wartremover.warts.DefaultArguments"))
-private[stats] class Counts(var oks: Int = 0, var kos: Int = 0) {
-  def increment(status: Status): Unit = status match {
-    case OK => oks += 1
-    case _  => kos += 1
+/**
+ * OK and KO counts per bucket, kept in primitive arrays rather than in an object per bucket as there's one buffer per request
+ */
+private[stats] class CountsBuffer(buckets: Array[Int]) {
+  val oks: Array[Int] = new Array[Int](buckets.length)
+  val kos: Array[Int] = new Array[Int](buckets.length)
+
+  def update(bucketNumber: Int, status: Status): Unit = status match {
+    case OK => oks(bucketNumber) += 1
+    case _  => kos(bucketNumber) += 1
   }
 
-  def total: Int = oks + kos
-}
+  def total(bucketNumber: Int): Int = oks(bucketNumber) + kos(bucketNumber)
 
-private[stats] class CountsBuffer(buckets: Array[Int]) {
-  val counts: Array[Counts] = Array.fill(buckets.length)(new Counts)
+  /**
+   * Merges every pair of consecutive buckets into the first half of the buffer, when the time step doubles
+   */
+  def compact(): Unit = {
+    compact(oks)
+    compact(kos)
+  }
 
-  def update(bucketNumber: Int, status: Status): Unit =
-    counts(bucketNumber).increment(status)
+  private def compact(counts: Array[Int]): Unit =
+    for (i <- counts.indices) {
+      val first = 2 * i
+      val second = first + 1
+      counts(i) =
+        if (second < counts.length) counts(first) + counts(second)
+        else if (first < counts.length) counts(first)
+        else 0
+    }
 
   def distribution: Iterable[CountsVsTimePlot] =
-    counts.view.zipWithIndex
-      .map { case (count, bucketNumber) => new CountsVsTimePlot(buckets(bucketNumber), count.oks, count.kos) }
+    buckets.indices.view.map(bucketNumber => new CountsVsTimePlot(buckets(bucketNumber), oks(bucketNumber), kos(bucketNumber)))
 }
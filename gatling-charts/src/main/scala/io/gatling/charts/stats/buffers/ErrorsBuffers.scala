@@ -21,7 +21,7 @@ import scala.collection.mutable
 import io.gatling.charts.stats.{ Group, RequestRecord }
 
 private[stats] trait ErrorsBuffers {
-  private val errorsBuffers = mutable.Map.empty[BufferKey, mutable.Map[String, Int]]
+  private[stats] val errorsBuffers = mutable.Map.empty[BufferKey, mutable.Map[String, Int]]
 
   def getErrorsBuffers(requestName: Option[String], group: Option[Group]): mutable.Map[String, Int] =
     errorsBuffers.getOrElseUpdate(BufferKey(requestName, group, None), mutable.Map.empty[String, Int])
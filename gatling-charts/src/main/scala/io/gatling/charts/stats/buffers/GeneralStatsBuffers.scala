@@ -24,9 +24,9 @@ import io.gatling.commons.stats.Status
 import com.tdunning.math.stats.AVLTreeDigest
 
 private[stats] abstract class GeneralStatsBuffers(durationInSec: Long) {
-  private val requestGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
-  private val groupDurationGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
-  private val groupCumulatedResponseTimeGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
+  private[stats] val requestGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
+  private[stats] val groupDurationGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
+  private[stats] val groupCumulatedResponseTimeGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
 
   def getRequestGeneralStatsBuffers(request: Option[String], group: Option[Group], status: Option[Status]): GeneralStatsBuffer =
     requestGeneralStatsBuffers.getOrElseUpdate(BufferKey(request, group, status), new GeneralStatsBuffer(durationInSec))
@@ -58,7 +58,7 @@ private[stats] abstract class GeneralStatsBuffers(durationInSec: Long) {
 private[stats] class GeneralStatsBuffer(durationInSec: Long) {
   val counts = mutable.Map.empty[Int, Int]
   val digest = new AVLTreeDigest(100.0)
-  private var sumOfSquares = 0L
+  var sumOfSquares = 0L
   var sum = 0L
 
   def update(time: Int): Unit = {
@@ -24,7 +24,7 @@ import io.gatling.commons.stats.Status
 private[stats] trait GroupPercentilesBuffers {
   this: Buckets =>
 
-  private val groupPercentilesBuffers = mutable.Map.empty[BufferKey, (PercentilesBuffers, PercentilesBuffers)]
+  private[stats] val groupPercentilesBuffers = mutable.Map.empty[BufferKey, (PercentilesBuffers, PercentilesBuffers)]
 
   private def percentilesBufferPair(group: Group, status: Status): (PercentilesBuffers, PercentilesBuffers) =
     groupPercentilesBuffers.getOrElseUpdate(BufferKey(None, Some(group), Some(status)), (new PercentilesBuffers(buckets), new PercentilesBuffers(buckets)))
@@ -41,4 +41,10 @@ private[stats] trait GroupPercentilesBuffers {
     cumulatedResponseTimePercentilesBuffers.update(startBucket, cumulatedResponseTime)
     durationPercentilesBuffers.update(startBucket, duration)
   }
+
+  def compactGroupPercentilesBuffers(): Unit =
+    groupPercentilesBuffers.values.foreach { case (cumulatedResponseTimePercentilesBuffers, durationPercentilesBuffers) =>
+      cumulatedResponseTimePercentilesBuffers.compact()
+      durationPercentilesBuffers.compact()
+    }
 }
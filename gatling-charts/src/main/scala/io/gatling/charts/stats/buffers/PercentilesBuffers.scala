@@ -32,6 +32,28 @@ private[stats] class PercentilesBuffers(buckets: Array[Int]) {
         digests(bucketNumber) = Some(digest)
     }
 
+  /**
+   * Merges every pair of consecutive buckets into the first half of the buffer, when the time step doubles
+   */
+  def compact(): Unit =
+    for (i <- digests.indices) {
+      val first = 2 * i
+      val second = first + 1
+      digests(i) =
+        if (second < digests.length) merge(digests(first), digests(second))
+        else if (first < digests.length) digests(first)
+        else None
+    }
+
+  private def merge(first: Option[TDigest], second: Option[TDigest]): Option[TDigest] =
+    (first, second) match {
+      case (Some(firstDigest), Some(secondDigest)) =>
+        firstDigest.add(secondDigest)
+        first
+      case (None, _) => second
+      case _         => first
+    }
+
   def percentiles: Seq[PercentilesVsTimePlot] =
     digests.view.zipWithIndex.map { case (digestO, bucketNumber) =>
       val time = buckets(bucketNumber)
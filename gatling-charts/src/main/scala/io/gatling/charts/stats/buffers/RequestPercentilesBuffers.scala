@@ -24,7 +24,7 @@ import io.gatling.commons.stats.Status
 private[stats] trait RequestPercentilesBuffers {
   this: Buckets =>
 
-  private val responseTimePercentilesBuffers = mutable.Map.empty[BufferKey, PercentilesBuffers]
+  private[stats] val responseTimePercentilesBuffers = mutable.Map.empty[BufferKey, PercentilesBuffers]
 
   def getResponseTimePercentilesBuffers(requestName: Option[String], group: Option[Group], status: Status): PercentilesBuffers =
     responseTimePercentilesBuffers.getOrElseUpdate(BufferKey(requestName, group, Some(status)), new PercentilesBuffers(buckets))
@@ -45,4 +45,7 @@ private[stats] trait RequestPercentilesBuffers {
     updateRequestPercentilesBuffers(Some(name), group, status, startBucket, responseTime)
     updateRequestPercentilesBuffers(None, None, status, startBucket, responseTime)
   }
+
+  def compactRequestPercentilesBuffers(): Unit =
+    responseTimePercentilesBuffers.values.foreach(_.compact())
 }
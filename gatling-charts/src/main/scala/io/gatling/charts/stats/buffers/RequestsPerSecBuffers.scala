@@ -23,7 +23,7 @@ import io.gatling.charts.stats.{ Group, RequestRecord }
 private[stats] trait RequestsPerSecBuffers {
   this: Buckets =>
 
-  private val requestsPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
+  private[stats] val requestsPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
 
   def getRequestsPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
     requestsPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
@@ -32,4 +32,7 @@ private[stats] trait RequestsPerSecBuffers {
     getRequestsPerSecBuffer(Some(record.name), record.group).update(record.startBucket, record.status)
     getRequestsPerSecBuffer(None, None).update(record.startBucket, record.status)
   }
+
+  def compactRequestsPerSecBuffers(): Unit =
+    requestsPerSecBuffers.values.foreach(_.compact())
 }
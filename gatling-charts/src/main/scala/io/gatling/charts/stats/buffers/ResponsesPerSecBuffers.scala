@@ -23,7 +23,7 @@ import io.gatling.charts.stats.{ Group, RequestRecord }
 private[stats] trait ResponsesPerSecBuffers {
   this: Buckets =>
 
-  private val responsesPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
+  private[stats] val responsesPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
 
   def getResponsesPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
     responsesPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
@@ -32,4 +32,7 @@ private[stats] trait ResponsesPerSecBuffers {
     getResponsesPerSecBuffer(Some(record.name), record.group).update(record.endBucket, record.status)
     getResponsesPerSecBuffer(None, None).update(record.endBucket, record.status)
   }
+
+  def compactResponsesPerSecBuffers(): Unit =
+    responsesPerSecBuffers.values.foreach(_.compact())
 }
@@ -22,12 +22,12 @@ import io.gatling.charts.stats.{ IntVsTimePlot, UserRecord }
 import io.gatling.core.stats.message.MessageEvent
 
 private[stats] final class SessionCounters(minTimestamp: Long, maxTimestamp: Long, bucketToMillis: Array[Int]) {
-  private val bucketWidthInMillis = ((maxTimestamp - minTimestamp) / bucketToMillis.length).toInt
+  private var bucketWidthInMillis = ((maxTimestamp - minTimestamp) / bucketToMillis.length).toInt
 
-  private var currentBuffer = 0
-  private val startCounts: Array[Int] = Array.fill(bucketToMillis.length)(0)
-  private val concurrentUsers: Array[Int] = Array.fill(bucketToMillis.length)(0)
-  private val maxConcurrentUsers: Array[Int] = Array.fill(bucketToMillis.length)(0)
+  private[stats] var currentBuffer = 0
+  private[stats] val startCounts: Array[Int] = Array.fill(bucketToMillis.length)(0)
+  private[stats] val concurrentUsers: Array[Int] = Array.fill(bucketToMillis.length)(0)
+  private[stats] val maxConcurrentUsers: Array[Int] = Array.fill(bucketToMillis.length)(0)
 
   // assume timestamps are always moving forward
   def updateCurrentBucket(second: Int): Unit = {
@@ -70,12 +70,37 @@ private[stats] final class SessionCounters(minTimestamp: Long, maxTimestamp: Lon
       concurrentUsers(i) = concurrentUsers(currentBuffer)
       maxConcurrentUsers(i) = maxConcurrentUsers(currentBuffer)
     }
+
+  /**
+   * Merges every pair of consecutive buckets into the first half of the buffer, when the time step doubles
+   */
+  def compact(): Unit = {
+    for (i <- bucketToMillis.indices) {
+      val first = 2 * i
+      val second = first + 1
+      if (second < bucketToMillis.length) {
+        startCounts(i) = startCounts(first) + startCounts(second)
+        concurrentUsers(i) = if (second <= currentBuffer) concurrentUsers(second) else concurrentUsers(first)
+        maxConcurrentUsers(i) = math.max(maxConcurrentUsers(first), maxConcurrentUsers(second))
+      } else if (first < bucketToMillis.length) {
+        startCounts(i) = startCounts(first)
+        concurrentUsers(i) = concurrentUsers(first)
+        maxConcurrentUsers(i) = maxConcurrentUsers(first)
+      } else {
+        startCounts(i) = 0
+        concurrentUsers(i) = 0
+        maxConcurrentUsers(i) = 0
+      }
+    }
+    currentBuffer /= 2
+    bucketWidthInMillis *= 2
+  }
 }
 
 private[stats] trait SessionDeltaPerSecBuffers {
   this: Buckets with RunTimes =>
 
-  private val sessionDeltaPerSecBuffers = mutable.Map.empty[Option[String], SessionCounters]
+  private[stats] val sessionDeltaPerSecBuffers = mutable.Map.empty[Option[String], SessionCounters]
 
   def getSessionDeltaPerSecBuffers(scenarioName: Option[String]): SessionCounters =
     sessionDeltaPerSecBuffers.getOrElseUpdate(scenarioName, new SessionCounters(minTimestamp, maxTimestamp, buckets))
@@ -109,4 +134,7 @@ private[stats] trait SessionDeltaPerSecBuffers {
 
   def flushTrailingConcurrentUsers(): Unit =
     sessionDeltaPerSecBuffers.values.foreach(_.flushTrailingConcurrentUsers())
+
+  def compactSessionDeltaPerSecBuffers(): Unit =
+    sessionDeltaPerSecBuffers.values.foreach(_.compact())
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.nio.file.Files
+import java.time.ZoneOffset
+
+import io.gatling.commons.stats.{ KO, OK, Status }
+import io.gatling.commons.util.GatlingVersion
+import io.gatling.core.stats.writer.{ DataWriterMessage, RunMessage }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class IncrementalResultsSpec extends AnyFlatSpecLike with Matchers {
+  private val runStart = 1700000000000L
+  private val runMessage = RunMessage("Simulation", "simulation", runStart, "", GatlingVersion.ThisVersion.fullVersion, ZoneOffset.UTC)
+
+  private def response(second: Int, status: Status, message: Option[String]): DataWriterMessage.LoadEvent.Response =
+    DataWriterMessage.LoadEvent.Response("scenario", Nil, "request", runStart + second * 1000, runStart + second * 1000 + 100, status, None, message)
+
+  private def results(): IncrementalResults = {
+    val results = new IncrementalResults(runMessage, Array("scenario"), Nil, 4, 800, 1200, 0, 0)
+    results.addUser(DataWriterMessage.LoadEvent.User("scenario", runStart, start = true))
+    for (second <- 0 until 9) {
+      results.addResponse(response(second, OK, None))
+    }
+    results.addResponse(response(9, KO, Some("boom\nagain")))
+    results.addUser(DataWriterMessage.LoadEvent.User("scenario", runStart + 9500, start = false))
+    results
+  }
+
+  "IncrementalResults" should "double the step and merge buckets when the run outgrows them" in {
+    val resultsDirectory = Files.createTempDirectory("gatling")
+    Files.createDirectories(resultsDirectory.resolve(runMessage.runId))
+    results().checkpoint(ResultsCheckpoint.file(resultsDirectory, runMessage.runId), complete = true) shouldBe true
+
+    val logFileData = ResultsCheckpoint.read(resultsDirectory, runMessage.runId, acceptIncomplete = false).getOrElse(throw new IllegalStateException)
+
+    logFileData.runInfo.injectStart shouldBe runStart
+    logFileData.runInfo.injectEnd shouldBe runStart + 9500
+    // 4 requests per 4 seconds bucket
+    logFileData.numberOfRequestsPerSecond(None, None).map(_.oks) shouldBe Seq(1, 1, 0)
+    logFileData.maxNumberOfConcurrentUsersPerSecond(None).map(_.value) shouldBe Seq(1, 1, 1)
+    logFileData.requestGeneralStats(None, None, None).map(_.count) shouldBe Some(10L)
+    logFileData.requestGeneralStats(Some("request"), None, Some(KO)).map(_.count) shouldBe Some(1L)
+    logFileData.errors(None, None).map(_.message) shouldBe Seq("boom again")
+  }
+
+  it should "only use an incomplete checkpoint when asked to" in {
+    val resultsDirectory = Files.createTempDirectory("gatling")
+    Files.createDirectories(resultsDirectory.resolve(runMessage.runId))
+    results().checkpoint(ResultsCheckpoint.file(resultsDirectory, runMessage.runId), complete = false) shouldBe true
+
+    ResultsCheckpoint.read(resultsDirectory, runMessage.runId, acceptIncomplete = false) shouldBe None
+    ResultsCheckpoint.read(resultsDirectory, runMessage.runId, acceptIncomplete = true).map(_.runInfo.injectEnd) shouldBe Some(runStart + 9500)
+  }
+
+  it should "fold request names and error messages past the configured maximums" in {
+    val results = new IncrementalResults(runMessage, Array("scenario"), Nil, 4, 800, 1200, 2, 1)
+    results.addUser(DataWriterMessage.LoadEvent.User("scenario", runStart, start = true))
+    for (name <- List("a", "b", "c", "d")) {
+      results.addResponse(DataWriterMessage.LoadEvent.Response("scenario", Nil, name, runStart, runStart + 100, KO, None, Some(s"error $name")))
+    }
+
+    val resultsDirectory = Files.createTempDirectory("gatling")
+    Files.createDirectories(resultsDirectory.resolve(runMessage.runId))
+    results.checkpoint(ResultsCheckpoint.file(resultsDirectory, runMessage.runId), complete = true) shouldBe true
+    val logFileData = ResultsCheckpoint.read(resultsDirectory, runMessage.runId, acceptIncomplete = false).getOrElse(throw new IllegalStateException)
+
+    logFileData.statsPaths should contain theSameElementsAs List(
+      RequestStatsPath("a", None),
+      RequestStatsPath("b", None),
+      RequestStatsPath("Other requests", None)
+    )
+    logFileData.requestGeneralStats(Some("Other requests"), None, None).map(_.count) shouldBe Some(2L)
+    logFileData.errors(None, None).map(error => (error.message, error.count)) should contain theSameElementsAs List(("error a", 1), ("Other errors", 3))
+  }
+}
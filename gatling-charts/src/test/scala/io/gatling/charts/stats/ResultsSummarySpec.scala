@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.nio.file.Files
+
+import com.tdunning.math.stats.AVLTreeDigest
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+@SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
+class ResultsSummarySpec extends AnyFlatSpecLike with Matchers {
+  private def stats(values: Int*): SummaryStats = {
+    val digest = new AVLTreeDigest(100.0)
+    values.foreach(value => digest.add(value.toDouble))
+    new SummaryStats(values.size.toLong, values.map(_.toLong).sum, values.map(value => value.toLong * value).sum, digest)
+  }
+
+  "ResultsSummary" should "be read back as written" in {
+    val summary = new ResultsSummary(
+      "3.x",
+      "computerdatabase.BasicSimulation",
+      "nightly",
+      1700000000000L,
+      60000L,
+      List(
+        new SummaryEntry(None, None, Some(stats(100, 200, 300)), Some(stats(100, 200)), Some(stats(300)), List(new CountsVsTimePlot(500, 2, 1))),
+        new SummaryEntry(Some(Group(List("login"))), Some("home"), Some(stats(100)), Some(stats(100)), None, Nil)
+      )
+    )
+
+    val file = Files.createTempFile("gatling", ResultsSummary.FileName)
+    ResultsSummary.write(summary, file)
+    val read = ResultsSummary.read(file)
+
+    read.simulationClassName shouldBe "computerdatabase.BasicSimulation"
+    read.runDescription shouldBe "nightly"
+    read.duration shouldBe 60000L
+    read.entries.map(_.path) shouldBe List(Nil, List("login", "home"))
+    read.entries.map(_.total.map(_.count)) shouldBe List(Some(3L), Some(1L))
+    read.entries.head.ok.map(_.max) shouldBe Some(200)
+    read.entries.head.ko.map(_.mean) shouldBe Some(300.0)
+    read.entries(1).ko shouldBe None
+    read.entries.head.requestsPerSecond.map(plot => (plot.time, plot.oks, plot.kos)) shouldBe List((500, 2, 1))
+  }
+
+  "SummaryStats" should "merge into the statistics of all the values" in {
+    val merged = stats(100, 200).merge(stats(300, 400))
+
+    merged.count shouldBe 4L
+    merged.min shouldBe 100
+    merged.max shouldBe 400
+    merged.mean shouldBe 250.0
+    merged.stdDev shouldBe math.sqrt(12500.0)
+  }
+}
@@ -17,7 +17,7 @@
 package io.gatling.core.action
 
 import io.gatling.core.actor.ActorRef
-import io.gatling.core.controller.inject.Injector
+import io.gatling.core.controller.inject.{ Injector, LocallyTrackedUserEnd }
 import io.gatling.core.session.Session
 
 private[gatling] final class Exit(injector: ActorRef[Injector.Command]) extends Action {
@@ -26,6 +26,9 @@ private[gatling] final class Exit(injector: ActorRef[Injector.Command]) extends
   override def execute(session: Session): Unit = {
     logger.debug(s"End user #${session.userId}")
     session.exit()
-    injector ! Injector.Command.UserEnd(session.scenario)
+    session.onExit match {
+      case _: LocallyTrackedUserEnd => // user end already accounted for on the event loop
+      case _                        => injector ! Injector.Command.UserEnd(session.scenario)
+    }
   }
 }
@@ -26,7 +26,8 @@ object GatlingArgs {
     reportsOnly = None,
     resultsDirectory = None,
     launcher = None,
-    buildToolVersion = None
+    buildToolVersion = None,
+    compare = Nil
   )
 }
 final case class GatlingArgs(
@@ -36,5 +37,6 @@ final case class GatlingArgs(
     reportsOnly: Option[String],
     resultsDirectory: Option[Path],
     launcher: Option[String],
-    buildToolVersion: Option[String]
+    buildToolVersion: Option[String],
+    compare: List[Path]
 )
@@ -25,6 +25,7 @@ object ConfigKeys {
     val PebbleFileBodiesCacheMaxCapacity = "gatling.core.pebbleFileBodiesCacheMaxCapacity"
     val FeederAdaptiveLoadModeThreshold = "gatling.core.feederAdaptiveLoadModeThreshold"
     val ShutdownTimeout = "gatling.core.shutdownTimeout"
+    val EventLoopLocalClosedInjection = "gatling.core.eventLoopLocalClosedInjection"
 
     object extract {
       object regex {
@@ -84,6 +85,8 @@ object ConfigKeys {
   object charting {
     val MaxPlotPerSeries = "gatling.charting.maxPlotPerSeries"
     val UseGroupDurationMetric = "gatling.charting.useGroupDurationMetric"
+    val MaxRequestNames = "gatling.charting.maxRequestNames"
+    val MaxErrorMessages = "gatling.charting.maxErrorMessages"
 
     object indicators {
       val LowerBound = "gatling.charting.indicators.lowerBound"
@@ -93,6 +96,16 @@ object ConfigKeys {
       val Percentile3 = "gatling.charting.indicators.percentile3"
       val Percentile4 = "gatling.charting.indicators.percentile4"
     }
+
+    object incremental {
+      val Enabled = "gatling.charting.incremental.enabled"
+      val CheckpointPeriod = "gatling.charting.incremental.checkpointPeriod"
+    }
+
+    object comparison {
+      val RegressionThreshold = "gatling.charting.comparison.regressionThreshold"
+      val MinRegressionDelta = "gatling.charting.comparison.minRegressionDelta"
+    }
   }
 
   object http {
@@ -102,16 +115,28 @@ object ConfigKeys {
     val WarmUpUrl = "gatling.http.warmUpUrl"
     val PooledConnectionIdleTimeout = "gatling.http.pooledConnectionIdleTimeout"
     val RequestTimeout = "gatling.http.requestTimeout"
+    val RequestTimeoutWheelTick = "gatling.http.requestTimeoutWheelTick"
     val EnableHostnameVerification = "gatling.http.enableHostnameVerification"
+    val DirectHttp1RequestHeadEncoding = "gatling.http.directHttp1RequestHeadEncoding"
+    val IncrementalHtmlResourcesInference = "gatling.http.incrementalHtmlResourcesInference"
+    val LeanWebSocketPipeline = "gatling.http.leanWebSocketPipeline"
+    val MaxConnectionsPerRemote = "gatling.http.maxConnectionsPerRemote"
+    val Http1PipeliningDepth = "gatling.http.http1PipeliningDepth"
 
     object dns {
       val QueryTimeout = "gatling.http.dns.queryTimeout"
       val MaxQueriesPerResolve = "gatling.http.dns.maxQueriesPerResolve"
+      val NegativeTtl = "gatling.http.dns.negativeTtl"
+      val PrefetchThreshold = "gatling.http.dns.prefetchThreshold"
     }
   }
 
   object jms {
     val ReplyTimeoutScanPeriod = "gatling.jms.replyTimeoutScanPeriod"
+    val TrackerShards = "gatling.jms.trackerShards"
+    val SendThreads = "gatling.jms.sendThreads"
+    val SendBatchSize = "gatling.jms.sendBatchSize"
+    val SendQueueSize = "gatling.jms.sendQueueSize"
   }
 
   object data {
@@ -122,6 +147,14 @@ object ConfigKeys {
       val Light = "gatling.data.console.light"
       val WritePeriod = "gatling.data.console.writePeriod"
     }
+
+    object live {
+      val Enabled = "gatling.data.live.enabled"
+      val WindowPeriods = "gatling.data.live.windowPeriods"
+      val MaxRequests = "gatling.data.live.maxRequests"
+      val Port = "gatling.data.live.port"
+      val Host = "gatling.data.live.host"
+    }
     val EnableAnalytics = "gatling.data.enableAnalytics"
   }
 }
@@ -67,6 +67,7 @@ object GatlingConfiguration extends StrictLogging {
       pebbleFileBodiesCacheMaxCapacity = config.getLong(core.PebbleFileBodiesCacheMaxCapacity),
       feederAdaptiveLoadModeThreshold = config.getLong(core.FeederAdaptiveLoadModeThreshold) * 1048576,
       shutdownTimeout = config.getLong(core.ShutdownTimeout),
+      eventLoopLocalClosedInjection = config.getBoolean(core.EventLoopLocalClosedInjection),
       extract = new ExtractConfiguration(
         regex = new RegexConfiguration(
           cacheMaxCapacity = config.getLong(core.extract.regex.CacheMaxCapacity)
@@ -166,6 +167,8 @@ object GatlingConfiguration extends StrictLogging {
     new ReportsConfiguration(
       maxPlotsPerSeries = config.getInt(charting.MaxPlotPerSeries),
       useGroupDurationMetric = config.getBoolean(charting.UseGroupDurationMetric),
+      maxRequestNames = config.getInt(charting.MaxRequestNames),
+      maxErrorMessages = config.getInt(charting.MaxErrorMessages),
       indicators = new IndicatorsConfiguration(
         lowerBound = config.getInt(charting.indicators.LowerBound),
         higherBound = config.getInt(charting.indicators.HigherBound),
@@ -173,6 +176,14 @@ object GatlingConfiguration extends StrictLogging {
         percentile2 = config.getDouble(charting.indicators.Percentile2),
         percentile3 = config.getDouble(charting.indicators.Percentile3),
         percentile4 = config.getDouble(charting.indicators.Percentile4)
+      ),
+      incremental = new IncrementalReportsConfiguration(
+        enabled = config.getBoolean(charting.incremental.Enabled),
+        checkpointPeriod = config.getInt(charting.incremental.CheckpointPeriod).seconds
+      ),
+      comparison = new ComparisonConfiguration(
+        regressionThreshold = config.getDouble(charting.comparison.RegressionThreshold),
+        minRegressionDelta = config.getInt(charting.comparison.MinRegressionDelta)
       )
     )
 
@@ -183,6 +194,7 @@ object GatlingConfiguration extends StrictLogging {
       perUserCacheMaxCapacity = config.getInt(http.PerUserCacheMaxCapacity),
       warmUpUrl = config.getString(http.WarmUpUrl).trimToOption,
       requestTimeout = config.getInt(http.RequestTimeout).millis,
+      requestTimeoutWheelTick = config.getInt(http.RequestTimeoutWheelTick).millis,
       pooledConnectionIdleTimeout = config.getInt(http.PooledConnectionIdleTimeout).millis,
       enableHostnameVerification = {
         val enable = config.getBoolean(http.EnableHostnameVerification)
@@ -192,15 +204,26 @@ object GatlingConfiguration extends StrictLogging {
         }
         enable
       },
+      directHttp1RequestHeadEncoding = config.getBoolean(http.DirectHttp1RequestHeadEncoding),
+      incrementalHtmlResourcesInference = config.getBoolean(http.IncrementalHtmlResourcesInference),
+      leanWebSocketPipeline = config.getBoolean(http.LeanWebSocketPipeline),
+      maxConnectionsPerRemote = config.getInt(http.MaxConnectionsPerRemote),
+      http1PipeliningDepth = config.getInt(http.Http1PipeliningDepth),
       dns = new DnsConfiguration(
         queryTimeout = config.getInt(http.dns.QueryTimeout).millis,
-        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve)
+        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve),
+        negativeTtl = config.getInt(http.dns.NegativeTtl).seconds,
+        prefetchThreshold = config.getDouble(http.dns.PrefetchThreshold)
       )
     )
 
   private def jmsConfiguration(config: Config) =
     new JmsConfiguration(
-      replyTimeoutScanPeriod = config.getLong(jms.ReplyTimeoutScanPeriod).millis
+      replyTimeoutScanPeriod = config.getLong(jms.ReplyTimeoutScanPeriod).millis,
+      trackerShards = config.getInt(jms.TrackerShards),
+      sendThreads = config.getInt(jms.SendThreads),
+      sendBatchSize = config.getInt(jms.SendBatchSize),
+      sendQueueSize = config.getInt(jms.SendQueueSize)
     )
 
   private def dataConfiguration(config: Config) =
@@ -215,6 +238,17 @@ object GatlingConfiguration extends StrictLogging {
           value.seconds
         }
       ),
+      live = new LiveMetricsConfiguration(
+        enabled = config.getBoolean(data.live.Enabled),
+        windowPeriods = {
+          val value = config.getInt(data.live.WindowPeriods)
+          require(value > 0, s"${data.live.WindowPeriods} must be > 0")
+          value
+        },
+        maxRequests = config.getInt(data.live.MaxRequests),
+        port = config.getInt(data.live.Port),
+        host = config.getString(data.live.Host)
+      ),
       enableAnalytics = config.getBoolean(data.EnableAnalytics)
     )
 
@@ -243,7 +277,8 @@ final class CoreConfiguration(
     val rawFileBodiesInMemoryMaxSize: Long,
     val pebbleFileBodiesCacheMaxCapacity: Long,
     val feederAdaptiveLoadModeThreshold: Long,
-    val shutdownTimeout: Long
+    val shutdownTimeout: Long,
+    val eventLoopLocalClosedInjection: Boolean
 ) {
   val charset: Charset = Charset.forName(encoding)
 }
@@ -298,7 +333,11 @@ final class NettyConfiguration(
 final class ReportsConfiguration(
     val maxPlotsPerSeries: Int,
     val useGroupDurationMetric: Boolean,
-    val indicators: IndicatorsConfiguration
+    val maxRequestNames: Int,
+    val maxErrorMessages: Int,
+    val indicators: IndicatorsConfiguration,
+    val incremental: IncrementalReportsConfiguration,
+    val comparison: ComparisonConfiguration
 )
 
 final class IndicatorsConfiguration(
@@ -310,6 +349,16 @@ final class IndicatorsConfiguration(
     val percentile4: Double
 )
 
+final class IncrementalReportsConfiguration(
+    val enabled: Boolean,
+    val checkpointPeriod: FiniteDuration
+)
+
+final class ComparisonConfiguration(
+    val regressionThreshold: Double,
+    val minRegressionDelta: Int
+)
+
 final class HttpConfiguration(
     val fetchedCssCacheMaxCapacity: Long,
     val fetchedHtmlCacheMaxCapacity: Long,
@@ -317,23 +366,36 @@ final class HttpConfiguration(
     val warmUpUrl: Option[String],
     val pooledConnectionIdleTimeout: FiniteDuration,
     val requestTimeout: FiniteDuration,
+    val requestTimeoutWheelTick: FiniteDuration,
     val enableHostnameVerification: Boolean,
+    val directHttp1RequestHeadEncoding: Boolean,
+    val incrementalHtmlResourcesInference: Boolean,
+    val leanWebSocketPipeline: Boolean,
+    val maxConnectionsPerRemote: Int,
+    val http1PipeliningDepth: Int,
     val dns: DnsConfiguration
 )
 
 final class JmsConfiguration(
-    val replyTimeoutScanPeriod: FiniteDuration
+    val replyTimeoutScanPeriod: FiniteDuration,
+    val trackerShards: Int,
+    val sendThreads: Int,
+    val sendBatchSize: Int,
+    val sendQueueSize: Int
 )
 
 final class DnsConfiguration(
     val queryTimeout: FiniteDuration,
-    val maxQueriesPerResolve: Int
+    val maxQueriesPerResolve: Int,
+    val negativeTtl: FiniteDuration,
+    val prefetchThreshold: Double
 )
 
 final class DataConfiguration(
     val zoneId: ZoneId,
     val dataWriters: Seq[DataWriterType],
     val console: ConsoleDataWriterConfiguration,
+    val live: LiveMetricsConfiguration,
     val enableAnalytics: Boolean
 ) {
   def fileDataWriterEnabled: Boolean = dataWriters.contains(DataWriterType.File)
@@ -344,6 +406,14 @@ final class ConsoleDataWriterConfiguration(
     val writePeriod: FiniteDuration
 )
 
+final class LiveMetricsConfiguration(
+    val enabled: Boolean,
+    val windowPeriods: Int,
+    val maxRequests: Int,
+    val port: Int,
+    val host: String
+)
+
 final class GatlingConfiguration(
     // [e]
     //
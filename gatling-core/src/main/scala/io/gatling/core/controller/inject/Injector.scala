@@ -23,6 +23,7 @@ import scala.concurrent.duration._
 import io.gatling.commons.util.Clock
 import io.gatling.core.actor.{ Actor, ActorRef, Behavior, Cancellable, Effect }
 import io.gatling.core.controller.Controller
+import io.gatling.core.controller.inject.closed.ClosedInjectionProfile
 import io.gatling.core.controller.inject.open.OpenInjection
 import io.gatling.core.scenario.Population
 import io.gatling.core.stats.StatsEngine
@@ -32,14 +33,15 @@ import io.netty.channel.EventLoopGroup
 private[gatling] object Injector {
   private[inject] val TickPeriod: FiniteDuration = 1.second
 
-  def actor(eventLoopGroup: EventLoopGroup, statsEngine: StatsEngine, clock: Clock): Actor[Injector.Command] =
-    new Injector(eventLoopGroup, statsEngine, clock)
+  def actor(eventLoopGroup: EventLoopGroup, statsEngine: StatsEngine, clock: Clock, eventLoopLocalClosedInjection: Boolean): Actor[Injector.Command] =
+    new Injector(eventLoopGroup, statsEngine, clock, eventLoopLocalClosedInjection)
 
   private[gatling] sealed trait Command
   object Command {
     private[controller] final case class Start(controller: ActorRef[Controller.Command], populationFlows: PopulationFlows[String, Population]) extends Command
     private[controller] final case class EmptyInjectionComplete(scenario: String) extends Command
     private[core] final case class UserEnd(scenario: String) extends Command
+    private[controller] final case class LocallyTrackedInjectionComplete(scenario: String) extends Command
     private[controller] case object Tick extends Command
   }
 
@@ -52,8 +54,12 @@ private[gatling] object Injector {
   )
 }
 
-private[gatling] final class Injector private (eventLoopGroup: EventLoopGroup, statsEngine: StatsEngine, clock: Clock)
-    extends Actor[Injector.Command]("injector") {
+private[gatling] final class Injector private (
+    eventLoopGroup: EventLoopGroup,
+    statsEngine: StatsEngine,
+    clock: Clock,
+    eventLoopLocalClosedInjection: Boolean
+) extends Actor[Injector.Command]("injector") {
   import Injector._
 
   override def init(): Behavior[Command] = {
@@ -73,7 +79,13 @@ private[gatling] final class Injector private (eventLoopGroup: EventLoopGroup, s
   private def buildInjections(populations: List[Population]): Map[String, Injection] = {
     val startTime = clock.nowMillis
     populations.map { population =>
-      population.scenario.name -> population.injectionProfile.injection(population.scenario, userIdGen, startTime, eventLoopGroup, statsEngine, clock)
+      val injection = population.injectionProfile match {
+        case closedInjectionProfile: ClosedInjectionProfile if eventLoopLocalClosedInjection =>
+          closedInjectionProfile.eventLoopLocalInjection(population.scenario, userIdGen, eventLoopGroup, statsEngine)
+        case injectionProfile =>
+          injectionProfile.injection(population.scenario, userIdGen, startTime, eventLoopGroup, statsEngine, clock)
+      }
+      population.scenario.name -> injection
     }.toMap
   }
 
@@ -109,11 +121,21 @@ private[gatling] final class Injector private (eventLoopGroup: EventLoopGroup, s
 
     if (allUsersScheduled) {
       logger.info("All scenarios have their users scheduled")
-      data.timer.cancel()
+      // injections that track user ends locally need the ticks to detect their completion
+      if (!newInProgressInjections.values.exists(_.isUserEndTrackedLocally)) {
+        data.timer.cancel()
+      }
+    }
+
+    allUsersScheduledInjections.values.foreach { injection =>
+      if (injection.isUserEndTrackedLocally && injection.isAllUsersStopped) {
+        self ! Command.LocallyTrackedInjectionComplete(injection.scenarioName)
+      }
     }
 
     if (allUsersScheduled && allUsersScheduledInjections.values.forall(_.isAllUsersStopped)) {
       logger.info("All users are already stopped")
+      data.timer.cancel()
       stopRun(data.controller)
     } else {
       become(
@@ -144,6 +166,14 @@ private[gatling] final class Injector private (eventLoopGroup: EventLoopGroup, s
       logger.info(s"Scenario $scenario with empty injection profile is complete")
       onPopulationComplete(scenario, data)
 
+    case Command.LocallyTrackedInjectionComplete(scenario) =>
+      if (data.inProgressInjections.contains(scenario)) {
+        logger.info(s"All users of scenario $scenario are stopped")
+        onPopulationComplete(scenario, data)
+      } else {
+        stay
+      }
+
     case Command.Tick =>
       inject(data, firstBatch = false)
 
@@ -158,6 +188,7 @@ private[gatling] final class Injector private (eventLoopGroup: EventLoopGroup, s
     val newReadyPopulations = data.readyInjections ++ newReady
 
     if (newInProgressPopulations.isEmpty && newReadyPopulations.isEmpty) {
+      data.timer.cancel()
       stopRun(data.controller)
     } else {
       become(
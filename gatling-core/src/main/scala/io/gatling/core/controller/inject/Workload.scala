@@ -28,6 +28,11 @@ import io.gatling.core.stats.StatsEngine
 import com.typesafe.scalalogging.StrictLogging
 import io.netty.channel.{ EventLoop, EventLoopGroup }
 
+/**
+ * Marker for Session exit hooks that account for the user end themselves, so the Exit action doesn't have to notify the Injector
+ */
+private[core] trait LocallyTrackedUserEnd extends (Session => Unit)
+
 private abstract class Injection(
     scenario: Scenario,
     userIdGen: AtomicLong,
@@ -47,17 +52,22 @@ private abstract class Injection(
 
   protected def incrementStoppedUsers(): Unit = stopped += 1
 
-  private def startUser(userId: Long, eventLoop: EventLoop): Unit = {
-    val rawSession = Session(scenario.name, userId, scenario.onExit, eventLoop)
+  protected final def startUser(userId: Long, eventLoop: EventLoop, onExit: Session => Unit): Unit = {
+    val rawSession = Session(scenario.name, userId, onExit, eventLoop)
     val session = scenario.onStart(rawSession)
     logger.debug(s"Start user #${session.userId}")
     statsEngine.logUserStart(scenario.name)
     scenario.entry ! session
   }
 
+  private def startUser(userId: Long, eventLoop: EventLoop): Unit =
+    startUser(userId, eventLoop, scenario.onExit)
+
+  protected final def nextUserId(): Long = userIdGen.incrementAndGet()
+
   protected def injectUser(delay: FiniteDuration): Unit = {
     incrementScheduledUsers()
-    val userId = userIdGen.incrementAndGet()
+    val userId = nextUserId()
     val eventLoop = eventLoopGroup.next()
     if (!eventLoop.isShutdown) {
       try {
@@ -85,6 +95,12 @@ private abstract class Injection(
 
   def isAllUsersStopped: Boolean = allScheduled && scheduled == stopped
 
+  /**
+   * @return
+   *   true if users ends are accounted for directly on the event loops instead of being notified to the Injector with UserEnd messages
+   */
+  def isUserEndTrackedLocally: Boolean = false
+
   def duration: FiniteDuration
 
   def isEmpty: Boolean
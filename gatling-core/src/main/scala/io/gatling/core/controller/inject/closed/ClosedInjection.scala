@@ -27,6 +27,17 @@ import io.gatling.core.util.Shard
 
 import io.netty.channel.EventLoopGroup
 
+private[closed] object ClosedInjection {
+  def offsetedSteps(steps: Iterable[ClosedInjectionStep]): Array[(FiniteDuration, ClosedInjectionStep)] = {
+    var offset: FiniteDuration = Duration.Zero
+
+    steps.map { step =>
+      offset = offset + step.duration
+      offset -> step
+    }.toArray
+  }
+}
+
 private[inject] final class ClosedInjection(
     steps: Iterable[ClosedInjectionStep],
     override val duration: FiniteDuration,
@@ -36,14 +47,7 @@ private[inject] final class ClosedInjection(
     eventLoopGroup: EventLoopGroup,
     statsEngine: StatsEngine
 ) extends Injection(scenario, userIdGen, eventLoopGroup, statsEngine) {
-  private val offsetedSteps: Array[(FiniteDuration, ClosedInjectionStep)] = {
-    var offset: FiniteDuration = Duration.Zero
-
-    steps.map { step =>
-      offset = offset + step.duration
-      offset -> step
-    }.toArray
-  }
+  private val offsetedSteps = ClosedInjection.offsetedSteps(steps)
 
   private var offset: FiniteDuration = Duration.Zero
   private var _thisBatchTarget = 0
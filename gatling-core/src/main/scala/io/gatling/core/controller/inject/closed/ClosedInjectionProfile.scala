@@ -49,6 +49,22 @@ private[core] final class ClosedInjectionProfile(steps: List[ClosedInjectionStep
       statsEngine
     )
 
+  private[inject] def eventLoopLocalInjection(
+      scenario: Scenario,
+      userIdGen: AtomicLong,
+      eventLoopGroup: EventLoopGroup,
+      statsEngine: StatsEngine
+  ): Injection =
+    new EventLoopLocalClosedInjection(
+      steps,
+      steps.foldLeft(Duration.Zero)((acc, step) => acc.plus(step.duration)),
+      steps.forall(_.isEmpty),
+      scenario,
+      userIdGen,
+      eventLoopGroup,
+      statsEngine
+    )
+
   override def toString = s"ClosedInjectionProfile($steps)"
 
   // [e]
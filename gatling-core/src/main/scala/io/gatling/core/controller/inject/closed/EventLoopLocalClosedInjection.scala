@@ -0,0 +1,161 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.controller.inject.closed
+
+import java.util.concurrent.{ RejectedExecutionException, TimeUnit }
+import java.util.concurrent.atomic.{ AtomicLong, LongAdder }
+
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import io.gatling.core.controller.inject.{ Injection, LocallyTrackedUserEnd }
+import io.gatling.core.scenario.Scenario
+import io.gatling.core.session.Session
+import io.gatling.core.stats.StatsEngine
+import io.gatling.core.util.Shard
+
+import io.netty.channel.{ EventLoop, EventLoopGroup }
+
+/**
+ * Closed workload model where each event loop owns a share of the target concurrency: when a user exits, a new one is respawned on the same event loop without
+ * a round-trip through the Injector. The Injector only rebalances the per event loop targets on each tick, where the target and actual concurrency are
+ * logged as gauges.
+ */
+private[inject] final class EventLoopLocalClosedInjection(
+    steps: Iterable[ClosedInjectionStep],
+    override val duration: FiniteDuration,
+    override val isEmpty: Boolean,
+    scenario: Scenario,
+    userIdGen: AtomicLong,
+    eventLoopGroup: EventLoopGroup,
+    statsEngine: StatsEngine
+) extends Injection(scenario, userIdGen, eventLoopGroup, statsEngine) {
+  private val offsetedSteps = ClosedInjection.offsetedSteps(steps)
+
+  private val startedUsers = new LongAdder
+  private val stoppedUsers = new LongAdder
+
+  private val slots: Array[UserSlots] =
+    eventLoopGroup.iterator.asScala.collect { case eventLoop: EventLoop => new UserSlots(eventLoop) }.toArray
+
+  private var offset: FiniteDuration = Duration.Zero
+  private var _target = 0
+  private val gaugeLabels = List("scenario" -> scenario.name)
+
+  def targetConcurrentUsers: Int = _target
+
+  def actualConcurrentUsers: Long = startedUsers.sum - stoppedUsers.sum
+
+  override def injectBatch(batchWindow: FiniteDuration): Unit = {
+    offset = offset + batchWindow
+    val currentStep: Option[(FiniteDuration, ClosedInjectionStep)] = offsetedSteps.find { case (off, _) => offset <= off }
+
+    currentStep match {
+      case Some((off, step)) =>
+        _target = step.valueAt(offset - off + step.duration)
+        rebalance(batchWindow)
+
+      case _ =>
+        // the Injector keeps ticking until the running users complete
+        if (!isAllUsersScheduled) {
+          // stop respawning users, the ones that are still running will complete
+          _target = 0
+          rebalance(batchWindow)
+          setAllScheduled()
+        }
+    }
+
+    val actual = actualConcurrentUsers
+    logger.debug(s"Scenario ${scenario.name} concurrent users: target=${_target} actual=$actual")
+    statsEngine.logGauge("closed_injection_target_users", gaugeLabels, _target)
+    statsEngine.logGauge("closed_injection_actual_users", gaugeLabels, actual)
+  }
+
+  private def rebalance(batchWindow: FiniteDuration): Unit =
+    Shard.shards(_target, slots.length).zip(slots.iterator).foreach { case (slotTarget, slot) =>
+      slot.rebalance(slotTarget.toInt, batchWindow.toMillis.toInt)
+    }
+
+  // user ends are accounted for in the UserSlots, the Injector is not notified
+  override def endUser(): Unit = {}
+
+  override def isAllUsersStopped: Boolean = isAllUsersScheduled && startedUsers.sum == stoppedUsers.sum
+
+  override def isUserEndTrackedLocally: Boolean = true
+
+  private final class UserSlots(eventLoop: EventLoop) extends LocallyTrackedUserEnd {
+    @volatile private var target = 0
+    // only accessed from the eventLoop
+    private var active = 0
+
+    def rebalance(newTarget: Int, batchWindowMillis: Int): Unit = {
+      target = newTarget
+      if (newTarget > 0) {
+        execute(fill(batchWindowMillis))
+      }
+    }
+
+    private def execute(f: => Unit): Unit =
+      if (!eventLoop.isShutdown) {
+        try {
+          eventLoop.execute(() => f)
+        } catch {
+          case _: RejectedExecutionException =>
+          // ignore, race condition when EventLoop is closed, eg empty feeder
+        }
+      }
+
+    private def fill(batchWindowMillis: Int): Unit = {
+      val missingUsers = target - active
+      if (missingUsers > 0) {
+        // spread the new users over the batch window, like the actor based ClosedInjection
+        for {
+          (number, millis) <- Shard.shards(missingUsers, batchWindowMillis).zipWithIndex
+          if number > 0
+        } (0 until number.toInt).foreach(_ => spawn(millis))
+      }
+    }
+
+    private def spawn(delayMillis: Int): Unit = {
+      active += 1
+      startedUsers.increment()
+      val userId = nextUserId()
+      if (delayMillis <= 0) {
+        execute(startUser(userId, eventLoop, this))
+      } else {
+        try {
+          eventLoop.schedule((() => startUser(userId, eventLoop, this)): Runnable, delayMillis.toLong, TimeUnit.MILLISECONDS)
+        } catch {
+          case _: RejectedExecutionException =>
+          // ignore, race condition when EventLoop is closed, eg empty feeder
+        }
+      }
+    }
+
+    override def apply(session: Session): Unit = {
+      scenario.onExit(session)
+      logger.debug(s"End user #${session.userId}")
+      statsEngine.logUserEnd(scenario.name)
+      active -= 1
+      stoppedUsers.increment()
+      if (active < target) {
+        // respawn immediately on the same event loop
+        spawn(0)
+      }
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.feeder
+
+import io.gatling.commons.util.Arrays
+
+private[feeder] object BatchedFeeder {
+  val DefaultBufferSize: Int = 2000
+
+  /**
+   * @param openStream
+   *   opens a new stream over the whole source, called again every time a circular or random feeder reaches the end of the current one
+   * @param bufferSize
+   *   the size of the windows random and shuffle feeders shuffle the records in
+   */
+  def apply[T](
+      openStream: () => CloseableFeeder[T],
+      conversion: Option[Record[T] => Record[Any]],
+      strategy: FeederStrategy,
+      bufferSize: Int
+  ): Feeder[Any] = {
+    val rawFeeder: BatchedFeeder[T] = strategy match {
+      case FeederStrategy.Queue    => new QueueBatchedFeeder(openStream)
+      case FeederStrategy.Random   => new RandomBatchedFeeder(openStream, bufferSize)
+      case FeederStrategy.Shuffle  => new ShuffleBatchedFeeder(openStream, bufferSize)
+      case FeederStrategy.Circular => new CircularBatchedFeeder(openStream)
+    }
+
+    conversion match {
+      case Some(f) =>
+        val converted = rawFeeder.map(f)
+        new CloseableFeeder[Any] {
+          override def hasNext: Boolean = converted.hasNext
+          override def next(): Record[Any] = converted.next()
+          override def close(): Unit = rawFeeder.close()
+        }
+      case _ => rawFeeder
+    }
+  }
+}
+
+private[feeder] sealed abstract class BatchedFeeder[T](openStream: () => CloseableFeeder[T]) extends CloseableFeeder[T] {
+  protected var feeder: CloseableFeeder[T] = openStream()
+
+  protected def resetStream(): Unit = {
+    feeder.close()
+    feeder = openStream()
+  }
+
+  override def close(): Unit = feeder.close()
+}
+
+private[feeder] class QueueBatchedFeeder[T](openStream: () => CloseableFeeder[T]) extends BatchedFeeder[T](openStream) {
+  override def hasNext: Boolean = feeder.hasNext
+
+  override def next(): Record[T] = feeder.next()
+}
+
+private[feeder] class RandomBatchedFeeder[T](openStream: () => CloseableFeeder[T], bufferSize: Int) extends BatchedFeeder[T](openStream) {
+  private val buffer = new Array[Record[T]](bufferSize)
+  private var index = Int.MaxValue // so refill is triggered on first access
+
+  private def refill(): Unit = {
+    var fill = 0
+    while (fill < bufferSize) {
+      if (!feeder.hasNext) {
+        resetStream()
+      }
+      buffer(fill) = feeder.next()
+      fill += 1
+    }
+    Arrays.shuffle(buffer)
+  }
+
+  override def hasNext: Boolean = true
+
+  override def next(): Record[T] =
+    if (index < bufferSize) {
+      val record = buffer(index)
+      index += 1
+      record
+    } else {
+      refill()
+      index = 1
+      buffer(0)
+    }
+}
+
+private[feeder] class ShuffleBatchedFeeder[T](openStream: () => CloseableFeeder[T], bufferSize: Int) extends BatchedFeeder[T](openStream) {
+  private val buffer = new Array[Record[T]](bufferSize)
+  private var index = 0
+  private var fill = 0
+  refill()
+
+  private def refill(): Unit = {
+    fill = 0
+    while (fill < bufferSize && feeder.hasNext) {
+      buffer(fill) = feeder.next()
+      fill += 1
+    }
+    Arrays.shuffle(buffer, fill)
+  }
+
+  override def hasNext: Boolean = index < fill || feeder.hasNext
+
+  override def next(): Record[T] =
+    if (index < fill) {
+      val record = buffer(index)
+      index += 1
+      record
+    } else {
+      refill()
+      assert(fill > 0, "Fill is supposed to never be 0 as we're supposed to test hasNext first")
+      index = 1
+      buffer(0)
+    }
+}
+
+private[feeder] class CircularBatchedFeeder[T](openStream: () => CloseableFeeder[T]) extends BatchedFeeder[T](openStream) {
+  override def hasNext: Boolean = true
+
+  override def next(): Record[T] = {
+    if (!feeder.hasNext) {
+      resetStream()
+    }
+    feeder.next()
+  }
+}
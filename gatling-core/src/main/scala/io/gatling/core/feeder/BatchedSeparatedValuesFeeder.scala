@@ -20,11 +20,7 @@ import java.io.File
 import java.nio.channels.{ FileChannel, ReadableByteChannel }
 import java.nio.charset.Charset
 
-import io.gatling.commons.util.Arrays
-
 object BatchedSeparatedValuesFeeder {
-  private val BufferSize: Int = 2000
-
   def apply(
       file: File,
       separator: Char,
@@ -40,130 +36,20 @@ object BatchedSeparatedValuesFeeder {
       () => FileChannel.open(path)
     }
 
-    val rawFeeder = strategy match {
-      case FeederStrategy.Queue    => new QueueBatchedSeparatedValuesFeeder(channelFactory, feederFactory)
-      case FeederStrategy.Random   => new RandomBatchedSeparatedValuesFeeder(channelFactory, feederFactory, BufferSize)
-      case FeederStrategy.Shuffle  => new ShuffleBatchedSeparatedValuesFeeder(channelFactory, feederFactory, BufferSize)
-      case FeederStrategy.Circular => new CircularBatchedSeparatedValuesFeeder(channelFactory, feederFactory)
-    }
-
-    conversion match {
-      case Some(f) =>
-        val converted = rawFeeder.map(f)
-        new CloseableFeeder[Any] {
-          override def hasNext: Boolean = converted.hasNext
-          override def next(): Record[Any] = converted.next()
-          override def close(): Unit = rawFeeder.close()
-        }
-      case _ => rawFeeder
-    }
-  }
-}
-
-private sealed abstract class BatchedSeparatedValuesFeeder(
-    channelFactory: () => ReadableByteChannel,
-    feederFactory: ReadableByteChannel => Feeder[String]
-) extends CloseableFeeder[String] {
-  private var currentChannel: ReadableByteChannel = _
-  protected var feeder: Feeder[String] = _
-  reset0()
-
-  private def reset0(): Unit = {
-    currentChannel = channelFactory()
-    feeder = feederFactory(currentChannel)
+    BatchedFeeder(openStream(channelFactory, feederFactory), conversion, strategy, BatchedFeeder.DefaultBufferSize)
   }
 
-  protected def resetStream(): Unit = {
-    currentChannel.close()
-    reset0()
-  }
-
-  override def close(): Unit = currentChannel.close()
-}
-
-private final class QueueBatchedSeparatedValuesFeeder(channelFactory: () => ReadableByteChannel, streamer: ReadableByteChannel => Feeder[String])
-    extends BatchedSeparatedValuesFeeder(channelFactory, streamer) {
-  override def hasNext: Boolean = feeder.hasNext
-
-  override def next(): Record[String] = feeder.next()
-}
-
-private final class RandomBatchedSeparatedValuesFeeder(
-    channelFactory: () => ReadableByteChannel,
-    streamer: ReadableByteChannel => Feeder[String],
-    bufferSize: Int
-) extends BatchedSeparatedValuesFeeder(channelFactory, streamer) {
-  private val buffer = new Array[Record[String]](bufferSize)
-  private var index = Int.MaxValue // so refill is triggered on first access
-
-  private def refill(): Unit = {
-    var fill = 0
-    while (fill < bufferSize) {
-      if (!feeder.hasNext) {
-        resetStream()
+  private[feeder] def openStream(
+      channelFactory: () => ReadableByteChannel,
+      feederFactory: ReadableByteChannel => Feeder[String]
+  ): () => CloseableFeeder[String] =
+    () => {
+      val channel = channelFactory()
+      val feeder = feederFactory(channel)
+      new CloseableFeeder[String] {
+        override def hasNext: Boolean = feeder.hasNext
+        override def next(): Record[String] = feeder.next()
+        override def close(): Unit = channel.close()
       }
-      buffer(fill) = feeder.next()
-      fill += 1
     }
-    Arrays.shuffle(buffer)
-  }
-
-  override def hasNext: Boolean = true
-
-  override def next(): Record[String] =
-    if (index < bufferSize) {
-      val record = buffer(index)
-      index += 1
-      record
-    } else {
-      refill()
-      index = 1
-      buffer(0)
-    }
-}
-
-private final class ShuffleBatchedSeparatedValuesFeeder(
-    channelFactory: () => ReadableByteChannel,
-    streamer: ReadableByteChannel => Feeder[String],
-    bufferSize: Int
-) extends BatchedSeparatedValuesFeeder(channelFactory, streamer) {
-  private val buffer = new Array[Record[String]](bufferSize)
-  private var index = 0
-  private var fill = 0
-  refill()
-
-  private def refill(): Unit = {
-    fill = 0
-    while (fill < bufferSize && feeder.hasNext) {
-      buffer(fill) = feeder.next()
-      fill += 1
-    }
-    Arrays.shuffle(buffer, fill)
-  }
-
-  override def hasNext: Boolean = index < fill || feeder.hasNext
-
-  override def next(): Record[String] =
-    if (index < fill) {
-      val record = buffer(index)
-      index += 1
-      record
-    } else {
-      refill()
-      assert(fill > 0, "Fill is supposed to never be 0 as we're supposed to test hasNext first")
-      index = 1
-      buffer(0)
-    }
-}
-
-private final class CircularBatchedSeparatedValuesFeeder(channelFactory: () => ReadableByteChannel, streamer: ReadableByteChannel => Feeder[String])
-    extends BatchedSeparatedValuesFeeder(channelFactory, streamer) {
-  override def hasNext: Boolean = true
-
-  override def next(): Record[String] = {
-    if (!feeder.hasNext) {
-      resetStream()
-    }
-    feeder.next()
-  }
 }
@@ -46,6 +46,31 @@ private[gatling] final case class InMemoryFeederSource[T](records: IndexedSeq[Re
     records.length
 }
 
+/**
+ * A source that's too large to be loaded in memory, streamed again from the start every time a feeder needs to rewind
+ *
+ * @param countRecords
+ *   counts the records without streaming them
+ */
+private[gatling] final class StreamingFeederSource[T](openStream: () => CloseableFeeder[T], countRecords: () => Int, override val name: String)
+    extends FeederSource[T] {
+  // only file based sources can be unzipped, and streams can't be split
+  private def validate(options: FeederOptions[T]): Unit = {
+    require(!options.unzip, s"Feeder $name isn't a file and can't be unzipped")
+    require(!options.shard, s"Feeder $name is streamed and can't be sharded")
+  }
+
+  override def feeder(options: FeederOptions[T], configuration: GatlingConfiguration): Feeder[Any] = {
+    validate(options)
+    BatchedFeeder(openStream, options.conversion, options.strategy, BatchedFeeder.DefaultBufferSize)
+  }
+
+  override def recordsCount(options: FeederOptions[T], configuration: GatlingConfiguration): Int = {
+    validate(options)
+    countRecords()
+  }
+}
+
 private[feeder] object ZippedResourceCache {
   private val cache = new ConcurrentHashMap[Resource, Resource]()
 
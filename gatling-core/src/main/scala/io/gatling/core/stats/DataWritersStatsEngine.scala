@@ -17,6 +17,7 @@
 package io.gatling.core.stats
 
 import java.nio.file.Path
+import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.atomic.AtomicBoolean
 
 import scala.concurrent.{ ExecutionContext, Future }
@@ -24,7 +25,7 @@ import scala.concurrent.duration._
 
 import io.gatling.commons.stats.Status
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.{ Actor, ActorRef, ActorSystem, Cancellable }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.controller.Controller
 import io.gatling.core.scenario.SimulationParams
@@ -33,20 +34,31 @@ import io.gatling.core.stats.writer._
 import io.gatling.core.structure.PopulationBuilder
 
 object DataWritersStatsEngine {
+  private val ResponseRecordsCapacity = 512
+  private val ResponseRecordsFlushPeriod = 100.millis
+
+  /**
+   * The response records being filled by a given thread, and swapped under lock when full or flushed
+   */
+  private final class ThreadResponseRecords(var records: ResponseRecords)
+
   def apply(
       simulationParams: SimulationParams,
       runMessage: RunMessage,
       system: ActorSystem,
       clock: Clock,
       resultsDirectory: Option[Path],
-      configuration: GatlingConfiguration
+      configuration: GatlingConfiguration,
+      additionalDataWriters: Seq[Actor[DataWriterMessage]]
   ): DataWritersStatsEngine = {
     val allPopulationBuilders = PopulationBuilder.flatten(simulationParams.rootPopulationBuilders)
     val scenarios = allPopulationBuilders.map(pb => ShortScenarioDescription(pb.scenarioBuilder.name, pb.injectionProfile.totalUserCount))
 
-    val dataWriters = configuration.data.dataWriters
+    val liveMetrics = if (configuration.data.live.enabled) Some(new LiveMetrics) else None
+
+    val configuredDataWriters: Seq[Actor[DataWriterMessage]] = configuration.data.dataWriters
       .map {
-        case DataWriterType.Console => new ConsoleDataWriter(runMessage, scenarios, clock, configuration.data.console)
+        case DataWriterType.Console => new ConsoleDataWriter(runMessage, scenarios, clock, configuration.data.console, liveMetrics)
         case DataWriterType.File =>
           LogFileDataWriter(
             runMessage,
@@ -55,7 +67,18 @@ object DataWritersStatsEngine {
             resultsDirectory.getOrElse(throw new IllegalArgumentException("Can't use the file DataWriter without setting the results directory"))
           )
       }
-      .map(system.actorOf)
+
+    val liveMetricsDataWriter = liveMetrics.map { liveMetrics =>
+      val indicators = configuration.reports.indicators
+      new LiveMetricsDataWriter(
+        liveMetrics,
+        configuration.data.console.writePeriod,
+        Array(indicators.percentile1, indicators.percentile2, indicators.percentile3, indicators.percentile4),
+        configuration.data.live
+      )
+    }
+
+    val dataWriters = (configuredDataWriters ++ liveMetricsDataWriter ++ additionalDataWriters).map(system.actorOf)
 
     new DataWritersStatsEngine(
       dataWriters,
@@ -70,12 +93,55 @@ final class DataWritersStatsEngine(
     system: ActorSystem,
     clock: Clock
 ) extends StatsEngine {
+  import DataWritersStatsEngine._
+
   private val active = new AtomicBoolean(true)
+  private val responseRecordKeys = new ResponseRecordKeys
+  private val allThreadResponseRecords = new ConcurrentLinkedQueue[ThreadResponseRecords]
+  private val threadResponseRecords = ThreadLocal.withInitial[ThreadResponseRecords] { () =>
+    val threadRecords = new ThreadResponseRecords(newResponseRecords())
+    allThreadResponseRecords.add(threadRecords)
+    threadRecords
+  }
+  @volatile private var responseRecordsFlushTimer: Option[Cancellable] = None
+
+  private def newResponseRecords(): ResponseRecords = new ResponseRecords(responseRecordKeys, ResponseRecordsCapacity)
+
+  // records must be sent before the DataWriters are stopped, so this doesn't check if the engine is still active
+  private def sendResponseRecords(threadRecords: ThreadResponseRecords): Unit = {
+    val records = threadRecords.records
+    threadRecords.records = newResponseRecords()
+    dataWriters.foreach(_ ! DataWriterMessage.LoadEvent.Responses(records))
+  }
 
-  override def start(): Unit = dataWriters.foreach(_ ! DataWriterMessage.Init)
+  // responses are buffered, so the calling thread's ones must be sent before an event that follows them, e.g. the end of their user
+  private def flushThreadResponseRecords(): Unit = {
+    val threadRecords = threadResponseRecords.get
+    threadRecords.synchronized {
+      if (!threadRecords.records.isEmpty) {
+        sendResponseRecords(threadRecords)
+      }
+    }
+  }
+
+  private def flushResponseRecords(): Unit =
+    allThreadResponseRecords.forEach { threadRecords =>
+      threadRecords.synchronized {
+        if (!threadRecords.records.isEmpty) {
+          sendResponseRecords(threadRecords)
+        }
+      }
+    }
+
+  override def start(): Unit = {
+    dataWriters.foreach(_ ! DataWriterMessage.Init)
+    responseRecordsFlushTimer = Some(system.scheduler.scheduleAtFixedRate(ResponseRecordsFlushPeriod)(flushResponseRecords()))
+  }
 
   override def stop(controller: ActorRef[Controller.Command], crash: Boolean): Unit =
     if (active.getAndSet(false)) {
+      responseRecordsFlushTimer.foreach(_.cancel())
+      flushResponseRecords()
       val responses = dataWriters.map { dataWriter =>
         val promise = dataWriter.replyPromise[Unit](5.seconds)
         dataWriter ! DataWriterMessage.Stop(promise)
@@ -87,9 +153,15 @@ final class DataWritersStatsEngine(
 
   private def dispatch(message: DataWriterMessage): Unit = if (active.get) dataWriters.foreach(_ ! message)
 
-  override def logUserStart(scenario: String): Unit = dispatch(DataWriterMessage.LoadEvent.User(scenario, clock.nowMillis, start = true))
+  override def logUserStart(scenario: String): Unit = {
+    flushThreadResponseRecords()
+    dispatch(DataWriterMessage.LoadEvent.User(scenario, clock.nowMillis, start = true))
+  }
 
-  override def logUserEnd(scenario: String): Unit = dispatch(DataWriterMessage.LoadEvent.User(scenario, clock.nowMillis, start = false))
+  override def logUserEnd(scenario: String): Unit = {
+    flushThreadResponseRecords()
+    dispatch(DataWriterMessage.LoadEvent.User(scenario, clock.nowMillis, start = false))
+  }
 
   override def logResponse(
       scenario: String,
@@ -101,32 +173,42 @@ final class DataWritersStatsEngine(
       responseCode: Option[String],
       message: Option[String]
   ): Unit =
-    if (endTimestamp >= 0) {
-      dispatch(
-        DataWriterMessage.LoadEvent.Response(
-          scenario,
-          groups,
-          requestName,
-          startTimestamp,
-          endTimestamp,
-          status,
-          responseCode,
-          message.map { m =>
+    if (endTimestamp >= 0 && active.get) {
+      val requestId = responseRecordKeys.requestId(groups, requestName)
+      val messageId = message match {
+        case Some(m) =>
+          responseRecordKeys.messageId(
             if (m.length > StatsEngine.ErrorMessageMaxLength) {
               m.substring(0, StatsEngine.ErrorMessageMaxLength)
             } else {
               m
             }
+          )
+        case _ => ResponseRecords.NoMessage
+      }
+      val responseCodeId = responseCode match {
+        case Some(code) => responseRecordKeys.responseCodeId(code)
+        case _          => ResponseRecords.NoResponseCode
+      }
+
+      val threadRecords = threadResponseRecords.get
+      threadRecords.synchronized {
+        // stop deactivates the engine before flushing under this lock, so a record added here is either flushed or dropped, never left behind
+        if (active.get) {
+          threadRecords.records.add(requestId, startTimestamp, endTimestamp, status, responseCodeId, messageId)
+          if (threadRecords.records.isFull) {
+            sendResponseRecords(threadRecords)
           }
-        )
-      )
+        }
+      }
     }
 
   override def logGroupEnd(
       scenario: String,
       groupBlock: GroupBlock,
       exitTimestamp: Long
-  ): Unit =
+  ): Unit = {
+    flushThreadResponseRecords()
     dispatch(
       DataWriterMessage.LoadEvent.Group(
         scenario,
@@ -137,7 +219,11 @@ final class DataWritersStatsEngine(
         groupBlock.status
       )
     )
+  }
 
   override def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit =
     dispatch(DataWriterMessage.LoadEvent.Error(s"$requestName: $error ", clock.nowMillis))
+
+  override def logGauge(name: String, labels: List[(String, String)], value: Long): Unit =
+    dispatch(DataWriterMessage.LoadEvent.Gauge(name, labels, value, clock.nowMillis))
 }
@@ -87,6 +87,15 @@ trait StatsEngine extends EnterpriseStatsEngineExtensions {
   ): Unit
 
   def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit
+
+  /**
+   * Samples a gauge, such as the active streams of an HTTP/2 connection. Gauges are exported by the live metrics for as long as they keep being sampled,
+   * and ignored by default.
+   *
+   * @param name the metric name, in snake case
+   * @param labels the label names and values telling apart the gauges with the same name
+   */
+  def logGauge(name: String, labels: List[(String, String)], value: Long): Unit = {}
 }
 
 // WARNING those methods only serve a purpose in Gatling Enterprise and mustn't be called from other components
@@ -16,12 +16,13 @@
 
 package io.gatling.core.stats.writer
 
+import java.{ util => ju }
 import java.time.{ Clock => JavaTimeClock, Instant, ZonedDateTime }
 import java.time.format.DateTimeFormatter
 
 import scala.collection.mutable
 
-import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Clock
 import io.gatling.core.actor.Cancellable
 import io.gatling.core.config.ConsoleDataWriterConfiguration
@@ -47,19 +48,134 @@ private object RequestCounters {
 
 private[writer] final class RequestCounters(var successfulCount: Int, var failedCount: Int)
 
+/**
+ * Growable array of primitive counters, indexed by ids handed out in first-seen order
+ */
+private[writer] final class IntCounters {
+  private var counts = new Array[Int](16)
+
+  def increment(id: Int): Unit = {
+    if (id >= counts.length) {
+      counts = ju.Arrays.copyOf(counts, math.max(counts.length * 2, id + 1))
+    }
+    counts(id) += 1
+  }
+
+  def apply(id: Int): Int = if (id < counts.length) counts(id) else 0
+}
+
+/**
+ * Interns request paths: a dense id is assigned the first time a (group hierarchy, name) pair is seen, so that recording a response is a couple of hash
+ * lookups and no longer joins the path into a new String every time.
+ */
+private[writer] final class RequestPaths {
+  private val idsByGroups = new ju.HashMap[List[String], ju.HashMap[String, Integer]]
+  private val paths = mutable.ArrayBuffer.empty[String]
+  // local ids indexed by RequestKey id, -1 when not resolved yet
+  private var idsByKeyId = Array.fill(16)(-1)
+
+  def id(key: RequestKey): Int = {
+    if (key.id >= idsByKeyId.length) {
+      val oldLength = idsByKeyId.length
+      idsByKeyId = ju.Arrays.copyOf(idsByKeyId, math.max(oldLength * 2, key.id + 1))
+      ju.Arrays.fill(idsByKeyId, oldLength, idsByKeyId.length, -1)
+    }
+
+    var id = idsByKeyId(key.id)
+    if (id < 0) {
+      id = this.id(key.groupHierarchy, key.name)
+      idsByKeyId(key.id) = id
+    }
+    id
+  }
+
+  def id(groupHierarchy: List[String], name: String): Int = {
+    var idsByName = idsByGroups.get(groupHierarchy)
+    if (idsByName == null) {
+      idsByName = new ju.HashMap
+      idsByGroups.put(groupHierarchy, idsByName)
+    }
+
+    val id = idsByName.get(name)
+    if (id != null) {
+      id.intValue
+    } else {
+      val newId = paths.size
+      paths += (if (groupHierarchy.isEmpty) name else groupHierarchy.mkString("", " / ", " / " + name))
+      idsByName.put(name, newId)
+      newId
+    }
+  }
+
+  def size: Int = paths.size
+
+  def path(id: Int): String = paths(id)
+}
+
+/**
+ * Interns error messages to dense ids, in first-seen order
+ */
+private[writer] final class ErrorMessages {
+  private val ids = new ju.HashMap[String, Integer]
+  private val messages = mutable.ArrayBuffer.empty[String]
+
+  def id(message: String): Int = {
+    val id = ids.get(message)
+    if (id != null) {
+      id.intValue
+    } else {
+      val newId = messages.size
+      messages += message
+      ids.put(message, newId)
+      newId
+    }
+  }
+
+  def size: Int = messages.size
+
+  def message(id: Int): String = messages(id)
+}
+
 private[writer] final class ConsoleData(val startUpTime: Long, val dateTimeFormatter: DateTimeFormatter, val timer: Cancellable) extends DataWriterData {
   var complete: Boolean = false
   val usersCounters: mutable.Map[String, UserCounters] = mutable.Map.empty
   val globalRequestCounters: RequestCounters = RequestCounters.empty
-  val requestsCounters: mutable.Map[String, RequestCounters] = mutable.LinkedHashMap.empty
-  val errorsCounters: mutable.Map[String, Int] = mutable.LinkedHashMap.empty
+  val requestPaths: RequestPaths = new RequestPaths
+  val successfulCounts: IntCounters = new IntCounters
+  val failedCounts: IntCounters = new IntCounters
+  val errorMessages: ErrorMessages = new ErrorMessages
+  val errorCounts: IntCounters = new IntCounters
+
+  // distinct (groups, name) pairs can join into the same path, eg List("a / b") + "c" and List("a") + "b / c", so they're merged here
+  def requestsCounters: mutable.Map[String, RequestCounters] = {
+    val snapshot = mutable.LinkedHashMap.empty[String, RequestCounters]
+    var id = 0
+    while (id < requestPaths.size) {
+      val counters = snapshot.getOrElseUpdate(requestPaths.path(id), RequestCounters.empty)
+      counters.successfulCount += successfulCounts(id)
+      counters.failedCount += failedCounts(id)
+      id += 1
+    }
+    snapshot
+  }
+
+  def errorsCounters: mutable.Map[String, Int] = {
+    val snapshot = mutable.LinkedHashMap.empty[String, Int]
+    var id = 0
+    while (id < errorMessages.size) {
+      snapshot.put(errorMessages.message(id), errorCounts(id))
+      id += 1
+    }
+    snapshot
+  }
 }
 
 private[gatling] final class ConsoleDataWriter(
     runMessage: RunMessage,
     scenarios: Seq[ShortScenarioDescription],
     clock: Clock,
-    configuration: ConsoleDataWriterConfiguration
+    configuration: ConsoleDataWriterConfiguration,
+    liveMetrics: Option[LiveMetrics]
 ) extends DataWriter[ConsoleData]("console-data-writer") {
 
   override def onInit(): ConsoleData = {
@@ -87,6 +203,7 @@ private[gatling] final class ConsoleDataWriter(
         globalRequestCounters,
         requestsCounters,
         errorsCounters,
+        liveMetrics.flatMap(_.snapshot),
         configuration.light,
         ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), JavaTimeClock.systemDefaultZone().getZone),
         dateTimeFormatter
@@ -96,10 +213,11 @@ private[gatling] final class ConsoleDataWriter(
   }
 
   override def onMessage(message: DataWriterMessage.LoadEvent, data: ConsoleData): Unit = message match {
-    case user: DataWriterMessage.LoadEvent.User         => onUserMessage(user, data)
-    case response: DataWriterMessage.LoadEvent.Response => onResponseMessage(response, data)
-    case error: DataWriterMessage.LoadEvent.Error       => onErrorMessage(error, data)
-    case _                                              =>
+    case user: DataWriterMessage.LoadEvent.User           => onUserMessage(user, data)
+    case response: DataWriterMessage.LoadEvent.Response   => onResponseMessage(response, data)
+    case responses: DataWriterMessage.LoadEvent.Responses => onResponseRecords(responses.records, data)
+    case error: DataWriterMessage.LoadEvent.Error         => onErrorMessage(error, data)
+    case _                                                =>
   }
 
   private def onUserMessage(user: DataWriterMessage.LoadEvent.User, data: ConsoleData): Unit = {
@@ -112,29 +230,34 @@ private[gatling] final class ConsoleDataWriter(
     }
   }
 
-  @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
-  private def onResponseMessage(response: DataWriterMessage.LoadEvent.Response, data: ConsoleData): Unit = {
-    import data._
-    import response._
+  private def onResponseMessage(response: DataWriterMessage.LoadEvent.Response, data: ConsoleData): Unit =
+    recordResponse(data.requestPaths.id(response.groupHierarchy, response.name), response.status, response.message, data)
 
-    val requestPath = (groupHierarchy :+ response.name).mkString(" / ")
-    val requestCounters = requestsCounters.getOrElseUpdate(requestPath, RequestCounters.empty)
+  private def onResponseRecords(records: ResponseRecords, data: ConsoleData): Unit = {
+    var i = 0
+    while (i < records.size) {
+      recordResponse(data.requestPaths.id(records.request(i)), records.status(i), records.message(i), data)
+      i += 1
+    }
+  }
+
+  private def recordResponse(requestId: Int, status: Status, message: Option[String], data: ConsoleData): Unit = {
+    import data._
 
     status match {
       case OK =>
         globalRequestCounters.successfulCount += 1
-        requestCounters.successfulCount += 1
+        successfulCounts.increment(requestId)
       case KO =>
         globalRequestCounters.failedCount += 1
-        requestCounters.failedCount += 1
-        val errorMessage = message.getOrElse("<no-message>")
-        errorsCounters(errorMessage) = errorsCounters.getOrElse(errorMessage, 0) + 1
+        failedCounts.increment(requestId)
+        errorCounts.increment(errorMessages.id(message.getOrElse("<no-message>")))
     }
   }
 
   private def onErrorMessage(error: DataWriterMessage.LoadEvent.Error, data: ConsoleData): Unit = {
     import data._
-    errorsCounters(error.message) = errorsCounters.getOrElse(error.message, 0) + 1
+    errorCounts.increment(errorMessages.id(error.message))
   }
 
   override def onCrash(cause: String, data: ConsoleData): Unit = {}
@@ -69,4 +69,16 @@ private[gatling] object ConsoleStatsFormat {
     val titleWrappedWithSpaces = s" $title "
     s"----${titleWrappedWithSpaces.rightPad(ConsoleWidth - 4 - 35, "-")}|---Total---|-----OK----|----KO----"
   }
+
+  def formatSubTitleWithColumns(title: String, columnTitles: Seq[String]): String = {
+    val columnWidth = NumberLength + 2
+    val columns = columnTitles.map { columnTitle =>
+      val left = (columnWidth - columnTitle.length) / 2
+      s"|${"-" * left}$columnTitle${"-" * (columnWidth - columnTitle.length - left)}"
+    }
+    s"---- $title ".rightPad(ConsoleWidth - columns.length * (columnWidth + 1), "-") + columns.mkString
+  }
+
+  def formatPercentileTitle(percentile: Double): String =
+    if (percentile.isWhole) s"p${percentile.toLong}" else s"p$percentile"
 }
@@ -43,6 +43,19 @@ private[gatling] object ConsoleSummary {
       lightOutput: Boolean,
       time: TemporalAccessor,
       dateTimeFormatter: DateTimeFormatter
+  ): ConsoleSummary =
+    apply(runDuration, usersCounters, globalRequestCounters, requestsCounters, errorsCounters, None, lightOutput, time, dateTimeFormatter)
+
+  def apply(
+      runDuration: Long,
+      usersCounters: mutable.Map[String, UserCounters],
+      globalRequestCounters: RequestCounters,
+      requestsCounters: mutable.Map[String, RequestCounters],
+      errorsCounters: mutable.Map[String, Int],
+      liveMetrics: Option[LiveMetricsSnapshot],
+      lightOutput: Boolean,
+      time: TemporalAccessor,
+      dateTimeFormatter: DateTimeFormatter
   ): ConsoleSummary = {
     def writeUsersCounters(sb: jl.StringBuilder, scenarioName: String, userCounters: UserCounters): jl.StringBuilder = {
       import userCounters._
@@ -85,6 +98,27 @@ private[gatling] object ConsoleSummary {
       sb
     }
 
+    def writeLiveMetrics(sb: jl.StringBuilder): jl.StringBuilder = {
+      liveMetrics.foreach { snapshot =>
+        val columnTitles = ("rps" +: snapshot.percentiles.toSeq.map(formatPercentileTitle)) :+ "max"
+        val maxActionNameLength = ConsoleWidth - HeaderLength - columnTitles.length * (NumberLength + 3)
+
+        def writeLiveRequestMetrics(metrics: LiveRequestMetrics): jl.StringBuilder = {
+          sb.append(Header).append(metrics.name.truncate(maxActionNameLength).rightPad(maxActionNameLength))
+          sb.append(" | ").append(formatNumber(metrics.throughput))
+          metrics.percentileValues.foreach(value => sb.append(" | ").append(formatNumber(value)))
+          sb.append(" | ").append(formatNumber(metrics.max)).append(Eol)
+        }
+
+        sb.append(formatSubTitleWithColumns(s"Response Time (ms, last ${snapshot.windowSeconds.toLong}s)", columnTitles)).append(Eol)
+        writeLiveRequestMetrics(snapshot.global)
+        if (!lightOutput) {
+          snapshot.requests.foreach(writeLiveRequestMetrics)
+        }
+      }
+      sb
+    }
+
     def writeErrors(sb: jl.StringBuilder): jl.StringBuilder = {
       if (errorsCounters.nonEmpty) {
         val errorsTotal = errorsCounters.values.sum
@@ -108,6 +142,7 @@ private[gatling] object ConsoleSummary {
 
     writeRequestsCounter(sb, "Global", globalRequestCounters).append(Eol)
     writeDetailedRequestsCounter(sb).append(Eol)
+    writeLiveMetrics(sb)
     writeErrors(sb).append(Eol)
 
     usersCounters.foreachEntry { (scenarioName, usersStats) =>
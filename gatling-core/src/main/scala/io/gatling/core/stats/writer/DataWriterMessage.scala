@@ -61,6 +61,8 @@ private[gatling] object DataWriterMessage {
         message: Option[String]
     ) extends LoadEvent
 
+    final case class Responses(records: ResponseRecords) extends LoadEvent
+
     final case class Group(
         scenario: String,
         groupHierarchy: List[String],
@@ -73,5 +75,7 @@ private[gatling] object DataWriterMessage {
     }
 
     final case class Error(message: String, timestamp: Long) extends LoadEvent
+
+    final case class Gauge(name: String, labels: List[(String, String)], value: Long, timestamp: Long) extends LoadEvent
   }
 }
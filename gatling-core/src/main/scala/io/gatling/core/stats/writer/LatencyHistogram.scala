@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.{ lang => jl, util => ju }
+
+private[gatling] object LatencyHistogram {
+  // values below LinearBucketCount are recorded exactly,
+  // then every power of 2 is split into SubBucketCount buckets, ie a relative error under 1 / SubBucketCount
+  private val SubBucketBits = 5
+  private val SubBucketCount = 1 << SubBucketBits
+  private val LinearBucketCount = 2 * SubBucketCount
+
+  val BucketCount: Int = LinearBucketCount + (jl.Integer.SIZE - 1 - (SubBucketBits + 1)) * SubBucketCount
+
+  private[writer] def bucketIndex(value: Int): Int =
+    if (value < LinearBucketCount) {
+      math.max(value, 0)
+    } else {
+      val highestBit = jl.Integer.SIZE - 1 - jl.Integer.numberOfLeadingZeros(value)
+      val shift = highestBit - SubBucketBits
+      LinearBucketCount + (highestBit - SubBucketBits - 1) * SubBucketCount + (value >>> shift) - SubBucketCount
+    }
+
+  private[writer] def bucketHighestValue(index: Int): Int =
+    if (index < LinearBucketCount) {
+      index
+    } else {
+      val offset = index - LinearBucketCount
+      val shift = offset / SubBucketCount + 1
+      val lowest = (offset % SubBucketCount + SubBucketCount) << shift
+      lowest + (1 << shift) - 1
+    }
+}
+
+/**
+ * Fixed size log-linear histogram of response times in millis.
+ *
+ * Histograms can be added and subtracted, so a rolling window is the sum of its periods minus the expired one.
+ */
+private[gatling] final class LatencyHistogram {
+  import LatencyHistogram._
+
+  private val counts = new Array[Int](BucketCount)
+  private var _count: Long = 0
+
+  def count: Long = _count
+
+  def record(value: Int): Unit = {
+    counts(bucketIndex(value)) += 1
+    _count += 1
+  }
+
+  def add(other: LatencyHistogram): Unit = {
+    var i = 0
+    while (i < BucketCount) {
+      counts(i) += other.counts(i)
+      i += 1
+    }
+    _count += other._count
+  }
+
+  def subtract(other: LatencyHistogram): Unit = {
+    var i = 0
+    while (i < BucketCount) {
+      counts(i) -= other.counts(i)
+      i += 1
+    }
+    _count -= other._count
+  }
+
+  def clear(): Unit = {
+    ju.Arrays.fill(counts, 0)
+    _count = 0
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return the highest value equivalent to the requested percentile, 0 when empty
+   */
+  def percentile(percentile: Double): Int =
+    if (_count == 0) {
+      0
+    } else {
+      val rank = math.min(math.max(math.ceil(percentile / 100 * _count).toLong, 1L), _count)
+      var seen = 0L
+      var i = 0
+      while (seen + counts(i) < rank) {
+        seen += counts(i)
+        i += 1
+      }
+      bucketHighestValue(i)
+    }
+
+  def max: Int = {
+    var i = BucketCount - 1
+    while (i > 0 && counts(i) == 0) {
+      i -= 1
+    }
+    if (_count == 0) 0 else bucketHighestValue(i)
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import scala.collection.mutable
+
+import io.gatling.commons.stats.{ OK, Status }
+
+private[gatling] final class LiveRequestMetrics(
+    val name: String,
+    val okCount: Long,
+    val koCount: Long,
+    val windowCount: Long,
+    val responseTimeSum: Long,
+    val throughput: Double,
+    val percentileValues: Array[Int],
+    val max: Int
+)
+
+private[gatling] final class LiveGauge(val name: String, val labels: List[(String, String)], val value: Long)
+
+/**
+ * @param windowSeconds the duration of the rolling window the percentiles and the throughput are computed over, shorter than configured at the start of
+ *   the run
+ * @param percentiles the computed percentiles, between 0 and 100
+ */
+private[gatling] final class LiveMetricsSnapshot(
+    val windowSeconds: Double,
+    val percentiles: Array[Double],
+    val global: LiveRequestMetrics,
+    val requests: Seq[LiveRequestMetrics],
+    val gauges: Seq[LiveGauge]
+)
+
+/**
+ * Latest snapshot published by the [[LiveMetricsDataWriter]], read by the console and the metrics endpoint
+ */
+private[gatling] final class LiveMetrics {
+  @volatile private var _snapshot: Option[LiveMetricsSnapshot] = None
+
+  def snapshot: Option[LiveMetricsSnapshot] = _snapshot
+
+  private[writer] def publish(snapshot: LiveMetricsSnapshot): Unit = _snapshot = Some(snapshot)
+}
+
+private final class WindowedRequestMetrics(val name: String, windowPeriods: Int) {
+  private var okCount: Long = 0
+  private var koCount: Long = 0
+  private var responseTimeSum: Long = 0
+  private val periods = Array.fill(windowPeriods)(new LatencyHistogram)
+  private val window = new LatencyHistogram
+
+  def record(period: Int, responseTime: Int, ok: Boolean): Unit = {
+    if (ok) okCount += 1 else koCount += 1
+    responseTimeSum += math.max(responseTime, 0)
+    periods(period).record(responseTime)
+    window.record(responseTime)
+  }
+
+  def expire(period: Int): Unit = {
+    window.subtract(periods(period))
+    periods(period).clear()
+  }
+
+  def snapshot(windowSeconds: Double, percentiles: Array[Double]): LiveRequestMetrics =
+    new LiveRequestMetrics(
+      name,
+      okCount,
+      koCount,
+      window.count,
+      responseTimeSum,
+      window.count / windowSeconds,
+      percentiles.map(window.percentile(_)),
+      window.max
+    )
+}
+
+/**
+ * Aggregates response times per request into histograms over a rolling window of `windowPeriods` periods.
+ *
+ * Not thread-safe, meant to be confined to the [[LiveMetricsDataWriter]]. Memory is bounded: each tracked request costs `windowPeriods + 1` fixed size
+ * histograms and only the first `maxRequests` requests are tracked individually, the other ones only count in the global metrics. Gauges are dropped
+ * once they haven't been sampled for a whole window.
+ */
+private[writer] final class LiveMetricsAggregator(windowPeriods: Int, maxRequests: Int, periodSeconds: Double, percentiles: Array[Double]) {
+  private val requestPaths = new RequestPaths
+  private val requests = mutable.ArrayBuffer.empty[WindowedRequestMetrics]
+  private val global = new WindowedRequestMetrics("Global", windowPeriods)
+  private var currentPeriod = 0
+  private var completedPeriods = 0
+  // latest value and sampling rotation, by name and labels
+  private val gauges = mutable.LinkedHashMap.empty[(String, List[(String, String)]), (Long, Long)]
+  private var rotations = 0L
+
+  def record(response: DataWriterMessage.LoadEvent.Response): Unit =
+    record(requestPaths.id(response.groupHierarchy, response.name), response.startTimestamp, response.endTimestamp, response.status)
+
+  def record(records: ResponseRecords): Unit = {
+    var i = 0
+    while (i < records.size) {
+      record(requestPaths.id(records.request(i)), records.startTimestamp(i), records.endTimestamp(i), records.status(i))
+      i += 1
+    }
+  }
+
+  def record(gauge: DataWriterMessage.LoadEvent.Gauge): Unit =
+    gauges.update((gauge.name, gauge.labels), (gauge.value, rotations))
+
+  private def record(id: Int, startTimestamp: Long, endTimestamp: Long, status: Status): Unit = {
+    val responseTime = math.min(endTimestamp - startTimestamp, Int.MaxValue).toInt
+    val ok = status == OK
+    global.record(currentPeriod, responseTime, ok)
+
+    if (id < maxRequests) {
+      if (id == requests.size) {
+        requests += new WindowedRequestMetrics(requestPaths.path(id), windowPeriods)
+      }
+      requests(id).record(currentPeriod, responseTime, ok)
+    }
+  }
+
+  /**
+   * Closes the current period, and returns the metrics over the window it ends
+   */
+  def rotate(): LiveMetricsSnapshot = {
+    completedPeriods = math.min(completedPeriods + 1, windowPeriods)
+    val windowSeconds = completedPeriods * periodSeconds
+    gauges.filterInPlace { case (_, (_, sampledRotation)) => rotations - sampledRotation < windowPeriods }
+    val snapshot = new LiveMetricsSnapshot(
+      windowSeconds,
+      percentiles,
+      global.snapshot(windowSeconds, percentiles),
+      requests.map(_.snapshot(windowSeconds, percentiles)).toSeq,
+      gauges.map { case ((name, labels), (value, _)) => new LiveGauge(name, labels, value) }.toSeq
+    )
+    rotations += 1
+
+    currentPeriod = (currentPeriod + 1) % windowPeriods
+    global.expire(currentPeriod)
+    requests.foreach(_.expire(currentPeriod))
+
+    snapshot
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.{ ExecutorService, Executors }
+
+import scala.concurrent.duration.FiniteDuration
+import scala.util.Using
+
+import io.gatling.core.actor.Cancellable
+import io.gatling.core.config.LiveMetricsConfiguration
+
+import com.sun.net.httpserver.{ HttpExchange, HttpServer }
+import io.netty.util.concurrent.DefaultThreadFactory
+
+private object LiveMetricsServer {
+  private val LiveMetricsThreadFactory = new DefaultThreadFactory("gatling-live-metrics", true)
+
+  def apply(host: String, port: Int, liveMetrics: LiveMetrics): LiveMetricsServer = {
+    val executor = Executors.newSingleThreadExecutor(LiveMetricsThreadFactory)
+    val server = HttpServer.create(new InetSocketAddress(host, port), 0)
+    server.setExecutor(executor)
+    server.createContext("/metrics", (exchange: HttpExchange) => serve(exchange, liveMetrics))
+    server.start()
+    new LiveMetricsServer(server, executor)
+  }
+
+  private def serve(exchange: HttpExchange, liveMetrics: LiveMetrics): Unit =
+    try {
+      val body = liveMetrics.snapshot.fold("")(PrometheusFormat.format).getBytes(UTF_8)
+      exchange.getResponseHeaders.set("Content-Type", PrometheusFormat.ContentType)
+      if (body.isEmpty) {
+        exchange.sendResponseHeaders(200, -1)
+      } else {
+        exchange.sendResponseHeaders(200, body.length.toLong)
+        Using.resource(exchange.getResponseBody)(_.write(body))
+      }
+    } finally {
+      exchange.close()
+    }
+}
+
+/**
+ * Local HTTP endpoint serving the latest live metrics snapshot on /metrics, to be scraped by Prometheus or any OpenMetrics compatible agent
+ */
+private final class LiveMetricsServer(server: HttpServer, executor: ExecutorService) extends AutoCloseable {
+  override def close(): Unit = {
+    server.stop(0)
+    executor.shutdownNow()
+  }
+}
+
+private[writer] final class LiveMetricsData(val aggregator: LiveMetricsAggregator, val timer: Cancellable, val server: Option[LiveMetricsServer])
+    extends DataWriterData
+
+/**
+ * Aggregates responses into rolling window histograms and publishes a [[LiveMetricsSnapshot]] every period, read by the console and the optional
+ * metrics endpoint
+ */
+private[gatling] final class LiveMetricsDataWriter(
+    liveMetrics: LiveMetrics,
+    period: FiniteDuration,
+    percentiles: Array[Double],
+    configuration: LiveMetricsConfiguration
+) extends DataWriter[LiveMetricsData]("live-metrics-data-writer") {
+
+  override def onInit(): LiveMetricsData = {
+    val aggregator = new LiveMetricsAggregator(configuration.windowPeriods, configuration.maxRequests, period.toMillis / 1000.0, percentiles)
+
+    val timer = scheduler.scheduleAtFixedRate(period) {
+      self ! DataWriterMessage.Flush
+    }
+
+    val server =
+      if (configuration.port > 0) {
+        val server = LiveMetricsServer(configuration.host, configuration.port, liveMetrics)
+        logger.info(s"Serving live metrics on http://${configuration.host}:${configuration.port}/metrics")
+        Some(server)
+      } else {
+        None
+      }
+
+    new LiveMetricsData(aggregator, timer, server)
+  }
+
+  override def onFlush(data: LiveMetricsData): Unit =
+    liveMetrics.publish(data.aggregator.rotate())
+
+  override def onMessage(message: DataWriterMessage.LoadEvent, data: LiveMetricsData): Unit = message match {
+    case response: DataWriterMessage.LoadEvent.Response   => data.aggregator.record(response)
+    case responses: DataWriterMessage.LoadEvent.Responses => data.aggregator.record(responses.records)
+    case gauge: DataWriterMessage.LoadEvent.Gauge         => data.aggregator.record(gauge)
+    case _                                                =>
+  }
+
+  override def onCrash(cause: String, data: LiveMetricsData): Unit = close(data)
+
+  override def onStop(data: LiveMetricsData): Unit = close(data)
+
+  private def close(data: LiveMetricsData): Unit = {
+    data.timer.cancel()
+    data.server.foreach(_.close())
+  }
+}
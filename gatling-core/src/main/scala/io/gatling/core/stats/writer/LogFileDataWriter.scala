@@ -24,7 +24,7 @@ import java.nio.file.Path
 
 import scala.jdk.CollectionConverters.MapHasAsScala
 
-import io.gatling.commons.stats.OK
+import io.gatling.commons.stats.{ OK, Status }
 import io.gatling.commons.stats.assertion.Assertion
 import io.gatling.core.config.GatlingFiles.simulationLogDirectory
 
@@ -171,6 +171,27 @@ final class ResponseMessageSerializer(writer: BufferedFileChannelWriter, runStar
 
   override protected def serialize0(response: DataWriterMessage.LoadEvent.Response): Unit = {
     import response._
+    serialize0(groupHierarchy, name, startTimestamp, endTimestamp, status, message)
+  }
+
+  def serialize(records: ResponseRecords): Unit = {
+    var i = 0
+    while (i < records.size) {
+      val request = records.request(i)
+      writer.writeByte(RecordHeader.Request.value)
+      serialize0(request.groupHierarchy, request.name, records.startTimestamp(i), records.endTimestamp(i), records.status(i), records.message(i))
+      i += 1
+    }
+  }
+
+  private def serialize0(
+      groupHierarchy: List[String],
+      name: String,
+      startTimestamp: Long,
+      endTimestamp: Long,
+      status: Status,
+      message: Option[String]
+  ): Unit = {
     writeGroups(groupHierarchy)
     writer.writeCachedString(name)
     writer.writeInt((startTimestamp - runStart).toInt)
@@ -264,10 +285,12 @@ private[gatling] final class LogFileDataWriter private (
 
   override def onMessage(message: DataWriterMessage.LoadEvent, data: FileData): Unit =
     message match {
-      case user: DataWriterMessage.LoadEvent.User         => data.userMessageSerializer.serialize(user)
-      case group: DataWriterMessage.LoadEvent.Group       => data.groupMessageSerializer.serialize(group)
-      case response: DataWriterMessage.LoadEvent.Response => data.responseMessageSerializer.serialize(response)
-      case error: DataWriterMessage.LoadEvent.Error       => data.errorMessageSerializer.serialize(error)
+      case user: DataWriterMessage.LoadEvent.User           => data.userMessageSerializer.serialize(user)
+      case group: DataWriterMessage.LoadEvent.Group         => data.groupMessageSerializer.serialize(group)
+      case response: DataWriterMessage.LoadEvent.Response   => data.responseMessageSerializer.serialize(response)
+      case responses: DataWriterMessage.LoadEvent.Responses => data.responseMessageSerializer.serialize(responses.records)
+      case error: DataWriterMessage.LoadEvent.Error         => data.errorMessageSerializer.serialize(error)
+      case _: DataWriterMessage.LoadEvent.Gauge             =>
     }
 
   override def onCrash(cause: String, data: FileData): Unit = {}
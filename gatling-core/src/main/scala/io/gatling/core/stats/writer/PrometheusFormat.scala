@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.{ lang => jl }
+
+/**
+ * Renders live metrics in the Prometheus text exposition format, version 0.0.4
+ */
+private[writer] object PrometheusFormat {
+  val ContentType: String = "text/plain; version=0.0.4; charset=utf-8"
+
+  def format(snapshot: LiveMetricsSnapshot): String = {
+    val sb = new jl.StringBuilder
+    val quantiles = snapshot.percentiles.map(p => BigDecimal(p).bigDecimal.movePointLeft(2).stripTrailingZeros.toPlainString)
+    val window = s"over the last ${snapshot.windowSeconds.toLong}s"
+
+    def writeFamilies(prefix: String, metrics: Seq[LiveRequestMetrics], requestLabel: LiveRequestMetrics => Option[String]): Unit = {
+      def labels(m: LiveRequestMetrics, extra: Option[String]): String =
+        (requestLabel(m).toList ++ extra.toList) match {
+          case Nil  => ""
+          case list => list.mkString("{", ",", "}")
+        }
+
+      val requestsTotal = s"${prefix}requests_total"
+      writeHeader(sb, requestsTotal, "counter", "Completed requests")
+      metrics.foreach { m =>
+        writeSample(sb, requestsTotal, labels(m, Some("""status="ok"""")), m.okCount.toString)
+        writeSample(sb, requestsTotal, labels(m, Some("""status="ko"""")), m.koCount.toString)
+      }
+
+      val responseTime = s"${prefix}response_time_milliseconds"
+      // Prometheus requires the sum and the count to be cumulative, only the quantiles are computed over the window
+      writeHeader(sb, responseTime, "summary", s"Response time, with quantiles $window")
+      metrics.foreach { m =>
+        quantiles.indices.foreach { i =>
+          writeSample(sb, responseTime, labels(m, Some(s"""quantile="${quantiles(i)}"""")), m.percentileValues(i).toString)
+        }
+        writeSample(sb, s"${responseTime}_sum", labels(m, None), m.responseTimeSum.toString)
+        writeSample(sb, s"${responseTime}_count", labels(m, None), (m.okCount + m.koCount).toString)
+      }
+
+      val throughput = s"${prefix}throughput_requests_per_second"
+      writeHeader(sb, throughput, "gauge", s"Completed requests per second $window")
+      metrics.foreach(m => writeSample(sb, throughput, labels(m, None), m.throughput.toString))
+    }
+
+    writeFamilies("gatling_global_", List(snapshot.global), _ => None)
+    writeFamilies("gatling_", snapshot.requests, m => Some(s"""request="${escapeLabelValue(m.name)}""""))
+
+    snapshot.gauges.groupBy(_.name).toSeq.sortBy(_._1).foreach { case (name, gauges) =>
+      val gauge = s"gatling_$name"
+      writeHeader(sb, gauge, "gauge", s"Latest sampled $name")
+      gauges.foreach { g =>
+        val labels =
+          if (g.labels.isEmpty) "" else g.labels.map { case (labelName, value) => s"""$labelName="${escapeLabelValue(value)}"""" }.mkString("{", ",", "}")
+        writeSample(sb, gauge, labels, g.value.toString)
+      }
+    }
+    sb.toString
+  }
+
+  private def writeHeader(sb: jl.StringBuilder, name: String, kind: String, help: String): Unit =
+    sb.append("# HELP ").append(name).append(' ').append(help).append('\n')
+      .append("# TYPE ").append(name).append(' ').append(kind).append('\n')
+
+  private def writeSample(sb: jl.StringBuilder, name: String, labels: String, value: String): Unit =
+    sb.append(name).append(labels).append(' ').append(value).append('\n')
+
+  private[writer] def escapeLabelValue(value: String): String =
+    value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.{ lang => jl, util => ju }
+import java.nio.ByteBuffer
+import java.util.concurrent.ConcurrentHashMap
+
+import io.gatling.commons.stats.{ KO, OK, Status }
+
+/**
+ * A request, interned once per (group hierarchy, name) pair
+ */
+private[gatling] final class RequestKey(val id: Int, val groupHierarchy: List[String], val name: String)
+
+/**
+ * Interning tables shared between the threads recording responses and the DataWriters reading them.
+ *
+ * Ids are handed out in first-seen order. An id only reaches a DataWriter inside a [[ResponseRecords]] sent after it was assigned, so the actor mailbox
+ * makes its entry visible to the reader.
+ */
+private[gatling] final class ResponseRecordKeys {
+  private val requestKeys = new ConcurrentHashMap[List[String], ConcurrentHashMap[String, RequestKey]]
+  private val stringIds = new ConcurrentHashMap[String, jl.Integer]
+  @volatile private var requests = new Array[RequestKey](64)
+  @volatile private var strings = new Array[Some[String]](64)
+  private var requestCount = 0
+  private var stringCount = 0
+
+  def requestId(groupHierarchy: List[String], name: String): Int = {
+    var keysByName = requestKeys.get(groupHierarchy)
+    if (keysByName == null) {
+      keysByName = requestKeys.computeIfAbsent(groupHierarchy, _ => new ConcurrentHashMap[String, RequestKey])
+    }
+
+    val key = keysByName.get(name)
+    if (key != null) {
+      key.id
+    } else {
+      keysByName.computeIfAbsent(name, newRequestKey(groupHierarchy, _)).id
+    }
+  }
+
+  private def newRequestKey(groupHierarchy: List[String], name: String): RequestKey = synchronized {
+    if (requestCount == requests.length) {
+      requests = ju.Arrays.copyOf(requests, requestCount * 2)
+    }
+    val key = new RequestKey(requestCount, groupHierarchy, name)
+    requests(requestCount) = key
+    requestCount += 1
+    key
+  }
+
+  def request(id: Int): RequestKey = requests(id)
+
+  def messageId(message: String): Int = stringId(message)
+
+  def message(id: Int): Some[String] = strings(id)
+
+  // response codes are interned in the same table as messages
+  def responseCodeId(responseCode: String): Int = stringId(responseCode)
+
+  def responseCode(id: Int): Some[String] = strings(id)
+
+  private def stringId(string: String): Int = {
+    val id = stringIds.get(string)
+    if (id != null) {
+      id.intValue
+    } else {
+      stringIds.computeIfAbsent(string, newStringId(_)).intValue
+    }
+  }
+
+  private def newStringId(string: String): jl.Integer = synchronized {
+    if (stringCount == strings.length) {
+      strings = ju.Arrays.copyOf(strings, stringCount * 2)
+    }
+    val id = stringCount
+    strings(id) = Some(string)
+    stringCount += 1
+    id
+  }
+}
+
+private[gatling] object ResponseRecords {
+  // requestId, startTimestamp, endTimestamp, status, responseCodeId (-1 when none), messageId (-1 when none)
+  private val RequestIdOffset = 0
+  private val StartTimestampOffset = RequestIdOffset + jl.Integer.BYTES
+  private val EndTimestampOffset = StartTimestampOffset + jl.Long.BYTES
+  private val StatusOffset = EndTimestampOffset + jl.Long.BYTES
+  private val ResponseCodeIdOffset = StatusOffset + jl.Byte.BYTES
+  private val MessageIdOffset = ResponseCodeIdOffset + jl.Integer.BYTES
+  private[writer] val RecordSize = MessageIdOffset + jl.Integer.BYTES
+
+  val NoResponseCode: Int = -1
+  val NoMessage: Int = -1
+}
+
+/**
+ * Fixed-layout binary records of responses, filled by a single thread and then handed over to the DataWriters, which only read them.
+ *
+ * This replaces a [[DataWriterMessage.LoadEvent.Response]] object graph per response with a few bytes in a shared buffer.
+ */
+private[gatling] final class ResponseRecords(keys: ResponseRecordKeys, val capacity: Int) {
+  import ResponseRecords._
+
+  private val buffer = ByteBuffer.allocate(capacity * RecordSize)
+  private var _size = 0
+
+  def size: Int = _size
+
+  def isEmpty: Boolean = _size == 0
+
+  def isFull: Boolean = _size == capacity
+
+  def add(requestId: Int, startTimestamp: Long, endTimestamp: Long, status: Status, responseCodeId: Int, messageId: Int): Unit = {
+    buffer
+      .putInt(requestId)
+      .putLong(startTimestamp)
+      .putLong(endTimestamp)
+      .put(if (status == OK) 1.toByte else 0.toByte)
+      .putInt(responseCodeId)
+      .putInt(messageId)
+    _size += 1
+  }
+
+  def request(index: Int): RequestKey = keys.request(buffer.getInt(index * RecordSize + RequestIdOffset))
+
+  def startTimestamp(index: Int): Long = buffer.getLong(index * RecordSize + StartTimestampOffset)
+
+  def endTimestamp(index: Int): Long = buffer.getLong(index * RecordSize + EndTimestampOffset)
+
+  def status(index: Int): Status = if (buffer.get(index * RecordSize + StatusOffset) == 1) OK else KO
+
+  def responseCode(index: Int): Option[String] = {
+    val responseCodeId = buffer.getInt(index * RecordSize + ResponseCodeIdOffset)
+    if (responseCodeId == NoResponseCode) None else keys.responseCode(responseCodeId)
+  }
+
+  def message(index: Int): Option[String] = {
+    val messageId = buffer.getInt(index * RecordSize + MessageIdOffset)
+    if (messageId == NoMessage) None else keys.message(messageId)
+  }
+}
@@ -19,7 +19,10 @@ package io.gatling.core.util
 import scala.collection.mutable
 
 private[gatling] final class BoundedMutableDequeue[T](maxSize: Int) {
-  private val queue = mutable.ArrayDeque.empty[T]
+  // don't allocate anything when disabled, there can be one instance per connection
+  private val queue = if (maxSize == 0) null else mutable.ArrayDeque.empty[T]
+
+  def isEnabled: Boolean = maxSize != 0
 
   def addOne(value: T): Unit =
     if (maxSize != 0) {
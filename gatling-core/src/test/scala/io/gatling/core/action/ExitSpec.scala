@@ -18,7 +18,8 @@ package io.gatling.core.action
 
 import io.gatling.core.EmptySession
 import io.gatling.core.actor.ActorSpec
-import io.gatling.core.controller.inject.Injector
+import io.gatling.core.controller.inject.{ Injector, LocallyTrackedUserEnd }
+import io.gatling.core.session.Session
 
 class ExitSpec extends ActorSpec with EmptySession {
   "Exit" should "terminate the session and notify the Controller execution has ended" in {
@@ -34,4 +35,19 @@ class ExitSpec extends ActorSpec with EmptySession {
     val userMessage = mockInjector.expectMsgType[Injector.Command.UserEnd]()
     userMessage.scenario shouldBe session.scenario
   }
+
+  it should "not notify the Injector when the user end is tracked locally" in {
+    var hasTerminated = false
+
+    val mockInjector = mockActorRef[Injector.Command]("injector")
+
+    val exit = new Exit(mockInjector)
+    val onExit = new LocallyTrackedUserEnd {
+      override def apply(session: Session): Unit = hasTerminated = true
+    }
+    exit ! emptySession.copy(onExit = onExit)
+
+    hasTerminated shouldBe true
+    mockInjector.expectNoMsg()
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.controller.inject.closed
+
+import java.util.concurrent.{ LinkedBlockingQueue, TimeUnit }
+import java.util.concurrent.atomic.AtomicLong
+
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import io.gatling.core.action.Action
+import io.gatling.core.scenario.Scenario
+import io.gatling.core.session.Session
+import io.gatling.core.stats.LoggingStatsEngine
+
+import io.netty.channel.DefaultEventLoopGroup
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class EventLoopLocalClosedInjectionSpec extends AnyFlatSpecLike with Matchers with BeforeAndAfterAll {
+  private val eventLoopGroup = new DefaultEventLoopGroup(2)
+
+  override protected def afterAll(): Unit = {
+    eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS)
+    super.afterAll()
+  }
+
+  // users never exit by themselves, they're kept in the queue so the test can end them
+  private final class RunningUsers extends Action {
+    val sessions = new LinkedBlockingQueue[Session]
+
+    override def name: String = "running users"
+
+    override protected def execute(session: Session): Unit = sessions.add(session)
+
+    def next(): Session = {
+      val session = sessions.poll(5, TimeUnit.SECONDS)
+      session should not be null
+      session
+    }
+
+    def exit(session: Session): Unit =
+      session.eventLoop.submit((() => session.exit()): Runnable).sync()
+  }
+
+  private def newInjection(runningUsers: RunningUsers, statsEngine: LoggingStatsEngine, users: Int): EventLoopLocalClosedInjection =
+    new EventLoopLocalClosedInjection(
+      steps = List(ConstantConcurrentUsersInjection(users, 2.seconds)),
+      duration = 2.seconds,
+      isEmpty = false,
+      scenario = new Scenario("foo", runningUsers, identity, _ => (), null),
+      userIdGen = new AtomicLong,
+      eventLoopGroup = eventLoopGroup,
+      statsEngine = statsEngine
+    )
+
+  private def gauges(statsEngine: LoggingStatsEngine, name: String): List[Long] =
+    statsEngine.msgQueue.asScala.collect {
+      case LoggingStatsEngine.Message.LogGauge(`name`, List(("scenario", "foo")), value) => value
+    }.toList
+
+  "EventLoopLocalClosedInjection" should "respawn users on their event loop as soon as they exit" in {
+    val runningUsers = new RunningUsers
+    val injection = newInjection(runningUsers, new LoggingStatsEngine, 4)
+
+    injection.injectBatch(10.millis)
+    val users = List.fill(4)(runningUsers.next())
+    injection.actualConcurrentUsers shouldBe 4
+
+    runningUsers.exit(users.head)
+    val respawned = runningUsers.next()
+    respawned.eventLoop shouldBe users.head.eventLoop
+    injection.actualConcurrentUsers shouldBe 4
+    injection.isAllUsersStopped shouldBe false
+  }
+
+  it should "stop respawning users once the last step is over and detect when they're all stopped" in {
+    val runningUsers = new RunningUsers
+    val injection = newInjection(runningUsers, new LoggingStatsEngine, 2)
+
+    injection.injectBatch(10.millis)
+    val users = List.fill(2)(runningUsers.next())
+
+    injection.injectBatch(2.seconds)
+    injection.isAllUsersScheduled shouldBe true
+    injection.targetConcurrentUsers shouldBe 0
+
+    users.foreach(runningUsers.exit)
+    runningUsers.sessions.poll(100, TimeUnit.MILLISECONDS) shouldBe null
+    injection.isAllUsersStopped shouldBe true
+
+    // the Injector keeps ticking
+    injection.injectBatch(1.second)
+    injection.isAllUsersStopped shouldBe true
+    runningUsers.sessions shouldBe empty
+  }
+
+  it should "log the target and actual concurrency as gauges on each tick" in {
+    val runningUsers = new RunningUsers
+    val statsEngine = new LoggingStatsEngine
+    val injection = newInjection(runningUsers, statsEngine, 3)
+
+    injection.injectBatch(10.millis)
+    List.fill(3)(runningUsers.next())
+    injection.injectBatch(10.millis)
+    injection.injectBatch(2.seconds)
+
+    gauges(statsEngine, "closed_injection_target_users") shouldBe List(3, 3, 0)
+    // the first tick only schedules the users on their event loops, so how many were already started is racy
+    gauges(statsEngine, "closed_injection_actual_users").drop(1) shouldBe List(3, 3)
+  }
+}
@@ -20,10 +20,14 @@ import java.io.ByteArrayInputStream
 import java.nio.channels.{ Channels, ReadableByteChannel }
 import java.nio.charset.StandardCharsets.UTF_8
 
+import io.gatling.core.config.GatlingConfiguration
+
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class BatchedSeparatedValuesFeederSpec extends AnyFlatSpecLike with Matchers {
+  private val configuration = GatlingConfiguration.loadForTest()
+
   private val feederFactory = SeparatedValuesParser.feederFactory(',', '"', UTF_8)
 
   private val csvContent =
@@ -38,8 +42,11 @@ class BatchedSeparatedValuesFeederSpec extends AnyFlatSpecLike with Matchers {
   private def channelFactory(text: String): () => ReadableByteChannel =
     () => Channels.newChannel(new ByteArrayInputStream(text.getBytes(UTF_8)))
 
-  "QueueBatchedSeparatedValuesFeeder" should "feed full content" in {
-    new QueueBatchedSeparatedValuesFeeder(channelFactory(csvContent), feederFactory).toVector shouldBe Vector(
+  private def openStream(text: String): () => CloseableFeeder[String] =
+    BatchedSeparatedValuesFeeder.openStream(channelFactory(text), feederFactory)
+
+  "QueueBatchedFeeder" should "feed full content" in {
+    new QueueBatchedFeeder(openStream(csvContent)).toVector shouldBe Vector(
       Map("column1" -> "line1_1", "column2" -> "line1_2"),
       Map("column1" -> "line2_1", "column2" -> "line2_2"),
       Map("column1" -> "line3_1", "column2" -> "line3_2"),
@@ -49,35 +56,34 @@ class BatchedSeparatedValuesFeederSpec extends AnyFlatSpecLike with Matchers {
   }
 
   it should "throw a IllegalArgumentException on empty content" in {
-    a[IllegalArgumentException] should be thrownBy new QueueBatchedSeparatedValuesFeeder(channelFactory(""), feederFactory)
+    a[IllegalArgumentException] should be thrownBy new QueueBatchedFeeder(openStream(""))
   }
 
   it should "return an empty feeder when there's no record" in {
-    new QueueBatchedSeparatedValuesFeeder(
-      channelFactory("""column1,column2
-                       |""".stripMargin),
-      feederFactory
+    new QueueBatchedFeeder(
+      openStream("""column1,column2
+                   |""".stripMargin)
     ).hasNext shouldBe false
   }
 
-  "RandomBatchedSeparatedValuesFeeder" should "feed an infinite stream of different records" in {
+  "RandomBatchedFeeder" should "feed an infinite stream of different records" in {
     val takeSize = 100
-    val records = new RandomBatchedSeparatedValuesFeeder(channelFactory(csvContent), feederFactory, 3).take(takeSize).toVector
+    val records = new RandomBatchedFeeder(openStream(csvContent), 3).take(takeSize).toVector
     records.size shouldBe takeSize
     records.toSet.size shouldBe 5
   }
 
-  "ShuffleBatchedSeparatedValuesFeeder" should "feed a finite stream of different records" in {
+  "ShuffleBatchedFeeder" should "feed a finite stream of different records" in {
     val takeSize = 5
-    val feeder = new ShuffleBatchedSeparatedValuesFeeder(channelFactory(csvContent), feederFactory, 3)
+    val feeder = new ShuffleBatchedFeeder(openStream(csvContent), 3)
     val records = feeder.take(takeSize).toVector
     records.size shouldBe takeSize
     records.toSet.size shouldBe 5
     feeder.hasNext shouldBe false
   }
 
-  "CircularBatchedSeparatedValuesFeeder" should "feed a finite stream of expected records" in {
-    new CircularBatchedSeparatedValuesFeeder(channelFactory(csvContent), feederFactory).take(10).toVector shouldBe Vector(
+  "CircularBatchedFeeder" should "feed a finite stream of expected records" in {
+    new CircularBatchedFeeder(openStream(csvContent)).take(10).toVector shouldBe Vector(
       Map("column1" -> "line1_1", "column2" -> "line1_2"),
       Map("column1" -> "line2_1", "column2" -> "line2_2"),
       Map("column1" -> "line3_1", "column2" -> "line3_2"),
@@ -90,4 +96,53 @@ class BatchedSeparatedValuesFeederSpec extends AnyFlatSpecLike with Matchers {
       Map("column1" -> "line5_1", "column2" -> "line5_2")
     )
   }
+
+  it should "close each stream before reopening it" in {
+    var opened = 0
+    var closed = 0
+    val countingOpenStream: () => CloseableFeeder[String] = () => {
+      val stream = openStream(csvContent)()
+      opened += 1
+      new CloseableFeeder[String] {
+        override def hasNext: Boolean = stream.hasNext
+        override def next(): Record[String] = stream.next()
+        override def close(): Unit = {
+          closed += 1
+          stream.close()
+        }
+      }
+    }
+
+    val feeder = new CircularBatchedFeeder(countingOpenStream)
+    feeder.take(11).size shouldBe 11
+    opened shouldBe 3
+    closed shouldBe 2
+    feeder.close()
+    closed shouldBe 3
+  }
+
+  "BatchedFeeder" should "apply the conversion to every record" in {
+    val conversion: Record[String] => Record[Any] = _.map { case (key, value) => key -> value.length }
+    BatchedFeeder(openStream(csvContent), Some(conversion), FeederStrategy.Queue, BatchedFeeder.DefaultBufferSize).take(2).toVector shouldBe Vector(
+      Map("column1" -> 7, "column2" -> 7),
+      Map("column1" -> 7, "column2" -> 7)
+    )
+  }
+
+  "StreamingFeederSource" should "stream the records with the feeder strategy" in {
+    val source = new StreamingFeederSource(openStream(csvContent), () => 5, "stream")
+    source.feeder(FeederOptions.default[String].copy(strategy = FeederStrategy.Circular), configuration).take(6).toVector.last shouldBe
+      Map("column1" -> "line1_1", "column2" -> "line1_2")
+    source.recordsCount(FeederOptions.default, configuration) shouldBe 5
+  }
+
+  it should "reject sharding" in {
+    val source = new StreamingFeederSource(openStream(csvContent), () => 5, "stream")
+    an[IllegalArgumentException] should be thrownBy source.feeder(FeederOptions.default[String].copy(shard = true), configuration)
+  }
+
+  it should "reject unzipping" in {
+    val source = new StreamingFeederSource(openStream(csvContent), () => 5, "stream")
+    an[IllegalArgumentException] should be thrownBy source.feeder(FeederOptions.default[String].copy(unzip = true), configuration)
+  }
 }
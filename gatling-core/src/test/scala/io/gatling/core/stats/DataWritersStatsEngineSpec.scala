@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats
+
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import io.gatling.commons.stats.OK
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.controller.Controller
+import io.gatling.core.stats.writer.DataWriterMessage
+
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class DataWritersStatsEngineSpec extends AnyFlatSpecLike with Matchers with BeforeAndAfterAll {
+  private val system = new ActorSystem
+
+  override def afterAll(): Unit = system.close()
+
+  // records the messages and acknowledges Stop right away
+  private final class RecordingDataWriter extends ActorRef[DataWriterMessage] {
+    val messages = new ConcurrentLinkedQueue[DataWriterMessage]
+
+    override def !(msg: DataWriterMessage): Unit = {
+      messages.add(msg)
+      msg match {
+        case DataWriterMessage.Stop(stopPromise) => stopPromise.trySuccess(())
+        case _                                   =>
+      }
+      ()
+    }
+
+    override def name: String = "recording"
+
+    override def replyPromise[Reply](timeout: FiniteDuration): Promise[Reply] = Promise[Reply]()
+
+    private def isStop(msg: DataWriterMessage): Boolean =
+      msg match {
+        case _: DataWriterMessage.Stop => true
+        case _                         => false
+      }
+
+    def recordsBeforeStop: Int =
+      messages.asScala.iterator.takeWhile(!isStop(_)).collect { case DataWriterMessage.LoadEvent.Responses(records) =>
+        records.size
+      }.sum
+
+    def messagesAfterStop: List[DataWriterMessage] =
+      messages.asScala.toList.dropWhile(!isStop(_)).drop(1)
+  }
+
+  private final class StoppedController extends ActorRef[Controller.Command] {
+    val stopped = Promise[Unit]()
+
+    override def !(msg: Controller.Command): Unit = {
+      stopped.trySuccess(())
+      ()
+    }
+
+    override def name: String = "controller"
+
+    override def replyPromise[Reply](timeout: FiniteDuration): Promise[Reply] = Promise[Reply]()
+  }
+
+  private def stop(statsEngine: StatsEngine): Unit = {
+    val controller = new StoppedController
+    statsEngine.stop(controller, crash = false)
+    Await.result(controller.stopped.future, 5.seconds)
+  }
+
+  private def logResponse(statsEngine: StatsEngine): Unit =
+    statsEngine.logResponse("scenario", Nil, "request", 1000, 1010, OK, None, None)
+
+  "DataWritersStatsEngine" should "flush the buffered responses before stopping the DataWriters" in {
+    val dataWriter = new RecordingDataWriter
+    val statsEngine = new DataWritersStatsEngine(List(dataWriter), system, new DefaultClock)
+
+    (1 to 3).foreach(_ => logResponse(statsEngine))
+    stop(statsEngine)
+    logResponse(statsEngine)
+
+    dataWriter.recordsBeforeStop shouldBe 3
+    dataWriter.messagesAfterStop shouldBe empty
+  }
+
+  it should "send the calling thread's buffered responses before its user events" in {
+    val dataWriter = new RecordingDataWriter
+    val statsEngine = new DataWritersStatsEngine(List(dataWriter), system, new DefaultClock)
+
+    logResponse(statsEngine)
+    statsEngine.logUserEnd("scenario")
+
+    dataWriter.messages.asScala.toList.collect {
+      case DataWriterMessage.LoadEvent.Responses(records) => "responses" -> records.size
+      case _: DataWriterMessage.LoadEvent.User            => "user" -> 1
+    } shouldBe List("responses" -> 1, "user" -> 1)
+  }
+}
@@ -41,6 +41,8 @@ object LoggingStatsEngine {
     final case class LogGroupEnd(scenario: String, group: GroupBlock, exitTimestamp: Long) extends Message
 
     final case class LogCrash(scenario: String, groups: List[String], requestName: String, error: String) extends Message
+
+    final case class LogGauge(name: String, labels: List[(String, String)], value: Long) extends Message
   }
 }
 
@@ -74,4 +76,7 @@ final class LoggingStatsEngine extends StatsEngine {
 
   override def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit =
     msgQueue.addLast(Message.LogCrash(scenario, groups, requestName, error))
+
+  override def logGauge(name: String, labels: List[(String, String)], value: Long): Unit =
+    msgQueue.addLast(Message.LogGauge(name, labels, value))
 }
@@ -180,4 +180,31 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
                       |e et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ...""".stripMargin
     all(output.linesIterator.map(_.length).toSet) shouldBe <=(120)
   }
+
+  "console data" should "snapshot interned request and error counters in first-seen order" in {
+    val data = new ConsoleData(0, DateTimeFormatter.ISO_DATE_TIME, () => true)
+    val request1 = data.requestPaths.id(Nil, "request1")
+    val request2 = data.requestPaths.id(List("group"), "request2")
+    data.requestPaths.id(Nil, "request1") shouldBe request1
+
+    data.successfulCounts.increment(request2)
+    data.successfulCounts.increment(request1)
+    data.failedCounts.increment(request1)
+    data.errorCounts.increment(data.errorMessages.id("boom"))
+    data.errorCounts.increment(data.errorMessages.id("boom"))
+
+    data.requestsCounters.map { case (path, counters) => (path, counters.successfulCount, counters.failedCount) }.toList shouldBe List(
+      ("request1", 1, 1),
+      ("group / request2", 1, 0)
+    )
+    data.errorsCounters.toList shouldBe List("boom" -> 2)
+  }
+
+  it should "merge distinct group hierarchies that join into the same request path" in {
+    val data = new ConsoleData(0, DateTimeFormatter.ISO_DATE_TIME, () => true)
+    data.successfulCounts.increment(data.requestPaths.id(List("a / b"), "c"))
+    data.successfulCounts.increment(data.requestPaths.id(List("a"), "b / c"))
+
+    data.requestsCounters("a / b / c").successfulCount shouldBe 2
+  }
 }
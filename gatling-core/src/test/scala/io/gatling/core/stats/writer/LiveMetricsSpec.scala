@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import io.gatling.commons.stats.{ KO, OK, Status }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class LiveMetricsSpec extends AnyFlatSpecLike with Matchers {
+  private def response(name: String, responseTime: Int, status: Status) =
+    DataWriterMessage.LoadEvent.Response("scenario", Nil, name, 1000, 1000L + responseTime, status, None, None)
+
+  private def gauge(labelName: String, labelValue: String, value: Long) =
+    DataWriterMessage.LoadEvent.Gauge("http2_active_streams", List(labelName -> labelValue), value, 1000)
+
+  "LatencyHistogram" should "compute exact percentiles for small values" in {
+    val histogram = new LatencyHistogram
+    (1 to 50).foreach(histogram.record)
+
+    histogram.count shouldBe 50
+    histogram.percentile(50) shouldBe 25
+    histogram.percentile(100) shouldBe 50
+    histogram.max shouldBe 50
+  }
+
+  it should "compute percentiles for large values within its precision" in {
+    val histogram = new LatencyHistogram
+    (1 to 10000).foreach(histogram.record)
+
+    histogram.percentile(95).toDouble shouldBe 9500.0 +- 9500.0 / 32
+    histogram.percentile(99).toDouble shouldBe 9900.0 +- 9900.0 / 32
+    histogram.max.toDouble shouldBe 10000.0 +- 10000.0 / 32
+  }
+
+  it should "map every bucket to values it contains" in {
+    (0 until LatencyHistogram.BucketCount).foreach { i =>
+      LatencyHistogram.bucketIndex(LatencyHistogram.bucketHighestValue(i)) shouldBe i
+    }
+    LatencyHistogram.bucketIndex(Int.MaxValue) shouldBe LatencyHistogram.BucketCount - 1
+  }
+
+  it should "be subtractable" in {
+    val histogram = new LatencyHistogram
+    val expired = new LatencyHistogram
+    (1 to 10).foreach(expired.record)
+    histogram.add(expired)
+    histogram.record(42)
+    histogram.subtract(expired)
+
+    histogram.count shouldBe 1
+    histogram.percentile(50) shouldBe 42
+  }
+
+  "LiveMetricsAggregator" should "only keep the last periods in its rolling window" in {
+    val aggregator = new LiveMetricsAggregator(windowPeriods = 2, maxRequests = 10, periodSeconds = 5, percentiles = Array(50.0, 99.0))
+
+    aggregator.record(response("request1", 10, OK))
+    aggregator.record(response("request1", 20, KO))
+    val first = aggregator.rotate()
+    first.windowSeconds shouldBe 5
+    first.global.windowCount shouldBe 2L
+    first.global.throughput shouldBe 0.4
+
+    aggregator.record(response("request1", 30, OK))
+    aggregator.rotate().global.windowCount shouldBe 3
+
+    val third = aggregator.rotate()
+    third.windowSeconds shouldBe 10
+    third.global.windowCount shouldBe 1
+    third.global.percentileValues.toList shouldBe List(30, 30)
+    third.requests.map(request => (request.name, request.okCount, request.koCount)) shouldBe Seq(("request1", 2L, 1L))
+  }
+
+  it should "only count extra requests in the global metrics" in {
+    val aggregator = new LiveMetricsAggregator(windowPeriods = 1, maxRequests = 1, periodSeconds = 1, percentiles = Array(50.0))
+
+    aggregator.record(response("request1", 10, OK))
+    aggregator.record(response("request2", 10, OK))
+    val snapshot = aggregator.rotate()
+
+    snapshot.global.okCount shouldBe 2L
+    snapshot.requests.map(_.name) shouldBe Seq("request1")
+  }
+
+  it should "drop gauges that are no longer sampled" in {
+    val aggregator = new LiveMetricsAggregator(windowPeriods = 2, maxRequests = 10, periodSeconds = 1, percentiles = Array(50.0))
+
+    aggregator.record(gauge("connection", "1", 3))
+    aggregator.record(gauge("connection", "2", 5))
+    aggregator.rotate().gauges.map(g => (g.labels, g.value)) shouldBe Seq((List("connection" -> "1"), 3L), (List("connection" -> "2"), 5L))
+
+    aggregator.record(gauge("connection", "1", 4))
+    aggregator.rotate().gauges.map(_.value) shouldBe Seq(4L, 5L)
+    aggregator.rotate().gauges.map(_.value) shouldBe Seq(4L)
+    aggregator.rotate().gauges shouldBe empty
+  }
+
+  it should "keep the response time sum and count cumulative" in {
+    val aggregator = new LiveMetricsAggregator(windowPeriods = 1, maxRequests = 10, periodSeconds = 1, percentiles = Array(50.0))
+
+    aggregator.record(response("request1", 10, OK))
+    aggregator.rotate()
+    aggregator.record(response("request1", 20, KO))
+    val snapshot = aggregator.rotate()
+
+    snapshot.global.windowCount shouldBe 1
+    snapshot.global.responseTimeSum shouldBe 30
+    val lines = PrometheusFormat.format(snapshot).split("\n").toList
+    lines should contain("gatling_global_response_time_milliseconds_sum 30")
+    lines should contain("gatling_global_response_time_milliseconds_count 2")
+  }
+
+  "PrometheusFormat" should "render counters, summaries and gauges" in {
+    val aggregator = new LiveMetricsAggregator(windowPeriods = 1, maxRequests = 10, periodSeconds = 1, percentiles = Array(50.0, 99.9))
+    aggregator.record(response("my \"request\"", 10, OK))
+    aggregator.record(gauge("remote", "gatling.io:443", 2))
+
+    val lines = PrometheusFormat.format(aggregator.rotate()).split("\n").toList
+
+    lines should contain("# TYPE gatling_global_requests_total counter")
+    lines should contain("""gatling_global_requests_total{status="ok"} 1""")
+    lines should contain("""gatling_requests_total{request="my \"request\"",status="ko"} 0""")
+    lines should contain("""gatling_response_time_milliseconds{request="my \"request\"",quantile="0.999"} 10""")
+    lines should contain("""gatling_response_time_milliseconds_count{request="my \"request\""} 1""")
+    lines should contain("""gatling_throughput_requests_per_second{request="my \"request\""} 1.0""")
+    lines should contain("# HELP gatling_http2_active_streams Latest sampled http2_active_streams")
+    lines should contain("# TYPE gatling_http2_active_streams gauge")
+    lines should contain("""gatling_http2_active_streams{remote="gatling.io:443"} 2""")
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import io.gatling.commons.stats.{ KO, OK }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ResponseRecordsSpec extends AnyFlatSpecLike with Matchers {
+  "ResponseRecordKeys" should "intern requests once per group hierarchy and name" in {
+    val keys = new ResponseRecordKeys
+
+    val request1 = keys.requestId(Nil, "request1")
+    val groupedRequest1 = keys.requestId(List("group"), "request1")
+
+    keys.requestId(Nil, "request1") shouldBe request1
+    keys.requestId(List("group"), "request1") shouldBe groupedRequest1
+    groupedRequest1 should not be request1
+    keys.request(groupedRequest1).groupHierarchy shouldBe List("group")
+    keys.request(groupedRequest1).name shouldBe "request1"
+  }
+
+  it should "intern messages" in {
+    val keys = new ResponseRecordKeys
+    val boom = keys.messageId("boom")
+
+    keys.messageId("boom") shouldBe boom
+    keys.message(boom) shouldBe Some("boom")
+  }
+
+  it should "grow past its initial capacity" in {
+    val keys = new ResponseRecordKeys
+    val ids = (0 until 1000).map(i => keys.requestId(Nil, s"request$i"))
+
+    ids shouldBe (0 until 1000)
+    keys.request(999).name shouldBe "request999"
+  }
+
+  "ResponseRecords" should "read back the records it was filled with" in {
+    val keys = new ResponseRecordKeys
+    val records = new ResponseRecords(keys, 2)
+
+    records.add(keys.requestId(Nil, "request1"), 1000, 1010, OK, keys.responseCodeId("200"), ResponseRecords.NoMessage)
+    records.isFull shouldBe false
+    records.add(keys.requestId(List("group"), "request2"), 2000, 2020, KO, ResponseRecords.NoResponseCode, keys.messageId("boom"))
+    records.isFull shouldBe true
+
+    records.size shouldBe 2
+    records.request(0).name shouldBe "request1"
+    records.startTimestamp(0) shouldBe 1000
+    records.endTimestamp(0) shouldBe 1010
+    records.status(0) shouldBe OK
+    records.responseCode(0) shouldBe Some("200")
+    records.message(0) shouldBe None
+    records.request(1).groupHierarchy shouldBe List("group")
+    records.endTimestamp(1) shouldBe 2020
+    records.status(1) shouldBe KO
+    records.responseCode(1) shouldBe None
+    records.message(1) shouldBe Some("boom")
+  }
+}
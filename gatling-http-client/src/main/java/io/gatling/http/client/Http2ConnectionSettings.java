@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import static io.netty.handler.codec.http2.Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+
+import io.netty.handler.codec.http2.Http2Settings;
+
+/**
+ * The settings of the HTTP/2 connections opened by a protocol, applied when a connection is
+ * established.
+ *
+ * <p>Immutable, so all methods return a new occurrence and leave the original unmodified.
+ */
+public final class Http2ConnectionSettings {
+
+  public static final Http2ConnectionSettings DEFAULT =
+      new Http2ConnectionSettings(Http2Settings.defaultSettings(), DEFAULT_WINDOW_SIZE);
+
+  // shared amongst connections, must never be mutated once built
+  private final Http2Settings http2Settings;
+  private final int connectionWindowSize;
+
+  private Http2ConnectionSettings(Http2Settings http2Settings, int connectionWindowSize) {
+    this.http2Settings = http2Settings;
+    this.connectionWindowSize = connectionWindowSize;
+  }
+
+  private Http2Settings copySettings() {
+    Http2Settings copy = new Http2Settings();
+    copy.copyFrom(http2Settings);
+    return copy;
+  }
+
+  /**
+   * @param initialWindowSize the SETTINGS_INITIAL_WINDOW_SIZE advertised to the server, ie the
+   *     per-stream receive window
+   * @return a new instance
+   */
+  public Http2ConnectionSettings withInitialWindowSize(int initialWindowSize) {
+    return new Http2ConnectionSettings(
+        copySettings().initialWindowSize(initialWindowSize), connectionWindowSize);
+  }
+
+  /**
+   * @param maxFrameSize the SETTINGS_MAX_FRAME_SIZE advertised to the server
+   * @return a new instance
+   */
+  public Http2ConnectionSettings withMaxFrameSize(int maxFrameSize) {
+    return new Http2ConnectionSettings(
+        copySettings().maxFrameSize(maxFrameSize), connectionWindowSize);
+  }
+
+  /**
+   * @param headerTableSize the SETTINGS_HEADER_TABLE_SIZE advertised to the server
+   * @return a new instance
+   */
+  public Http2ConnectionSettings withHeaderTableSize(long headerTableSize) {
+    return new Http2ConnectionSettings(
+        copySettings().headerTableSize(headerTableSize), connectionWindowSize);
+  }
+
+  /**
+   * @param connectionWindowSize the connection-level receive window, which isn't a setting but is
+   *     raised with a WINDOW_UPDATE frame right after the preface
+   * @return a new instance
+   */
+  public Http2ConnectionSettings withConnectionWindowSize(int connectionWindowSize) {
+    if (connectionWindowSize < DEFAULT_WINDOW_SIZE) {
+      throw new IllegalArgumentException(
+          "Connection window size can't be lower than the protocol default "
+              + DEFAULT_WINDOW_SIZE
+              + ": "
+              + connectionWindowSize);
+    }
+    return new Http2ConnectionSettings(http2Settings, connectionWindowSize);
+  }
+
+  public Http2Settings getHttp2Settings() {
+    return http2Settings;
+  }
+
+  public int getConnectionWindowSize() {
+    return connectionWindowSize;
+  }
+
+  @Override
+  public String toString() {
+    return "Http2ConnectionSettings{http2Settings="
+        + http2Settings
+        + ", connectionWindowSize="
+        + connectionWindowSize
+        + '}';
+  }
+}
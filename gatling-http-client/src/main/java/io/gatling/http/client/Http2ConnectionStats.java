@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+/**
+ * What happens on a single HTTP/2 connection, while it's open. Only updated from the connection's
+ * event loop, and read from other threads through volatile snapshots, as Netty's connection state
+ * is confined to its event loop.
+ */
+public final class Http2ConnectionStats {
+
+  private final String remoteAddress;
+  private volatile int activeStreams;
+  private volatile int maxConcurrentStreams;
+  private volatile long openedStreams;
+  private volatile int peakActiveStreams;
+  private volatile long windowStalls;
+
+  public Http2ConnectionStats(String remoteAddress) {
+    this.remoteAddress = remoteAddress;
+  }
+
+  /**
+   * @param activeStreams the number of active streams on the connection, including the new one
+   * @param maxConcurrentStreams the max concurrent streams currently advertised by the server
+   */
+  public void recordStreamActive(int activeStreams, int maxConcurrentStreams) {
+    this.activeStreams = activeStreams;
+    this.maxConcurrentStreams = maxConcurrentStreams;
+    openedStreams++;
+    if (activeStreams > peakActiveStreams) {
+      peakActiveStreams = activeStreams;
+    }
+  }
+
+  /**
+   * @param activeStreams the number of streams still active on the connection
+   */
+  public void recordStreamClosed(int activeStreams) {
+    this.activeStreams = activeStreams;
+  }
+
+  public void recordWindowStall() {
+    windowStalls++;
+  }
+
+  public String getRemoteAddress() {
+    return remoteAddress;
+  }
+
+  public int getActiveStreams() {
+    return activeStreams;
+  }
+
+  /**
+   * @return the max concurrent streams advertised by the server when the last stream was opened
+   */
+  public int getMaxConcurrentStreams() {
+    return maxConcurrentStreams;
+  }
+
+  public long getOpenedStreams() {
+    return openedStreams;
+  }
+
+  public int getPeakActiveStreams() {
+    return peakActiveStreams;
+  }
+
+  public long getWindowStalls() {
+    return windowStalls;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what happens on HTTP/2 connections: streams, how often the servers' max concurrent streams
+ * limits forced opening another connection and how often streams couldn't be written because their
+ * flow-control window was exhausted. Also keeps the stats of the open connections.
+ */
+public final class Http2Stats {
+
+  private final LongAdder connections = new LongAdder();
+  private final LongAdder openedStreams = new LongAdder();
+  private final LongAdder activeStreams = new LongAdder();
+  private final AtomicInteger peakActiveStreamsPerConnection = new AtomicInteger();
+  private final LongAdder streamLimitWaits = new LongAdder();
+  private final LongAdder windowStalls = new LongAdder();
+  private final Set<Http2ConnectionStats> openConnections = ConcurrentHashMap.newKeySet();
+
+  public void recordConnectionOpen(Http2ConnectionStats connectionStats) {
+    connections.increment();
+    openConnections.add(connectionStats);
+  }
+
+  public void recordConnectionClosed(Http2ConnectionStats connectionStats) {
+    openConnections.remove(connectionStats);
+  }
+
+  /**
+   * @param connectionActiveStreams the number of active streams on the connection, including the
+   *     new one
+   */
+  public void recordStreamActive(int connectionActiveStreams) {
+    openedStreams.increment();
+    activeStreams.increment();
+    peakActiveStreamsPerConnection.accumulateAndGet(connectionActiveStreams, Math::max);
+  }
+
+  public void recordStreamClosed() {
+    activeStreams.decrement();
+  }
+
+  public void recordStreamLimitWait() {
+    streamLimitWaits.increment();
+  }
+
+  public void recordWindowStall() {
+    windowStalls.increment();
+  }
+
+  public long getConnections() {
+    return connections.sum();
+  }
+
+  public long getOpenedStreams() {
+    return openedStreams.sum();
+  }
+
+  public long getActiveStreams() {
+    return activeStreams.sum();
+  }
+
+  public int getPeakActiveStreamsPerConnection() {
+    return peakActiveStreamsPerConnection.get();
+  }
+
+  public long getStreamLimitWaits() {
+    return streamLimitWaits.sum();
+  }
+
+  public long getWindowStalls() {
+    return windowStalls.sum();
+  }
+
+  public Collection<Http2ConnectionStats> getOpenConnections() {
+    return Collections.unmodifiableSet(openConnections);
+  }
+
+  @Override
+  public String toString() {
+    return "Http2Stats{connections="
+        + getConnections()
+        + ", openedStreams="
+        + getOpenedStreams()
+        + ", activeStreams="
+        + getActiveStreams()
+        + ", peakActiveStreamsPerConnection="
+        + getPeakActiveStreamsPerConnection()
+        + ", streamLimitWaits="
+        + getStreamLimitWaits()
+        + ", windowStalls="
+        + getWindowStalls()
+        + '}';
+  }
+}
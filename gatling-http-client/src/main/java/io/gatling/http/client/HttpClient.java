@@ -16,8 +16,10 @@
 
 package io.gatling.http.client;
 
+import io.gatling.http.client.ssl.TlsHandshakeStats;
 import io.gatling.http.client.util.Pair;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.Future;
 
 public interface HttpClient extends AutoCloseable {
 
@@ -28,6 +30,23 @@ public interface HttpClient extends AutoCloseable {
       HttpListener listener,
       SslContextsHolder sslContextsHolder);
 
+  /**
+   * Open a connection ahead of time and offer it to the pool, once the TLS handshake and the
+   * protocol negotiation have completed.
+   *
+   * @param request a request to the remote to connect to, never sent
+   * @param clientId the id of the client that will use the connection
+   * @param eventLoop the event loop the connection will belong to
+   * @param sslContextsHolder the SSL contexts
+   * @return a future completed once the connection is pooled, failed by default for clients that
+   *     can't pre-warm connections
+   */
+  default Future<Void> prewarmChannel(
+      Request request, long clientId, EventLoop eventLoop, SslContextsHolder sslContextsHolder) {
+    return eventLoop.newFailedFuture(
+        new UnsupportedOperationException("This client can't pre-warm connections"));
+  }
+
   void sendHttp2Requests(
       Pair<Request, HttpListener>[] requestsAndListeners,
       long clientId,
@@ -37,4 +56,14 @@ public interface HttpClient extends AutoCloseable {
   boolean isClosed();
 
   void flushClientIdChannels(long clientId, EventLoop eventLoop);
+
+  /** Clients that don't count their TLS handshakes report none. */
+  default TlsHandshakeStats getTlsHandshakeStats() {
+    return new TlsHandshakeStats();
+  }
+
+  /** Clients that don't track their HTTP/2 connections report none. */
+  default Http2Stats getHttp2Stats() {
+    return new Http2Stats();
+  }
 }
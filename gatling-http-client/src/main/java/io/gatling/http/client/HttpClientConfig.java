@@ -42,6 +42,16 @@ public final class HttpClientConfig {
 
   private boolean soKeepAlive;
 
+  private boolean directHttp1RequestHeadEncoding;
+
+  private long requestTimeoutWheelTick;
+
+  private boolean leanWebSocketPipeline;
+
+  private int maxConnectionsPerRemote;
+
+  private int http1PipeliningDepth;
+
   public long getConnectTimeout() {
     return connectTimeout;
   }
@@ -131,4 +141,55 @@ public final class HttpClientConfig {
     this.defaultSslContextHolder = sslContextHolder;
     return this;
   }
+
+  public boolean isDirectHttp1RequestHeadEncoding() {
+    return directHttp1RequestHeadEncoding;
+  }
+
+  /**
+   * Directly written requests bypass the HttpClientCodec's encoder, so its decoder doesn't know
+   * their methods. HEAD requests and requests with a body, that might be written through the codec,
+   * are then never pipelined behind other requests, see {@link #setHttp1PipeliningDepth}.
+   */
+  public HttpClientConfig setDirectHttp1RequestHeadEncoding(
+      boolean directHttp1RequestHeadEncoding) {
+    this.directHttp1RequestHeadEncoding = directHttp1RequestHeadEncoding;
+    return this;
+  }
+
+  public boolean isLeanWebSocketPipeline() {
+    return leanWebSocketPipeline;
+  }
+
+  public HttpClientConfig setLeanWebSocketPipeline(boolean leanWebSocketPipeline) {
+    this.leanWebSocketPipeline = leanWebSocketPipeline;
+    return this;
+  }
+
+  public int getMaxConnectionsPerRemote() {
+    return maxConnectionsPerRemote;
+  }
+
+  public HttpClientConfig setMaxConnectionsPerRemote(int maxConnectionsPerRemote) {
+    this.maxConnectionsPerRemote = maxConnectionsPerRemote;
+    return this;
+  }
+
+  public int getHttp1PipeliningDepth() {
+    return http1PipeliningDepth;
+  }
+
+  public HttpClientConfig setHttp1PipeliningDepth(int http1PipeliningDepth) {
+    this.http1PipeliningDepth = http1PipeliningDepth;
+    return this;
+  }
+
+  public long getRequestTimeoutWheelTick() {
+    return requestTimeoutWheelTick;
+  }
+
+  public HttpClientConfig setRequestTimeoutWheelTick(long requestTimeoutWheelTick) {
+    this.requestTimeoutWheelTick = requestTimeoutWheelTick;
+    return this;
+  }
 }
@@ -51,6 +51,7 @@ public final class RequestBuilder {
   private final InetAddressNameResolver nameResolver;
   private HttpHeaders headers = new DefaultHttpHeaders(false);
   private List<Cookie> cookies = Collections.emptyList();
+  private String encodedCookies;
   private RequestBodyBuilder bodyBuilder;
   private long requestTimeout;
   private boolean autoOrigin;
@@ -62,6 +63,7 @@ public final class RequestBuilder {
   private Function<Request, Request> signatureCalculator;
   private boolean http2Enabled;
   private Http2PriorKnowledge http2PriorKnowledge;
+  private Http2ConnectionSettings http2ConnectionSettings;
   private String wsSubprotocol;
   private Charset defaultCharset = UTF_8;
 
@@ -89,6 +91,19 @@ public final class RequestBuilder {
 
   public RequestBuilder setCookies(List<Cookie> cookies) {
     this.cookies = cookies;
+    this.encodedCookies = null;
+    return this;
+  }
+
+  /**
+   * @param cookies the cookies
+   * @param encodedCookies the Cookie header value for these cookies, so it doesn't have to be
+   *     computed again
+   * @return this
+   */
+  public RequestBuilder setCookies(List<Cookie> cookies, String encodedCookies) {
+    this.cookies = cookies;
+    this.encodedCookies = encodedCookies;
     return this;
   }
 
@@ -147,6 +162,12 @@ public final class RequestBuilder {
     return this;
   }
 
+  public RequestBuilder setHttp2ConnectionSettings(
+      Http2ConnectionSettings http2ConnectionSettings) {
+    this.http2ConnectionSettings = http2ConnectionSettings;
+    return this;
+  }
+
   public RequestBuilder setDefaultCharset(Charset defaultCharset) {
     this.defaultCharset = defaultCharset;
     return this;
@@ -193,7 +214,8 @@ public final class RequestBuilder {
     }
 
     if (isNonEmpty(cookies)) {
-      headers.set(COOKIE, ClientCookieEncoder.LAX.encode(cookies));
+      headers.set(
+          COOKIE, encodedCookies != null ? encodedCookies : ClientCookieEncoder.LAX.encode(cookies));
     }
 
     if (autoOrigin) {
@@ -242,6 +264,7 @@ public final class RequestBuilder {
         nameResolver,
         http2Enabled,
         http2PriorKnowledge,
+        http2ConnectionSettings,
         wsSubprotocol);
   }
 }
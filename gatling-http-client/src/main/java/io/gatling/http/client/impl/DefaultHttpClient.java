@@ -23,22 +23,27 @@ import io.gatling.http.client.impl.compression.CustomDelegatingDecompressorFrame
 import io.gatling.http.client.impl.compression.CustomHttpContentDecompressor;
 import io.gatling.http.client.pool.ChannelPool;
 import io.gatling.http.client.pool.ChannelPoolKey;
+import io.gatling.http.client.pool.ConnectionBudget;
 import io.gatling.http.client.pool.RemoteKey;
 import io.gatling.http.client.proxy.HttpProxyServer;
 import io.gatling.http.client.proxy.ProxyProtocolHandler;
 import io.gatling.http.client.proxy.ProxyServer;
 import io.gatling.http.client.ssl.Tls;
+import io.gatling.http.client.ssl.TlsHandshakeStats;
 import io.gatling.http.client.uri.Uri;
 import io.gatling.http.client.util.Pair;
 import io.gatling.netty.util.Transports;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpDecoderConfig;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.ssl.ApplicationProtocolNames;
@@ -64,8 +69,6 @@ import org.slf4j.LoggerFactory;
 
 public final class DefaultHttpClient implements HttpClient {
 
-  private static final Http2Settings DEFAULT_HTTP2_SETTINGS = Http2Settings.defaultSettings();
-
   static {
     InternalLoggerFactory.setDefaultFactory(Slf4JLoggerFactory.INSTANCE);
   }
@@ -105,6 +108,7 @@ public final class DefaultHttpClient implements HttpClient {
     private final Bootstrap http2Bootstrap;
     private final Bootstrap wsBootstrap;
     private final ChannelPool channelPool;
+    private final RequestTimeoutWheel requestTimeoutWheel;
 
     private void addHttpHandlers(Channel channel) {
       channel
@@ -112,17 +116,32 @@ public final class DefaultHttpClient implements HttpClient {
           .addLast(HTTP_CLIENT_CODEC, newHttpClientCodec())
           .addLast(INFLATER_HANDLER, new CustomHttpContentDecompressor())
           .addLast(CHUNKED_WRITER_HANDLER, new ChunkedWriteHandler())
-          .addLast(APP_HTTP_HANDLER, new HttpAppHandler(DefaultHttpClient.this, channelPool));
+          .addLast(
+              APP_HTTP_HANDLER,
+              new HttpAppHandler(
+                  DefaultHttpClient.this,
+                  channelPool,
+                  config.isDirectHttp1RequestHeadEncoding(),
+                  config.getHttp1PipeliningDepth()));
     }
 
     private void addWsHandlers(Channel channel) {
-      channel
-          .pipeline()
-          .addLast(HTTP_CLIENT_CODEC, newHttpClientCodec())
-          .addLast(WS_OBJECT_AGGREGATOR, new HttpObjectAggregator(Integer.MAX_VALUE))
-          .addLast(WS_COMPRESSION, AllowClientNoContextWebSocketClientCompressionHandler.INSTANCE)
-          .addLast(WS_FRAME_AGGREGATOR, new WebSocketFrameAggregator(Integer.MAX_VALUE))
-          .addLast(APP_WS_HANDLER, new WebSocketHandler());
+      if (config.isLeanWebSocketPipeline()) {
+        // the WebSocketHandler takes care of the handshake response and of fragmented messages
+        channel
+            .pipeline()
+            .addLast(HTTP_CLIENT_CODEC, newHttpClientCodec())
+            .addLast(WS_COMPRESSION, AllowClientNoContextWebSocketClientCompressionHandler.INSTANCE)
+            .addLast(APP_WS_HANDLER, new WebSocketHandler(true));
+      } else {
+        channel
+            .pipeline()
+            .addLast(HTTP_CLIENT_CODEC, newHttpClientCodec())
+            .addLast(WS_OBJECT_AGGREGATOR, new HttpObjectAggregator(Integer.MAX_VALUE))
+            .addLast(WS_COMPRESSION, AllowClientNoContextWebSocketClientCompressionHandler.INSTANCE)
+            .addLast(WS_FRAME_AGGREGATOR, new WebSocketFrameAggregator(Integer.MAX_VALUE))
+            .addLast(APP_WS_HANDLER, new WebSocketHandler(false));
+      }
     }
 
     private void addProxyHandlers(Channel ch, HttpTx tx, ProxyServer proxyServer) {
@@ -156,13 +175,20 @@ public final class DefaultHttpClient implements HttpClient {
     }
 
     private EventLoopResources(EventLoop eventLoop) {
-      channelPool = new ChannelPool();
+      channelPool = new ChannelPool(http2Stats, connectionBudget);
       eventLoop.scheduleWithFixedDelay(
           () -> channelPool.closeIdleChannels(idleTimeoutNanos),
           POOL_CLEANER_PERIOD_MS,
           POOL_CLEANER_PERIOD_MS,
           TimeUnit.MILLISECONDS);
 
+      if (config.getRequestTimeoutWheelTick() > 0) {
+        requestTimeoutWheel = new RequestTimeoutWheel(config.getRequestTimeoutWheelTick());
+        requestTimeoutWheel.start(eventLoop);
+      } else {
+        requestTimeoutWheel = null;
+      }
+
       http1Bootstrap =
           new Bootstrap()
               .channelFactory(
@@ -242,12 +268,19 @@ public final class DefaultHttpClient implements HttpClient {
   private final ChannelGroup channelGroup;
   private final FastThreadLocal<EventLoopResources> eventLoopResources = new FastThreadLocal<>();
   private final long idleTimeoutNanos;
+  private final TlsHandshakeStats tlsHandshakeStats = new TlsHandshakeStats();
+  private final Http2Stats http2Stats = new Http2Stats();
+  private final ConnectionBudget connectionBudget;
 
   public DefaultHttpClient(HttpClientConfig config) {
     this.config = config;
     channelGroupEventExecutor = new DefaultEventExecutor();
     channelGroup = new DefaultChannelGroup(channelGroupEventExecutor);
     idleTimeoutNanos = config.getChannelPoolIdleTimeout() * 1_000_000;
+    connectionBudget =
+        config.getMaxConnectionsPerRemote() > 0
+            ? new ConnectionBudget(config.getMaxConnectionsPerRemote())
+            : null;
   }
 
   @Override
@@ -287,6 +320,47 @@ public final class DefaultHttpClient implements HttpClient {
     }
   }
 
+  @Override
+  public Future<Void> prewarmChannel(
+      Request request, long clientId, EventLoop eventLoop, SslContextsHolder sslContextsHolder) {
+    Promise<Void> whenPrewarmed = eventLoop.newPromise();
+    if (isClosed()) {
+      return whenPrewarmed.setFailure(new IllegalStateException("Client is closed"));
+    }
+
+    if (sslContextsHolder == null) {
+      sslContextsHolder = config.getDefaultSslContextsHolder();
+    }
+
+    HttpTx tx =
+        buildTx(
+            request,
+            clientId,
+            new HttpListener() {
+              @Override
+              public void onFinalClientRequest(Request request) {}
+
+              @Override
+              public void onHttpResponse(HttpResponseStatus status, HttpHeaders headers) {}
+
+              @Override
+              public void onHttpResponseBodyChunk(ByteBuf chunk, boolean last) {}
+
+              @Override
+              public void onThrowable(Throwable e) {
+                whenPrewarmed.tryFailure(e);
+              }
+            },
+            sslContextsHolder);
+
+    if (eventLoop.inEventLoop()) {
+      prewarmTx(tx, eventLoop, whenPrewarmed);
+    } else if (!eventLoop.isShutdown()) {
+      eventLoop.execute(() -> prewarmTx(tx, eventLoop, whenPrewarmed));
+    }
+    return whenPrewarmed;
+  }
+
   @Override
   public void sendHttp2Requests(
       Pair<Request, HttpListener>[] requestsAndListeners,
@@ -340,6 +414,17 @@ public final class DefaultHttpClient implements HttpClient {
     return resources;
   }
 
+  private static void startRequestTimeout(
+      RequestTimeout requestTimeout, EventLoop eventLoop, EventLoopResources resources) {
+    if (resources.requestTimeoutWheel != null
+        && requestTimeout instanceof RequestTimeout.DefaultRequestTimeout) {
+      ((RequestTimeout.DefaultRequestTimeout) requestTimeout)
+          .start(eventLoop, resources.requestTimeoutWheel);
+    } else {
+      requestTimeout.start(eventLoop);
+    }
+  }
+
   private HttpTx buildTx(
       Request request, long clientId, HttpListener listener, SslContextsHolder sslContextsHolder) {
     RequestTimeout requestTimeout =
@@ -390,12 +475,13 @@ public final class DefaultHttpClient implements HttpClient {
         request.isHttp2Enabled() && requestUri.isSecured() && !requestUri.isWebSocket();
 
     // use a fresh channel for WebSocket
-    Channel pooledChannel = requestUri.isWebSocket() ? null : resources.channelPool.poll(tx.key);
+    Channel pooledChannel =
+        requestUri.isWebSocket() ? null : resources.channelPool.poll(tx.key, isPipelinable(tx));
 
     listener.onSend();
 
     // start timeout
-    tx.requestTimeout.start(eventLoop);
+    startRequestTimeout(tx.requestTimeout, eventLoop, resources);
 
     if (pooledChannel != null && tx.channelState != HttpTx.ChannelState.RETRY) {
       sendTxWithChannel(tx, pooledChannel);
@@ -437,6 +523,137 @@ public final class DefaultHttpClient implements HttpClient {
     }
   }
 
+  private void prewarmTx(HttpTx tx, EventLoop eventLoop, Promise<Void> whenPrewarmed) {
+    EventLoopResources resources = eventLoopResources(eventLoop);
+    Request request = tx.request;
+    RequestTimeout requestTimeout = tx.requestTimeout;
+    Uri requestUri = request.getUri();
+
+    startRequestTimeout(requestTimeout, eventLoop, resources);
+
+    InetSocketAddress proxyHandlerUnresolvedRemoteAddress =
+        proxyHandlerUnresolvedRemoteAddress(request.getProxyServer(), requestUri);
+
+    resolveChannelRemoteAddresses(
+            request, eventLoop, proxyHandlerUnresolvedRemoteAddress, tx.listener, requestTimeout)
+        .addListener(
+            (Future<List<InetSocketAddress>> whenRemoteAddresses) -> {
+              if (!whenRemoteAddresses.isSuccess()) {
+                whenPrewarmed.tryFailure(whenRemoteAddresses.cause());
+                return;
+              }
+              if (requestTimeout.isDone()) {
+                prewarmTimedOut(request, null, whenPrewarmed);
+                return;
+              }
+
+              if (connectionBudget != null && !connectionBudget.tryAcquire(tx.key)) {
+                LOGGER.debug("Connection budget reached for {}, not pre-warming", tx.key);
+                requestTimeout.cancel();
+                whenPrewarmed.trySuccess(null);
+                return;
+              }
+
+              tx.channelState = HttpTx.ChannelState.NEW;
+              openNewChannel(
+                      tx,
+                      request,
+                      proxyHandlerUnresolvedRemoteAddress != null,
+                      eventLoop,
+                      resources,
+                      whenRemoteAddresses.getNow(),
+                      tx.listener,
+                      requestTimeout)
+                  .addListener(
+                      (Future<Channel> whenNewChannel) -> {
+                        if (!whenNewChannel.isSuccess()) {
+                          releaseConnectionBudget(tx);
+                          whenPrewarmed.tryFailure(whenNewChannel.cause());
+                          return;
+                        }
+
+                        Channel channel = whenNewChannel.getNow();
+                        releaseConnectionBudgetOnClose(tx, channel);
+                        if (requestTimeout.isDone()) {
+                          prewarmTimedOut(request, channel, whenPrewarmed);
+                          return;
+                        }
+
+                        channelGroup.add(channel);
+                        ChannelPool.registerPoolKey(channel, tx.key);
+
+                        if (requestUri.isSecured()) {
+                          installSslHandler(
+                                  tx,
+                                  channel,
+                                  requestUri.getHost(),
+                                  requestUri.getExplicitPort(),
+                                  SSL_HANDLER)
+                              .addListener(
+                                  f -> {
+                                    if (!f.isSuccess()) {
+                                      whenPrewarmed.tryFailure(f.cause());
+                                      channel.close();
+                                      return;
+                                    } else if (requestTimeout.isDone()) {
+                                      prewarmTimedOut(request, channel, whenPrewarmed);
+                                      return;
+                                    }
+
+                                    if (!request.isHttp2Enabled()
+                                        || request.getHttp2PriorKnowledge()
+                                            == Http2PriorKnowledge.HTTP1_ONLY) {
+                                      channelPrewarmed(tx, channel, resources, whenPrewarmed);
+                                    } else {
+                                      installHttp2Handler(tx, channel, resources.channelPool)
+                                          .addListener(
+                                              f2 -> {
+                                                if (!f2.isSuccess()) {
+                                                  whenPrewarmed.tryFailure(f2.cause());
+                                                  channel.close();
+                                                  return;
+                                                } else if (requestTimeout.isDone()) {
+                                                  prewarmTimedOut(request, channel, whenPrewarmed);
+                                                  return;
+                                                }
+                                                channelPrewarmed(
+                                                    tx, channel, resources, whenPrewarmed);
+                                              });
+                                    }
+                                  });
+                        } else {
+                          channelPrewarmed(tx, channel, resources, whenPrewarmed);
+                        }
+                      });
+            });
+  }
+
+  private static void prewarmTimedOut(
+      Request request, Channel channel, Promise<Void> whenPrewarmed) {
+    // the timeout usually already failed the promise through the listener, but not if it was
+    // cancelled
+    InetSocketAddress remoteAddress = null;
+    if (channel != null) {
+      remoteAddress = (InetSocketAddress) channel.remoteAddress();
+      channel.close();
+    }
+    whenPrewarmed.tryFailure(
+        new RequestTimeoutException(request.getRequestTimeout(), remoteAddress));
+  }
+
+  private void channelPrewarmed(
+      HttpTx tx, Channel channel, EventLoopResources resources, Promise<Void> whenPrewarmed) {
+    tx.requestTimeout.cancel();
+    // HTTP/2 channels have already been offered once ALPN completed
+    if (ChannelPool.isHttp2(channel)) {
+      LOGGER.debug("Pre-warmed HTTP/2 channel for {}", tx.key);
+    } else {
+      LOGGER.debug("Pre-warmed HTTP/1 channel for {}", tx.key);
+      resources.channelPool.offer(channel);
+    }
+    whenPrewarmed.trySuccess(null);
+  }
+
   private void sendHttp2Txs(List<HttpTx> txs, EventLoop eventLoop) {
     HttpTx tx = txs.get(0);
     EventLoopResources resources = eventLoopResources(eventLoop);
@@ -447,7 +664,7 @@ public final class DefaultHttpClient implements HttpClient {
 
     // start timeouts
     for (HttpTx t : txs) {
-      t.requestTimeout.start(eventLoop);
+      startRequestTimeout(t.requestTimeout, eventLoop, resources);
     }
 
     ProxyServer proxyServer = request.getProxyServer();
@@ -579,6 +796,19 @@ public final class DefaultHttpClient implements HttpClient {
       EventLoop eventLoop,
       List<InetSocketAddress> remoteAddresses,
       boolean logProxyAddress) {
+    if (connectionBudget != null
+        && !tx.request.getUri().isWebSocket()
+        && !connectionBudget.tryAcquire(tx.key)) {
+      LOGGER.debug("Connection budget reached for {}, waiting for a connection", tx.key);
+      ConnectionBudget.Waiter waiter =
+          new ConnectionBudget.Waiter(
+              eventLoop,
+              () -> resumeTx(tx, resources, eventLoop, remoteAddresses, logProxyAddress));
+      resources.channelPool.await(tx.key, waiter);
+      connectionBudget.await(tx.key, waiter);
+      return;
+    }
+
     tx.channelState = HttpTx.ChannelState.NEW;
     openNewChannel(
             tx,
@@ -593,6 +823,7 @@ public final class DefaultHttpClient implements HttpClient {
             (Future<Channel> whenNewChannel) -> {
               if (whenNewChannel.isSuccess()) {
                 Channel channel = whenNewChannel.getNow();
+                releaseConnectionBudgetOnClose(tx, channel);
                 if (tx.requestTimeout.isDone()) {
                   channel.close();
                   return;
@@ -636,10 +867,56 @@ public final class DefaultHttpClient implements HttpClient {
                 } else {
                   sendTxWithChannel(tx, channel);
                 }
+              } else {
+                releaseConnectionBudget(tx);
               }
             });
   }
 
+  private void resumeTx(
+      HttpTx tx,
+      EventLoopResources resources,
+      EventLoop eventLoop,
+      List<InetSocketAddress> remoteAddresses,
+      boolean logProxyAddress) {
+    if (tx.requestTimeout.isDone() || isClosed()) {
+      // hand over to the next waiter
+      connectionBudget.signal(tx.key);
+      return;
+    }
+
+    Channel pooledChannel =
+        tx.channelState == HttpTx.ChannelState.RETRY
+            ? null
+            : resources.channelPool.poll(tx.key, isPipelinable(tx));
+    if (pooledChannel != null) {
+      sendTxWithChannel(tx, pooledChannel);
+    } else {
+      sendTxWithNewChannel(tx, resources, eventLoop, remoteAddresses, logProxyAddress);
+    }
+  }
+
+  private boolean isPipelinable(HttpTx tx) {
+    return config.getHttp1PipeliningDepth() > 1
+        && tx.isPipelinable(config.isDirectHttp1RequestHeadEncoding());
+  }
+
+  private boolean isBudgeted(HttpTx tx) {
+    return connectionBudget != null && !tx.request.getUri().isWebSocket();
+  }
+
+  private void releaseConnectionBudget(HttpTx tx) {
+    if (isBudgeted(tx)) {
+      connectionBudget.release(tx.key);
+    }
+  }
+
+  private void releaseConnectionBudgetOnClose(HttpTx tx, Channel channel) {
+    if (isBudgeted(tx)) {
+      channel.closeFuture().addListener(f -> connectionBudget.release(tx.key));
+    }
+  }
+
   private void sendHttp2TxsWithNewChannel(
       List<HttpTx> txs,
       EventLoopResources resources,
@@ -883,6 +1160,7 @@ public final class DefaultHttpClient implements HttpClient {
     // [e]
 
     try {
+      long handshakeStartNanos = System.nanoTime();
       SslHandler sslHandler =
           SslHandlers.newSslHandler(tx.sslContext(), channel.alloc(), peerHost, peerPort, config);
 
@@ -899,9 +1177,12 @@ public final class DefaultHttpClient implements HttpClient {
                 }
 
                 if (f.isSuccess()) {
+                  tlsHandshakeStats.record(
+                      sslHandler.engine().getSession(), System.nanoTime() - handshakeStartNanos);
                   if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug(
-                        "TLS handshake successful: peerHost={} peerPort={} protocol={} cipher suite={}",
+                        "TLS handshake successful: peerHost={} peerPort={} protocol={} cipher"
+                            + " suite={}",
                         sslHandler.engine().getSession().getPeerHost(),
                         sslHandler.engine().getSession().getPeerPort(),
                         sslHandler.engine().getSession().getProtocol(),
@@ -951,9 +1232,14 @@ public final class DefaultHttpClient implements HttpClient {
 
                     ChannelPool.registerHttp2Connection(channel, connection);
 
+                    Http2ConnectionSettings http2ConnectionSettings =
+                        tx.request.getHttp2ConnectionSettings() != null
+                            ? tx.request.getHttp2ConnectionSettings()
+                            : Http2ConnectionSettings.DEFAULT;
+
                     HttpToHttp2ConnectionHandler http2Handler =
                         new HttpToHttp2ConnectionHandlerBuilder()
-                            .initialSettings(DEFAULT_HTTP2_SETTINGS)
+                            .initialSettings(http2ConnectionSettings.getHttp2Settings())
                             .connection(connection)
                             .frameListener(
                                 new CustomDelegatingDecompressorFrameListener(
@@ -969,6 +1255,21 @@ public final class DefaultHttpClient implements HttpClient {
                             APP_HTTP2_HANDLER,
                             new Http2AppHandler(DefaultHttpClient.this, http2Handler, channelPool));
 
+                    Http2StatsRecorder.install(channel, connection, http2Stats);
+
+                    // the connection window isn't a setting, it can only be increased once the
+                    // preface has been sent
+                    int connectionWindowSizeIncrement =
+                        http2ConnectionSettings.getConnectionWindowSize()
+                            - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+                    if (connectionWindowSizeIncrement > 0) {
+                      connection
+                          .local()
+                          .flowController()
+                          .incrementWindowSize(
+                              connection.connectionStream(), connectionWindowSizeIncrement);
+                    }
+
                     channelPool.offer(channel);
 
                     SslHandler sslHandler = (SslHandler) ctx.pipeline().get(SSL_HANDLER);
@@ -1009,7 +1310,11 @@ public final class DefaultHttpClient implements HttpClient {
                         .addLast(CHUNKED_WRITER_HANDLER, new ForkedChunkedWriteHandler())
                         .addLast(
                             APP_HTTP_HANDLER,
-                            new HttpAppHandler(DefaultHttpClient.this, channelPool));
+                            new HttpAppHandler(
+                                DefaultHttpClient.this,
+                                channelPool,
+                                config.isDirectHttp1RequestHeadEncoding(),
+                                config.getHttp1PipeliningDepth()));
                     whenAlpn.setSuccess(null);
                     break;
 
@@ -1039,6 +1344,16 @@ public final class DefaultHttpClient implements HttpClient {
     return closed.get();
   }
 
+  @Override
+  public TlsHandshakeStats getTlsHandshakeStats() {
+    return tlsHandshakeStats;
+  }
+
+  @Override
+  public Http2Stats getHttp2Stats() {
+    return http2Stats;
+  }
+
   @Override
   public void flushClientIdChannels(long clientId, EventLoop eventLoop) {
     if (eventLoop.inEventLoop()) {
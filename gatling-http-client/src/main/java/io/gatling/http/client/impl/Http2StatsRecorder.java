@@ -0,0 +1,76 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import io.gatling.http.client.Http2ConnectionStats;
+import io.gatling.http.client.Http2Stats;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2ConnectionAdapter;
+import io.netty.handler.codec.http2.Http2RemoteFlowController;
+import io.netty.handler.codec.http2.Http2Stream;
+
+final class Http2StatsRecorder extends Http2ConnectionAdapter
+    implements Http2RemoteFlowController.Listener {
+
+  static void install(Channel channel, Http2Connection connection, Http2Stats http2Stats) {
+    Http2ConnectionStats connectionStats =
+        new Http2ConnectionStats(String.valueOf(channel.remoteAddress()));
+    Http2StatsRecorder recorder = new Http2StatsRecorder(connection, http2Stats, connectionStats);
+    connection.addListener(recorder);
+    // the remote flow controller is created when building the connection handler
+    connection.remote().flowController().listener(recorder);
+    http2Stats.recordConnectionOpen(connectionStats);
+    channel.closeFuture().addListener(f -> http2Stats.recordConnectionClosed(connectionStats));
+  }
+
+  private final Http2Connection connection;
+  private final Http2Stats http2Stats;
+  private final Http2ConnectionStats connectionStats;
+
+  private Http2StatsRecorder(
+      Http2Connection connection, Http2Stats http2Stats, Http2ConnectionStats connectionStats) {
+    this.connection = connection;
+    this.http2Stats = http2Stats;
+    this.connectionStats = connectionStats;
+  }
+
+  @Override
+  public void onStreamActive(Http2Stream stream) {
+    int activeStreams = connection.numActiveStreams();
+    http2Stats.recordStreamActive(activeStreams);
+    connectionStats.recordStreamActive(activeStreams, connection.local().maxActiveStreams());
+  }
+
+  @Override
+  public void onStreamClosed(Http2Stream stream) {
+    http2Stats.recordStreamClosed();
+    connectionStats.recordStreamClosed(connection.numActiveStreams());
+  }
+
+  @Override
+  public void writabilityChanged(Http2Stream stream) {
+    Http2RemoteFlowController flowController = connection.remote().flowController();
+    // a stream also becomes unwritable when the socket is saturated, only count the stalls caused
+    // by the stream or the connection flow-control window being exhausted
+    if (!flowController.isWritable(stream)
+        && flowController.channelHandlerContext().channel().isWritable()) {
+      http2Stats.recordWindowStall();
+      connectionStats.recordWindowStall();
+    }
+  }
+}
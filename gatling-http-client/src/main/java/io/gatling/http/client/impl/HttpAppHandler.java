@@ -16,6 +16,7 @@
 
 package io.gatling.http.client.impl;
 
+import io.gatling.http.client.impl.request.Http1RequestHeadEncoder;
 import io.gatling.http.client.impl.request.WritableRequest;
 import io.gatling.http.client.impl.request.WritableRequestBuilder;
 import io.gatling.http.client.pool.ChannelPool;
@@ -26,6 +27,7 @@ import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderResultProvider;
 import io.netty.handler.codec.http.*;
 import io.netty.util.ReferenceCountUtil;
+import java.util.ArrayDeque;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +37,26 @@ final class HttpAppHandler extends ChannelDuplexHandler {
 
   private final DefaultHttpClient client;
   private final ChannelPool channelPool;
+  // null when direct request head encoding is disabled
+  private final Http1RequestHeadEncoder headEncoder;
+  private final int pipeliningDepth;
+  // requests written after the current one and waiting for their response, null when pipelining
+  // is disabled
+  private final ArrayDeque<HttpTx> pipelinedTxs;
+  private ChannelHandlerContext codecCtx;
   private HttpTx tx;
   private boolean httpResponseReceived;
 
-  HttpAppHandler(DefaultHttpClient client, ChannelPool channelPool) {
+  HttpAppHandler(
+      DefaultHttpClient client,
+      ChannelPool channelPool,
+      boolean directRequestHeadEncoding,
+      int pipeliningDepth) {
     this.client = client;
     this.channelPool = channelPool;
+    this.headEncoder = directRequestHeadEncoding ? new Http1RequestHeadEncoder() : null;
+    this.pipeliningDepth = pipeliningDepth;
+    this.pipelinedTxs = pipeliningDepth > 1 ? new ArrayDeque<>(pipeliningDepth - 1) : null;
   }
 
   @Override
@@ -61,6 +77,39 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     return tx == null || tx.requestTimeout.isDone();
   }
 
+  private int inFlight() {
+    return (tx != null ? 1 : 0) + (pipelinedTxs != null ? pipelinedTxs.size() : 0);
+  }
+
+  private boolean canPipeline(HttpTx tx) {
+    return pipelinedTxs != null
+        && tx.isPipelinable(headEncoder != null)
+        && inFlight() < pipeliningDepth;
+  }
+
+  private void activateNextPipelinedTx() {
+    if (pipelinedTxs != null) {
+      tx = pipelinedTxs.poll();
+    }
+  }
+
+  private void retryOrCrashPipelinedTxs(ChannelHandlerContext ctx) {
+    if (pipelinedTxs != null) {
+      HttpTx pipelinedTx;
+      while ((pipelinedTx = pipelinedTxs.poll()) != null) {
+        if (!pipelinedTx.requestTimeout.isDone()) {
+          pipelinedTx.requestTimeout.cancel();
+          // pipelined requests are idempotent and haven't started receiving their response
+          if (client.canRetry(pipelinedTx)) {
+            client.retry(pipelinedTx, ctx.channel().eventLoop());
+          } else {
+            pipelinedTx.listener.onThrowable(PrematureCloseException.INSTANCE);
+          }
+        }
+      }
+    }
+  }
+
   private void releasePendingRequestExpectingContinue() {
     if (tx != null) {
       tx.releasePendingRequestExpectingContinue();
@@ -72,7 +121,10 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     try {
       tx.requestTimeout.cancel();
       tx.listener.onThrowable(cause);
-      setInactive();
+      // on last chunk, the next pipelined request might already be the active one
+      if (this.tx == tx) {
+        setInactive();
+      }
 
     } catch (Exception e) {
       LOGGER.error(
@@ -88,11 +140,27 @@ final class HttpAppHandler extends ChannelDuplexHandler {
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
 
     HttpTx tx = (HttpTx) msg;
-    setActive(tx);
 
-    if (tx.requestTimeout.isDone()) {
-      setInactive();
+    if (this.tx == null) {
+      setActive(tx);
+      if (tx.requestTimeout.isDone()) {
+        setInactive();
+        return;
+      }
+    } else if (tx.requestTimeout.isDone()) {
+      return;
+    } else if (headEncoder != null && !tx.isPipelinable(true)) {
+      // would be written through the HttpClientCodec behind directly written requests, and its
+      // decoder would match this request's method with the response of the first in-flight one
+      tx.requestTimeout.cancel();
+      tx.listener.onThrowable(
+          new IllegalStateException(
+              "Can't pipeline a request written through the HTTP codec behind directly written"
+                  + " ones"));
       return;
+    } else {
+      // the channel was polled from the pool while having in-flight requests
+      pipelinedTxs.add(tx);
     }
 
     try {
@@ -105,10 +173,19 @@ final class HttpAppHandler extends ChannelDuplexHandler {
         LOGGER.debug("Delaying body write");
         tx.pendingRequestExpectingContinue = request;
         request.writeWithoutContent(ctx);
+      } else if (headEncoder != null && request.isDirectlyWritable()) {
+        if (codecCtx == null) {
+          codecCtx = ctx.pipeline().context(DefaultHttpClient.HTTP_CLIENT_CODEC);
+        }
+        request.writeDirectly(codecCtx, headEncoder);
       } else {
         request.write(ctx);
       }
 
+      if (canPipeline(tx)) {
+        channelPool.offerForPipelining(ctx.channel());
+      }
+
     } catch (Exception e) {
       exceptionCaught(ctx, e);
     }
@@ -134,7 +211,8 @@ final class HttpAppHandler extends ChannelDuplexHandler {
       } else {
         // TODO implement 417 support
         LOGGER.debug(
-            "Request was sent with Expect:100-Continue but received response with status {}, dropping",
+            "Request was sent with Expect:100-Continue but received response with status {},"
+                + " dropping",
             status);
         tx.releasePendingRequestExpectingContinue();
       }
@@ -168,10 +246,13 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     if (last) {
       tx.requestTimeout.cancel();
       setInactive();
+      activateNextPipelinedTx();
       if (tx.closeConnection) {
         ctx.channel().close();
-      } else {
+      } else if (this.tx == null) {
         channelPool.offer(ctx.channel());
+      } else if (canPipeline(this.tx)) {
+        channelPool.offerForPipelining(ctx.channel());
       }
     }
 
@@ -241,20 +322,20 @@ final class HttpAppHandler extends ChannelDuplexHandler {
   public void channelInactive(ChannelHandlerContext ctx) {
     releasePendingRequestExpectingContinue();
 
-    if (isInactive()) {
-      return;
-    }
-
-    HttpTx tx = this.tx;
-    setInactive();
-    tx.requestTimeout.cancel();
+    if (!isInactive()) {
+      HttpTx tx = this.tx;
+      setInactive();
+      tx.requestTimeout.cancel();
 
-    // only retry when we haven't started receiving response
-    if (!httpResponseReceived && client.canRetry(tx)) {
-      client.retry(tx, ctx.channel().eventLoop());
-    } else {
-      crash(ctx, PrematureCloseException.INSTANCE, false, tx);
+      // only retry when we haven't started receiving response
+      if (!httpResponseReceived && client.canRetry(tx)) {
+        client.retry(tx, ctx.channel().eventLoop());
+      } else {
+        crash(ctx, PrematureCloseException.INSTANCE, false, tx);
+      }
     }
+
+    retryOrCrashPipelinedTxs(ctx);
   }
 
   @Override
@@ -267,6 +348,10 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     }
 
     if (isInactive()) {
+      if (inFlight() > 0) {
+        // pipelined requests will be retried or crashed once the channel is closed
+        ctx.close();
+      }
       return;
     }
     crash(ctx, cause, true, tx);
@@ -20,9 +20,13 @@ import io.gatling.http.client.Http2PriorKnowledge;
 import io.gatling.http.client.HttpListener;
 import io.gatling.http.client.Request;
 import io.gatling.http.client.SslContextsHolder;
+import io.gatling.http.client.body.is.InputStreamRequestBody;
 import io.gatling.http.client.impl.request.WritableRequest;
 import io.gatling.http.client.pool.ChannelPoolKey;
 import io.gatling.http.client.util.HttpUtils;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.ReferenceCounted;
 
@@ -73,6 +77,27 @@ public final class HttpTx {
     }
   }
 
+  // only idempotent requests can be pipelined as they can be safely retried if the connection
+  // gets closed before their response is received, see RFC 9112 section 9.3.2
+  //
+  // when the request heads are encoded directly, HEAD requests and requests with a body might be
+  // written through the HttpClientCodec, whose decoder matches the responses with the methods of
+  // the requests it encoded only: such a request written behind directly written ones would have
+  // its method matched with the response of the first one
+  boolean isPipelinable(boolean directRequestHeadEncoding) {
+    HttpMethod method = request.getMethod();
+    return (HttpMethod.GET.equals(method)
+            || (HttpMethod.HEAD.equals(method) && !directRequestHeadEncoding)
+            || HttpMethod.OPTIONS.equals(method)
+            || HttpMethod.PUT.equals(method)
+            || HttpMethod.DELETE.equals(method))
+        && !closeConnection
+        && (request.getBody() == null
+            || (!directRequestHeadEncoding
+                && !(request.getBody() instanceof InputStreamRequestBody)))
+        && !request.getHeaders().contains(HttpHeaderNames.EXPECT, HttpHeaderValues.CONTINUE, true);
+  }
+
   void releasePendingRequestExpectingContinue() {
     if (pendingRequestExpectingContinue != null) {
       Object content = pendingRequestExpectingContinue.getContent();
@@ -40,6 +40,10 @@ public interface RequestTimeout {
   void setStreamId(int streamId);
 
   class DefaultRequestTimeout implements RequestTimeout {
+    private static final int PENDING = 0;
+    private static final int EXPIRING = 1;
+    private static final int DONE = 2;
+
     private final long timeout;
     private final HttpListener listener;
     private Channel channel;
@@ -47,6 +51,14 @@ public interface RequestTimeout {
     private InetSocketAddress remoteAddress;
     private ScheduledFuture<?> f;
 
+    // only used when tracked by a RequestTimeoutWheel
+    private RequestTimeoutWheel wheel;
+    private int state = PENDING;
+    long deadlineTick;
+    DefaultRequestTimeout prev;
+    DefaultRequestTimeout next;
+    DefaultRequestTimeout nextExpired;
+
     private DefaultRequestTimeout(long timeout, HttpListener listener) {
       this.timeout = timeout;
       this.listener = listener;
@@ -54,7 +66,38 @@ public interface RequestTimeout {
 
     @Override
     public void start(EventLoop eventLoop) {
-      f = eventLoop.schedule(this::execute, timeout, TimeUnit.MILLISECONDS);
+      start(eventLoop, null);
+    }
+
+    /**
+     * @param eventLoop the event loop the request is executed on
+     * @param wheel the timeout wheel of this event loop, or null to use a scheduled task
+     */
+    void start(EventLoop eventLoop, RequestTimeoutWheel wheel) {
+      if (wheel != null) {
+        // on retry, the request was cancelled and is restarted with a new deadline, like with a
+        // scheduled task, possibly on another event loop's wheel
+        if (this.wheel != null && state == PENDING) {
+          this.wheel.unregister(this);
+        }
+        this.wheel = wheel;
+        state = PENDING;
+        wheel.register(this, timeout);
+      } else {
+        f = eventLoop.schedule(this::execute, timeout, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    void markExpiring() {
+      state = EXPIRING;
+    }
+
+    void expire() {
+      // might have been cancelled while other timeouts from the same sweep were firing
+      if (state == EXPIRING) {
+        state = DONE;
+        execute();
+      }
     }
 
     private void execute() {
@@ -73,11 +116,18 @@ public interface RequestTimeout {
     }
 
     public boolean isDone() {
-      return f.isDone();
+      return wheel != null ? state != PENDING : f.isDone();
     }
 
     public void cancel() {
-      f.cancel(true);
+      if (wheel != null) {
+        if (state == PENDING) {
+          wheel.unregister(this);
+        }
+        state = DONE;
+      } else {
+        f.cancel(true);
+      }
     }
 
     public void setChannel(Channel channel) {
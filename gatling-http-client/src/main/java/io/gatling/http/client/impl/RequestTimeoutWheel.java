@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import io.netty.channel.EventLoop;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A coarse-grained timer wheel for request timeouts, owned by an event loop and only accessed
+ * from it. Timeouts are intrusive doubly-linked list nodes, so registering and cancelling are O(1)
+ * and allocation free, and a single periodic task sweeps the slots of the elapsed ticks. Timeouts
+ * fire up to one tick late.
+ */
+final class RequestTimeoutWheel {
+
+  static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private final long tickNanos;
+  private final long startNanos;
+  private final RequestTimeout.DefaultRequestTimeout[] slots =
+      new RequestTimeout.DefaultRequestTimeout[WHEEL_SIZE];
+  private long currentTick;
+  private int size;
+
+  RequestTimeoutWheel(long tickMillis) {
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.startNanos = System.nanoTime();
+  }
+
+  void start(EventLoop eventLoop) {
+    long tickMillis = TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    eventLoop.scheduleAtFixedRate(
+        () -> sweep(System.nanoTime()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  int size() {
+    return size;
+  }
+
+  void register(RequestTimeout.DefaultRequestTimeout timeout, long timeoutMillis) {
+    long deadlineNanos =
+        System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    // round up so timeouts never fire early
+    long deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos;
+    timeout.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+
+    int index = (int) (timeout.deadlineTick & MASK);
+    RequestTimeout.DefaultRequestTimeout head = slots[index];
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    slots[index] = timeout;
+    size++;
+  }
+
+  void unregister(RequestTimeout.DefaultRequestTimeout timeout) {
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      slots[(int) (timeout.deadlineTick & MASK)] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    size--;
+  }
+
+  void sweep(long nowNanos) {
+    long nowTick = (nowNanos - startNanos) / tickNanos;
+    if (nowTick <= currentTick) {
+      return;
+    }
+
+    // when late by more than a rotation, visiting each slot once is enough
+    long lastTick = Math.min(nowTick, currentTick + WHEEL_SIZE);
+    RequestTimeout.DefaultRequestTimeout expired = null;
+    for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+      RequestTimeout.DefaultRequestTimeout timeout = slots[(int) (tick & MASK)];
+      while (timeout != null) {
+        RequestTimeout.DefaultRequestTimeout next = timeout.next;
+        if (timeout.deadlineTick <= nowTick) {
+          unregister(timeout);
+          timeout.markExpiring();
+          // chain expired timeouts so they fire once the slots are consistent again,
+          // as firing can register, cancel or restart other timeouts
+          timeout.nextExpired = expired;
+          expired = timeout;
+        }
+        timeout = next;
+      }
+    }
+    currentTick = nowTick;
+
+    while (expired != null) {
+      RequestTimeout.DefaultRequestTimeout next = expired.nextExpired;
+      expired.nextExpired = null;
+      expired.expire();
+      expired = next;
+    }
+  }
+}
@@ -20,11 +20,17 @@ import io.gatling.http.client.WebSocketListener;
 import io.gatling.http.client.impl.request.WritableRequest;
 import io.gatling.http.client.impl.request.WritableRequestBuilder;
 import io.gatling.http.client.proxy.HttpProxyServer;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.websocketx.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,12 +39,23 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketHandler.class);
 
+  // same as MessageAggregator's default
+  private static final int MAX_FRAGMENTS_COMPONENTS = 1024;
+
+  // when true, there's no HttpObjectAggregator nor WebSocketFrameAggregator upstream in the pipeline
+  private final boolean lean;
   private HttpTx tx;
   private WebSocketListener wsListener;
   private WebSocketClientHandshaker handshaker;
   private boolean remotelyClosed;
+  // only allocated while receiving a fragmented message in lean mode
+  private CompositeByteBuf fragments;
+  private boolean fragmentedText;
+  private int fragmentsRsv;
 
-  WebSocketHandler() {}
+  WebSocketHandler(boolean lean) {
+    this.lean = lean;
+  }
 
   @Override
   public boolean isSharable() {
@@ -65,6 +82,57 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
     }
   }
 
+  private void releaseFragments() {
+    if (fragments != null) {
+      fragments.release();
+      fragments = null;
+    }
+  }
+
+  private static FullHttpResponse toFullHttpResponse(HttpResponse response) {
+    // the handshake response is a 101 with no body, or an error whose body we don't care about
+    return new DefaultFullHttpResponse(
+        response.protocolVersion(),
+        response.status(),
+        Unpooled.EMPTY_BUFFER,
+        response.headers(),
+        EmptyHttpHeaders.INSTANCE);
+  }
+
+  // returns null when the frame is part of a fragmented message that's not complete yet
+  private WebSocketFrame aggregate(ChannelHandlerContext ctx, WebSocketFrame frame) {
+    if (frame instanceof ContinuationWebSocketFrame) {
+      if (fragments == null) {
+        LOGGER.debug("Dropping unexpected continuation frame");
+        frame.release();
+        return null;
+      }
+      // the composite takes ownership of the frame content
+      fragments.addComponent(true, frame.content());
+      if (!frame.isFinalFragment()) {
+        return null;
+      }
+      CompositeByteBuf content = fragments;
+      fragments = null;
+      return fragmentedText
+          ? new TextWebSocketFrame(true, fragmentsRsv, content)
+          : new BinaryWebSocketFrame(true, fragmentsRsv, content);
+
+    } else if (!frame.isFinalFragment()
+        && (frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame)) {
+      // previous message was never completed, drop it
+      releaseFragments();
+      fragments = ctx.alloc().compositeBuffer(MAX_FRAGMENTS_COMPONENTS);
+      fragmentedText = frame instanceof TextWebSocketFrame;
+      fragmentsRsv = frame.rsv();
+      fragments.addComponent(true, frame.content());
+      return null;
+    }
+
+    // complete message or control frame, possibly interleaved in a fragmented message
+    return frame;
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
     if (msg instanceof HttpTx) {
@@ -122,6 +190,13 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
   public void channelRead(ChannelHandlerContext ctx, Object msg) {
     LOGGER.debug("Read msg={}", msg);
 
+    if (lean && msg instanceof HttpContent && !(msg instanceof HttpResponse)) {
+      // handshake response body or its trailing LastHttpContent, normally swallowed by the
+      // HttpObjectAggregator
+      ((HttpContent) msg).release();
+      return;
+    }
+
     Channel ch = ctx.channel();
     if (!handshaker.isHandshakeComplete()) {
       if (tx == null || tx.requestTimeout.isDone()) {
@@ -130,7 +205,10 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
 
       try {
         // received 101 response
-        FullHttpResponse response = (FullHttpResponse) msg;
+        FullHttpResponse response =
+            msg instanceof FullHttpResponse
+                ? (FullHttpResponse) msg
+                : toFullHttpResponse((HttpResponse) msg);
         try {
           handshaker.finishHandshake(ch, response);
           tx.requestTimeout.cancel();
@@ -148,6 +226,12 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
     }
 
     WebSocketFrame frame = (WebSocketFrame) msg;
+    if (lean) {
+      frame = aggregate(ctx, frame);
+      if (frame == null) {
+        return;
+      }
+    }
     try {
       if (frame instanceof TextWebSocketFrame) {
         wsListener.onTextFrame((TextWebSocketFrame) frame);
@@ -170,6 +254,7 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
   @Override
   public void channelInactive(ChannelHandlerContext ctx) {
     LOGGER.debug("channelInactive");
+    releaseFragments();
     if (!remotelyClosed) {
       crash(ctx, PrematureCloseException.INSTANCE, false);
     }
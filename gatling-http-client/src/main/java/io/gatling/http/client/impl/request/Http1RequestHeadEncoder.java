@@ -0,0 +1,131 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl.request;
+
+import static io.netty.handler.codec.http.HttpConstants.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.util.AsciiString;
+import io.netty.util.CharsetUtil;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Serializes a HTTP/1.1 request line and headers straight into a single pooled {@link ByteBuf},
+ * bypassing {@link io.netty.handler.codec.http.HttpObjectEncoder}. {@link AsciiString} names and
+ * values, such as Netty's {@link io.netty.handler.codec.http.HttpHeaderNames} constants and the
+ * pre-encoded static headers, are copied as raw bytes.
+ *
+ * <p>Not thread-safe: one instance per channel.
+ */
+public final class Http1RequestHeadEncoder {
+
+  private static final byte SLASH = '/';
+  private static final byte[] HTTP_1_1_CRLF = " HTTP/1.1\r\n".getBytes(CharsetUtil.US_ASCII);
+  private static final int SPACE_SLASH_AND_SPACE_MEDIUM = (SP << 16) | (SLASH << 8) | SP;
+  private static final int SLASH_AND_SPACE_SHORT = (SLASH << 8) | SP;
+  private static final int COLON_AND_SPACE_SHORT = (COLON << 8) | SP;
+  private static final int CRLF_SHORT = (CR << 8) | LF;
+  private static final char QUESTION_MARK = '?';
+
+  // same weighting as HttpObjectEncoder
+  private static final float HEAD_WEIGHT_NEW = 1 / 5f;
+  private static final float HEAD_WEIGHT_HISTORICAL = 1 - HEAD_WEIGHT_NEW;
+
+  private float headSizeAccumulator = 256;
+
+  public ByteBuf encode(ByteBufAllocator alloc, HttpRequest request) {
+    ByteBuf buf = alloc.buffer((int) headSizeAccumulator);
+    try {
+      encodeRequestLine(buf, request);
+      encodeHeaders(buf, request.headers());
+      ByteBufUtil.writeShortBE(buf, CRLF_SHORT);
+    } catch (RuntimeException e) {
+      buf.release();
+      throw e;
+    }
+    headSizeAccumulator =
+        HEAD_WEIGHT_NEW * padSizeForAccumulation(buf.readableBytes())
+            + HEAD_WEIGHT_HISTORICAL * headSizeAccumulator;
+    return buf;
+  }
+
+  // same as HttpRequestEncoder#encodeInitialLine
+  private static void encodeRequestLine(ByteBuf buf, HttpRequest request) {
+    ByteBufUtil.copy(request.method().asciiName(), buf);
+
+    String uri = request.uri();
+    if (uri.isEmpty()) {
+      // write " / " then the protocol version without its leading space
+      ByteBufUtil.writeMediumBE(buf, SPACE_SLASH_AND_SPACE_MEDIUM);
+      buf.writeBytes(HTTP_1_1_CRLF, 1, HTTP_1_1_CRLF.length - 1);
+      return;
+    }
+
+    CharSequence uriCharSequence = uri;
+    boolean needSlash = false;
+    int start = uri.indexOf("://");
+    if (start != -1 && uri.charAt(0) != SLASH) {
+      start += 3;
+      // correctly handle query params
+      int index = uri.indexOf(QUESTION_MARK, start);
+      if (index == -1) {
+        if (uri.lastIndexOf(SLASH) < start) {
+          needSlash = true;
+        }
+      } else if (uri.lastIndexOf(SLASH, index) < start) {
+        uriCharSequence = new StringBuilder(uri).insert(index, (char) SLASH);
+      }
+    }
+    buf.writeByte(SP).writeCharSequence(uriCharSequence, CharsetUtil.UTF_8);
+    if (needSlash) {
+      // write "/ " after uri
+      ByteBufUtil.writeShortBE(buf, SLASH_AND_SPACE_SHORT);
+      buf.writeBytes(HTTP_1_1_CRLF, 1, HTTP_1_1_CRLF.length - 1);
+      return;
+    }
+    buf.writeBytes(HTTP_1_1_CRLF);
+  }
+
+  private static void encodeHeaders(ByteBuf buf, HttpHeaders headers) {
+    Iterator<Map.Entry<CharSequence, CharSequence>> it = headers.iteratorCharSequence();
+    while (it.hasNext()) {
+      Map.Entry<CharSequence, CharSequence> header = it.next();
+      writeAscii(buf, header.getKey());
+      ByteBufUtil.writeShortBE(buf, COLON_AND_SPACE_SHORT);
+      writeAscii(buf, header.getValue());
+      ByteBufUtil.writeShortBE(buf, CRLF_SHORT);
+    }
+  }
+
+  private static void writeAscii(ByteBuf buf, CharSequence value) {
+    if (value instanceof AsciiString) {
+      ByteBufUtil.copy((AsciiString) value, buf);
+    } else {
+      buf.writeCharSequence(value, CharsetUtil.US_ASCII);
+    }
+  }
+
+  // same as HttpObjectEncoder#padSizeForAccumulation
+  private static int padSizeForAccumulation(int readableBytes) {
+    return (readableBytes << 2) / 3;
+  }
+}
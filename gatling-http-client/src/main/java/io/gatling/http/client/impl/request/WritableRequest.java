@@ -16,9 +16,14 @@
 
 package io.gatling.http.client.impl.request;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
 
 public final class WritableRequest {
@@ -49,6 +54,50 @@ public final class WritableRequest {
     }
   }
 
+  /**
+   * @return true if this request can be written with {@link #writeDirectly}: no streamed body, and
+   *     not a method whose response decoding depends on the HttpClientCodec tracking the request.
+   */
+  public boolean isDirectlyWritable() {
+    if (content != null) {
+      return false;
+    }
+    HttpMethod method = request.method();
+    return !HttpMethod.HEAD.equals(method)
+        && !HttpMethod.CONNECT.equals(method)
+        && !HttpUtil.is100ContinueExpected(request);
+  }
+
+  /**
+   * Write the request as raw bytes, bypassing the HTTP codec's encoder.
+   *
+   * @param codecCtx the context of the HttpClientCodec, so the bytes are written to the handlers
+   *     sitting before it
+   * @param encoder the encoder for the request line and headers
+   * @return the write future
+   */
+  public ChannelFuture writeDirectly(
+      ChannelHandlerContext codecCtx, Http1RequestHeadEncoder encoder) {
+    ByteBuf head = encoder.encode(codecCtx.alloc(), request);
+    ByteBuf body =
+        request instanceof FullHttpRequest
+            ? ((FullHttpRequest) request).content()
+            : Unpooled.EMPTY_BUFFER;
+
+    if (!body.isReadable()) {
+      body.release();
+      return codecCtx.writeAndFlush(head);
+    } else if (body.readableBytes() <= head.writableBytes()) {
+      // small body, send a single buffer
+      head.writeBytes(body);
+      body.release();
+      return codecCtx.writeAndFlush(head);
+    } else {
+      codecCtx.write(head);
+      return codecCtx.writeAndFlush(body);
+    }
+  }
+
   public ChannelFuture writeWithoutContent(ChannelHandlerContext ctx) {
     return ctx.writeAndFlush(request);
   }
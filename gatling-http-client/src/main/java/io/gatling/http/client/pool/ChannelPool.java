@@ -18,6 +18,7 @@ package io.gatling.http.client.pool;
 
 import static io.gatling.http.client.util.Assertions.assertNotNull;
 
+import io.gatling.http.client.Http2Stats;
 import io.gatling.http.client.impl.DefaultHttpClient;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
@@ -39,6 +40,8 @@ public final class ChannelPool {
       AttributeKey.valueOf("http2Connection");
   private static final AttributeKey<Boolean> HTTP2_POOLED = AttributeKey.valueOf("http2Pooled");
   private static final AttributeKey<Boolean> CHANNEL_GOAWAY = AttributeKey.valueOf("goAway");
+  private static final AttributeKey<Boolean> HTTP1_PIPELINING =
+      AttributeKey.valueOf("http1Pipelining");
 
   static final int INITIAL_CLIENT_MAP_SIZE = 1000;
   static final int INITIAL_KEY_PER_CLIENT_MAP_SIZE = 2;
@@ -47,6 +50,18 @@ public final class ChannelPool {
   private final Map<Long, Map<RemoteKey, Queue<Channel>>> channels =
       new HashMap<>(INITIAL_CLIENT_MAP_SIZE);
   private final CoalescingChannelPool coalescingChannelPool = new CoalescingChannelPool();
+  private final Http2Stats http2Stats;
+  private final ConnectionBudget connectionBudget;
+  private final Map<ChannelPoolKey, Queue<ConnectionBudget.Waiter>> waiters = new HashMap<>();
+
+  /**
+   * @param http2Stats the HTTP/2 stats
+   * @param connectionBudget the connection budget shared by all the pools, null if unbounded
+   */
+  public ChannelPool(Http2Stats http2Stats, ConnectionBudget connectionBudget) {
+    this.http2Stats = http2Stats;
+    this.connectionBudget = connectionBudget;
+  }
 
   private Queue<Channel> remoteChannels(ChannelPoolKey key) {
     return channels
@@ -89,6 +104,18 @@ public final class ChannelPool {
     return getHttp2Connection(channel).local().canOpenStream();
   }
 
+  ////////////////////////////// HTTP1_PIPELINING
+  // set while an HTTP/1 channel is in the pool with in-flight pipelined requests
+  private static boolean isPipelining(Channel channel) {
+    return channel.hasAttr(HTTP1_PIPELINING) && channel.attr(HTTP1_PIPELINING).get() != null;
+  }
+
+  private static void clearPipelining(Channel channel) {
+    if (channel.hasAttr(HTTP1_PIPELINING)) {
+      channel.attr(HTTP1_PIPELINING).set(null);
+    }
+  }
+
   ////////////////////////////// CHANNEL_GOAWAY
   public static void markAsGoAway(Channel channel) {
     channel.attr(CHANNEL_GOAWAY).set(Boolean.TRUE);
@@ -98,10 +125,27 @@ public final class ChannelPool {
     return !channel.hasAttr(CHANNEL_GOAWAY);
   }
 
+  // pooled HTTP/1 channels are idle unless pipelining, while pooled HTTP/2 ones stay in the pool
+  private static boolean isIdle(Channel channel) {
+    return isHttp2(channel)
+        ? getHttp2Connection(channel).numActiveStreams() == 0
+        : !isPipelining(channel);
+  }
+
   public Channel poll(ChannelPoolKey key) {
+    return poll(key, false);
+  }
+
+  /**
+   * @param key the key of the channel
+   * @param pipelinable if the request can be pipelined on an HTTP/1 channel with in-flight requests
+   * @return a channel, or null if none is available
+   */
+  public Channel poll(ChannelPoolKey key, boolean pipelinable) {
     Queue<Channel> channels = remoteChannels(key);
 
     Iterator<Channel> it = channels.iterator();
+    boolean streamLimitReached = false;
 
     while (it.hasNext()) {
       Channel channel = it.next();
@@ -110,16 +154,29 @@ public final class ChannelPool {
         it.remove();
         break;
       } else if (isHttp1(channel)) {
+        if (isPipelining(channel)) {
+          if (!pipelinable) {
+            continue;
+          }
+          clearPipelining(channel);
+        }
         it.remove();
         LOGGER.debug("Retrieved HTTP/1 channel from pool for key {}", key);
         return channel;
-      } else if (isNotGoAway(channel) && canOpenStream(channel)) {
-        LOGGER.debug("Retrieved HTTP/2 channel from pool for key {}", key);
-        touch(channel);
-        return channel;
+      } else if (isNotGoAway(channel)) {
+        if (canOpenStream(channel)) {
+          LOGGER.debug("Retrieved HTTP/2 channel from pool for key {}", key);
+          touch(channel);
+          return channel;
+        }
+        streamLimitReached = true;
       }
     }
 
+    if (streamLimitReached) {
+      // all the HTTP/2 connections to this remote have reached the server's max concurrent streams
+      http2Stats.recordStreamLimitWait();
+    }
     LOGGER.debug("No channel in the pool for key {}", key);
     return null;
   }
@@ -159,28 +216,111 @@ public final class ChannelPool {
     LOGGER.debug("Offering channel entry {} to pool", key);
 
     if (isHttp1(channel)) {
-      remoteChannels(key).offer(channel);
+      if (isPipelining(channel)) {
+        // already in the pool, its pipelined requests have completed
+        clearPipelining(channel);
+      } else {
+        remoteChannels(key).offer(channel);
+      }
     } else if (!channel.hasAttr(HTTP2_POOLED)) {
       channel.attr(HTTP2_POOLED).set(Boolean.TRUE);
       // we never remove from the queue, so we only offer the first time
       remoteChannels(key).offer(channel);
     }
+
+    resumeWaiters(key, isHttp1(channel));
+  }
+
+  /**
+   * Offer an HTTP/1 channel with in-flight requests so more requests can be pipelined on it. No-op
+   * if the channel is already in the pool.
+   *
+   * @param channel the channel
+   */
+  public void offerForPipelining(Channel channel) {
+    if (isPipelining(channel)) {
+      return;
+    }
+    ChannelPoolKey key = channel.attr(CHANNEL_POOL_KEY).get();
+    assertNotNull(key, "Channel doesn't have a key");
+    touch(channel);
+
+    LOGGER.debug("Offering channel entry {} to pool for pipelining", key);
+    channel.attr(HTTP1_PIPELINING).set(Boolean.TRUE);
+    remoteChannels(key).offer(channel);
+
+    resumeWaiters(key, true);
+  }
+
+  /**
+   * Register a request waiting for the connection budget, to be resumed when a channel with the
+   * same key is offered back. An idle channel to the same remote is closed to free its share of the
+   * budget, as it can't serve the waiter, typically because it belongs to another virtual user.
+   *
+   * @param key the key of the expected channel
+   * @param waiter the waiter
+   */
+  public void await(ChannelPoolKey key, ConnectionBudget.Waiter waiter) {
+    waiters.computeIfAbsent(key, k -> new ArrayDeque<>(INITIAL_CHANNEL_QUEUE_SIZE)).add(waiter);
+
+    for (Map.Entry<Long, Map<RemoteKey, Queue<Channel>>> clientEntry : channels.entrySet()) {
+      Queue<Channel> deque = clientEntry.getValue().get(key.remoteKey);
+      if (deque != null) {
+        for (Iterator<Channel> it = deque.iterator(); it.hasNext(); ) {
+          Channel channel = it.next();
+          if (channel.isActive() && isIdle(channel)) {
+            LOGGER.debug("Closing idle channel to free the connection budget for {}", key);
+            it.remove();
+            closeIdleChannel(clientEntry.getKey(), channel);
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  private void closeIdleChannel(long clientId, Channel channel) {
+    channel.close();
+    if (isHttp2(channel)) {
+      coalescingChannelPool.deleteIdleEntry(clientId, channel);
+    }
+  }
+
+  private void resumeWaiters(ChannelPoolKey key, boolean http1) {
+    Queue<ConnectionBudget.Waiter> queue = waiters.get(key);
+    if (queue != null) {
+      ConnectionBudget.Waiter waiter;
+      // an HTTP/1 channel can only serve one waiter, while an HTTP/2 one can serve many
+      while ((waiter = queue.poll()) != null) {
+        if (waiter.resume() && http1) {
+          break;
+        }
+      }
+      if (queue.isEmpty()) {
+        waiters.remove(key);
+      }
+    }
   }
 
+  /**
+   * Close the channels that have been idle for too long, and the idle ones to remotes whose
+   * connection budget has waiters, possibly on other event loops, that these channels can't serve.
+   *
+   * @param idleTimeoutNanos the idle timeout
+   */
   public void closeIdleChannels(long idleTimeoutNanos) {
     long now = System.nanoTime();
     for (Map.Entry<Long, Map<RemoteKey, Queue<Channel>>> clientEntry : channels.entrySet()) {
       for (Map.Entry<RemoteKey, Queue<Channel>> entry : clientEntry.getValue().entrySet()) {
         Queue<Channel> deque = entry.getValue();
-        for (Channel channel : deque) {
-          boolean http2 = isHttp2(channel);
-          if (isLastTouchTooOld(channel, now, idleTimeoutNanos)
-              && (!http2 || getHttp2Connection(channel).numActiveStreams() == 0)) {
-            channel.close();
-            deque.remove(channel);
-            if (http2) {
-              coalescingChannelPool.deleteIdleEntry(clientEntry.getKey(), channel);
-            }
+        boolean budgetHasWaiters =
+            connectionBudget != null && connectionBudget.hasWaiters(entry.getKey());
+        for (Iterator<Channel> it = deque.iterator(); it.hasNext(); ) {
+          Channel channel = it.next();
+          if ((budgetHasWaiters || isLastTouchTooOld(channel, now, idleTimeoutNanos))
+              && isIdle(channel)) {
+            it.remove();
+            closeIdleChannel(clientEntry.getKey(), channel);
           }
         }
       }
@@ -194,6 +334,7 @@ public final class ChannelPool {
       channels.remove(clientId);
       coalescingChannelPool.deleteClientEntries(clientId);
     }
+    waiters.keySet().removeIf(key -> key.clientId == clientId);
   }
 
   @Override
@@ -26,6 +26,24 @@ public final class ChannelPoolKey {
     this.remoteKey = remoteKey;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    ChannelPoolKey that = (ChannelPoolKey) o;
+
+    if (clientId != that.clientId) return false;
+    return remoteKey.equals(that.remoteKey);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(clientId);
+    result = 31 * result + remoteKey.hashCode();
+    return result;
+  }
+
   @Override
   public String toString() {
     return "ChannelPoolKey{" + "clientId=" + clientId + ", remoteKey=" + remoteKey + '}';
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+import io.netty.channel.EventLoop;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of connections opened to a given remote, across all the event loops and virtual
+ * users.
+ *
+ * <p>Requests that can't get a connection wait in FIFO order until a connection to the same remote
+ * is closed, or until a connection is offered back to the pool of their event loop.
+ */
+public final class ConnectionBudget {
+
+  /** A request waiting for a connection, resumed at most once on its event loop. */
+  public static final class Waiter {
+    private final EventLoop eventLoop;
+    private final Runnable resume;
+    private final AtomicBoolean resumed = new AtomicBoolean();
+
+    public Waiter(EventLoop eventLoop, Runnable resume) {
+      this.eventLoop = eventLoop;
+      this.resume = resume;
+    }
+
+    boolean isResumed() {
+      return resumed.get();
+    }
+
+    boolean resume() {
+      if (resumed.compareAndSet(false, true)) {
+        eventLoop.execute(resume);
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private final int maxConnectionsPerRemote;
+  private final ConcurrentHashMap<RemoteKey, AtomicInteger> openConnections =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<RemoteKey, Queue<Waiter>> waiters = new ConcurrentHashMap<>();
+
+  public ConnectionBudget(int maxConnectionsPerRemote) {
+    this.maxConnectionsPerRemote = maxConnectionsPerRemote;
+  }
+
+  private AtomicInteger openConnections(RemoteKey remoteKey) {
+    return openConnections.computeIfAbsent(remoteKey, k -> new AtomicInteger());
+  }
+
+  private Queue<Waiter> waiters(RemoteKey remoteKey) {
+    return waiters.computeIfAbsent(remoteKey, k -> new ConcurrentLinkedQueue<>());
+  }
+
+  /**
+   * @param key the key of the connection to open
+   * @return true if a connection can be opened, in which case {@link #release(ChannelPoolKey)} must
+   *     be called once it's closed
+   */
+  public boolean tryAcquire(ChannelPoolKey key) {
+    AtomicInteger count = openConnections(key.remoteKey);
+    while (true) {
+      int current = count.get();
+      if (current >= maxConnectionsPerRemote) {
+        return false;
+      }
+      if (count.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release(ChannelPoolKey key) {
+    openConnections(key.remoteKey).decrementAndGet();
+    signal(key.remoteKey);
+  }
+
+  /**
+   * Register a waiter after {@link #tryAcquire(ChannelPoolKey)} failed.
+   *
+   * @param key the key of the connection to open
+   * @param waiter the waiter, that will try again to acquire a connection once resumed
+   */
+  public void await(ChannelPoolKey key, Waiter waiter) {
+    waiters(key.remoteKey).add(waiter);
+    // a connection might have been released in the meantime
+    signal(key.remoteKey);
+  }
+
+  /**
+   * Resume the next waiter if a connection can be opened, typically when a resumed waiter gave up.
+   *
+   * @param key the key of the connection the waiter gave up on
+   */
+  public void signal(ChannelPoolKey key) {
+    signal(key.remoteKey);
+  }
+
+  private void signal(RemoteKey remoteKey) {
+    if (openConnections(remoteKey).get() < maxConnectionsPerRemote) {
+      Queue<Waiter> queue = waiters(remoteKey);
+      Waiter waiter;
+      while ((waiter = queue.poll()) != null) {
+        if (waiter.resume()) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * @param remoteKey the remote
+   * @return true if some requests are still waiting for a connection to this remote
+   */
+  public boolean hasWaiters(RemoteKey remoteKey) {
+    Queue<Waiter> queue = waiters.get(remoteKey);
+    if (queue != null) {
+      // waiters resumed by a pool are only dropped from the queue on the next signal
+      for (Waiter waiter : queue) {
+        if (!waiter.isResumed()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  public int getOpenConnections(RemoteKey remoteKey) {
+    AtomicInteger count = openConnections.get(remoteKey);
+    return count != null ? count.get() : 0;
+  }
+}
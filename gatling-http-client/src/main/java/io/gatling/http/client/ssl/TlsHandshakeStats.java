@@ -0,0 +1,94 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.ssl;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Counts successful TLS handshakes, telling full handshakes from session resumptions: a handshake
+ * resumed a session when it negotiated the id of a session negotiated by a previous one. Only the
+ * most recently used ids are remembered, so resuming a session that was negotiated long before
+ * counts as a full handshake.
+ */
+public final class TlsHandshakeStats {
+
+  private static final int MAX_SESSION_IDS = 10_000;
+
+  private final LongAdder fullHandshakes = new LongAdder();
+  private final LongAdder fullHandshakesNanos = new LongAdder();
+  private final LongAdder resumptions = new LongAdder();
+  private final LongAdder resumptionsNanos = new LongAdder();
+  private final Map<ByteBuffer, Boolean> sessionIds =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+              return size() > MAX_SESSION_IDS;
+            }
+          });
+
+  /**
+   * @param session the session negotiated by the handshake
+   * @param durationNanos the handshake duration
+   */
+  public void record(SSLSession session, long durationNanos) {
+    byte[] id = session.getId();
+    // sessions without an id can't be resumed
+    if (id.length > 0 && sessionIds.put(ByteBuffer.wrap(id), Boolean.TRUE) != null) {
+      resumptions.increment();
+      resumptionsNanos.add(durationNanos);
+    } else {
+      fullHandshakes.increment();
+      fullHandshakesNanos.add(durationNanos);
+    }
+  }
+
+  public long getFullHandshakes() {
+    return fullHandshakes.sum();
+  }
+
+  public long getResumptions() {
+    return resumptions.sum();
+  }
+
+  public long getFullHandshakesMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(fullHandshakesNanos.sum());
+  }
+
+  public long getResumptionsMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(resumptionsNanos.sum());
+  }
+
+  @Override
+  public String toString() {
+    return "TlsHandshakeStats{fullHandshakes="
+        + getFullHandshakes()
+        + ", fullHandshakesMillis="
+        + getFullHandshakesMillis()
+        + ", resumptions="
+        + getResumptions()
+        + ", resumptionsMillis="
+        + getResumptionsMillis()
+        + '}';
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import static io.gatling.http.client.test.HttpTest.TIMEOUT_SECONDS;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.impl.DefaultHttpClient;
+import io.gatling.http.client.resolver.InetAddressNameResolver;
+import io.gatling.http.client.test.listener.TestListener;
+import io.gatling.http.client.uri.Uri;
+import io.gatling.netty.util.Transports;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.HttpMethod;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Http1PipeliningTest {
+
+  /**
+   * Answers the requests of each connection in order, only once released so the client has the time
+   * to pipeline them. Answers with the body "body of {path}".
+   */
+  private static final class PipeliningServer implements AutoCloseable {
+    private final ServerSocket serverSocket = new ServerSocket(0);
+    private final AtomicInteger connections = new AtomicInteger();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final int responsesBeforeClosingFirstConnection;
+
+    PipeliningServer(int responsesBeforeClosingFirstConnection) throws IOException {
+      this.responsesBeforeClosingFirstConnection = responsesBeforeClosingFirstConnection;
+      daemon(
+          () -> {
+            try {
+              while (true) {
+                Socket socket = serverSocket.accept();
+                int connection = connections.incrementAndGet();
+                BlockingQueue<String[]> requests = new LinkedBlockingQueue<>();
+                daemon(() -> read(socket, requests));
+                daemon(() -> respond(socket, requests, connection == 1));
+              }
+            } catch (IOException e) {
+              // closed
+            }
+          });
+    }
+
+    private static void daemon(Runnable runnable) {
+      Thread thread = new Thread(runnable);
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    private static void read(Socket socket, BlockingQueue<String[]> requests) {
+      try {
+        BufferedReader in =
+            new BufferedReader(new InputStreamReader(socket.getInputStream(), US_ASCII));
+        String requestLine;
+        while ((requestLine = in.readLine()) != null) {
+          String line;
+          do {
+            line = in.readLine();
+          } while (line != null && !line.isEmpty());
+          requests.add(requestLine.split(" "));
+        }
+      } catch (IOException e) {
+        // closed
+      }
+    }
+
+    private void respond(Socket socket, BlockingQueue<String[]> requests, boolean first) {
+      try (socket) {
+        released.await();
+        OutputStream out = socket.getOutputStream();
+        for (int responses = 0;
+            !first || responses < responsesBeforeClosingFirstConnection;
+            responses++) {
+          String[] request = requests.take();
+          String body = "body of " + request[1];
+          String response = "HTTP/1.1 200 OK\r\ncontent-length: " + body.length() + "\r\n\r\n";
+          if (!request[0].equals("HEAD")) {
+            response += body;
+          }
+          out.write(response.getBytes(US_ASCII));
+          out.flush();
+        }
+      } catch (IOException | InterruptedException e) {
+        // closed
+      }
+    }
+
+    String url(String path) {
+      return "http://localhost:" + serverSocket.getLocalPort() + path;
+    }
+
+    @Override
+    public void close() throws IOException {
+      serverSocket.close();
+    }
+  }
+
+  private static final class RecordingListener extends TestListener {
+    private final CountDownLatch allWritten;
+    private final CountDownLatch written = new CountDownLatch(1);
+    private volatile Channel channel;
+    private volatile String body;
+
+    RecordingListener(CountDownLatch allWritten) {
+      this.allWritten = allWritten;
+    }
+
+    @Override
+    public void onWrite(Channel channel) {
+      this.channel = channel;
+      written.countDown();
+      allWritten.countDown();
+    }
+
+    @Override
+    public void onComplete0() {
+      assertEquals(200, status.code());
+      body = responseBody();
+    }
+  }
+
+  private EventLoopGroup eventLoopGroup;
+  private EventLoop eventLoop;
+  private HttpClient client;
+
+  @BeforeEach
+  void start() {
+    // a single event loop, so all the requests share the same pool
+    eventLoopGroup = Transports.newEventLoopGroup(false, false, 1, "pipelining");
+    eventLoop = eventLoopGroup.next();
+  }
+
+  @AfterEach
+  void stop() throws Exception {
+    if (client != null) {
+      client.close();
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private static Request request(HttpMethod method, String url) {
+    return new RequestBuilder(
+            "pipelining", method, Uri.create(url), InetAddressNameResolver.JAVA_RESOLVER)
+        .setRequestTimeout(TIMEOUT_SECONDS * 1000L)
+        .build();
+  }
+
+  private List<RecordingListener> sendPipelined(PipeliningServer server, List<Request> requests)
+      throws Exception {
+    List<RecordingListener> listeners = new ArrayList<>();
+    CountDownLatch allWritten = new CountDownLatch(requests.size());
+
+    for (Request request : requests) {
+      RecordingListener listener = new RecordingListener(allWritten);
+      listeners.add(listener);
+      client.sendRequest(request, -1, eventLoop, listener, null);
+      if (listeners.size() == 1) {
+        // the first request opens the connection the next ones are pipelined on
+        assertTrue(listener.written.await(TIMEOUT_SECONDS, SECONDS));
+      }
+    }
+
+    assertTrue(allWritten.await(TIMEOUT_SECONDS, SECONDS));
+    server.released.countDown();
+    for (RecordingListener listener : listeners) {
+      listener.getResult().get(TIMEOUT_SECONDS, SECONDS);
+    }
+    return listeners;
+  }
+
+  private void assertOrderedResponses(boolean directRequestHeadEncoding) throws Exception {
+    client =
+        new DefaultHttpClient(
+            new HttpClientConfig()
+                .setHttp1PipeliningDepth(8)
+                .setDirectHttp1RequestHeadEncoding(directRequestHeadEncoding));
+
+    try (PipeliningServer server = new PipeliningServer(Integer.MAX_VALUE)) {
+      List<RecordingListener> listeners =
+          sendPipelined(
+              server,
+              List.of(
+                  request(HttpMethod.GET, server.url("/1")),
+                  request(HttpMethod.GET, server.url("/2")),
+                  request(HttpMethod.HEAD, server.url("/3")),
+                  request(HttpMethod.GET, server.url("/4"))));
+
+      assertEquals("body of /1", listeners.get(0).body);
+      assertEquals("body of /2", listeners.get(1).body);
+      assertNull(listeners.get(2).body);
+      assertEquals("body of /4", listeners.get(3).body);
+
+      Channel pipeliningChannel = listeners.get(0).channel;
+      assertSame(pipeliningChannel, listeners.get(1).channel);
+      assertSame(pipeliningChannel, listeners.get(3).channel);
+      if (directRequestHeadEncoding) {
+        // HEAD is written through the codec, so it's not pipelined behind directly written requests
+        assertNotSame(pipeliningChannel, listeners.get(2).channel);
+        assertEquals(2, server.connections.get());
+      } else {
+        assertSame(pipeliningChannel, listeners.get(2).channel);
+        assertEquals(1, server.connections.get());
+      }
+    }
+  }
+
+  @Test
+  void pipelinedResponsesAreMatchedWithTheirRequestsInOrder() throws Exception {
+    assertOrderedResponses(false);
+  }
+
+  @Test
+  void pipelinedResponsesAreMatchedWithTheirRequestsInOrderWithDirectEncoding() throws Exception {
+    assertOrderedResponses(true);
+  }
+
+  @Test
+  void pipelinedRequestsAreRetriedWhenConnectionIsClosed() throws Exception {
+    client = new DefaultHttpClient(new HttpClientConfig().setHttp1PipeliningDepth(8));
+
+    // the server closes the first connection after answering the first request only
+    try (PipeliningServer server = new PipeliningServer(1)) {
+      List<RecordingListener> listeners =
+          sendPipelined(
+              server,
+              List.of(
+                  request(HttpMethod.GET, server.url("/1")),
+                  request(HttpMethod.GET, server.url("/2")),
+                  request(HttpMethod.GET, server.url("/3"))));
+
+      assertEquals("body of /1", listeners.get(0).body);
+      assertEquals("body of /2", listeners.get(1).body);
+      assertEquals("body of /3", listeners.get(2).body);
+      // the requests pipelined on the closed connection were retried on new ones
+      assertTrue(server.connections.get() > 1);
+    }
+  }
+}
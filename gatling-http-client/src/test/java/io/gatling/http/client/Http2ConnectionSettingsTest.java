@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import static io.netty.handler.codec.http2.Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class Http2ConnectionSettingsTest {
+
+  @Test
+  void defaultsMatchNettyDefaults() {
+    assertNull(Http2ConnectionSettings.DEFAULT.getHttp2Settings().initialWindowSize());
+    assertEquals(DEFAULT_WINDOW_SIZE, Http2ConnectionSettings.DEFAULT.getConnectionWindowSize());
+  }
+
+  @Test
+  void settingsAreAppliedWithoutMutatingTheOriginal() {
+    Http2ConnectionSettings settings =
+        Http2ConnectionSettings.DEFAULT
+            .withInitialWindowSize(1024 * 1024)
+            .withMaxFrameSize(32 * 1024)
+            .withHeaderTableSize(8192)
+            .withConnectionWindowSize(16 * 1024 * 1024);
+
+    assertEquals(1024 * 1024, settings.getHttp2Settings().initialWindowSize());
+    assertEquals(32 * 1024, settings.getHttp2Settings().maxFrameSize());
+    assertEquals(8192L, settings.getHttp2Settings().headerTableSize());
+    assertEquals(16 * 1024 * 1024, settings.getConnectionWindowSize());
+
+    assertNull(Http2ConnectionSettings.DEFAULT.getHttp2Settings().initialWindowSize());
+    assertNull(Http2ConnectionSettings.DEFAULT.getHttp2Settings().maxFrameSize());
+  }
+
+  @Test
+  void invalidSettingsAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Http2ConnectionSettings.DEFAULT.withMaxFrameSize(1024));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Http2ConnectionSettings.DEFAULT.withConnectionWindowSize(1024));
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import static io.gatling.http.client.test.HttpTest.TIMEOUT_SECONDS;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.impl.DefaultHttpClient;
+import io.gatling.http.client.impl.RequestTimeoutException;
+import io.gatling.http.client.resolver.InetAddressNameResolver;
+import io.gatling.http.client.test.listener.TestListener;
+import io.gatling.http.client.uri.Uri;
+import io.gatling.netty.util.Transports;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.concurrent.Future;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrewarmChannelTest {
+
+  private EventLoopGroup eventLoopGroup;
+  private EventLoop eventLoop;
+  private HttpClient client;
+  private SslContextsHolder sslContextsHolder;
+
+  @BeforeEach
+  void start() throws Exception {
+    // a single event loop, so the requests use the pool the connections were pre-warmed in
+    eventLoopGroup = Transports.newEventLoopGroup(false, false, 1, "prewarm");
+    eventLoop = eventLoopGroup.next();
+    client = new DefaultHttpClient(new HttpClientConfig());
+    sslContextsHolder =
+        new SslContextsHolder.Default(
+            SslContextBuilder.forClient()
+                .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                .build(),
+            null);
+  }
+
+  @AfterEach
+  void stop() throws Exception {
+    client.close();
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private static Request request(String url, long requestTimeout) {
+    return new RequestBuilder(
+            "prewarm", HttpMethod.GET, Uri.create(url), InetAddressNameResolver.JAVA_RESOLVER)
+        .setRequestTimeout(requestTimeout)
+        .build();
+  }
+
+  private Future<Void> prewarm(Request request) {
+    return client.prewarmChannel(request, -1, eventLoop, sslContextsHolder);
+  }
+
+  /** Accepts connections and answers every request with an empty 200 response. */
+  private static final class OkServer implements AutoCloseable {
+    private final ServerSocket serverSocket = new ServerSocket(0);
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+    OkServer() throws IOException {
+      Thread acceptor =
+          new Thread(
+              () -> {
+                try {
+                  while (true) {
+                    Socket socket = serverSocket.accept();
+                    acceptedConnections.incrementAndGet();
+                    Thread handler = new Thread(() -> serve(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                  }
+                } catch (IOException e) {
+                  // closed
+                }
+              });
+      acceptor.setDaemon(true);
+      acceptor.start();
+    }
+
+    private static void serve(Socket socket) {
+      try (socket;
+          BufferedReader in =
+              new BufferedReader(new InputStreamReader(socket.getInputStream(), US_ASCII))) {
+        OutputStream out = socket.getOutputStream();
+        String line;
+        while ((line = in.readLine()) != null) {
+          if (line.isEmpty()) {
+            out.write("HTTP/1.1 200 OK\r\ncontent-length: 0\r\n\r\n".getBytes(US_ASCII));
+            out.flush();
+          }
+        }
+      } catch (IOException e) {
+        // closed
+      }
+    }
+
+    String url() {
+      return "http://localhost:" + serverSocket.getLocalPort() + "/";
+    }
+
+    @Override
+    public void close() throws IOException {
+      serverSocket.close();
+    }
+  }
+
+  @Test
+  void prewarmedChannelIsUsedByTheNextRequest() throws Exception {
+    try (OkServer server = new OkServer()) {
+      Future<Void> whenPrewarmed = prewarm(request(server.url(), 5_000));
+      assertTrue(whenPrewarmed.await(TIMEOUT_SECONDS, SECONDS));
+      assertTrue(whenPrewarmed.isSuccess());
+
+      TestListener listener =
+          new TestListener() {
+            @Override
+            public void onComplete0() {
+              assertEquals(200, status.code());
+            }
+          };
+      client.sendRequest(request(server.url(), 5_000), -1, eventLoop, listener, null);
+      listener.getResult().get(TIMEOUT_SECONDS, SECONDS);
+
+      assertEquals(1, server.acceptedConnections.get());
+    }
+  }
+
+  @Test
+  void prewarmFailsWhenConnectionIsRefused() throws Exception {
+    int port;
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      port = serverSocket.getLocalPort();
+    }
+
+    Future<Void> whenPrewarmed = prewarm(request("http://localhost:" + port, 5_000));
+    assertTrue(whenPrewarmed.await(TIMEOUT_SECONDS, SECONDS));
+    assertFalse(whenPrewarmed.isSuccess());
+  }
+
+  @Test
+  void prewarmFailsWhenTlsHandshakeTimesOut() throws Exception {
+    // accepts connections but never answers the TLS ClientHello
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      Future<Void> whenPrewarmed =
+          prewarm(request("https://localhost:" + serverSocket.getLocalPort(), 200));
+
+      assertTrue(whenPrewarmed.await(TIMEOUT_SECONDS, SECONDS));
+      assertInstanceOf(RequestTimeoutException.class, whenPrewarmed.cause());
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.Http2ConnectionStats;
+import io.gatling.http.client.Http2Stats;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2RemoteFlowController;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Http2StatsRecorderTest {
+
+  private final Http2Stats http2Stats = new Http2Stats();
+  private EmbeddedChannel channel;
+  private Http2Connection connection;
+  private DefaultHttp2RemoteFlowController flowController;
+
+  @BeforeEach
+  void installRecorder() throws Exception {
+    channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    connection = new DefaultHttp2Connection(false);
+    flowController = new DefaultHttp2RemoteFlowController(connection);
+    connection.remote().flowController(flowController);
+    Http2StatsRecorder.install(channel, connection, http2Stats);
+    flowController.channelHandlerContext(channel.pipeline().firstContext());
+  }
+
+  private Http2Stream openStream() throws Exception {
+    return connection.local().createStream(connection.local().incrementAndGetNextStreamId(), false);
+  }
+
+  private Http2ConnectionStats connectionStats() {
+    assertEquals(1, http2Stats.getOpenConnections().size());
+    return http2Stats.getOpenConnections().iterator().next();
+  }
+
+  @Test
+  void shouldRecordStreamsGloballyAndPerConnection() throws Exception {
+    connection.local().maxActiveStreams(10);
+    Http2Stream first = openStream();
+    openStream();
+    first.close();
+    openStream();
+
+    assertEquals(1, http2Stats.getConnections());
+    assertEquals(3, http2Stats.getOpenedStreams());
+    assertEquals(2, http2Stats.getActiveStreams());
+    assertEquals(2, http2Stats.getPeakActiveStreamsPerConnection());
+
+    Http2ConnectionStats connectionStats = connectionStats();
+    assertEquals(3, connectionStats.getOpenedStreams());
+    assertEquals(2, connectionStats.getActiveStreams());
+    assertEquals(2, connectionStats.getPeakActiveStreams());
+    assertEquals(10, connectionStats.getMaxConcurrentStreams());
+  }
+
+  @Test
+  void shouldCountWindowExhaustionAsAStall() throws Exception {
+    Http2Stream stream = openStream();
+    flowController.incrementWindowSize(stream, -Http2CodecUtil.DEFAULT_WINDOW_SIZE);
+
+    assertFalse(flowController.isWritable(stream));
+    assertEquals(1, http2Stats.getWindowStalls());
+    assertEquals(1, connectionStats().getWindowStalls());
+  }
+
+  @Test
+  void shouldNotCountSocketBackPressureAsAStall() throws Exception {
+    Http2Stream stream = openStream();
+    channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+    // buffered until flushed, so the channel becomes unwritable
+    channel.write(Unpooled.wrappedBuffer(new byte[16]));
+    assertFalse(channel.isWritable());
+    flowController.channelWritabilityChanged();
+
+    assertFalse(flowController.isWritable(stream));
+    assertEquals(0, http2Stats.getWindowStalls());
+  }
+
+  @Test
+  void shouldForgetConnectionOnceClosed() {
+    assertEquals(1, http2Stats.getOpenConnections().size());
+    channel.close();
+    assertTrue(http2Stats.getOpenConnections().isEmpty());
+    assertEquals(1, http2Stats.getConnections());
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.HttpListener;
+import io.gatling.http.client.Request;
+import io.gatling.http.client.impl.RequestTimeout.DefaultRequestTimeout;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RequestTimeoutWheelTest {
+
+  private static class RecordingListener implements HttpListener {
+    private final List<Throwable> throwables = new ArrayList<>();
+
+    @Override
+    public void onFinalClientRequest(Request request) {}
+
+    @Override
+    public void onHttpResponse(HttpResponseStatus status, HttpHeaders headers) {}
+
+    @Override
+    public void onHttpResponseBodyChunk(ByteBuf chunk, boolean last) {}
+
+    @Override
+    public void onThrowable(Throwable e) {
+      throwables.add(e);
+    }
+  }
+
+  private static long inMillis(long millis) {
+    return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static DefaultRequestTimeout start(
+      RequestTimeoutWheel wheel, long timeout, RecordingListener listener) {
+    DefaultRequestTimeout requestTimeout =
+        (DefaultRequestTimeout) RequestTimeout.requestTimeout(timeout, listener);
+    requestTimeout.start(null, wheel);
+    return requestTimeout;
+  }
+
+  @Test
+  void shouldExpireOnceDeadlineIsReached() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    DefaultRequestTimeout requestTimeout = start(wheel, 50, listener);
+
+    wheel.sweep(System.nanoTime());
+    assertFalse(requestTimeout.isDone());
+    assertTrue(listener.throwables.isEmpty());
+
+    wheel.sweep(inMillis(100));
+    assertTrue(requestTimeout.isDone());
+    assertEquals(1, listener.throwables.size());
+    assertInstanceOf(RequestTimeoutException.class, listener.throwables.get(0));
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void shouldNotExpireCancelledTimeouts() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    RequestTimeout cancelled = start(wheel, 50, listener);
+    RequestTimeout other = start(wheel, 50, listener);
+
+    cancelled.cancel();
+    assertTrue(cancelled.isDone());
+    assertEquals(1, wheel.size());
+
+    wheel.sweep(inMillis(100));
+    assertTrue(other.isDone());
+    assertEquals(1, listener.throwables.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void shouldRearmTimeoutRestartedAfterBeingCancelled() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    DefaultRequestTimeout requestTimeout = start(wheel, 50, listener);
+
+    // e.g. retried after the connection was closed
+    requestTimeout.cancel();
+    assertTrue(requestTimeout.isDone());
+    requestTimeout.start(null, wheel);
+    assertFalse(requestTimeout.isDone());
+    assertEquals(1, wheel.size());
+
+    wheel.sweep(inMillis(100));
+    assertTrue(requestTimeout.isDone());
+    assertEquals(1, listener.throwables.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void shouldReplaceDeadlineOfTimeoutRestartedWithoutBeingCancelled() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    DefaultRequestTimeout requestTimeout = start(wheel, 50, listener);
+
+    requestTimeout.start(null, wheel);
+    assertEquals(1, wheel.size());
+
+    wheel.sweep(inMillis(100));
+    assertEquals(1, listener.throwables.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void shouldMoveTimeoutRestartedOnAnotherWheel() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RequestTimeoutWheel otherWheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    DefaultRequestTimeout requestTimeout = start(wheel, 50, listener);
+
+    // e.g. retried on another event loop
+    requestTimeout.start(null, otherWheel);
+    assertEquals(0, wheel.size());
+    assertEquals(1, otherWheel.size());
+
+    wheel.sweep(inMillis(100));
+    assertTrue(listener.throwables.isEmpty());
+
+    otherWheel.sweep(inMillis(100));
+    assertEquals(1, listener.throwables.size());
+  }
+
+  @Test
+  void shouldRestartTimeoutFromAnotherExpiringOne() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    DefaultRequestTimeout[] timeouts = new DefaultRequestTimeout[2];
+    List<Throwable> throwables = new ArrayList<>();
+    for (int i = 0; i < timeouts.length; i++) {
+      int otherIndex = (i + 1) % 2;
+      timeouts[i] =
+          start(
+              wheel,
+              50,
+              new RecordingListener() {
+                @Override
+                public void onThrowable(Throwable e) {
+                  throwables.add(e);
+                  // e.g. a pipelined request retried on a new connection
+                  timeouts[otherIndex].cancel();
+                  timeouts[otherIndex].start(null, wheel);
+                }
+              });
+    }
+
+    wheel.sweep(inMillis(100));
+    assertEquals(1, throwables.size());
+    assertEquals(1, wheel.size());
+
+    wheel.sweep(inMillis(200));
+    assertEquals(2, throwables.size());
+  }
+
+  @Test
+  void shouldSupportTimeoutsLongerThanARotation() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    RecordingListener listener = new RecordingListener();
+    long rotationMillis = RequestTimeoutWheel.WHEEL_SIZE * 10;
+    DefaultRequestTimeout requestTimeout = start(wheel, 2 * rotationMillis, listener);
+
+    wheel.sweep(inMillis(rotationMillis + 100));
+    assertFalse(requestTimeout.isDone());
+
+    wheel.sweep(inMillis(2 * rotationMillis + 100));
+    assertTrue(requestTimeout.isDone());
+    assertEquals(1, listener.throwables.size());
+  }
+
+  @Test
+  void shouldNotFireTimeoutCancelledByAnotherExpiringOne() {
+    RequestTimeoutWheel wheel = new RequestTimeoutWheel(10);
+    DefaultRequestTimeout[] timeouts = new DefaultRequestTimeout[2];
+    List<Throwable> throwables = new ArrayList<>();
+    for (int i = 0; i < timeouts.length; i++) {
+      int otherIndex = (i + 1) % 2;
+      timeouts[i] =
+          start(
+              wheel,
+              50,
+              new RecordingListener() {
+                @Override
+                public void onThrowable(Throwable e) {
+                  throwables.add(e);
+                  // e.g. both requests were sharing the same connection
+                  timeouts[otherIndex].cancel();
+                }
+              });
+    }
+
+    wheel.sweep(inMillis(100));
+    assertTrue(timeouts[0].isDone());
+    assertTrue(timeouts[1].isDone());
+    assertEquals(1, throwables.size());
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import static io.gatling.http.client.test.HttpTest.TIMEOUT_SECONDS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.HttpClient;
+import io.gatling.http.client.HttpClientConfig;
+import io.gatling.http.client.RequestBuilder;
+import io.gatling.http.client.WebSocketListener;
+import io.gatling.http.client.resolver.InetAddressNameResolver;
+import io.gatling.http.client.uri.Uri;
+import io.gatling.netty.util.Transports;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.*;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WebSocketHandlerTest {
+
+  /** Sends the given frames as soon as the WebSocket handshake completes. */
+  private static final class FramesSender extends ChannelInboundHandlerAdapter {
+    private final List<WebSocketFrame> frames;
+
+    FramesSender(List<WebSocketFrame> frames) {
+      this.frames = frames;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+      if (evt instanceof WebSocketServerProtocolHandler.HandshakeComplete) {
+        frames.forEach(frame -> ctx.write(frame.retainedDuplicate()));
+        ctx.flush();
+      } else {
+        ctx.fireUserEventTriggered(evt);
+      }
+    }
+  }
+
+  /** Records the payloads of the received messages, prefixed with their type. */
+  private static final class RecordingListener extends WebSocketListener {
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private final CompletableFuture<Void> pong = new CompletableFuture<>();
+
+    @Override
+    public void onWebSocketOpen() {}
+
+    @Override
+    public void onTextFrame(TextWebSocketFrame frame) {
+      messages.add("text:" + frame.text());
+    }
+
+    @Override
+    public void onBinaryFrame(BinaryWebSocketFrame frame) {
+      messages.add("binary:" + ByteBufUtil.hexDump(frame.content()));
+    }
+
+    @Override
+    public void onPongFrame(PongWebSocketFrame frame) {}
+
+    @Override
+    public void onCloseFrame(CloseWebSocketFrame frame) {}
+
+    @Override
+    public void onHttpResponse(HttpResponseStatus status, HttpHeaders headers) {}
+
+    @Override
+    public void onThrowable(Throwable e) {
+      messages.add("error:" + e);
+    }
+
+    String nextMessage() throws InterruptedException {
+      return messages.poll(TIMEOUT_SECONDS, SECONDS);
+    }
+  }
+
+  private EventLoopGroup eventLoopGroup;
+  private HttpClient client;
+  private Channel serverChannel;
+
+  @BeforeEach
+  void start() {
+    eventLoopGroup = Transports.newEventLoopGroup(false, false, 2, "websocket");
+  }
+
+  @AfterEach
+  void stop() throws Exception {
+    if (client != null) {
+      client.close();
+    }
+    if (serverChannel != null) {
+      serverChannel.close().sync();
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private RecordingListener connect(boolean lean, List<WebSocketFrame> frames)
+      throws InterruptedException {
+    serverChannel =
+        new ServerBootstrap()
+            .group(eventLoopGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(
+                new ChannelInitializer<>() {
+                  @Override
+                  protected void initChannel(Channel ch) {
+                    ch.pipeline()
+                        .addLast(new HttpServerCodec())
+                        .addLast(new HttpObjectAggregator(8192))
+                        .addLast(new WebSocketServerProtocolHandler("/ws"))
+                        .addLast(new FramesSender(frames));
+                  }
+                })
+            .bind(new InetSocketAddress("localhost", 0))
+            .sync()
+            .channel();
+    int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+
+    client = new DefaultHttpClient(new HttpClientConfig().setLeanWebSocketPipeline(lean));
+    RecordingListener listener = new RecordingListener();
+    client.sendRequest(
+        new RequestBuilder(
+                "ws",
+                HttpMethod.GET,
+                Uri.create("ws://localhost:" + port + "/ws"),
+                InetAddressNameResolver.JAVA_RESOLVER)
+            .setRequestTimeout(TIMEOUT_SECONDS * 1000L)
+            .build(),
+        0,
+        eventLoopGroup.next(),
+        listener,
+        null);
+    return listener;
+  }
+
+  private static List<WebSocketFrame> fragmentedMessages() {
+    return List.of(
+        new TextWebSocketFrame(false, 0, "Hello"),
+        // control frames can be interleaved in a fragmented message
+        new PingWebSocketFrame(Unpooled.copiedBuffer("ping", UTF_8)),
+        new ContinuationWebSocketFrame(false, 0, ", "),
+        new ContinuationWebSocketFrame(true, 0, "World"),
+        new BinaryWebSocketFrame(false, 0, Unpooled.wrappedBuffer(new byte[] {1, 2})),
+        new ContinuationWebSocketFrame(true, 0, Unpooled.wrappedBuffer(new byte[] {3})),
+        new TextWebSocketFrame("unfragmented"));
+  }
+
+  private void assertFragmentedMessagesAreAggregated(boolean lean) throws Exception {
+    RecordingListener listener = connect(lean, fragmentedMessages());
+
+    assertEquals("text:Hello, World", listener.nextMessage());
+    assertEquals("binary:010203", listener.nextMessage());
+    assertEquals("text:unfragmented", listener.nextMessage());
+  }
+
+  @Test
+  void fragmentedMessagesAreAggregatedInLeanMode() throws Exception {
+    assertFragmentedMessagesAreAggregated(true);
+  }
+
+  @Test
+  void fragmentedMessagesAreAggregatedWithFrameAggregator() throws Exception {
+    assertFragmentedMessagesAreAggregated(false);
+  }
+}
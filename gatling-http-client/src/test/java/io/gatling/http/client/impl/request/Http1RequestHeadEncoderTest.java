@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl.request;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.*;
+import io.netty.util.AsciiString;
+import io.netty.util.CharsetUtil;
+import org.junit.jupiter.api.Test;
+
+class Http1RequestHeadEncoderTest {
+
+  private static String encodeWithCodec(HttpRequest request) {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpRequestEncoder());
+    channel.writeOutbound(request);
+    StringBuilder sb = new StringBuilder();
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null) {
+      sb.append(buf.toString(CharsetUtil.UTF_8));
+      buf.release();
+    }
+    channel.finish();
+    return sb.toString();
+  }
+
+  private static String encodeDirectly(HttpRequest request) {
+    ByteBuf buf = new Http1RequestHeadEncoder().encode(ByteBufAllocator.DEFAULT, request);
+    try {
+      return buf.toString(CharsetUtil.UTF_8);
+    } finally {
+      buf.release();
+    }
+  }
+
+  private static HttpRequest request(String uri) {
+    HttpHeaders headers = new DefaultHttpHeaders(false);
+    headers
+        .add(HOST, "gatling.io")
+        .add(ACCEPT, new AsciiString("*/*"))
+        .add("X-Custom", "foo")
+        .add("X-Custom", "bar")
+        .add(CONTENT_LENGTH, 0);
+    return new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        uri,
+        Unpooled.EMPTY_BUFFER,
+        headers,
+        EmptyHttpHeaders.INSTANCE);
+  }
+
+  @Test
+  void shouldEncodeLikeTheCodecWithRelativeUrl() {
+    assertEquals(encodeWithCodec(request("/foo?bar=baz")), encodeDirectly(request("/foo?bar=baz")));
+  }
+
+  @Test
+  void shouldEncodeLikeTheCodecWithAbsoluteUrlWithoutPath() {
+    assertEquals(
+        encodeWithCodec(request("http://gatling.io")),
+        encodeDirectly(request("http://gatling.io")));
+    assertEquals(
+        encodeWithCodec(request("http://gatling.io?foo=bar")),
+        encodeDirectly(request("http://gatling.io?foo=bar")));
+  }
+
+  @Test
+  void shouldEncodeLikeTheCodecWithEmptyUrl() {
+    assertEquals(encodeWithCodec(request("")), encodeDirectly(request("")));
+  }
+
+  private static String readOutbound(EmbeddedChannel channel) {
+    StringBuilder sb = new StringBuilder();
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null) {
+      sb.append(buf.toString(CharsetUtil.UTF_8));
+      buf.release();
+    }
+    return sb.toString();
+  }
+
+  private static String readResponseBody(EmbeddedChannel channel, String response) {
+    channel.writeInbound(Unpooled.copiedBuffer(response, CharsetUtil.US_ASCII));
+    HttpResponse httpResponse = channel.readInbound();
+    assertEquals(HttpResponseStatus.OK, httpResponse.status());
+    StringBuilder sb = new StringBuilder();
+    HttpContent content;
+    do {
+      content = channel.readInbound();
+      sb.append(content.content().toString(CharsetUtil.UTF_8));
+      content.release();
+    } while (!(content instanceof LastHttpContent));
+    assertNull(channel.readInbound());
+    return sb.toString();
+  }
+
+  @Test
+  void shouldDecodeResponsesOfDirectlyWrittenRequestsThroughTheCodec() {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientCodec());
+    ChannelHandlerContext codecCtx = channel.pipeline().context(HttpClientCodec.class);
+    Http1RequestHeadEncoder encoder = new Http1RequestHeadEncoder();
+    String response = "HTTP/1.1 200 OK\r\ncontent-length: 5\r\n\r\nhello";
+
+    WritableRequest get = new WritableRequest(request("/foo"), null);
+    assertTrue(get.isDirectlyWritable());
+    get.writeDirectly(codecCtx, encoder);
+    assertEquals(encodeWithCodec(request("/foo")), readOutbound(channel));
+    assertEquals("hello", readResponseBody(channel, response));
+
+    // a HEAD request, written through the codec once the connection is idle, is tracked by it
+    HttpRequest head = request("/foo").setMethod(HttpMethod.HEAD);
+    assertFalse(new WritableRequest(head, null).isDirectlyWritable());
+    channel.writeOutbound(head);
+    readOutbound(channel);
+    assertEquals("", readResponseBody(channel, "HTTP/1.1 200 OK\r\ncontent-length: 5\r\n\r\n"));
+
+    get = new WritableRequest(request("/bar"), null);
+    get.writeDirectly(codecCtx, encoder);
+    readOutbound(channel);
+    assertEquals("hello", readResponseBody(channel, response));
+
+    assertFalse(channel.finish());
+  }
+}
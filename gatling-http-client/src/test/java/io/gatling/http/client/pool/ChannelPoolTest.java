@@ -0,0 +1,231 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.Http2Stats;
+import io.gatling.http.client.impl.DefaultHttpClient;
+import io.gatling.http.client.uri.Uri;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ChannelPoolTest {
+
+  private final EventLoop eventLoop = new DefaultEventLoop();
+  private final Http2Stats http2Stats = new Http2Stats();
+  private final ConnectionBudget connectionBudget = new ConnectionBudget(1);
+  private final ChannelPool pool = new ChannelPool(http2Stats, connectionBudget);
+  private final AtomicInteger resumed = new AtomicInteger();
+
+  @AfterEach
+  void shutdown() {
+    eventLoop.shutdownGracefully();
+  }
+
+  private static ChannelPoolKey key(long clientId) {
+    return new ChannelPoolKey(clientId, RemoteKey.newKey(Uri.create("https://gatling.io"), null));
+  }
+
+  private static Channel http1Channel(ChannelPoolKey key) {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    channel
+        .pipeline()
+        .addLast(DefaultHttpClient.APP_HTTP_HANDLER, new ChannelInboundHandlerAdapter());
+    ChannelPool.registerPoolKey(channel, key);
+    return channel;
+  }
+
+  private static Channel http2Channel(ChannelPoolKey key) {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPool.registerPoolKey(channel, key);
+    return channel;
+  }
+
+  private static Channel http2Channel(
+      ChannelPoolKey key, int maxConcurrentStreams, int activeStreams) throws Http2Exception {
+    Channel channel = http2Channel(key);
+    Http2Connection connection = new DefaultHttp2Connection(false);
+    connection.local().maxActiveStreams(maxConcurrentStreams);
+    for (int i = 0; i < activeStreams; i++) {
+      connection.local().createStream(connection.local().incrementAndGetNextStreamId(), false);
+    }
+    ChannelPool.registerHttp2Connection(channel, connection);
+    return channel;
+  }
+
+  private ConnectionBudget.Waiter await(ChannelPoolKey key) {
+    ConnectionBudget.Waiter waiter =
+        new ConnectionBudget.Waiter(eventLoop, resumed::incrementAndGet);
+    pool.await(key, waiter);
+    return waiter;
+  }
+
+  private void drain() throws Exception {
+    eventLoop.submit(() -> {}).sync();
+  }
+
+  @Test
+  void http1ChannelResumesOneWaiterPerOffer() throws Exception {
+    ChannelPoolKey key = key(-1);
+    await(key);
+    await(key);
+    drain();
+    assertEquals(0, resumed.get());
+
+    Channel channel = http1Channel(key);
+    pool.offer(channel);
+    drain();
+    assertEquals(1, resumed.get());
+
+    assertSame(channel, pool.poll(key));
+    pool.offer(channel);
+    drain();
+    assertEquals(2, resumed.get());
+  }
+
+  @Test
+  void http2ChannelResumesAllWaiters() throws Exception {
+    ChannelPoolKey key = key(-1);
+    await(key);
+    await(key);
+    await(key);
+
+    pool.offer(http2Channel(key));
+    drain();
+    assertEquals(3, resumed.get());
+  }
+
+  @Test
+  void pipeliningChannelResumesOneWaiter() throws Exception {
+    ChannelPoolKey key = key(-1);
+    await(key);
+    await(key);
+
+    pool.offerForPipelining(http1Channel(key));
+    drain();
+    assertEquals(1, resumed.get());
+  }
+
+  @Test
+  void waitersResumedByTheBudgetAreSkipped() throws Exception {
+    ChannelPoolKey key = key(-1);
+    ConnectionBudget.Waiter first = await(key);
+    await(key);
+
+    // resumed by the connection budget in the meantime
+    assertTrue(first.resume());
+    drain();
+    assertEquals(1, resumed.get());
+
+    pool.offer(http1Channel(key));
+    drain();
+    assertEquals(2, resumed.get());
+  }
+
+  @Test
+  void waitersOfOtherKeysAreNotResumed() throws Exception {
+    await(key(1));
+
+    pool.offer(http1Channel(key(2)));
+    drain();
+    assertEquals(0, resumed.get());
+  }
+
+  @Test
+  void flushingClientDropsItsWaiters() throws Exception {
+    ChannelPoolKey key = key(1);
+    await(key);
+
+    pool.flushClientIdChannelPoolPartitions(1);
+    pool.offer(http1Channel(key));
+    drain();
+    assertEquals(0, resumed.get());
+  }
+
+  @Test
+  void streamLimitWaitIsCountedWhenAllHttp2ChannelsAreAtTheirMaxConcurrentStreams()
+      throws Exception {
+    ChannelPoolKey key = key(-1);
+    pool.offer(http2Channel(key, 2, 2));
+    pool.offer(http2Channel(key, 1, 1));
+
+    assertNull(pool.poll(key));
+    assertEquals(1, http2Stats.getStreamLimitWaits());
+  }
+
+  @Test
+  void streamLimitWaitIsNotCountedWhenAnHttp2ChannelCanOpenAStream() throws Exception {
+    ChannelPoolKey key = key(-1);
+    pool.offer(http2Channel(key, 1, 1));
+    Channel available = http2Channel(key, 2, 1);
+    pool.offer(available);
+
+    assertSame(available, pool.poll(key));
+    assertEquals(0, http2Stats.getStreamLimitWaits());
+  }
+
+  @Test
+  void streamLimitWaitIsNotCountedWhenThereAreNoChannels() {
+    assertNull(pool.poll(key(-1)));
+    assertEquals(0, http2Stats.getStreamLimitWaits());
+  }
+
+  @Test
+  void awaitingClosesAnIdleChannelOfAnotherClientToTheSameRemote() {
+    Channel idle = http1Channel(key(2));
+    pool.offer(idle);
+
+    await(key(1));
+    assertFalse(idle.isOpen());
+    assertNull(pool.poll(key(2)));
+  }
+
+  @Test
+  void awaitingDoesntCloseABusyChannel() throws Exception {
+    Channel busy = http2Channel(key(2), 100, 1);
+    pool.offer(busy);
+
+    await(key(1));
+    assertTrue(busy.isOpen());
+  }
+
+  @Test
+  void idleChannelsAreClosedWhenTheBudgetHasWaiters() {
+    Channel idle = http1Channel(key(2));
+    pool.offer(idle);
+
+    pool.closeIdleChannels(Long.MAX_VALUE);
+    assertTrue(idle.isOpen());
+
+    // waiting on another event loop's pool
+    assertTrue(connectionBudget.tryAcquire(key(1)));
+    connectionBudget.await(
+        key(1), new ConnectionBudget.Waiter(eventLoop, resumed::incrementAndGet));
+    pool.closeIdleChannels(Long.MAX_VALUE);
+    assertFalse(idle.isOpen());
+  }
+}
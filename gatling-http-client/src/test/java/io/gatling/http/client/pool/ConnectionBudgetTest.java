@@ -0,0 +1,94 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.uri.Uri;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionBudgetTest {
+
+  private final EventLoop eventLoop = new DefaultEventLoop();
+
+  @AfterEach
+  void shutdown() {
+    eventLoop.shutdownGracefully();
+  }
+
+  private static ChannelPoolKey key(long clientId, String url) {
+    return new ChannelPoolKey(clientId, RemoteKey.newKey(Uri.create(url), null));
+  }
+
+  private void drain() throws Exception {
+    eventLoop.submit(() -> {}).sync();
+  }
+
+  @Test
+  void budgetIsSharedAmongstClientsOfTheSameRemote() {
+    ConnectionBudget budget = new ConnectionBudget(2);
+    ChannelPoolKey key1 = key(1, "https://gatling.io/foo");
+    ChannelPoolKey key2 = key(2, "https://gatling.io/bar");
+
+    assertTrue(budget.tryAcquire(key1));
+    assertTrue(budget.tryAcquire(key2));
+    assertFalse(budget.tryAcquire(key1));
+    assertTrue(budget.tryAcquire(key(1, "https://docs.gatling.io")));
+    assertEquals(2, budget.getOpenConnections(key1.remoteKey));
+
+    budget.release(key2);
+    assertTrue(budget.tryAcquire(key1));
+  }
+
+  @Test
+  void waitersAreResumedOncePerRelease() throws Exception {
+    ConnectionBudget budget = new ConnectionBudget(1);
+    ChannelPoolKey key = key(-1, "https://gatling.io");
+    AtomicInteger resumed = new AtomicInteger();
+
+    assertTrue(budget.tryAcquire(key));
+    budget.await(key, new ConnectionBudget.Waiter(eventLoop, resumed::incrementAndGet));
+    budget.await(key, new ConnectionBudget.Waiter(eventLoop, resumed::incrementAndGet));
+    drain();
+    assertEquals(0, resumed.get());
+
+    budget.release(key);
+    drain();
+    assertEquals(1, resumed.get());
+  }
+
+  @Test
+  void waiterIsResumedAtMostOnce() throws Exception {
+    ConnectionBudget budget = new ConnectionBudget(1);
+    ChannelPoolKey key = key(-1, "https://gatling.io");
+    AtomicInteger resumed = new AtomicInteger();
+    ConnectionBudget.Waiter waiter =
+        new ConnectionBudget.Waiter(eventLoop, resumed::incrementAndGet);
+
+    assertTrue(budget.tryAcquire(key));
+    budget.await(key, waiter);
+    // resumed from the pool, then from the budget
+    assertTrue(waiter.resume());
+    budget.release(key);
+    drain();
+    assertEquals(1, resumed.get());
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.ssl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.test.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TlsHandshakeStatsTest {
+
+  private static final String[] TLS_1_2 = {"TLSv1.2"};
+
+  private final TlsHandshakeStats stats = new TlsHandshakeStats();
+  private SslContext serverSslContext;
+
+  @BeforeEach
+  void buildServerSslContext() throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    try (InputStream is =
+        Files.newInputStream(TestUtils.resourceAsFile("ssltest-keystore.jks").toPath())) {
+      keyStore.load(is, "changeit".toCharArray());
+    }
+    KeyManagerFactory keyManagerFactory =
+        KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(keyStore, "changeit".toCharArray());
+    serverSslContext =
+        SslContextBuilder.forServer(keyManagerFactory)
+            .sslProvider(SslProvider.JDK)
+            .protocols(TLS_1_2)
+            .build();
+  }
+
+  private static SslContext clientSslContext() throws Exception {
+    return SslContextBuilder.forClient()
+        .sslProvider(SslProvider.JDK)
+        .protocols(TLS_1_2)
+        .trustManager(InsecureTrustManagerFactory.INSTANCE)
+        .build();
+  }
+
+  private static void transfer(EmbeddedChannel from, EmbeddedChannel to) {
+    ByteBuf buf;
+    while ((buf = from.readOutbound()) != null) {
+      to.writeInbound(buf);
+    }
+  }
+
+  /** Runs an in-memory handshake and records it the way the client does. */
+  private void handshake(SslContext clientSslContext) {
+    SslHandler clientSslHandler =
+        clientSslContext.newHandler(ByteBufAllocator.DEFAULT, "localhost", 8443);
+    EmbeddedChannel client = new EmbeddedChannel(clientSslHandler);
+    EmbeddedChannel server =
+        new EmbeddedChannel(serverSslContext.newHandler(ByteBufAllocator.DEFAULT));
+    try {
+      long start = System.nanoTime();
+      for (int i = 0; i < 100 && !clientSslHandler.handshakeFuture().isDone(); i++) {
+        transfer(client, server);
+        transfer(server, client);
+      }
+      assertTrue(clientSslHandler.handshakeFuture().isSuccess());
+      stats.record(clientSslHandler.engine().getSession(), System.nanoTime() - start);
+    } finally {
+      client.finishAndReleaseAll();
+      server.finishAndReleaseAll();
+    }
+  }
+
+  @Test
+  void handshakeReusingTheSessionOfAPreviousOneIsAResumption() throws Exception {
+    SslContext clientSslContext = clientSslContext();
+    handshake(clientSslContext);
+    handshake(clientSslContext);
+
+    assertEquals(1, stats.getFullHandshakes());
+    assertEquals(1, stats.getResumptions());
+  }
+
+  @Test
+  void handshakesNegotiatingNewSessionsAreFull() throws Exception {
+    // each client context has its own session cache
+    handshake(clientSslContext());
+    handshake(clientSslContext());
+
+    assertEquals(2, stats.getFullHandshakes());
+    assertEquals(0, stats.getResumptions());
+  }
+
+  @Test
+  void sessionsWithoutIdAreNeverResumed() {
+    SSLSession session =
+        (SSLSession)
+            Proxy.newProxyInstance(
+                SSLSession.class.getClassLoader(),
+                new Class<?>[] {SSLSession.class},
+                (proxy, method, args) -> method.getName().equals("getId") ? new byte[0] : null);
+    stats.record(session, 0);
+    stats.record(session, 0);
+
+    assertEquals(2, stats.getFullHandshakes());
+    assertEquals(0, stats.getResumptions());
+  }
+}
@@ -199,6 +199,30 @@ public final class HttpProtocolBuilder implements ProtocolBuilder {
         wrapped.perUserKeyManagerFactory(untyped -> f.apply((Long) untyped)));
   }
 
+  /**
+   * Share TLS contexts, hence TLS session caches, amongst virtual users, so they resume sessions
+   * instead of performing full handshakes while still using their own connections. Ignored when
+   * using {@link #shareConnections()} or {@link #perUserKeyManagerFactory(Function)}.
+   *
+   * @return a new HttpProtocolBuilder instance
+   */
+  public @NonNull HttpProtocolBuilder shareTlsSessions() {
+    return new HttpProtocolBuilder(wrapped.shareTlsSessions());
+  }
+
+  /**
+   * Open connections to the base URLs on each event loop before the injection starts, so the first
+   * virtual users don't pay for the TCP and TLS handshakes. Only effective with {@link
+   * #shareConnections()}.
+   *
+   * @param connectionsPerEventLoop the number of connections to open per base URL and per event
+   *     loop
+   * @return a new HttpProtocolBuilder instance
+   */
+  public @NonNull HttpProtocolBuilder prewarmConnections(int connectionsPerEventLoop) {
+    return new HttpProtocolBuilder(wrapped.prewarmConnections(connectionsPerEventLoop));
+  }
+
   // requestPart
 
   /**
@@ -756,6 +780,48 @@ public final class HttpProtocolBuilder implements ProtocolBuilder {
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))));
   }
 
+  /**
+   * Define the HTTP/2 SETTINGS_INITIAL_WINDOW_SIZE, ie the per-stream receive window, advertised
+   * to servers
+   *
+   * @param size the window size in bytes
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder http2InitialWindowSize(int size) {
+    return new HttpProtocolBuilder(wrapped.http2InitialWindowSize(size));
+  }
+
+  /**
+   * Define the HTTP/2 connection-level receive window, raised with a WINDOW_UPDATE frame when the
+   * connection is established
+   *
+   * @param size the window size in bytes
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder http2ConnectionWindowSize(int size) {
+    return new HttpProtocolBuilder(wrapped.http2ConnectionWindowSize(size));
+  }
+
+  /**
+   * Define the HTTP/2 SETTINGS_MAX_FRAME_SIZE advertised to servers
+   *
+   * @param size the max frame size in bytes
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder http2MaxFrameSize(int size) {
+    return new HttpProtocolBuilder(wrapped.http2MaxFrameSize(size));
+  }
+
+  /**
+   * Define the HTTP/2 SETTINGS_HEADER_TABLE_SIZE advertised to servers
+   *
+   * @param size the HPACK dynamic table size in bytes
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder http2HeaderTableSize(long size) {
+    return new HttpProtocolBuilder(wrapped.http2HeaderTableSize(size));
+  }
+
   // responsePart
   /**
    * Disable automatically following redirects
@@ -1120,6 +1186,18 @@ public final class HttpProtocolBuilder implements ProtocolBuilder {
     return new HttpProtocolBuilder(wrapped.wsUnmatchedInboundMessageBufferSize(max));
   }
 
+  /**
+   * Enable or disable the timeouts of WebSocket checks. Enabled by default. When disabled, no timer
+   * is scheduled for pending checks, which then only complete when they're matched or when the
+   * connection is closed.
+   *
+   * @param enabled if check timeouts must be enabled
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder wsCheckTimeouts(boolean enabled) {
+    return new HttpProtocolBuilder(wrapped.wsCheckTimeouts(enabled));
+  }
+
   /**
    * Set the max size of the buffer for unmatched/unchecked inbound SSE messages. 0 by default,
    * meaning such messages are not buffered.
@@ -16,6 +16,8 @@
 
 package io.gatling.javaapi.http;
 
+import static io.gatling.javaapi.core.internal.Converters.toScalaSeq;
+
 import io.gatling.javaapi.core.CheckBuilder;
 import io.gatling.javaapi.core.Session;
 import io.gatling.javaapi.http.internal.ScalaWsFrameCheckBinaryConditions;
@@ -228,6 +230,28 @@ public abstract class WsFrameCheck {
       return new Text(wrapped.matching(WsChecks.toScalaTextChecks(newMatchConditions)));
     }
 
+    /**
+     * Define substrings that inbound messages must contain to be matched. Evaluated on the raw
+     * frame bytes, so non-matching messages are ruled out without being decoded.
+     *
+     * @param substrings the substrings to look for
+     * @return a new Text instance
+     */
+    public @NonNull Text matchingSubstring(@NonNull String... substrings) {
+      return matchingSubstring(Arrays.asList(substrings));
+    }
+
+    /**
+     * Define substrings that inbound messages must contain to be matched. Evaluated on the raw
+     * frame bytes, so non-matching messages are ruled out without being decoded.
+     *
+     * @param substrings the substrings to look for
+     * @return a new Text instance
+     */
+    public @NonNull Text matchingSubstring(@NonNull List<String> substrings) {
+      return new Text(wrapped.matchingSubstring(toScalaSeq(substrings)));
+    }
+
     /**
      * Define the checks to apply on inbound messages
      *
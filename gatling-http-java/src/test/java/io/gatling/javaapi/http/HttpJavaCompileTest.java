@@ -58,6 +58,8 @@ public class HttpJavaCompileTest extends Simulation {
                   throw new RuntimeException(e);
                 }
               })
+          .shareTlsSessions()
+          .prewarmConnections(2)
           .disableAutoReferer()
           .disableAutoOrigin()
           .disableCaching()
@@ -107,6 +109,10 @@ public class HttpJavaCompileTest extends Simulation {
               session -> "tokenSecret")
           .enableHttp2()
           .http2PriorKnowledge(Map.of("host", true))
+          .http2InitialWindowSize(1024 * 1024)
+          .http2ConnectionWindowSize(16 * 1024 * 1024)
+          .http2MaxFrameSize(32 * 1024)
+          .http2HeaderTableSize(8192)
           .disableFollowRedirect()
           .maxRedirects(1)
           .strict302Handling()
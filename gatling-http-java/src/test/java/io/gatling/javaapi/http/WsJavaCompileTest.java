@@ -36,7 +36,8 @@ public class WsJavaCompileTest extends Simulation {
           .wsMaxReconnects(1)
           .wsAutoReplyTextFrame(txt -> txt.equals("foo") ? "bar" : null)
           .wsAutoReplySocketIo4()
-          .wsUnmatchedInboundMessageBufferSize(5);
+          .wsUnmatchedInboundMessageBufferSize(5)
+          .wsCheckTimeouts(true);
 
   private final ChainBuilder chain =
       exec(
@@ -47,6 +48,7 @@ public class WsJavaCompileTest extends Simulation {
               .await(1)
               .on(
                   ws.checkTextMessage("checkName")
+                      .matchingSubstring("uuid")
                       .matching(jsonPath("$.uuid").is("#{correlation}"))
                       .check(
                           jsonPath("$.code").ofInt().is(1),
@@ -35,7 +35,7 @@ final class SseInvalidContentTypeException(contentType: String) extends IOExcept
 }
 
 final class SseListener(stream: SseStream) extends HttpListener with StrictLogging {
-  private val decoder = new SseStreamDecoder
+  private val decoder = new SseStreamDecoder(stream.eventReceived)
   private var channel: Channel = _
   private var closed = false
 
@@ -74,8 +74,7 @@ final class SseListener(stream: SseStream) extends HttpListener with StrictLoggi
 
   override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
     if (!closed) {
-      val events = decoder.decodeStream(chunk)
-      events.foreach(stream.eventReceived)
+      decoder.decodeStream(chunk)
       if (last) {
         stream.endOfStream()
       }
@@ -16,15 +16,57 @@
 
 package io.gatling.http.action.sse.fsm
 
+import java.nio.charset.StandardCharsets.UTF_8
+
 import io.gatling.core.json.Json
 import io.gatling.shared.util.StringBuilderPool
 
-final case class ServerSentEvent(
-    event: Option[String],
-    data: Option[String],
-    id: Option[String],
-    retry: Option[Int]
+object ServerSentEvent {
+  def apply(
+      event: Option[String],
+      data: Option[String],
+      id: Option[String],
+      retry: Option[Int]
+  ): ServerSentEvent =
+    new ServerSentEvent(
+      event.map(_.getBytes(UTF_8)).orNull,
+      data.map(_.getBytes(UTF_8)).orNull,
+      id.map(_.getBytes(UTF_8)).orNull,
+      retry
+    )
+
+  private def decode(bytes: Array[Byte]): Option[String] =
+    if (bytes == null) None else Some(new String(bytes, UTF_8))
+}
+
+/**
+ * Fields are kept as the received UTF-8 bytes and only decoded on first access, typically when applying checks, so events nobody
+ * looks at don't cost any String.
+ */
+final class ServerSentEvent private[fsm] (
+    eventBytes: Array[Byte],
+    dataBytes: Array[Byte],
+    idBytes: Array[Byte],
+    val retry: Option[Int]
 ) {
+  import ServerSentEvent.decode
+
+  lazy val event: Option[String] = decode(eventBytes)
+  lazy val data: Option[String] = decode(dataBytes)
+  lazy val id: Option[String] = decode(idBytes)
+
+  def hasId: Boolean = idBytes != null
+
+  override def equals(other: Any): Boolean =
+    other match {
+      case that: ServerSentEvent => event == that.event && data == that.data && id == that.id && retry == that.retry
+      case _                     => false
+    }
+
+  override def hashCode: Int = (event, data, id, retry).##
+
+  override def toString: String = s"ServerSentEvent($event,$data,$id,$retry)"
+
   lazy val asJsonString: String = {
     val sb = StringBuilderPool.DEFAULT.get().append('{')
     event.foreach { value =>
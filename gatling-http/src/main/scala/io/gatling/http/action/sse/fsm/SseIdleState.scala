@@ -57,7 +57,10 @@ final class SseIdleState(fsm: SseFsm, session: Session) extends SseState(fsm) wi
   override def onSseReceived(event: ServerSentEvent, timestamp: Long): NextSseState = {
     // server push message, just log
     logger.debug(s"Received unmatched event=$event")
-    unmatchedInboundMessageBuffer.addOne(SseInboundMessage(timestamp, event.asJsonString))
+    if (unmatchedInboundMessageBuffer.isEnabled) {
+      // only decode the event if it's going to be buffered
+      unmatchedInboundMessageBuffer.addOne(SseInboundMessage(timestamp, event.asJsonString))
+    }
     logUnmatchedServerMessage(session)
     NextSseState(this)
   }
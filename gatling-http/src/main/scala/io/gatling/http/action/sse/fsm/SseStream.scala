@@ -172,7 +172,7 @@ final class SseStream(
   }
 
   def eventReceived(event: ServerSentEvent): Unit = {
-    if (event.id.isDefined) {
+    if (event.hasId) {
       lastEventId = event.id
     }
     event.retry.foreach(retryDelayInMillis = _)
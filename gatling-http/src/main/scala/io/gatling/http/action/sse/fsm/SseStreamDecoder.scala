@@ -16,202 +16,189 @@
 
 package io.gatling.http.action.sse.fsm
 
-import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets.US_ASCII
+import java.util.Arrays
 
-import io.gatling.netty.util.Utf8ByteBufCharsetDecoder
-
-import io.netty.buffer.ByteBuf
+import io.netty.buffer.{ ByteBuf, ByteBufUtil, Unpooled }
+import io.netty.util.ByteProcessor
 
 object SseStreamDecoder {
-  private val BOM = '\uFEFF'
-  private val LF = 0x0a
-  private val CR = 0x0d
-
-  private val EventHeader = "event:".toCharArray
-  private val DataHeader = "data:".toCharArray
-  private val IdHeader = "id:".toCharArray
-  private val RetryHeader = "retry:".toCharArray
+  private val LF: Byte = 0x0a
+  private val CR: Byte = 0x0d
+  private val Colon: Byte = ':'
+  private val Space: Byte = ' '
+  private val Bom = Array(0xef.toByte, 0xbb.toByte, 0xbf.toByte)
+
+  private val EventField = "event".getBytes(US_ASCII)
+  private val DataField = "data".getBytes(US_ASCII)
+  private val IdField = "id".getBytes(US_ASCII)
+  private val RetryField = "retry".getBytes(US_ASCII)
+
+  private val InitialBufferSize = 256
 }
 
-final class SseStreamDecoder extends Utf8ByteBufCharsetDecoder {
+/**
+ * Scans the received bytes for lines and field names without decoding them into chars. Field values are copied as UTF-8 bytes into
+ * the [[ServerSentEvent]] passed to `onEvent`, and only decoded if they're actually read.
+ */
+final class SseStreamDecoder(onEvent: ServerSentEvent => Unit) {
   import SseStreamDecoder._
 
-  private[this] var pendingEvent: Option[String] = None
-  private[this] var pendingData: String = null
-  private[this] var pendingDataBuilder: StringBuilder = null
-  private[this] var pendingId: Option[String] = None
+  // line split over multiple chunks
+  private[this] var pendingLine = new Array[Byte](InitialBufferSize)
+  private[this] var pendingLineBuf = Unpooled.wrappedBuffer(pendingLine)
+  private[this] var pendingLineLength = 0
+
+  private[this] var pendingEvent: Array[Byte] = _
+  private[this] var pendingData = new Array[Byte](InitialBufferSize)
+  private[this] var pendingDataLength = 0
+  private[this] var pendingDataLines = 0
+  private[this] var pendingId: Array[Byte] = _
   private[this] var pendingRetry: Option[Int] = None
 
-  private[this] val pendingEvents = collection.mutable.ArrayBuffer.empty[ServerSentEvent]
-  private[this] var firstEvent = true
-  private[this] var previousBufferLastCharWasCr = false
-  private[this] var position = 0
+  private[this] var firstLine = true
+  private[this] var previousBufferLastByteWasCr = false
 
-  private var charArray: Array[Char] = _
+  private def fieldNameEquals(buf: ByteBuf, start: Int, colon: Int, field: Array[Byte]): Boolean =
+    colon - start == field.length && {
+      var i = 0
+      while (i < field.length && buf.getByte(start + i) == field(i)) {
+        i += 1
+      }
+      i == field.length
+    }
 
-  override protected def allocateCharBuffer(l: Int): CharBuffer = {
-    charArray = new Array[Char](l)
-    CharBuffer.wrap(charArray)
+  private def parseRetry(buf: ByteBuf, start: Int, end: Int): Option[Int] = {
+    var i = start
+    var retry = 0L
+    while (i < end && retry <= Int.MaxValue && buf.getByte(i) >= '0' && buf.getByte(i) <= '9') {
+      retry = retry * 10 + buf.getByte(i) - '0'
+      i += 1
+    }
+    if (i == end && end > start && retry <= Int.MaxValue) Some(retry.toInt) else None
   }
 
-  private def parseLine(lineStart: Int, lineEnd: Int): Unit = {
-    val lineLength = lineEnd - lineStart
+  private def appendData(buf: ByteBuf, start: Int, end: Int): Unit = {
+    val separatorLength = if (pendingDataLines > 0) 1 else 0
+    val newLength = pendingDataLength + separatorLength + end - start
+    if (newLength > pendingData.length) {
+      pendingData = Arrays.copyOf(pendingData, math.max(newLength, pendingData.length * 2))
+    }
+    if (separatorLength > 0) {
+      pendingData(pendingDataLength) = LF
+    }
+    buf.getBytes(start, pendingData, pendingDataLength + separatorLength, end - start)
+    pendingDataLength = newLength
+    pendingDataLines += 1
+  }
 
-    def onFieldHeaderMatch(fieldHeader: Array[Char]): Option[String] = {
-      val fieldHeaderLength = fieldHeader.length
+  private def flushEvent(): Unit =
+    if (pendingEvent != null || pendingDataLines > 0 || pendingId != null || pendingRetry.isDefined) {
+      // non-empty event (eg not just a comment)
+      val data = if (pendingDataLines > 0) Arrays.copyOf(pendingData, pendingDataLength) else null
+      val event = new ServerSentEvent(pendingEvent, data, pendingId, pendingRetry)
 
-      if (lineLength < fieldHeaderLength) {
-        None
-      } else if (
-        (0 until fieldHeaderLength).forall { i =>
-          charArray(lineStart + i) == fieldHeader(i)
-        }
-      ) {
-        val nextPos = lineStart + fieldHeaderLength
-        val valueStart =
-          if (charArray(nextPos) == ' ') {
-            // white space after colon, trim it
-            nextPos + 1
-          } else {
-            nextPos
-          }
+      pendingEvent = null
+      pendingDataLength = 0
+      pendingDataLines = 0
+      pendingId = null
+      pendingRetry = None
 
-        Some(new String(charArray, valueStart, lineEnd - valueStart))
+      onEvent(event)
+    }
+
+  private def parseLine(buf: ByteBuf, lineStart: Int, lineEnd: Int): Unit = {
+    val start =
+      if (firstLine) {
+        firstLine = false
+        if (lineEnd - lineStart >= Bom.length && buf.getByte(lineStart) == Bom(0) && buf.getByte(lineStart + 1) == Bom(1) && buf.getByte(lineStart + 2) == Bom(2)) {
+          lineStart + Bom.length
+        } else {
+          lineStart
+        }
       } else {
-        None
+        lineStart
       }
-    }
 
-    if (lineLength == 0) {
+    if (start == lineEnd) {
       // empty line, flushing event
-      if (pendingEvent.isDefined || pendingData != null || pendingDataBuilder != null || pendingId.isDefined || pendingRetry.isDefined) {
-        // non-empty event (eg just a comment)
-        val data =
-          if (pendingDataBuilder != null) {
-            Some(pendingDataBuilder.toString)
-          } else if (pendingData != null) {
-            Some(pendingData)
+      flushEvent()
+    } else if (buf.getByte(start) != Colon) {
+      // not a comment
+      val colon = buf.indexOf(start, lineEnd, Colon)
+      if (colon != -1) {
+        val valueStart =
+          if (colon + 1 < lineEnd && buf.getByte(colon + 1) == Space) {
+            // white space after colon, trim it
+            colon + 2
           } else {
-            None
+            colon + 1
           }
-        pendingEvents += ServerSentEvent(
-          event = pendingEvent,
-          data = data,
-          id = pendingId,
-          retry = pendingRetry
-        )
-
-        pendingEvent = None
-        pendingData = null
-        pendingDataBuilder = null
-        pendingId = None
-        pendingRetry = None
-      }
-    } else if (charArray(lineStart) == ':') {
-      // comment, skipping
-    } else {
-      // parse real line
-      onFieldHeaderMatch(EventHeader) match {
-        case None =>
-          onFieldHeaderMatch(DataHeader) match {
-            case None =>
-              onFieldHeaderMatch(IdHeader) match {
-                case None =>
-                  onFieldHeaderMatch(RetryHeader) match {
-                    case None =>
-                    case res  => pendingRetry = res.map(_.toInt)
-                  }
-                case res => pendingId = res
-              }
-            case Some(newDataLine) =>
-              if (pendingDataBuilder != null) {
-                pendingDataBuilder.append('\n').append(newDataLine)
-              } else if (pendingData != null) {
-                // 2nd data line: promote to builder
-                pendingDataBuilder = new StringBuilder(pendingData).append('\n').append(newDataLine)
-                pendingData = null
-              } else {
-                // 1st data line: keep as plain String (no extra allocations)
-                pendingData = newDataLine
-              }
+
+        if (fieldNameEquals(buf, start, colon, DataField)) {
+          appendData(buf, valueStart, lineEnd)
+        } else if (fieldNameEquals(buf, start, colon, EventField)) {
+          pendingEvent = ByteBufUtil.getBytes(buf, valueStart, lineEnd - valueStart)
+        } else if (fieldNameEquals(buf, start, colon, IdField)) {
+          pendingId = ByteBufUtil.getBytes(buf, valueStart, lineEnd - valueStart)
+        } else if (fieldNameEquals(buf, start, colon, RetryField)) {
+          val retry = parseRetry(buf, valueStart, lineEnd)
+          if (retry.isDefined) {
+            pendingRetry = retry
           }
-        case res => pendingEvent = res
+        }
       }
     }
   }
 
-  private def parseChars(): Unit = {
-    if (firstEvent) {
-      if (charArray(position) == BOM) {
-        position += 1
+  private def appendPendingLine(buf: ByteBuf, start: Int, end: Int): Unit = {
+    val newLength = pendingLineLength + end - start
+    if (newLength > pendingLine.length) {
+      pendingLine = Arrays.copyOf(pendingLine, math.max(newLength, pendingLine.length * 2))
+      pendingLineBuf = Unpooled.wrappedBuffer(pendingLine)
+    }
+    buf.getBytes(start, pendingLine, pendingLineLength, end - start)
+    pendingLineLength = newLength
+  }
+
+  def decodeStream(buf: ByteBuf): Unit = {
+    var i = buf.readerIndex
+    val end = buf.writerIndex
+
+    if (previousBufferLastByteWasCr && i < end) {
+      if (buf.getByte(i) == LF) {
+        // last buffer ended with a terminated line
+        // but we were actually in the middle of a CRLF pair
+        i += 1
       }
-      firstEvent = false
-    } else if (previousBufferLastCharWasCr && charArray(position) == LF) {
-      // last buffer ended with a terminated line
-      // but we were actually in the middle of a CRLF pair
-      position += 1
+      previousBufferLastByteWasCr = false
     }
 
-    // scanning actual content
-    var i = position
-    val sbLength = charBuffer.position()
+    while (i < end) {
+      val lineEnd = buf.forEachByte(i, end - i, ByteProcessor.FIND_CRLF)
+      if (lineEnd == -1) {
+        // incomplete line, wait for next chunk
+        appendPendingLine(buf, i, end)
+        i = end
+      } else {
+        if (pendingLineLength > 0) {
+          appendPendingLine(buf, i, lineEnd)
+          parseLine(pendingLineBuf, 0, pendingLineLength)
+          pendingLineLength = 0
+        } else {
+          parseLine(buf, i, lineEnd)
+        }
 
-    while (i < sbLength) {
-      charArray(i) match {
-        case CR =>
-          parseLine(position, i)
-          if (i < sbLength - 1 && charArray(i + 1) == LF) {
+        i = lineEnd + 1
+        if (buf.getByte(lineEnd) == CR) {
+          if (i == end) {
+            previousBufferLastByteWasCr = true
+          } else if (buf.getByte(i) == LF) {
             // skip next LF
-            i += 2
-          } else {
             i += 1
           }
-          position = i
-
-        case LF =>
-          parseLine(position, i)
-          i += 1
-          position = i
-
-        case _ =>
-          i += 1
+        }
       }
     }
   }
-
-  private def translateCharBuffer(): Unit = {
-    val sbLength = charBuffer.position()
-    previousBufferLastCharWasCr = charArray(sbLength - 1) == CR
-    if (position >= sbLength) {
-      // all read, clear
-      charBuffer.position(0)
-    } else if (position > 0) {
-      // partially read, translate
-      System.arraycopy(charArray, position, charArray, 0, sbLength - position)
-      charBuffer.position(sbLength - position)
-    }
-    position = 0
-  }
-
-  private def flushEvents(): Seq[ServerSentEvent] = {
-    val events = pendingEvents.toVector
-    pendingEvents.clear()
-    events
-  }
-
-  def decodeStream(buf: ByteBuf): Seq[ServerSentEvent] =
-    if (buf.isReadable) {
-      ensureCapacity(buf.readableBytes)
-      if (buf.nioBufferCount == 1) {
-        decodePartial(buf.internalNioBuffer(buf.readerIndex, buf.readableBytes), false)
-      } else {
-        buf.nioBuffers.foreach(decodePartial(_, false))
-      }
-
-      parseChars()
-      translateCharBuffer()
-      flushEvents()
-    } else {
-      Nil
-    }
 }
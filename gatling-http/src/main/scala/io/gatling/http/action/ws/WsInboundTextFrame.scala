@@ -0,0 +1,36 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws
+
+import io.gatling.netty.util.Utf8ByteBufCharsetDecoder
+
+import io.netty.buffer.{ ByteBuf, ByteBufUtil }
+
+/**
+ * A received TEXT frame whose content is only decoded into a String when actually needed.
+ *
+ * The content is the frame's buffer, which is released as soon as the listener returns, so instances must not be retained, only their
+ * [[text]].
+ */
+final class WsInboundTextFrame private[http] (content: ByteBuf) {
+  lazy val text: String = Utf8ByteBufCharsetDecoder.decodeUtf8(content)
+
+  def contains(utf8Substring: ByteBuf): Boolean =
+    ByteBufUtil.indexOf(utf8Substring, content) != -1
+
+  override def toString: String = text
+}
@@ -20,7 +20,7 @@ import io.gatling.commons.util.Clock
 import io.gatling.http.action.ws.fsm.WsFsm
 import io.gatling.http.client.WebSocketListener
 import io.gatling.http.util.HttpHelper
-import io.gatling.netty.util.{ ByteBufUtils, Utf8ByteBufCharsetDecoder }
+import io.gatling.netty.util.ByteBufUtils
 
 import com.typesafe.scalalogging.LazyLogging
 import io.netty.handler.codec.http.{ HttpHeaders, HttpResponseStatus }
@@ -72,7 +72,7 @@ final class WsListener(fsm: WsFsm, clock: Clock) extends WebSocketListener with
     fsm.onWebSocketClosed(frame.statusCode, frame.reasonText, clock.nowMillis)
 
   override def onTextFrame(frame: TextWebSocketFrame): Unit =
-    fsm.onTextFrameReceived(Utf8ByteBufCharsetDecoder.decodeUtf8(frame.content()), clock.nowMillis)
+    fsm.onTextFrameReceived(new WsInboundTextFrame(frame.content()), clock.nowMillis)
 
   override def onBinaryFrame(frame: BinaryWebSocketFrame): Unit =
     fsm.onBinaryFrameReceived(ByteBufUtils.byteBuf2Bytes(frame.content()), clock.nowMillis)
@@ -19,6 +19,7 @@ package io.gatling.http.action.ws.fsm
 import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsInboundTextFrame
 
 import com.typesafe.scalalogging.StrictLogging
 
@@ -31,8 +32,8 @@ final class WsClosingState(fsm: WsFsm, actionName: String, session: Session, nex
     NextWsState(new WsClosedState(fsm), () => next ! newSession)
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    fsm.wsLogger.registerInboundMessage(message, timestamp)
+  override def onTextFrameReceived(frame: WsInboundTextFrame, timestamp: Long): NextWsState = {
+    fsm.wsLogger.registerInboundMessage(frame, timestamp)
     logUnmatchedServerMessage(session)
     NextWsState(this)
   }
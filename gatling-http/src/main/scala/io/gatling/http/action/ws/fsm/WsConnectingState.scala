@@ -98,7 +98,7 @@ final case class WsConnectingState(fsm: WsFsm, session: Session, next: Either[Ac
               (sessionWithGroupTimings, next)
           }
 
-        fsm.scheduleTimeout(timeout)
+        fsm.scheduleCheckTimeout(timeout)
         // [e]
         //
         // [e]
@@ -25,7 +25,7 @@ import io.gatling.core.action.Action
 import io.gatling.core.session.Session
 import io.gatling.core.stats.StatsEngine
 import io.gatling.core.util.BoundedMutableDequeue
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.{ WsInboundMessage, WsInboundTextFrame }
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.{ Request, WebSocket }
 import io.gatling.http.engine.HttpEngine
@@ -65,6 +65,12 @@ final class WsFsm(
     logger.debug(s"Timeout ${currentTimeout.hashCode} scheduled")
   }
 
+  // with check timeouts disabled, awaits only end when their checks are matched or when the connection closes
+  private[fsm] def scheduleCheckTimeout(dur: FiniteDuration): Unit =
+    if (httpProtocol.wsPart.checkTimeouts) {
+      scheduleTimeout(dur)
+    }
+
   private[fsm] def cancelTimeout(): Unit =
     if (currentTimeout == null) {
       logger.debug("Couldn't cancel timeout because it wasn't set")
@@ -111,8 +117,8 @@ final class WsFsm(
     execute(currentState.onSendBinaryFrame(actionName, message, checkSequences, session, next))
   }
 
-  def onTextFrameReceived(message: String, timestamp: Long): Unit =
-    execute(currentState.onTextFrameReceived(message, timestamp))
+  def onTextFrameReceived(frame: WsInboundTextFrame, timestamp: Long): Unit =
+    execute(currentState.onTextFrameReceived(frame, timestamp))
 
   def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): Unit =
     execute(currentState.onBinaryFrameReceived(message, timestamp))
@@ -21,7 +21,7 @@ import scala.concurrent.duration.DurationLong
 import io.gatling.commons.stats.OK
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.{ WsInboundMessage, WsInboundTextFrame }
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
 import io.gatling.http.engine.response.HttpTracing
@@ -50,7 +50,7 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     checkSequences match {
       case WsFrameCheckSequence(timeout, currentCheck :: remainingChecks) :: remainingCheckSequences =>
         logger.debug("Trigger check after sending text frame")
-        scheduleTimeout(timeout)
+        scheduleCheckTimeout(timeout)
         // [e]
         //
         // [e]
@@ -95,7 +95,7 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     checkSequences match {
       case WsFrameCheckSequence(timeout, currentCheck :: remainingChecks) :: remainingCheckSequences =>
         logger.debug("Trigger check after sending binary frame")
-        scheduleTimeout(timeout)
+        scheduleCheckTimeout(timeout)
         // [e]
         //
         // [e]
@@ -120,11 +120,14 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     }
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onTextFrameReceived(frame: WsInboundTextFrame, timestamp: Long): NextWsState = {
+    if (unmatchedInboundMessageBuffer.isEnabled) {
+      // only decode the frame if it's going to be buffered
+      unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, frame.text))
+    }
+    wsLogger.registerInboundMessage(frame, timestamp)
     // try to auto reply or log the message
-    if (!autoReplyTextFrames(message, webSocket)) {
+    if (!autoReplyTextFrames(frame, webSocket)) {
       logUnmatchedServerMessage(session)
     }
     NextWsState(this)
@@ -19,6 +19,7 @@ package io.gatling.http.action.ws.fsm
 import io.gatling.commons.stats.{ KO, Status }
 import io.gatling.commons.util.StringHelper.Eol
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsInboundTextFrame
 import io.gatling.http.engine.response.HttpTracing
 import io.gatling.http.util._
 import io.gatling.shared.util.StringBuilderPool
@@ -103,9 +104,9 @@ final class WsLogger {
 
   private var inboundMessages: List[(Long, String)] = Nil
 
-  def registerInboundMessage(message: String, timestamp: Long): Unit =
+  def registerInboundMessage(frame: WsInboundTextFrame, timestamp: Long): Unit =
     if (HttpTracing.IS_HTTP_DEBUG_ENABLED) {
-      inboundMessages = (timestamp, message) :: inboundMessages
+      inboundMessages = (timestamp, frame.text) :: inboundMessages
     }
 
   def registerInboundMessage(message: Array[Byte], timestamp: Long): Unit =
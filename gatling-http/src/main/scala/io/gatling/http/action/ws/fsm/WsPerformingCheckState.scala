@@ -22,7 +22,7 @@ import io.gatling.commons.validation.{ Failure, Success }
 import io.gatling.core.action.Action
 import io.gatling.core.check.Check
 import io.gatling.core.session.Session
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.{ WsInboundMessage, WsInboundTextFrame }
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
 
@@ -88,18 +88,25 @@ final case class WsPerformingCheckState(
     )
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    wsLogger.registerInboundMessage(message, timestamp)
-    if (autoReplyTextFrames(message, webSocket)) {
+  override def onTextFrameReceived(frame: WsInboundTextFrame, timestamp: Long): NextWsState = {
+    wsLogger.registerInboundMessage(frame, timestamp)
+    if (autoReplyTextFrames(frame, webSocket)) {
       NextWsState(this)
     } else {
       currentCheck match {
-        case WsFrameCheck.Text(_, matchConditions, checks, _, _) =>
-          tryApplyingChecks(message, timestamp, matchConditions, checks)
+        case textCheck: WsFrameCheck.Text =>
+          if (textCheck.matchesSubstrings(frame)) {
+            tryApplyingChecks(frame.text, timestamp, textCheck.matchConditions, textCheck.checks)
+          } else {
+            // ruled out on the raw bytes, no need to decode
+            onNonMatchingMessage(frame)
+          }
 
         case _ =>
-          logger.debug(s"Received unmatched text frame $message")
-          unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+          logger.debug(s"Received unmatched text frame $frame")
+          if (unmatchedInboundMessageBuffer.isEnabled) {
+            unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, frame.text))
+          }
           // server unmatched message, just log
           logUnmatchedServerMessage(session)
           NextWsState(this)
@@ -215,7 +222,7 @@ final case class WsPerformingCheckState(
                 case WsFrameCheckSequence(timeout, nextCheck :: nextRemainingChecks) :: nextRemainingCheckSequences =>
                   logger.debug("Perform next check sequence")
                   // perform next CheckSequence
-                  scheduleTimeout(timeout)
+                  scheduleCheckTimeout(timeout)
                   // [e]
                   //
                   // [e]
@@ -245,14 +252,18 @@ final case class WsPerformingCheckState(
           }
       }
     } else {
-      logger.debug(s"Received non-matching message $message")
-      fsm.wsLogger.logCheck(actionName, session, OK, None, Some(currentCheck.resolvedName), requestMessage)
-      // server unmatched message, just log
-      logUnmatchedServerMessage(session)
-      NextWsState(this)
+      onNonMatchingMessage(message)
     }
   }
 
+  private def onNonMatchingMessage(message: Any): NextWsState = {
+    logger.debug(s"Received non-matching message $message")
+    fsm.wsLogger.logCheck(actionName, session, OK, None, Some(currentCheck.resolvedName), requestMessage)
+    // server unmatched message, just log
+    logUnmatchedServerMessage(session)
+    NextWsState(this)
+  }
+
   private def handleWebSocketCheckCrash(
       session: Session,
       next: Either[Action, SendFrame],
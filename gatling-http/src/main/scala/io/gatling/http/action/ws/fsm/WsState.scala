@@ -20,8 +20,10 @@ import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Throwables._
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsInboundTextFrame
 import io.gatling.http.check.ws._
 import io.gatling.http.client.WebSocket
+import io.gatling.http.protocol.HttpProtocol
 
 import com.typesafe.scalalogging.StrictLogging
 import io.netty.handler.codec.http.cookie.Cookie
@@ -63,7 +65,7 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
   ): NextWsState =
     onIllegalState(s"Unexpected onSendBinaryFrame in $stateName state", fsm.clock.nowMillis)
 
-  def onTextFrameReceived(message: String, timestamp: Long): NextWsState =
+  def onTextFrameReceived(frame: WsInboundTextFrame, timestamp: Long): NextWsState =
     onIllegalState(s"Unexpected onTextFrameReceived in $stateName state", timestamp)
 
   def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState =
@@ -122,13 +124,18 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
         fsm.onSendBinaryFrame(actionName, message, checkSequences, session, next)
     }
 
-  protected def autoReplyTextFrames(message: String, webSocket: WebSocket): Boolean =
-    fsm.httpProtocol.wsPart.autoReplyTextFrames(message) match {
-      case Some(reply) =>
-        logger.debug(s"Auto Reply to message '$message' with '$reply'")
-        webSocket.sendFrame(new TextWebSocketFrame(reply))
-        true
-      case _ =>
-        false
+  protected def autoReplyTextFrames(frame: WsInboundTextFrame, webSocket: WebSocket): Boolean = {
+    val autoReplyTextFrames = fsm.httpProtocol.wsPart.autoReplyTextFrames
+    // don't decode the frame when there's no auto reply
+    (autoReplyTextFrames ne HttpProtocol.NoAutoReplyTextFrames) && {
+      autoReplyTextFrames(frame.text) match {
+        case Some(reply) =>
+          logger.debug(s"Auto Reply to message '${frame.text}' with '$reply'")
+          webSocket.sendFrame(new TextWebSocketFrame(reply))
+          true
+        case _ =>
+          false
+      }
     }
+  }
 }
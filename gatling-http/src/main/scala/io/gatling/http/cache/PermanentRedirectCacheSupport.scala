@@ -17,7 +17,6 @@
 package io.gatling.http.cache
 
 import scala.annotation.tailrec
-import scala.jdk.CollectionConverters._
 
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session.{ Session, SessionPrivateAttributes }
@@ -78,10 +77,13 @@ private[cache] trait PermanentRedirectCacheSupport {
       session: Session,
       redirectCount: Int,
       namingStrategy: (Uri, String, Int) => String
-  ): Request =
-    new RequestBuilder(namingStrategy(redirectUri, requestName, redirectCount), request.getMethod, redirectUri, request.getNameResolver)
-      .setHeaders(request.getHeaders.remove(HttpHeaderNames.COOKIE))
-      .setCookies(CookieSupport.getStoredCookies(session, redirectUri).asJava)
+  ): Request = {
+    val requestBuilder =
+      new RequestBuilder(namingStrategy(redirectUri, requestName, redirectCount), request.getMethod, redirectUri, request.getNameResolver)
+        .setHeaders(request.getHeaders.remove(HttpHeaderNames.COOKIE))
+
+    CookieSupport
+      .setStoredCookies(session, redirectUri, requestBuilder)
       .setBodyBuilder(if (request.getBody != null) request.getBody.newBuilder else null)
       .setRequestTimeout(request.getRequestTimeout)
       .setAutoOrigin(request.isAutoOrigin)
@@ -91,9 +93,11 @@ private[cache] trait PermanentRedirectCacheSupport {
       .setSignatureCalculator(request.getSignatureCalculator)
       .setHttp2Enabled(request.isHttp2Enabled)
       .setHttp2PriorKnowledge(request.getHttp2PriorKnowledge)
+      .setHttp2ConnectionSettings(request.getHttp2ConnectionSettings)
       .setWsSubprotocol(request.getWsSubprotocol)
       .setDefaultCharset(configuration.core.charset)
       .build
+  }
 
   def applyPermanentRedirect(origTx: HttpTx): HttpTx = {
     val httpProtocol = origTx.request.requestConfig.httpProtocol
@@ -44,9 +44,16 @@ private[http] object SslContextSupport extends StrictLogging {
       case _ => None
     }
 
+  private def isSharingTlsSessions(httpProtocol: HttpProtocol): Boolean =
+    httpProtocol.enginePart.shareTlsSessions && httpProtocol.enginePart.perUserKeyManagerFactory.isEmpty
+
   def setSslContexts(httpProtocol: HttpProtocol, httpEngine: HttpEngine): Session => Session =
     if (httpProtocol.enginePart.shareConnections) {
       Session.Identity
+    } else if (isSharingTlsSessions(httpProtocol)) {
+      // one SslContext, hence one TLS session cache, for all the virtual users of this protocol
+      val sslContexts = httpEngine.newSharedSslContexts(httpProtocol.enginePart.enableHttp2)
+      _.set(HttpSslContextsAttributeName, sslContexts)
     } else { session =>
       val perUserKeyManagerFactory = resolvePerUserKeyManagerFactory(session, httpProtocol.enginePart.perUserKeyManagerFactory)
       val sslContexts = httpEngine.newSslContexts(httpProtocol.enginePart.enableHttp2, perUserKeyManagerFactory)
@@ -55,4 +62,12 @@ private[http] object SslContextSupport extends StrictLogging {
 
   def sslContexts(session: Session): Option[SslContexts] =
     session.attributes.get(HttpSslContextsAttributeName).map(_.asInstanceOf[SslContexts])
+
+  def closeSslContexts(httpProtocol: HttpProtocol): Session => Unit =
+    if (isSharingTlsSessions(httpProtocol)) {
+      // closed by the HttpEngine
+      _ => ()
+    } else { session =>
+      sslContexts(session).foreach(_.close())
+    }
 }
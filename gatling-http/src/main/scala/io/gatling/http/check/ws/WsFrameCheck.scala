@@ -16,12 +16,17 @@
 
 package io.gatling.http.check.ws
 
+import java.nio.charset.StandardCharsets.UTF_8
+
 import scala.concurrent.duration.FiniteDuration
 
 import io.gatling.commons.validation.Validation
 import io.gatling.core.session.{ Expression, Session }
+import io.gatling.http.action.ws.WsInboundTextFrame
 import io.gatling.internal.quicklens._
 
+import io.netty.buffer.{ ByteBuf, Unpooled }
+
 final case class WsFrameCheckSequence[+T <: WsFrameCheck](timeout: FiniteDuration, checks: List[T]) {
   require(checks.nonEmpty, "Can't pass an empty check sequence")
 }
@@ -64,13 +69,28 @@ object WsFrameCheck {
       matchConditions: List[WsCheck.Text],
       checks: List[WsCheck.Text],
       isSilent: Boolean,
-      resolvedName: String
+      resolvedName: String,
+      substringMatchConditions: List[String]
   ) extends WsFrameCheck {
+    private val utf8Substrings: List[ByteBuf] =
+      substringMatchConditions.map(substring => Unpooled.wrappedBuffer(substring.getBytes(UTF_8)))
+
     def matching(newMatchConditions: WsCheck.Text*): Text = {
       require(!newMatchConditions.contains(null), "Matching conditions can't contain null elements. Forward reference issue?")
       this.modify(_.matchConditions)(_ ::: newMatchConditions.toList)
     }
 
+    /**
+     * Cheap pre-filter: frames that don't contain all those substrings are ruled out on their raw bytes, without being decoded.
+     */
+    def matchingSubstring(substrings: String*): Text = {
+      require(!substrings.contains(null), "Matching substrings can't contain null elements")
+      this.modify(_.substringMatchConditions)(_ ::: substrings.toList)
+    }
+
+    private[http] def matchesSubstrings(frame: WsInboundTextFrame): Boolean =
+      utf8Substrings.forall(frame.contains)
+
     def check(newChecks: WsCheck.Text*): Text = {
       require(!newChecks.contains(null), "Checks can't contain null elements. Forward reference issue?")
       this.modify(_.checks)(_ ::: newChecks.toList)
@@ -16,19 +16,38 @@
 
 package io.gatling.http.cookie
 
+import java.{ util => ju }
 import java.util.Locale
 import java.util.regex.Pattern
 
+import scala.jdk.CollectionConverters._
+
 import io.gatling.http.client.uri.Uri
 
-import io.netty.handler.codec.http.cookie.Cookie
+import io.netty.handler.codec.http.cookie.{ ClientCookieEncoder, Cookie }
 
 private[cookie] final case class CookieKey(name: String, domain: String, path: String)
 
 private[cookie] final case class StoredCookie(cookie: Cookie, hostOnly: Boolean, persistent: Boolean, creationTime: Long)
 
+private[http] object RenderedCookies {
+  val Empty: RenderedCookies = new RenderedCookies(ju.Collections.emptyList[Cookie], null)
+}
+
+private[cookie] final case class RenderedCookiesKey(domain: String, path: String, secureContext: Boolean)
+
 private[cookie] object CookieJar {
-  val Empty: CookieJar = CookieJar(Map.empty)
+  val Empty: CookieJar = new CookieJar(Map.empty)
+
+  private val RenderedCookiesCacheMaxCapacity = 16
+
+  // most specific path first, then oldest first
+  private val MatchingCookiesOrdering: ju.Comparator[(CookieKey, StoredCookie)] = { (entry1, entry2) =>
+    val (key1, storedCookie1) = entry1
+    val (key2, storedCookie2) = entry2
+    val pathLengthComparison = Integer.compare(key2.path.length, key1.path.length)
+    if (pathLengthComparison != 0) pathLengthComparison else java.lang.Long.compare(storedCookie1.creationTime, storedCookie2.creationTime)
+  }
 
   private def requestDomain(requestUri: Uri) = requestUri.getHost.toLowerCase(Locale.ROOT)
 
@@ -81,9 +100,21 @@ private[cookie] object CookieJar {
       )
 }
 
-private[http] final case class CookieJar(store: Map[CookieKey, StoredCookie]) {
+/**
+ * The cookies matching a request, along with their pre-rendered Cookie header value
+ */
+private[http] final class RenderedCookies(val cookies: ju.List[Cookie], val header: String)
+
+private[http] final class CookieJar(val store: Map[CookieKey, StoredCookie], domainIndex: Map[String, Map[CookieKey, StoredCookie]]) {
   import CookieJar._
 
+  def this(store: Map[CookieKey, StoredCookie]) =
+    this(store, store.groupBy(_._1.domain))
+
+  // Jars are immutable and only ever accessed by the virtual user owning them, so there's no need for synchronization
+  // and a new jar is created (with an empty cache) whenever a cookie is added or removed.
+  private val renderedCookiesCache = new ju.HashMap[RenderedCookiesKey, RenderedCookies]
+
   /**
    * @param requestUri
    *   the uri used to deduce defaults for optional domains and paths
@@ -94,21 +125,32 @@ private[http] final case class CookieJar(store: Map[CookieKey, StoredCookie]) {
     add(requestDomain(requestUri), requestUri.getNonEmptyPath, cookies, nowMillis)
 
   def add(requestDomain: String, requestPath: String, cookies: List[Cookie], nowMillis: Long): CookieJar = {
-    val newStore = cookies.foldLeft(store) { (updatedStore, cookie) =>
+    val (newStore, newDomainIndex) = cookies.foldLeft((store, domainIndex)) { case ((updatedStore, updatedDomainIndex), cookie) =>
       val (keyDomain, hostOnly) = cookieDomain(Option(cookie.domain), requestDomain)
 
       val keyPath = cookiePath(Option(cookie.path), requestPath)
+      val key = CookieKey(cookie.name, keyDomain, keyPath)
+      val domainCookies = updatedDomainIndex.getOrElse(keyDomain, Map.empty[CookieKey, StoredCookie])
 
       if (hasExpired(cookie)) {
-        updatedStore - CookieKey(cookie.name, keyDomain, keyPath)
+        val newDomainCookies = domainCookies - key
+        (
+          updatedStore - key,
+          if (newDomainCookies.isEmpty) updatedDomainIndex - keyDomain else updatedDomainIndex.updated(keyDomain, newDomainCookies)
+        )
       } else {
         val persistent = cookie.maxAge != Cookie.UNDEFINED_MAX_AGE
-        updatedStore + (CookieKey(cookie.name, keyDomain, keyPath) -> StoredCookie(cookie, hostOnly, persistent, nowMillis))
+        val storedCookie = StoredCookie(cookie, hostOnly, persistent, nowMillis)
+        (updatedStore.updated(key, storedCookie), updatedDomainIndex.updated(keyDomain, domainCookies.updated(key, storedCookie)))
       }
     }
 
-    CookieJar(newStore)
+    new CookieJar(newStore, newDomainIndex)
   }
+
+  def filter(p: StoredCookie => Boolean): CookieJar =
+    new CookieJar(store.filter { case (_, storedCookie) => p(storedCookie) })
+
   // used by getCookieValue
   def find(name: String, requestDomain: String, requestPath: Option[String], requestSecure: Option[Boolean]): List[Cookie] =
     if (store.isEmpty) {
@@ -126,31 +168,57 @@ private[http] final case class CookieJar(store: Map[CookieKey, StoredCookie]) {
 
   // used by getStoredCookies, for HTTP requests
   def get(requestUri: Uri): List[Cookie] =
+    render(requestUri).cookies.asScala.toList
+
+  /**
+   * @return
+   *   the cookies matching the request, most specific path first, and the corresponding Cookie header value (null if there's none)
+   */
+  def render(requestUri: Uri): RenderedCookies =
     if (store.isEmpty) {
-      Nil
+      RenderedCookies.Empty
     } else {
-      val domain = requestDomain(requestUri)
-      val path = requestUri.getNonEmptyPath
-      val secureContext = isSecureContext(requestUri)
-
-      val matchingCookies = store.filter { case (key, storedCookie) =>
-        domainsMatch(key.domain, domain, storedCookie.hostOnly) &&
-        pathsMatch(key.path, path) &&
-        (secureContext || !storedCookie.cookie.isSecure)
+      val key = new RenderedCookiesKey(requestDomain(requestUri), requestUri.getNonEmptyPath, isSecureContext(requestUri))
+      val cached = renderedCookiesCache.get(key)
+      if (cached != null) {
+        cached
+      } else {
+        val rendered = render(key)
+        if (renderedCookiesCache.size >= RenderedCookiesCacheMaxCapacity) {
+          // typically, a path param changes on every request
+          renderedCookiesCache.clear()
+        }
+        renderedCookiesCache.put(key, rendered)
+        rendered
       }
+    }
 
-      matchingCookies.toList
-        .sortWith { (entry1, entry2) =>
-          val (key1, storedCookie1) = entry1
-          val (key2, storedCookie2) = entry2
-
-          if (key1.path.length == key2.path.length)
-            storedCookie1.creationTime < storedCookie2.creationTime
-          else
-            key1.path.length >= key2.path.length
+  private def render(key: RenderedCookiesKey): RenderedCookies = {
+    val matchingCookies = new ju.ArrayList[(CookieKey, StoredCookie)]
+
+    // walk the request domain and its parent domains, like a reversed domain trie, instead of scanning all the stored cookies
+    // parent domains first, so cookies with the same path and creation time keep being listed from the most generic domain
+    var domainStart = key.domain.lastIndexOf('.')
+    while (domainStart >= -1) {
+      val domain = key.domain.substring(domainStart + 1)
+      val domainCookies = domainIndex.getOrElse(domain, Map.empty[CookieKey, StoredCookie])
+      domainCookies.foreach { case entry @ (cookieKey, storedCookie) =>
+        if (pathsMatch(cookieKey.path, key.path) && (key.secureContext || !storedCookie.cookie.isSecure)) {
+          matchingCookies.add(entry)
         }
-        .map(_._2.cookie)
+      }
+      domainStart = if (domainStart >= 0) key.domain.lastIndexOf('.', domainStart - 1) else -2
+    }
+
+    if (matchingCookies.isEmpty) {
+      RenderedCookies.Empty
+    } else {
+      matchingCookies.sort(MatchingCookiesOrdering)
+      val cookies = new ju.ArrayList[Cookie](matchingCookies.size)
+      matchingCookies.forEach(entry => cookies.add(entry._2.cookie))
+      new RenderedCookies(ju.Collections.unmodifiableList(cookies), ClientCookieEncoder.LAX.encode(cookies))
     }
+  }
 
   private def isSecureContext(uri: Uri): Boolean =
     uri.getScheme == Uri.HTTPS ||
@@ -20,6 +20,7 @@ import io.gatling.commons.validation._
 import io.gatling.core.session.{ Expression, Session, SessionPrivateAttributes }
 import io.gatling.http.action.cookie.{ AddCookieBuilder, AddCookieDsl, GetCookieBuilder, GetCookieDsl }
 import io.gatling.http.cache.HttpCaches
+import io.gatling.http.client.RequestBuilder
 import io.gatling.http.client.uri.Uri
 
 import io.netty.handler.codec.http.cookie.Cookie
@@ -36,6 +37,18 @@ private[http] object CookieSupport {
       case _               => Nil
     }
 
+  def setStoredCookies(session: Session, uri: Uri, requestBuilder: RequestBuilder): RequestBuilder =
+    cookieJar(session) match {
+      case Some(cookieJar) =>
+        val renderedCookies = cookieJar.render(uri)
+        if (renderedCookies.cookies.isEmpty) {
+          requestBuilder
+        } else {
+          requestBuilder.setCookies(renderedCookies.cookies, renderedCookies.header)
+        }
+      case _ => requestBuilder
+    }
+
   private def getOrCreateCookieJar(session: Session) =
     cookieJar(session) match {
       case Some(cookieJar) => cookieJar
@@ -69,8 +82,7 @@ private[http] object CookieSupport {
   private val FlushSessionCookies: Expression[Session] = session =>
     cookieJar(session) match {
       case Some(cookieJar) =>
-        val storeWithOnlyPersistentCookies = cookieJar.store.filter { case (_, storeCookie) => storeCookie.persistent }
-        session.set(CookieJarAttributeName, CookieJar(storeWithOnlyPersistentCookies)).success
+        session.set(CookieJarAttributeName, cookieJar.filter(_.persistent)).success
       case _ => session.success
     }
 
@@ -26,6 +26,7 @@ import io.gatling.commons.util.Throwables._
 import io.gatling.http.client.{ HttpListener, Request }
 import io.gatling.http.engine.response.ResponseProcessor
 import io.gatling.http.engine.tx.HttpTx
+import io.gatling.http.fetch.StreamingHtmlParser
 import io.gatling.http.response.{ HttpFailure, HttpResult, Response, ResponseBody }
 import io.gatling.http.util.HttpHelper.{ extractCharsetFromContentType, isCss, isHtml }
 
@@ -59,6 +60,7 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
   private var init = false
   private var done = false
   private var storeHtmlOrCss: Boolean = _
+  private var htmlParser: StreamingHtmlParser = _
   private var requestStartTimestamp: Long = _
   private var requestEndTimestamp: Long = _
   private var isHttp2: Boolean = _
@@ -140,6 +142,14 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       this.status = status
       this.headers = headers
       storeHtmlOrCss = httpProtocol.responsePart.inferHtmlResources && (isHtml(headers) || isCss(headers))
+      if (
+        storeHtmlOrCss && httpProtocol.responsePart.incrementalHtmlResourcesInference &&
+        tx.resourceTx.isEmpty && responseTransformer.isEmpty && isHtml(headers)
+      ) {
+        // parse the page as it's received instead of retaining it
+        htmlParser = new StreamingHtmlParser(resolveCharset(headers, defaultCharset))
+        storeHtmlOrCss = false
+      }
     }
 
   override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
@@ -154,6 +164,15 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
           chunks = chunk.retain() :: chunks
         }
 
+        if (htmlParser != null) {
+          htmlParser.onChunk(chunk)
+          if (status == HttpResponseStatus.OK && !last) {
+            // like browsers, start fetching the resources while the page is still being received,
+            // the ones found in the last chunk are fetched once the page is processed
+            htmlParser.settledResources().foreach(responseProcessor.onStreamedHtmlResources)
+          }
+        }
+
         if (digests.nonEmpty)
           for {
             nioBuffer <- chunk.nioBuffers
@@ -193,7 +212,8 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
           headers,
           body,
           checksums,
-          isHttp2
+          isHttp2,
+          Option(htmlParser).map(_.end())
         )
       } catch {
         case NonFatal(t) => buildFailure(t)
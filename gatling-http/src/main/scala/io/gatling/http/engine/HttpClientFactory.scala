@@ -45,6 +45,11 @@ private[gatling] final class HttpClientFactory(
       .setEnableSni(sslConfig.enableSni)
       .setUseNativeTransport(nettyConfig.useNativeTransport)
       .setUseIoUring(nettyConfig.useIoUring)
+      .setDirectHttp1RequestHeadEncoding(httpConfig.directHttp1RequestHeadEncoding)
+      .setRequestTimeoutWheelTick(httpConfig.requestTimeoutWheelTick.toMillis)
+      .setLeanWebSocketPipeline(httpConfig.leanWebSocketPipeline)
+      .setMaxConnectionsPerRemote(httpConfig.maxConnectionsPerRemote)
+      .setHttp1PipeliningDepth(httpConfig.http1PipeliningDepth)
   }
 
   def newClient: HttpClient = new DefaultHttpClient(newClientConfig())
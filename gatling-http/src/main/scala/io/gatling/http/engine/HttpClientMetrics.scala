@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.engine
+
+import java.{ util => ju }
+
+import scala.jdk.CollectionConverters._
+
+import io.gatling.core.stats.StatsEngine
+import io.gatling.http.client.HttpClient
+import io.gatling.http.resolver.PrefetchingDnsCache
+
+/**
+ * Samples the connection level stats of the HTTP client and the stats of the shared DNS caches as [[StatsEngine]] gauges
+ */
+private[engine] final class HttpClientMetrics(httpClient: HttpClient, sharedDnsCaches: ju.Collection[PrefetchingDnsCache], statsEngine: StatsEngine) {
+  def sample(): Unit = {
+    val dnsCaches = sharedDnsCaches.asScala
+    if (dnsCaches.nonEmpty) {
+      statsEngine.logGauge("dns_cache_hits", Nil, dnsCaches.map(_.hits).sum)
+      statsEngine.logGauge("dns_cache_negative_hits", Nil, dnsCaches.map(_.negativeHits).sum)
+      statsEngine.logGauge("dns_cache_misses", Nil, dnsCaches.map(_.misses).sum)
+      statsEngine.logGauge("dns_cache_prefetches", Nil, dnsCaches.map(_.prefetches).sum)
+    }
+
+    val tlsHandshakeStats = httpClient.getTlsHandshakeStats
+    if (tlsHandshakeStats.getFullHandshakes + tlsHandshakeStats.getResumptions > 0) {
+      statsEngine.logGauge("tls_full_handshakes", Nil, tlsHandshakeStats.getFullHandshakes)
+      statsEngine.logGauge("tls_full_handshakes_millis", Nil, tlsHandshakeStats.getFullHandshakesMillis)
+      statsEngine.logGauge("tls_resumptions", Nil, tlsHandshakeStats.getResumptions)
+      statsEngine.logGauge("tls_resumptions_millis", Nil, tlsHandshakeStats.getResumptionsMillis)
+    }
+
+    val http2Stats = httpClient.getHttp2Stats
+    if (http2Stats.getConnections > 0) {
+      statsEngine.logGauge("http2_stream_limit_waits", Nil, http2Stats.getStreamLimitWaits)
+      // aggregated per remote, as labelling with every connection would make the number of series unbounded
+      http2Stats.getOpenConnections.asScala.groupBy(_.getRemoteAddress).toSeq.sortBy(_._1).foreach { case (remote, connections) =>
+        val labels = List("remote" -> remote)
+        statsEngine.logGauge("http2_connections", labels, connections.size.toLong)
+        statsEngine.logGauge("http2_active_streams", labels, connections.map(_.getActiveStreams.toLong).sum)
+        statsEngine.logGauge("http2_max_concurrent_streams", labels, connections.map(_.getMaxConcurrentStreams).max.toLong)
+        statsEngine.logGauge("http2_peak_active_streams", labels, connections.map(_.getPeakActiveStreams).max.toLong)
+        statsEngine.logGauge("http2_opened_streams", labels, connections.map(_.getOpenedStreams).sum)
+        statsEngine.logGauge("http2_window_stalls", labels, connections.map(_.getWindowStalls).sum)
+      }
+    }
+  }
+}
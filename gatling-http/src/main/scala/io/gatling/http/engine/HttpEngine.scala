@@ -18,23 +18,28 @@ package io.gatling.http.engine
 
 import java.{ util => ju }
 import java.net.{ InetAddress, InetSocketAddress }
+import java.util.concurrent.TimeUnit
 import javax.net.ssl.KeyManagerFactory
 
 import scala.concurrent.{ Await, Promise }
 import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
 import scala.util.control.NonFatal
 
 import io.gatling.commons.util.Clock
 import io.gatling.commons.util.Throwables._
 import io.gatling.core.CoreComponents
+import io.gatling.core.actor.Scheduler
 import io.gatling.core.body.StringBody
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
-import io.gatling.http.client.{ HttpClient, HttpListener, Request, RequestBuilder }
+import io.gatling.core.stats.StatsEngine
+import io.gatling.http.cache.LocalAddressSupport
+import io.gatling.http.client.{ HttpClient, HttpListener, LocalAddresses, Request, RequestBuilder }
 import io.gatling.http.client.resolver._
 import io.gatling.http.client.uri.Uri
 import io.gatling.http.client.util.Pair
-import io.gatling.http.protocol.HttpComponents
+import io.gatling.http.protocol.{ HttpComponents, HttpProtocol, Remote }
 import io.gatling.http.request.builder.Http
 import io.gatling.http.resolver._
 import io.gatling.http.util.{ SslContexts, SslContextsFactory }
@@ -51,7 +56,15 @@ object HttpEngine {
   def apply(coreComponents: CoreComponents): HttpEngine = {
     val sslContextsFactory = new SslContextsFactory(coreComponents.configuration.ssl, coreComponents.configuration.http.enableHostnameVerification)
     val httpClient = new HttpClientFactory(sslContextsFactory, coreComponents.configuration).newClient
-    new HttpEngine(sslContextsFactory, httpClient, coreComponents.eventLoopGroup, coreComponents.clock, coreComponents.configuration)
+    new HttpEngine(
+      sslContextsFactory,
+      httpClient,
+      coreComponents.eventLoopGroup,
+      coreComponents.clock,
+      coreComponents.statsEngine,
+      coreComponents.actorSystem.scheduler,
+      coreComponents.configuration
+    )
   }
 }
 
@@ -60,11 +73,22 @@ final class HttpEngine(
     httpClient: HttpClient,
     eventLoopGroup: EventLoopGroup,
     clock: Clock,
+    statsEngine: StatsEngine,
+    scheduler: Scheduler,
     configuration: GatlingConfiguration
 ) extends AutoCloseable
     with StrictLogging {
   private[this] var warmedUp = false
 
+  private val sharedDnsCaches = new ju.concurrent.ConcurrentLinkedQueue[PrefetchingDnsCache]
+
+  // gauges are only exported by the live metrics
+  private val clientMetricsSampling =
+    Option.when(configuration.data.live.enabled) {
+      val clientMetrics = new HttpClientMetrics(httpClient, sharedDnsCaches, statsEngine)
+      scheduler.scheduleAtFixedRate(configuration.data.console.writePeriod)(clientMetrics.sample())
+    }
+
   def warmUp(httpComponents: HttpComponents): Unit =
     if (!warmedUp) {
       logger.debug("Start warm up")
@@ -141,6 +165,68 @@ final class HttpEngine(
       logger.debug("Warm up done")
     }
 
+  /**
+   * @return
+   *   the number of connections that were successfully pre-warmed
+   */
+  def prewarmConnections(httpComponents: HttpComponents): Int = {
+    import httpComponents._
+
+    val connectionsPerEventLoop = httpProtocol.enginePart.prewarmedConnectionsPerEventLoop
+    if (connectionsPerEventLoop <= 0 || httpClient.isClosed) {
+      0
+    } else if (!httpProtocol.enginePart.shareConnections) {
+      logger.warn("Not pre-warming connections as they're only pre-warmed with shareConnections")
+      0
+    } else if (httpProtocol.proxyPart.proxy.isDefined) {
+      logger.warn("Not pre-warming connections as they're not pre-warmed when using a proxy")
+      0
+    } else {
+      // resolve and bind like the virtual users will, so they get the connections they would have opened themselves
+      val setUpSession = httpCaches.setNameResolver(httpProtocol.dnsPart, this).andThen(LocalAddressSupport.setLocalAddresses(httpProtocol))
+      val sessions = eventLoopGroup.iterator.asScala.collect { case eventLoop: EventLoop => setUpSession(Session("prewarm", -1, eventLoop)) }.toList
+      val futures =
+        for {
+          session <- sessions
+          nameResolver <- httpCaches.nameResolver(session).toOption.toList
+          baseUrl <- httpProtocol.baseUrls
+          request = prewarmRequest(httpProtocol, Uri.create(baseUrl), nameResolver, LocalAddressSupport.localAddresses(session))
+          _ <- 1 to connectionsPerEventLoop
+        } yield httpClient.prewarmChannel(request, -1, session.eventLoop, null)
+
+      // each connection is bound by the request timeout
+      val deadline = System.nanoTime() + configuration.http.requestTimeout.toNanos
+      val (prewarmed, failed) = futures.partition { future =>
+        future.awaitUninterruptibly(math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS) && future.isSuccess
+      }
+      failed.headOption.flatMap(future => Option(future.cause)).foreach { e =>
+        logger.debug(s"Couldn't pre-warm ${failed.size} connections: ${e.rootMessage}")
+      }
+      logger.info(s"Pre-warmed ${prewarmed.size}/${futures.size} connections")
+      sessions.foreach(httpCaches.nameResolver(_).foreach(_.close()))
+      prewarmed.size
+    }
+  }
+
+  private def prewarmRequest(
+      httpProtocol: HttpProtocol,
+      uri: Uri,
+      nameResolver: InetAddressNameResolver,
+      localAddresses: Option[LocalAddresses]
+  ): Request = {
+    val requestBuilder = new RequestBuilder("prewarm", HttpMethod.GET, uri, nameResolver)
+      .setRequestTimeout(configuration.http.requestTimeout.toMillis)
+      .setDefaultCharset(configuration.core.charset)
+    localAddresses.foreach(requestBuilder.setLocalAddresses)
+    if (httpProtocol.enginePart.enableHttp2) {
+      requestBuilder
+        .setHttp2Enabled(true)
+        .setHttp2PriorKnowledge(httpProtocol.enginePart.http2PriorKnowledge.get(Remote(uri)).orNull)
+        .setHttp2ConnectionSettings(httpProtocol.enginePart.http2ConnectionSettings)
+    }
+    requestBuilder.build
+  }
+
   def executeRequest(
       clientRequest: Request,
       clientId: Long,
@@ -202,7 +288,12 @@ final class HttpEngine(
   def newSharedAsyncDnsNameResolverFactory(dnsServers: Array[InetSocketAddress]): EventLoop => InetAddressNameResolver = {
     val inProgressResolutions = new ju.concurrent.ConcurrentHashMap[String, NettyPromise[ju.List[InetAddress]]]
 
-    val sharedCache: DnsCache = new DefaultDnsCache
+    val sharedCache = new PrefetchingDnsCache(
+      new DefaultDnsCache(0, Int.MaxValue, configuration.http.dns.negativeTtl.toSeconds.toInt),
+      configuration.http.dns.prefetchThreshold,
+      newAsyncDnsNameResolver(_, dnsServers, _)
+    )
+    sharedDnsCaches.add(sharedCache)
 
     val computer: ju.function.Function[EventLoop, InetAddressNameResolver] =
       el => {
@@ -216,14 +307,38 @@ final class HttpEngine(
   def newSslContexts(http2Enabled: Boolean, perUserKeyManagerFactory: Option[KeyManagerFactory]): SslContexts =
     sslContextsFactory.newSslContexts(http2Enabled, perUserKeyManagerFactory)
 
+  private val sharedSslContexts = new ju.concurrent.ConcurrentLinkedQueue[SslContexts]
+
+  def newSharedSslContexts(http2Enabled: Boolean): SslContexts = {
+    val sslContexts = sslContextsFactory.newSslContexts(http2Enabled, None)
+    sharedSslContexts.add(sslContexts)
+    sslContexts
+  }
+
   def flushClientIdChannels(clientId: Long, eventLoop: EventLoop): Unit =
     if (!httpClient.isClosed) {
       httpClient.flushClientIdChannels(clientId, eventLoop)
     }
 
   override def close(): Unit = {
+    clientMetricsSampling.foreach(_.cancel())
+    val tlsHandshakeStats = httpClient.getTlsHandshakeStats
+    if (tlsHandshakeStats.getFullHandshakes + tlsHandshakeStats.getResumptions > 0) {
+      logger.info(s"TLS handshake stats: $tlsHandshakeStats")
+    }
+    val http2Stats = httpClient.getHttp2Stats
+    if (http2Stats.getConnections > 0) {
+      logger.info(s"HTTP/2 stats: $http2Stats")
+    }
     httpClient.close()
+    sharedSslContexts.forEach(_.close())
     // perform close on system shutdown instead of virtual user termination as it's shared
     sharedResolverCache.values().forEach(_.close())
+    sharedDnsCaches.forEach { cache =>
+      cache.closePrefetchResolvers()
+      if (cache.hits + cache.negativeHits + cache.misses > 0) {
+        logger.info(s"Shared DNS cache stats: hits=${cache.hits} negativeHits=${cache.negativeHits} misses=${cache.misses} prefetches=${cache.prefetches}")
+      }
+    }
   }
 }
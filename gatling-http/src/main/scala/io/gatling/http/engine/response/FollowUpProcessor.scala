@@ -18,8 +18,6 @@ package io.gatling.http.engine.response
 
 import java.nio.charset.Charset
 
-import scala.jdk.CollectionConverters._
-
 import io.gatling.core.session.Session
 import io.gatling.http.auth.DigestAuthSupport
 import io.gatling.http.client.{ Request, RequestBuilder }
@@ -74,6 +72,7 @@ object FollowUpProcessor {
       )
         .setHeaders(newHeaders)
         .setHttp2Enabled(originalRequest.isHttp2Enabled)
+        .setHttp2ConnectionSettings(originalRequest.getHttp2ConnectionSettings)
         .setLocalAddresses(originalRequest.getLocalAddresses)
         .setRealm(originalRequest.getRealm)
         .setRequestTimeout(originalRequest.getRequestTimeout)
@@ -89,10 +88,7 @@ object FollowUpProcessor {
       Option(originalRequest.getBody).foreach(body => requestBuilder.setBodyBuilder(body.newBuilder))
     }
 
-    val cookies = CookieSupport.getStoredCookies(session, redirectUri)
-    if (cookies.nonEmpty) {
-      requestBuilder.setCookies(cookies.asJava)
-    }
+    CookieSupport.setStoredCookies(session, redirectUri, requestBuilder)
 
     requestBuilder.build
   }
@@ -121,6 +117,7 @@ object FollowUpProcessor {
       )
         .setHeaders(newHeaders)
         .setHttp2Enabled(originalRequest.isHttp2Enabled)
+        .setHttp2ConnectionSettings(originalRequest.getHttp2ConnectionSettings)
         .setLocalAddresses(originalRequest.getLocalAddresses)
         .setRealm(originalRequest.getRealm)
         .setRequestTimeout(originalRequest.getRequestTimeout)
@@ -129,10 +126,7 @@ object FollowUpProcessor {
 
     Option(originalRequest.getBody).foreach(body => requestBuilder.setBodyBuilder(body.newBuilder))
 
-    val cookies = CookieSupport.getStoredCookies(session, originalRequest.getUri)
-    if (cookies.nonEmpty) {
-      requestBuilder.setCookies(cookies.asJava)
-    }
+    CookieSupport.setStoredCookies(session, originalRequest.getUri, requestBuilder)
 
     requestBuilder.build
   }
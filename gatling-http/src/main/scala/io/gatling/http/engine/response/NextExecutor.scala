@@ -20,11 +20,14 @@ import io.gatling.commons.stats.{ KO, Status }
 import io.gatling.core.session.Session
 import io.gatling.core.util.NameGen
 import io.gatling.http.engine.tx.{ HttpTx, HttpTxExecutor, ResourceTx }
-import io.gatling.http.fetch.ResourceFetcher
+import io.gatling.http.fetch.{ HtmlResources, ResourceAggregator, ResourceFetcher }
 import io.gatling.http.response.Response
 import io.gatling.http.util.HttpHelper.isCss
 
 trait NextExecutor {
+  def executeStreamedResources(htmlResources: HtmlResources): Unit
+  // the session to process the response with when it differs from the tx one
+  def streamedResourcesSession: Option[Session]
   def executeNext(session: Session, status: Status, response: Response): Unit
   def executeNextOnCrash(session: Session): Unit
   def executeFollowUp(redirectTx: HttpTx): Unit
@@ -36,14 +39,34 @@ final class RootNextExecutor(
     httpTxExecutor: HttpTxExecutor
 ) extends NextExecutor
     with NameGen {
+  // resources fetched while the page is still being received
+  private var streamedResourceAggregator: Option[ResourceAggregator] = None
+
+  override def executeStreamedResources(htmlResources: HtmlResources): Unit =
+    streamedResourceAggregator match {
+      case Some(resourceAggregator) => resourceFetcher.streamedResourcesFound(resourceAggregator, tx, htmlResources)
+      case _                        => streamedResourceAggregator = resourceFetcher.newResourceAggregatorForStreamedPage(tx, htmlResources)
+    }
+
+  // the resources fetched in the meantime have updated the session, eg with cookies and cache entries
+  override def streamedResourcesSession: Option[Session] =
+    streamedResourceAggregator.map(_.currentSession)
+
   override def executeNext(session: Session, status: Status, response: Response): Unit =
-    resourceFetcher.newResourceAggregatorForFetchedPage(response, tx.copy(session = session), status) match {
-      case Some(resourceAggregator) => resourceAggregator.start(session)
-      case _                        => tx.next ! session
+    streamedResourceAggregator match {
+      case Some(resourceAggregator) => resourceFetcher.streamedPageFetched(resourceAggregator, response, tx.copy(session = session), status)
+      case _ =>
+        resourceFetcher.newResourceAggregatorForFetchedPage(response, tx.copy(session = session), status) match {
+          case Some(resourceAggregator) => resourceAggregator.start(session)
+          case _                        => tx.next ! session
+        }
     }
 
   override def executeNextOnCrash(session: Session): Unit =
-    tx.next ! session
+    streamedResourceAggregator match {
+      case Some(resourceAggregator) => resourceAggregator.onStreamedPageFetched(session, KO, Nil)
+      case _                        => tx.next ! session
+    }
 
   override def executeFollowUp(followUpTx: HttpTx): Unit =
     httpTxExecutor.execute(followUpTx)
@@ -53,6 +76,11 @@ final class ResourceNextExecutor(
     tx: HttpTx,
     resourceTx: ResourceTx
 ) extends NextExecutor {
+  // only root pages have their resources streamed
+  override def executeStreamedResources(htmlResources: HtmlResources): Unit = {}
+
+  override def streamedResourcesSession: Option[Session] = None
+
   override def executeNext(session: Session, status: Status, response: Response): Unit =
     if (isCss(response.headers)) {
       resourceTx.aggregator.onCssResourceFetched(
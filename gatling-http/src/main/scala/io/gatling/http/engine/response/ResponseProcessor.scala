@@ -28,6 +28,7 @@ import io.gatling.core.util.NameGen
 import io.gatling.http.auth.DigestAuthSupport
 import io.gatling.http.client.realm.DigestRealm
 import io.gatling.http.engine.tx.HttpTx
+import io.gatling.http.fetch.HtmlResources
 import io.gatling.http.response.{ HttpFailure, HttpResult, Response }
 import io.gatling.http.util.HttpHelper
 import io.gatling.http.util.HttpHelper.resolveFromUri
@@ -132,6 +133,9 @@ object ResponseProcessor extends StrictLogging {
 }
 
 trait ResponseProcessor {
+  // the resources of an HTML page found while it's still being received, see StreamingHtmlParser
+  def onStreamedHtmlResources(htmlResources: HtmlResources): Unit = {}
+
   def onComplete(result: HttpResult): Unit
 }
 
@@ -143,24 +147,33 @@ final class DefaultResponseProcessor(
     defaultCharset: Charset
 ) extends ResponseProcessor
     with NameGen {
-  def onComplete(result: HttpResult): Unit =
+  override def onStreamedHtmlResources(htmlResources: HtmlResources): Unit =
+    nextExecutor.executeStreamedResources(htmlResources)
+
+  def onComplete(result: HttpResult): Unit = {
+    val currentTx = nextExecutor.streamedResourcesSession match {
+      case Some(session) => tx.copy(session = session)
+      case _             => tx
+    }
+
     result match {
       case rawResponse: Response =>
-        applyResponseTransformer(rawResponse, tx.currentSession) match {
+        applyResponseTransformer(rawResponse, currentTx.currentSession) match {
           case Success((response, session)) =>
-            val result = ResponseProcessor.processResponse(tx.copy(session = session), sessionProcessor, defaultCharset, response)
-            proceed(response, result)
+            val result = ResponseProcessor.processResponse(currentTx.copy(session = session), sessionProcessor, defaultCharset, response)
+            proceed(currentTx, response, result)
 
           case Failure(errorMessage) =>
-            proceed(rawResponse, Crash(errorMessage))
+            proceed(currentTx, rawResponse, Crash(errorMessage))
         }
 
       case failure: HttpFailure =>
-        val newSession = ResponseProcessor.processFailure(tx, sessionProcessor, statsProcessor, failure)
+        val newSession = ResponseProcessor.processFailure(currentTx, sessionProcessor, statsProcessor, failure)
         nextExecutor.executeNextOnCrash(newSession)
     }
+  }
 
-  private def proceed(response: Response, result: ProcessorResult): Unit =
+  private def proceed(currentTx: HttpTx, response: Response, result: ProcessorResult): Unit =
     result match {
       case Proceed(newSession, errorMessage) =>
         // different from tx.status because tx could be silent
@@ -173,7 +186,7 @@ final class DefaultResponseProcessor(
         nextExecutor.executeFollowUp(followUpTx)
 
       case Crash(errorMessage) =>
-        val newSession = sessionProcessor.updateSessionCrashed(tx.currentSession, response.startTimestamp, response.endTimestamp)
+        val newSession = sessionProcessor.updateSessionCrashed(currentTx.currentSession, response.startTimestamp, response.endTimestamp)
         statsProcessor.reportStats(tx.fullRequestName, newSession, KO, response, Some(errorMessage))
         nextExecutor.executeNextOnCrash(newSession)
     }
@@ -41,33 +41,54 @@ private[fetch] final case class RegularRawResource(rawUrl: String) extends RawRe
   def toEmbeddedResource(rootURI: Uri): Option[ConcurrentResource] = uri(rootURI).map(BasicResource)
 }
 
-private[fetch] final case class HtmlResources(rawResources: Seq[RawResource], base: Option[String])
+private[http] final case class HtmlResources(rawResources: Seq[RawResource], base: Option[String]) {
+  def embeddedResources(documentURI: Uri): List[ConcurrentResource] = {
+    val rootURI = base.map(Uri.create(documentURI, _)).getOrElse(documentURI)
+
+    rawResources.view.distinct
+      .filterNot(res => res.rawUrl.isEmpty || res.rawUrl.charAt(0) == '#' || res.rawUrl.startsWith("data:"))
+      .flatMap(_.toEmbeddedResource(rootURI).toList)
+      .to(List)
+  }
+}
+
+/**
+ * The view of a tag [[HtmlResourcesCollector]] needs, so it can be fed by either Lagarto or [[StreamingHtmlParser]].
+ */
+private[fetch] trait HtmlTag {
+  def isStart: Boolean
+  def isRawTag: Boolean
+  def nameEquals(name: String): Boolean
+  def attributeValue(name: String): Option[String]
+}
 
 private[gatling] object HtmlParser extends StrictLogging {
-  private val AppletTagName = "applet"
-  private val BaseTagName = "base"
-  private val BgsoundTagName = "bgsound"
-  private val BodyTagName = "body"
-  private val EmbedTagName = "embed"
-  private val ImgTagName = "img"
-  private val InputTagName = "input"
-  private val LinkTagName = "link"
-  private val ObjectTagName = "object"
-  private val StyleTagName = "style"
-
-  private val ArchiveAttribute = "archive"
-  private val BackgroundAttribute = "background"
-  private val CodeAttribute = "code"
-  private val CodeBaseAttribute = "codebase"
-  private val DataAttribute = "data"
-  private val HrefAttribute = "href"
-  private val RelAttribute = "rel"
-  private val SrcAttribute = "src"
-  private val StyleAttribute = StyleTagName
-  private val StylesheetRelValue = "stylesheet"
-  private val PrefetchRelValue = "prefetch"
-  private val IconRelValue = "icon"
-  private val ShortcutIconRelValue = "shortcut icon"
+  private[fetch] val AppletTagName = "applet"
+  private[fetch] val BaseTagName = "base"
+  private[fetch] val BgsoundTagName = "bgsound"
+  private[fetch] val BodyTagName = "body"
+  private[fetch] val EmbedTagName = "embed"
+  private[fetch] val HeadTagName = "head"
+  private[fetch] val ImgTagName = "img"
+  private[fetch] val InputTagName = "input"
+  private[fetch] val LinkTagName = "link"
+  private[fetch] val ObjectTagName = "object"
+  private[fetch] val ScriptTagName = "script"
+  private[fetch] val StyleTagName = "style"
+
+  private[fetch] val ArchiveAttribute = "archive"
+  private[fetch] val BackgroundAttribute = "background"
+  private[fetch] val CodeAttribute = "code"
+  private[fetch] val CodeBaseAttribute = "codebase"
+  private[fetch] val DataAttribute = "data"
+  private[fetch] val HrefAttribute = "href"
+  private[fetch] val RelAttribute = "rel"
+  private[fetch] val SrcAttribute = "src"
+  private[fetch] val StyleAttribute = StyleTagName
+  private[fetch] val StylesheetRelValue = "stylesheet"
+  private[fetch] val PrefetchRelValue = "prefetch"
+  private[fetch] val IconRelValue = "icon"
+  private[fetch] val ShortcutIconRelValue = "shortcut icon"
 
   private def logException(htmlContent: Array[Char], e: Throwable): Unit =
     if (logger.underlying.isDebugEnabled)
@@ -83,118 +104,144 @@ ${new String(htmlContent)}
         s"HTML parser crashed: ${e.rootMessage}, there's a chance your page wasn't proper HTML, enable debug on 'io.gatling.http.fetch' logger to get the HTML content",
         e
       )
+
+  private final class LagartoHtmlTag extends HtmlTag {
+    private var tag: Tag = _
+
+    def wrap(tag: Tag): HtmlTag = {
+      this.tag = tag
+      this
+    }
+
+    override def isStart: Boolean = tag.getType == TagType.START || tag.getType == TagType.SELF_CLOSING
+    override def isRawTag: Boolean = tag.isRawTag
+    override def nameEquals(name: String): Boolean = tag.nameEquals(name)
+    override def attributeValue(name: String): Option[String] = Option(tag.getAttributeValue(name)).map(_.toString)
+  }
 }
 
-class HtmlParser extends StrictLogging {
+/**
+ * Extracts the raw resources out of a stream of tag and text events.
+ */
+private[fetch] final class HtmlResourcesCollector {
   import HtmlParser._
 
   private var inStyle = false
+  private var base: Option[String] = None
+  private val rawResources = mutable.ArrayBuffer.empty[RawResource]
 
-  private def parseHtml(htmlContent: Array[Char]): HtmlResources = {
-    var base: Option[String] = None
-    val rawResources = mutable.ArrayBuffer.empty[RawResource]
+  private def addResource(tag: HtmlTag, attributeName: String, factory: String => RawResource): Unit =
+    tag.attributeValue(attributeName).foreach { url =>
+      rawResources += factory(url)
+    }
 
-    val visitor: EmptyTagVisitor = new EmptyTagVisitor {
-      def addResource(tag: Tag, attributeName: String, factory: String => RawResource): Unit =
-        Option(tag.getAttributeValue(attributeName)).foreach { url =>
-          rawResources += factory(url.toString)
+  def script(tag: HtmlTag): Unit =
+    addResource(tag, SrcAttribute, RegularRawResource)
+
+  def text(text: CharSequence): Unit =
+    if (inStyle)
+      rawResources ++= CssParser.extractStyleImportsUrls(text).map(CssRawResource)
+
+  def tag(tag: HtmlTag): Unit = {
+    def codeBase(): Option[String] = tag.attributeValue(CodeBaseAttribute)
+
+    def prependCodeBase(codeBase: String, url: String): String =
+      if (url.startsWith("http")) {
+        url
+      } else if (codeBase.charAt(codeBase.length()) != '/') {
+        s"$codeBase/$url"
+      } else {
+        s"$codeBase$url"
+      }
+
+    if (tag.isStart) {
+      if (tag.isRawTag && tag.nameEquals(StyleTagName)) {
+        inStyle = true
+      } else if (tag.nameEquals(BaseTagName)) {
+        base = tag.attributeValue(HrefAttribute)
+      } else if (tag.nameEquals(LinkTagName)) {
+        tag.attributeValue(RelAttribute).map(_.toLowerCase(Locale.ROOT)) match {
+          case Some(StylesheetRelValue) =>
+            addResource(tag, HrefAttribute, CssRawResource)
+          case Some(PrefetchRelValue) if tag.attributeValue(HrefAttribute).exists(_.contains(".css")) =>
+            addResource(tag, HrefAttribute, CssRawResource)
+          case Some(IconRelValue) | Some(ShortcutIconRelValue) | Some(PrefetchRelValue) =>
+            addResource(tag, HrefAttribute, RegularRawResource)
+          case _ =>
+        }
+      } else if (
+        tag.nameEquals(ImgTagName) ||
+        tag.nameEquals(BgsoundTagName) ||
+        tag.nameEquals(EmbedTagName) ||
+        tag.nameEquals(InputTagName)
+      ) {
+        addResource(tag, SrcAttribute, RegularRawResource)
+      } else if (tag.nameEquals(BodyTagName)) {
+        addResource(tag, BackgroundAttribute, RegularRawResource)
+      } else if (tag.nameEquals(AppletTagName)) {
+        val code = tag.attributeValue(CodeAttribute).toList
+        val archives = tag.attributeValue(ArchiveAttribute).map(_.split(",").view.map(_.trim).to(Seq))
+
+        val appletResources = archives.getOrElse(code).iterator
+        val appletResourcesUrls = codeBase() match {
+          case Some(cb) => appletResources.map(prependCodeBase(cb, _))
+          case _        => appletResources
+        }
+        rawResources ++= appletResourcesUrls.map(RegularRawResource)
+      } else if (tag.nameEquals(ObjectTagName)) {
+        tag.attributeValue(DataAttribute).foreach { data =>
+          val objectResourceUrl = codeBase() match {
+            case Some(cb) => prependCodeBase(cb, data)
+            case _        => data
+          }
+          rawResources += RegularRawResource(objectResourceUrl)
+        }
+      } else {
+        tag.attributeValue(StyleAttribute).foreach { style =>
+          val styleUrls = CssParser.extractInlineStyleImageUrls(style).map(RegularRawResource)
+          rawResources ++= styleUrls
         }
+      }
+    } else if (inStyle && tag.nameEquals(StyleTagName)) {
+      inStyle = false
+    }
+  }
+
+  def resourcesCount: Int = rawResources.size
+
+  def htmlResources: HtmlResources = HtmlResources(rawResources.toSeq, base)
+
+  // the resources found since the given count
+  def htmlResources(from: Int): HtmlResources = HtmlResources(rawResources.view.drop(from).toSeq, base)
+}
+
+class HtmlParser extends StrictLogging {
+  import HtmlParser._
+
+  private def parseHtml(htmlContent: Array[Char]): HtmlResources = {
+    val collector = new HtmlResourcesCollector
+    val htmlTag = new LagartoHtmlTag
 
+    val visitor: EmptyTagVisitor = new EmptyTagVisitor {
       override def script(tag: Tag, body: CharSequence): Unit =
-        addResource(tag, SrcAttribute, RegularRawResource)
+        collector.script(htmlTag.wrap(tag))
 
       override def text(text: CharSequence): Unit =
-        if (inStyle)
-          rawResources ++= CssParser.extractStyleImportsUrls(text).map(CssRawResource)
-
-      override def tag(tag: Tag): Unit = {
-        def codeBase(): Option[CharSequence] = Option(tag.getAttributeValue(CodeBaseAttribute))
-
-        def prependCodeBase(codeBase: CharSequence, url: String): String =
-          if (url.startsWith("http")) {
-            url
-          } else if (codeBase.charAt(codeBase.length()) != '/') {
-            s"$codeBase/$url"
-          } else {
-            s"$codeBase$url"
-          }
+        collector.text(text)
 
-        def processTag(): Unit =
-          tag.getType match {
-            case TagType.START | TagType.SELF_CLOSING =>
-              if (tag.isRawTag && tag.nameEquals(StyleTagName)) {
-                inStyle = true
-              } else if (tag.nameEquals(BaseTagName)) {
-                base = Option(tag.getAttributeValue(HrefAttribute)).map(_.toString)
-              } else if (tag.nameEquals(LinkTagName)) {
-                Option(tag.getAttributeValue(RelAttribute)).map(_.toString.toLowerCase(Locale.ROOT)) match {
-                  case Some(StylesheetRelValue) =>
-                    addResource(tag, HrefAttribute, CssRawResource)
-                  case Some(PrefetchRelValue) if tag.getAttributeValue(HrefAttribute).toString.contains(".css") =>
-                    addResource(tag, HrefAttribute, CssRawResource)
-                  case Some(IconRelValue) | Some(ShortcutIconRelValue) | Some(PrefetchRelValue) =>
-                    addResource(tag, HrefAttribute, RegularRawResource)
-                  case _ =>
-                }
-              } else if (
-                tag.nameEquals(ImgTagName) ||
-                tag.nameEquals(BgsoundTagName) ||
-                tag.nameEquals(EmbedTagName) ||
-                tag.nameEquals(InputTagName)
-              ) {
-                addResource(tag, SrcAttribute, RegularRawResource)
-              } else if (tag.nameEquals(BodyTagName)) {
-                addResource(tag, BackgroundAttribute, RegularRawResource)
-              } else if (tag.nameEquals(AppletTagName)) {
-                val code = tag.getAttributeValue(CodeAttribute).toString
-                val archives = Option(tag.getAttributeValue(ArchiveAttribute)).map(_.toString.split(",").view.map(_.trim).to(Seq))
-
-                val appletResources = archives.getOrElse(code :: Nil).iterator
-                val appletResourcesUrls = codeBase() match {
-                  case Some(cb) => appletResources.map(prependCodeBase(cb, _))
-                  case _        => appletResources
-                }
-                rawResources ++= appletResourcesUrls.map(RegularRawResource)
-              } else if (tag.nameEquals(ObjectTagName)) {
-                Option(tag.getAttributeValue(DataAttribute)).foreach { data =>
-                  val objectResourceUrl = codeBase() match {
-                    case Some(cb) => prependCodeBase(cb, data.toString)
-                    case _        => data.toString
-                  }
-                  rawResources += RegularRawResource(objectResourceUrl)
-                }
-              } else {
-                Option(tag.getAttributeValue(StyleAttribute)).foreach { style =>
-                  val styleUrls = CssParser.extractInlineStyleImageUrls(style).map(RegularRawResource)
-                  rawResources ++= styleUrls
-                }
-              }
-
-            case TagType.END =>
-              if (inStyle && tag.nameEquals(StyleTagName))
-                inStyle = false
-
-            case _ =>
-          }
-
-        processTag()
-      }
+      override def tag(tag: Tag): Unit =
+        tag.getType match {
+          case TagType.START | TagType.SELF_CLOSING | TagType.END => collector.tag(htmlTag.wrap(tag))
+          case _                                                  =>
+        }
     }
 
     try {
       Lagarto.newLagartoParser(htmlContent).parse(visitor)
     } catch { case NonFatal(e) => logException(htmlContent, e) }
-    HtmlResources(rawResources.toSeq, base)
+    collector.htmlResources
   }
 
-  def getEmbeddedResources(documentURI: Uri, htmlContent: Array[Char]): List[ConcurrentResource] = {
-    val htmlResources = parseHtml(htmlContent)
-
-    val rootURI = htmlResources.base.map(Uri.create(documentURI, _)).getOrElse(documentURI)
-
-    htmlResources.rawResources.view.distinct
-      .filterNot(res => res.rawUrl.isEmpty || res.rawUrl.charAt(0) == '#' || res.rawUrl.startsWith("data:"))
-      .flatMap(_.toEmbeddedResource(rootURI).toList)
-      .to(List)
-  }
+  def getEmbeddedResources(documentURI: Uri, htmlContent: Array[Char]): List[ConcurrentResource] =
+    parseHtml(htmlContent).embeddedResources(documentURI)
 }
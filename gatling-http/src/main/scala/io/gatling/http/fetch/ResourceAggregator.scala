@@ -52,6 +52,10 @@ private[http] trait ResourceAggregator {
   def onFollowUp(originalTx: HttpTx, followUpTx: HttpTx): Unit
 
   def onCachedResource(resourceTx: ResourceTx, tx: HttpTx): Unit
+
+  def onStreamedResources(resources: List[HttpRequest]): Unit
+
+  def onStreamedPageFetched(session: Session, status: Status, resources: List[HttpRequest]): Unit
 }
 
 private[fetch] final class DefaultResourceAggregator(
@@ -69,7 +73,6 @@ private[fetch] final class DefaultResourceAggregator(
   // immutable state
   private val http2Enabled = httpProtocol.enginePart.enableHttp2
   private val maxConnectionsPerHost = httpProtocol.enginePart.maxConnectionsPerHost
-  private val startTimestamp = clock.nowMillis
 
   // mutable state
   private var session: Session = _
@@ -78,6 +81,12 @@ private[fetch] final class DefaultResourceAggregator(
   private val availableTokensByHost = mutable.HashMap.empty[Remote, Int].withDefaultValue(maxConnectionsPerHost)
   private var pendingResourcesCount = 0
   private var globalStatus: Status = OK
+  private var startTimestamp = clock.nowMillis
+  // when resources are fetched while their page is still being received, see startWhilePageIsReceived
+  private var pagePending = false
+  private var pageFailed = false
+  // the session each resource in flight was started with, so only what the resource changed is merged back
+  private val baseSessions = mutable.HashMap.empty[ResourceTx, Session]
 
   override def currentSession: Session = session
 
@@ -86,6 +95,15 @@ private[fetch] final class DefaultResourceAggregator(
     fetchOrBufferResources(initialResources)
   }
 
+  /**
+   * Starts fetching the initial resources of a page that's still being received. More are expected with [[onStreamedResources]], and
+   * the next action is only triggered once [[onStreamedPageFetched]] was called too.
+   */
+  def startWhilePageIsReceived(session: Session): Unit = {
+    pagePending = true
+    start(session)
+  }
+
   // can be null
   private def getHttp2PriorKnowledge(session: Session, remote: Remote): Http2PriorKnowledge =
     if (http2Enabled) {
@@ -97,19 +115,33 @@ private[fetch] final class DefaultResourceAggregator(
   private def createResourceTx(resource: HttpRequest, http2PriorKnowledge: Http2PriorKnowledge): HttpTx = {
     logger.debug(s"Create ResourceTx ${resource.requestName} ${resource.clientRequest.getUri}")
 
-    val resourceTx = HttpTx(
+    val resourceTx = ResourceTx(this, resource.requestName, resource.clientRequest.getUri)
+    baseSessions.update(resourceTx, this.session)
+
+    HttpTx(
       session = this.session,
       request = resource.copy(
         clientRequest = resource.clientRequest.copyWithHttp2PriorKnowledge(http2PriorKnowledge)
       ),
       next = this.next,
-      resourceTx = Some(ResourceTx(this, resource.requestName, resource.clientRequest.getUri)),
+      resourceTx = Some(resourceTx),
       redirectCount = 0
     )
-
-    resourceTx
   }
 
+  /**
+   * Resources might complete after the page, or after other resources, updated the session, so only the attributes the resource changed, eg its cookies
+   * and cache entries, are merged into the current session.
+   */
+  private def mergeResourceSession(resourceTx: ResourceTx, resourceSession: Session): Unit =
+    session = baseSessions.remove(resourceTx) match {
+      case Some(baseSession) =>
+        val updated = resourceSession.attributes.filter { case (key, value) => !baseSession.attributes.get(key).contains(value) }
+        val removed = baseSession.attributes.keys.filterNot(resourceSession.attributes.contains)
+        session.setAll(updated).removeAll(removed.toSeq: _*)
+      case _ => resourceSession
+    }
+
   private def handleCachedResource(resource: HttpRequest): Unit = {
     val uri = resource.clientRequest.getUri
 
@@ -230,7 +262,7 @@ private[fetch] final class DefaultResourceAggregator(
       globalStatus = KO
     }
 
-    if (pendingResourcesCount == 0) {
+    if (pendingResourcesCount == 0 && !pagePending) {
       done()
     } else {
       releaseTokenAndContinue(remote, getHttp2PriorKnowledge(session, remote) == Http2PriorKnowledge.HTTP2_SUPPORTED)
@@ -238,7 +270,7 @@ private[fetch] final class DefaultResourceAggregator(
   }
 
   private def cssFetched(uri: Uri, status: Status, responseStatus: HttpResponseStatus, lastModifiedOrEtag: Option[String], content: String): Unit =
-    if (status == OK) {
+    if (status == OK && !pageFailed) {
       val cssResources = resourceFetcher.cssFetched(uri, responseStatus, lastModifiedOrEtag, content, session, throttled)
       if (cssResources.nonEmpty) {
         val filtered = cssResources.filterNot(resource => alreadySeen.contains(resource.clientRequest.getUri))
@@ -248,7 +280,7 @@ private[fetch] final class DefaultResourceAggregator(
 
   override def onRegularResourceFetched(resourceTx: ResourceTx, status: Status, session: Session, silent: Boolean): Unit = {
     logger.debug(s"Resource ${resourceTx.requestName} ${resourceTx.uri} was fetched")
-    this.session = session
+    mergeResourceSession(resourceTx, session)
     resourceFetched(session, Remote(resourceTx.uri), status, silent)
   }
 
@@ -262,13 +294,16 @@ private[fetch] final class DefaultResourceAggregator(
       content: String
   ): Unit = {
     logger.debug(s"Css resource ${resourceTx.requestName} ${resourceTx.uri} was fetched")
-    this.session = session
+    mergeResourceSession(resourceTx, session)
     cssFetched(resourceTx.uri, status, responseStatus, lastModifiedOrEtag, content)
     resourceFetched(session, Remote(resourceTx.uri), status, silent)
   }
 
   override def onFollowUp(originalTx: HttpTx, followUpTx: HttpTx): Unit = {
-    this.session = followUpTx.session
+    originalTx.resourceTx match {
+      case Some(resourceTx) => mergeResourceSession(resourceTx, followUpTx.session)
+      case _                => this.session = followUpTx.session
+    }
     val originUri = originalTx.request.clientRequest.getUri
     val originRemote = Remote(originUri)
     val followUpUri = followUpTx.request.clientRequest.getUri
@@ -287,6 +322,35 @@ private[fetch] final class DefaultResourceAggregator(
     }
   }
 
-  override def onCachedResource(resourceTx: ResourceTx, tx: HttpTx): Unit =
+  override def onCachedResource(resourceTx: ResourceTx, tx: HttpTx): Unit = {
+    mergeResourceSession(resourceTx, tx.session)
     resourceFetched(tx.session, Remote(resourceTx.uri), OK, tx.silent)
+  }
+
+  private def unseen(resources: List[HttpRequest]): List[HttpRequest] =
+    resources.filterNot(resource => alreadySeen.contains(resource.clientRequest.getUri))
+
+  override def onStreamedResources(resources: List[HttpRequest]): Unit =
+    fetchOrBufferResources(unseen(resources))
+
+  override def onStreamedPageFetched(session: Session, status: Status, resources: List[HttpRequest]): Unit = {
+    this.session = session
+    // the page's own response time is already accounted for
+    startTimestamp = clock.nowMillis
+
+    if (status == KO) {
+      // like when resources are only fetched once the page is complete, nothing more is fetched for a failed page,
+      // only the resources in flight are waited for
+      pageFailed = true
+      pendingResourcesCount -= bufferedResourcesByHost.valuesIterator.map(_.size).sum
+      bufferedResourcesByHost.clear()
+    } else {
+      fetchOrBufferResources(unseen(resources))
+    }
+
+    pagePending = false
+    if (pendingResourcesCount == 0) {
+      done()
+    }
+  }
 }
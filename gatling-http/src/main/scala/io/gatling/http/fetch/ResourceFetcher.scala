@@ -73,7 +73,10 @@ private[http] final class ResourceFetcher(
     val htmlDocumentUri = request.getUri
 
     def inferredResourcesRequests(): List[HttpRequest] = {
-      val inferred = new HtmlParser().getEmbeddedResources(htmlDocumentUri, response.body.chars)
+      val inferred = response.streamedHtmlResources match {
+        case Some(htmlResources) => htmlResources.embeddedResources(htmlDocumentUri)
+        case _                   => new HtmlParser().getEmbeddedResources(htmlDocumentUri, response.body.chars)
+      }
       val filtered = applyResourceFilters(inferred, httpProtocol.responsePart.htmlResourcesInferringFilters)
       resourcesToRequests(filtered, session, httpCaches, httpProtocol, throttled, coreComponents.configuration)
     }
@@ -167,32 +170,31 @@ private[http] final class ResourceFetcher(
     }
   }
 
-  private def resourceAggregator(tx: HttpTx, inferredResources: List[HttpRequest]): Option[ResourceAggregator] = {
-    val explicitResources =
-      if (tx.request.requestConfig.explicitResources.nonEmpty) {
-        buildExplicitResources(tx.request.requestConfig.explicitResources, tx.session)
-      } else {
-        Nil
-      }
+  private def withExplicitResources(tx: HttpTx, inferredResources: List[HttpRequest]): List[HttpRequest] =
+    if (tx.request.requestConfig.explicitResources.nonEmpty) {
+      inferredResources ::: buildExplicitResources(tx.request.requestConfig.explicitResources, tx.session)
+    } else {
+      inferredResources
+    }
 
-    inferredResources ::: explicitResources match {
-      case Nil => None
-      case resources =>
-        Some(
-          new DefaultResourceAggregator(
-            throttled = tx.request.requestConfig.throttled,
-            httpProtocol = tx.request.requestConfig.httpProtocol,
-            silent = tx.silent,
-            next = tx.next,
-            initialResources = resources,
-            httpCaches = httpCaches,
-            resourceFetcher = this,
-            httpTxExecutor = httpTxExecutor,
-            clock = coreComponents.clock
-          )
-        )
+  private def newDefaultResourceAggregator(tx: HttpTx, resources: List[HttpRequest]): DefaultResourceAggregator =
+    new DefaultResourceAggregator(
+      throttled = tx.request.requestConfig.throttled,
+      httpProtocol = tx.request.requestConfig.httpProtocol,
+      silent = tx.silent,
+      next = tx.next,
+      initialResources = resources,
+      httpCaches = httpCaches,
+      resourceFetcher = this,
+      httpTxExecutor = httpTxExecutor,
+      clock = coreComponents.clock
+    )
+
+  private def resourceAggregator(tx: HttpTx, inferredResources: List[HttpRequest]): Option[ResourceAggregator] =
+    withExplicitResources(tx, inferredResources) match {
+      case Nil       => None
+      case resources => Some(newDefaultResourceAggregator(tx, resources))
     }
-  }
 
   def newConcurrentRequestsAggregator(concurrentRequests: List[HttpRequest], httpProtocol: HttpProtocol, next: Action): ResourceAggregator =
     new DefaultResourceAggregator(
@@ -216,17 +218,50 @@ private[http] final class ResourceFetcher(
     resourceAggregator(tx, inferredResources)
   }
 
+  private def fetchedPageInferredResources(response: Response, tx: HttpTx): List[HttpRequest] =
+    if (httpProtocol.responsePart.inferHtmlResources && isHtml(response.headers)) {
+      inferPageResources(tx.request.clientRequest, response, tx.session, tx.request.requestConfig.throttled)
+    } else {
+      Nil
+    }
+
   def newResourceAggregatorForFetchedPage(response: Response, tx: HttpTx, status: Status): Option[ResourceAggregator] =
     if (status == KO) {
       None
     } else {
-      val inferredResources =
-        if (httpProtocol.responsePart.inferHtmlResources && isHtml(response.headers)) {
-          inferPageResources(tx.request.clientRequest, response, tx.session, tx.request.requestConfig.throttled)
-        } else {
-          Nil
-        }
+      resourceAggregator(tx, fetchedPageInferredResources(response, tx))
+    }
 
-      resourceAggregator(tx, inferredResources)
+  private def streamedResourcesRequests(tx: HttpTx, htmlResources: HtmlResources): List[HttpRequest] = {
+    val inferred = htmlResources.embeddedResources(tx.request.clientRequest.getUri)
+    val filtered = applyResourceFilters(inferred, httpProtocol.responsePart.htmlResourcesInferringFilters)
+    resourcesToRequests(filtered, tx.session, httpCaches, httpProtocol, tx.request.requestConfig.throttled, coreComponents.configuration)
+  }
+
+  /**
+   * Starts fetching the first resources found while the page is still being received, with the session it was requested with. Returns
+   * None when they're all filtered out.
+   */
+  def newResourceAggregatorForStreamedPage(tx: HttpTx, htmlResources: HtmlResources): Option[ResourceAggregator] =
+    streamedResourcesRequests(tx, htmlResources) match {
+      case Nil => None
+      case resources =>
+        val aggregator = newDefaultResourceAggregator(tx, resources)
+        aggregator.startWhilePageIsReceived(tx.session)
+        Some(aggregator)
     }
+
+  def streamedResourcesFound(aggregator: ResourceAggregator, tx: HttpTx, htmlResources: HtmlResources): Unit =
+    aggregator.onStreamedResources(streamedResourcesRequests(tx, htmlResources))
+
+  /**
+   * Hands the resources that couldn't be fetched while the page was received, such as the explicit ones or the ones of a page without a
+   * head, over to the aggregator that was started with [[newResourceAggregatorForStreamedPage]].
+   */
+  def streamedPageFetched(aggregator: ResourceAggregator, response: Response, tx: HttpTx, status: Status): Unit =
+    aggregator.onStreamedPageFetched(
+      tx.session,
+      status,
+      if (status == KO) Nil else withExplicitResources(tx, fetchedPageInferredResources(response, tx))
+    )
 }
@@ -0,0 +1,538 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import java.nio.{ ByteBuffer, CharBuffer }
+import java.nio.charset.{ Charset, CodingErrorAction }
+
+import scala.collection.mutable
+import scala.util.control.NonFatal
+
+import io.gatling.commons.util.Throwables._
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.buffer.ByteBuf
+
+private[http] object StreamingHtmlParser {
+  private final val Data = 0
+  private final val TagOpen = 1
+  private final val EndTagOpen = 2
+  private final val TagName = 3
+  private final val BeforeAttributeName = 4
+  private final val AttributeName = 5
+  private final val AfterAttributeName = 6
+  private final val BeforeAttributeValue = 7
+  private final val DoubleQuotedAttributeValue = 8
+  private final val SingleQuotedAttributeValue = 9
+  private final val UnquotedAttributeValue = 10
+  private final val SelfClosingStartTag = 11
+  private final val MarkupDeclarationOpen = 12
+  private final val CommentStart = 13
+  private final val Comment = 14
+  private final val BogusComment = 15
+  private final val RawText = 16
+  private final val RawTextLessThanSign = 17
+  private final val RawTextEndTagName = 18
+
+  private val CharBufferSize = 4096
+
+  private val NamedCharacterReferences = Map(
+    "amp" -> "&",
+    "lt" -> "<",
+    "gt" -> ">",
+    "quot" -> "\"",
+    "apos" -> "'",
+    "nbsp" -> "\u00a0"
+  )
+
+  private def isWhitespace(c: Char): Boolean = c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f'
+
+  private def isAsciiLetter(c: Char): Boolean = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+
+  private def toLowerCase(c: Char): Char = if (c >= 'A' && c <= 'Z') (c + 32).toChar else c
+
+  private def decodeCharacterReference(reference: String, sb: java.lang.StringBuilder): Boolean =
+    if (reference.length > 1 && reference.charAt(0) == '#') {
+      val (digits, radix) =
+        if (reference.charAt(1) == 'x' || reference.charAt(1) == 'X') (reference.substring(2), 16) else (reference.substring(1), 10)
+      if (digits.nonEmpty && digits.length <= 7 && digits.forall(Character.digit(_, radix) >= 0)) {
+        val codePoint = Integer.parseInt(digits, radix)
+        Character.isValidCodePoint(codePoint) && codePoint != 0 && {
+          sb.appendCodePoint(codePoint)
+          true
+        }
+      } else {
+        false
+      }
+    } else {
+      NamedCharacterReferences.get(reference) match {
+        case Some(decoded) =>
+          sb.append(decoded)
+          true
+        case _ => false
+      }
+    }
+
+  /**
+   * Decodes the numeric and the most common named character references, which is what's to be expected in the attributes holding urls.
+   */
+  private[fetch] def decodeCharacterReferences(value: String): String =
+    if (value.indexOf('&') < 0) {
+      value
+    } else {
+      val sb = new java.lang.StringBuilder(value.length)
+      var i = 0
+      while (i < value.length) {
+        val c = value.charAt(i)
+        val semicolon = if (c == '&') value.indexOf(';', i + 1) else -1
+        if (semicolon > i + 1 && semicolon - i <= 10 && decodeCharacterReference(value.substring(i + 1, semicolon), sb)) {
+          i = semicolon + 1
+        } else {
+          sb.append(c)
+          i += 1
+        }
+      }
+      sb.toString
+    }
+}
+
+/**
+ * An HTML tokenizer that's fed the body chunks as they're received so that HTML pages don't have to be buffered and parsed once
+ * complete in order to infer their resources.
+ *
+ * It follows the HTML5 tokenization states that matter for [[HtmlResourcesCollector]]: tags and their attributes, comments and the
+ * raw text content of script and style elements. Everything else is skipped without being copied.
+ *
+ * Once the head is over, `<base>` tags are ignored, so the resources found from then on can be fetched while the page is still being
+ * received, see [[settledResources]]. Pages without head nor body tags only have their resources known once complete.
+ */
+private[http] final class StreamingHtmlParser(charset: Charset) extends StrictLogging {
+  import HtmlParser.{ BaseTagName, BodyTagName, HeadTagName, ScriptTagName, StyleTagName }
+  import StreamingHtmlParser._
+
+  private val decoder = charset.newDecoder.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE)
+  private val chars = CharBuffer.allocate(CharBufferSize)
+  private var pendingBytes = Array.emptyByteArray
+
+  private val collector = new HtmlResourcesCollector
+  private var crashed = false
+  private var headEnded = false
+  private var settledResourcesCount = 0
+
+  private var state = Data
+  private var endTag = false
+  private val tagName = new java.lang.StringBuilder
+  private var currentTagName = ""
+  private val attributeName = new java.lang.StringBuilder
+  private val attributeValue = new java.lang.StringBuilder
+  private val attributes = mutable.ArrayBuffer.empty[String]
+  private var commentDashes = 0
+  private var rawTagName = ""
+  private var rawTagNameMatched = 0
+  private val rawText = new java.lang.StringBuilder
+
+  private object CurrentTag extends HtmlTag {
+    override def isStart: Boolean = !endTag
+    override def isRawTag: Boolean = currentTagName == ScriptTagName || currentTagName == StyleTagName
+    override def nameEquals(name: String): Boolean = currentTagName == name
+    override def attributeValue(name: String): Option[String] = {
+      var i = 0
+      var value: Option[String] = None
+      while (value.isEmpty && i < attributes.size) {
+        if (attributes(i) == name) {
+          value = Some(decodeCharacterReferences(attributes(i + 1)))
+        }
+        i += 2
+      }
+      value
+    }
+  }
+
+  def onChunk(chunk: ByteBuf): Unit =
+    if (!crashed) {
+      try {
+        chunk.nioBuffers.foreach(nioBuffer => decode(nioBuffer.duplicate, endOfInput = false))
+      } catch {
+        case NonFatal(e) => crash(e)
+      }
+    }
+
+  /**
+   * Returns the resources found since the last call, once the head is over and a `<base>` can't change how they resolve anymore.
+   */
+  def settledResources(): Option[HtmlResources] =
+    if (headEnded && collector.resourcesCount > settledResourcesCount) {
+      val resources = collector.htmlResources(settledResourcesCount)
+      settledResourcesCount = collector.resourcesCount
+      Some(resources)
+    } else {
+      None
+    }
+
+  /**
+   * Flushes what's left to decode and returns the resources found in the whole page.
+   */
+  def end(): HtmlResources = {
+    if (!crashed) {
+      try {
+        decode(ByteBuffer.wrap(Array.emptyByteArray), endOfInput = true)
+        decoder.flush(chars)
+        tokenize()
+        if (state == RawText || state == RawTextLessThanSign || state == RawTextEndTagName) {
+          flushRawText()
+        }
+      } catch {
+        case NonFatal(e) => crash(e)
+      }
+    }
+    collector.htmlResources
+  }
+
+  private def crash(e: Throwable): Unit = {
+    crashed = true
+    logger.error(s"Streaming HTML parser crashed: ${e.rootMessage}, resources found so far will be fetched", e)
+  }
+
+  private def decode(bytes: ByteBuffer, endOfInput: Boolean): Unit = {
+    // a multi-byte character might have been split over 2 chunks
+    val in =
+      if (pendingBytes.isEmpty) {
+        bytes
+      } else {
+        val merged = ByteBuffer.allocate(pendingBytes.length + bytes.remaining)
+        merged.put(pendingBytes).put(bytes).flip()
+        merged
+      }
+
+    var overflow = true
+    while (overflow) {
+      overflow = decoder.decode(in, chars, endOfInput).isOverflow
+      tokenize()
+    }
+
+    pendingBytes =
+      if (in.hasRemaining) {
+        val remaining = new Array[Byte](in.remaining)
+        in.get(remaining)
+        remaining
+      } else {
+        Array.emptyByteArray
+      }
+  }
+
+  private def tokenize(): Unit = {
+    chars.flip()
+    val array = chars.array
+    val end = chars.arrayOffset + chars.limit
+    var i = chars.arrayOffset + chars.position
+    while (i < end) {
+      if (consume(array(i))) {
+        i += 1
+      }
+    }
+    chars.clear()
+  }
+
+  // returns false when the char has to be reconsumed in the new state
+  private def consume(c: Char): Boolean =
+    state match {
+      case Data =>
+        if (c == '<') {
+          state = TagOpen
+        }
+        true
+
+      case TagOpen =>
+        if (c == '!') {
+          state = MarkupDeclarationOpen
+          true
+        } else if (c == '/') {
+          state = EndTagOpen
+          true
+        } else if (isAsciiLetter(c)) {
+          startTag(end = false)
+          false
+        } else if (c == '?') {
+          state = BogusComment
+          true
+        } else {
+          state = Data
+          false
+        }
+
+      case EndTagOpen =>
+        if (isAsciiLetter(c)) {
+          startTag(end = true)
+          false
+        } else if (c == '>') {
+          state = Data
+          true
+        } else {
+          state = BogusComment
+          false
+        }
+
+      case TagName =>
+        if (isWhitespace(c)) {
+          state = BeforeAttributeName
+        } else if (c == '/') {
+          state = SelfClosingStartTag
+        } else if (c == '>') {
+          emitTag()
+        } else {
+          tagName.append(toLowerCase(c))
+        }
+        true
+
+      case BeforeAttributeName =>
+        if (c == '/') {
+          state = SelfClosingStartTag
+        } else if (c == '>') {
+          emitTag()
+        } else if (!isWhitespace(c)) {
+          attributeName.append(toLowerCase(c))
+          state = AttributeName
+        }
+        true
+
+      case AttributeName =>
+        if (isWhitespace(c)) {
+          state = AfterAttributeName
+        } else if (c == '/') {
+          addAttribute()
+          state = SelfClosingStartTag
+        } else if (c == '=') {
+          state = BeforeAttributeValue
+        } else if (c == '>') {
+          addAttribute()
+          emitTag()
+        } else {
+          attributeName.append(toLowerCase(c))
+        }
+        true
+
+      case AfterAttributeName =>
+        if (c == '/') {
+          addAttribute()
+          state = SelfClosingStartTag
+        } else if (c == '=') {
+          state = BeforeAttributeValue
+        } else if (c == '>') {
+          addAttribute()
+          emitTag()
+        } else if (!isWhitespace(c)) {
+          addAttribute()
+          attributeName.append(toLowerCase(c))
+          state = AttributeName
+        }
+        true
+
+      case BeforeAttributeValue =>
+        if (c == '"') {
+          state = DoubleQuotedAttributeValue
+          true
+        } else if (c == '\'') {
+          state = SingleQuotedAttributeValue
+          true
+        } else if (c == '>') {
+          addAttribute()
+          emitTag()
+          true
+        } else if (isWhitespace(c)) {
+          true
+        } else {
+          state = UnquotedAttributeValue
+          false
+        }
+
+      case DoubleQuotedAttributeValue =>
+        if (c == '"') {
+          addAttribute()
+          state = BeforeAttributeName
+        } else {
+          attributeValue.append(c)
+        }
+        true
+
+      case SingleQuotedAttributeValue =>
+        if (c == '\'') {
+          addAttribute()
+          state = BeforeAttributeName
+        } else {
+          attributeValue.append(c)
+        }
+        true
+
+      case UnquotedAttributeValue =>
+        if (isWhitespace(c)) {
+          addAttribute()
+          state = BeforeAttributeName
+        } else if (c == '>') {
+          addAttribute()
+          emitTag()
+        } else {
+          attributeValue.append(c)
+        }
+        true
+
+      case SelfClosingStartTag =>
+        if (c == '>') {
+          emitTag()
+          true
+        } else {
+          state = BeforeAttributeName
+          false
+        }
+
+      case MarkupDeclarationOpen =>
+        if (c == '-') {
+          state = CommentStart
+          true
+        } else {
+          state = BogusComment
+          false
+        }
+
+      case CommentStart =>
+        if (c == '-') {
+          // "<!-->" and "<!--->" are complete comments
+          commentDashes = 2
+          state = Comment
+          true
+        } else {
+          state = BogusComment
+          false
+        }
+
+      case Comment =>
+        if (c == '>' && commentDashes >= 2) {
+          state = Data
+        } else if (c == '-') {
+          commentDashes += 1
+        } else {
+          commentDashes = 0
+        }
+        true
+
+      case BogusComment =>
+        if (c == '>') {
+          state = Data
+        }
+        true
+
+      case RawText =>
+        if (c == '<') {
+          state = RawTextLessThanSign
+        } else {
+          appendRawText(c)
+        }
+        true
+
+      case RawTextLessThanSign =>
+        if (c == '/') {
+          rawTagNameMatched = 0
+          state = RawTextEndTagName
+          true
+        } else {
+          appendRawText('<')
+          state = RawText
+          false
+        }
+
+      case RawTextEndTagName =>
+        if (rawTagNameMatched < rawTagName.length && toLowerCase(c) == rawTagName.charAt(rawTagNameMatched)) {
+          rawTagNameMatched += 1
+          true
+        } else if (rawTagNameMatched == rawTagName.length && (isWhitespace(c) || c == '/' || c == '>')) {
+          flushRawText()
+          endTag = true
+          currentTagName = rawTagName
+          attributes.clear()
+          collector.tag(CurrentTag)
+          state = if (c == '>') Data else BogusComment
+          true
+        } else {
+          appendRawText('<')
+          appendRawText('/')
+          var i = 0
+          while (i < rawTagNameMatched) {
+            appendRawText(rawTagName.charAt(i))
+            i += 1
+          }
+          state = RawText
+          false
+        }
+
+      case _ =>
+        throw new IllegalStateException(s"Unknown state $state")
+    }
+
+  private def startTag(end: Boolean): Unit = {
+    endTag = end
+    tagName.setLength(0)
+    attributes.clear()
+    state = TagName
+  }
+
+  private def addAttribute(): Unit = {
+    if (attributeName.length > 0) {
+      attributes += attributeName.toString += attributeValue.toString
+    }
+    attributeName.setLength(0)
+    attributeValue.setLength(0)
+  }
+
+  private def emitTag(): Unit = {
+    currentTagName = tagName.toString
+    if (endTag) {
+      if (currentTagName == HeadTagName) {
+        headEnded = true
+      }
+      collector.tag(CurrentTag)
+      state = Data
+    } else {
+      if (currentTagName == BodyTagName) {
+        headEnded = true
+      }
+
+      if (currentTagName == ScriptTagName) {
+        collector.script(CurrentTag)
+      } else if (!headEnded || currentTagName != BaseTagName) {
+        collector.tag(CurrentTag)
+      }
+
+      if (CurrentTag.isRawTag) {
+        rawTagName = currentTagName
+        state = RawText
+      } else {
+        state = Data
+      }
+    }
+  }
+
+  // only style content is of interest, script content is skipped
+  private def appendRawText(c: Char): Unit =
+    if (rawTagName == StyleTagName) {
+      rawText.append(c)
+    }
+
+  private def flushRawText(): Unit =
+    if (rawText.length > 0) {
+      collector.text(rawText)
+      rawText.setLength(0)
+    }
+}
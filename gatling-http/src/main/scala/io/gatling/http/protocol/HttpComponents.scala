@@ -37,10 +37,12 @@ final class HttpComponents(
       .andThen(BaseUrlSupport.setWsBaseUrl(httpProtocol))
       .andThen(Http2PriorKnowledgeSupport.setHttp2PriorKnowledge(httpProtocol))
 
+  private val closeSslContexts = SslContextSupport.closeSslContexts(httpProtocol)
+
   override lazy val onExit: Session => Unit =
     session => {
       httpCaches.nameResolver(session).foreach(_.close())
-      SslContextSupport.sslContexts(session).foreach(_.close())
+      closeSslContexts(session)
       httpEngine.flushClientIdChannels(session.userId, session.eventLoop)
     }
 }
@@ -30,7 +30,7 @@ import io.gatling.core.session._
 import io.gatling.http.ResponseBiTransformer
 import io.gatling.http.cache.HttpCaches
 import io.gatling.http.check.HttpCheck
-import io.gatling.http.client.{ Http2PriorKnowledge, Request }
+import io.gatling.http.client.{ Http2ConnectionSettings, Http2PriorKnowledge, Request }
 import io.gatling.http.client.realm.Realm
 import io.gatling.http.client.uri.Uri
 import io.gatling.http.engine.HttpEngine
@@ -61,11 +61,14 @@ object HttpProtocol extends StrictLogging {
         )
 
         httpEngine.warmUp(httpComponents)
+        httpEngine.prewarmConnections(httpComponents)
         httpComponents
       }
     }
   }
 
+  private[http] val NoAutoReplyTextFrames: String => Option[String] = _ => None
+
   def apply(configuration: GatlingConfiguration): HttpProtocol =
     new HttpProtocol(
       baseUrls = Nil,
@@ -76,7 +79,10 @@ object HttpProtocol extends StrictLogging {
         localAddresses = Nil,
         enableHttp2 = false,
         http2PriorKnowledge = Map.empty,
-        perUserKeyManagerFactory = None
+        http2ConnectionSettings = Http2ConnectionSettings.DEFAULT,
+        perUserKeyManagerFactory = None,
+        shareTlsSessions = false,
+        prewarmedConnectionsPerEventLoop = 0
       ),
       requestPart = HttpProtocolRequestPart(
         headers = Map.empty,
@@ -98,13 +104,15 @@ object HttpProtocol extends StrictLogging {
         checks = Nil,
         inferHtmlResources = false,
         inferredHtmlResourcesNaming = InferredResourceNaming.UrlTailInferredResourceNaming,
-        htmlResourcesInferringFilters = None
+        htmlResourcesInferringFilters = None,
+        incrementalHtmlResourcesInference = configuration.http.incrementalHtmlResourcesInference
       ),
       wsPart = HttpProtocolWsPart(
         wsBaseUrls = Nil,
         maxReconnects = 0,
-        autoReplyTextFrames = _ => None,
-        unmatchedInboundMessageBufferSize = 0
+        autoReplyTextFrames = NoAutoReplyTextFrames,
+        unmatchedInboundMessageBufferSize = 0,
+        checkTimeouts = true
       ),
       ssePart = HttpProtocolSsePart(
         unmatchedInboundMessageBufferSize = 0
@@ -163,7 +171,10 @@ final case class HttpProtocolEnginePart(
     localAddresses: List[InetAddress],
     enableHttp2: Boolean,
     http2PriorKnowledge: Map[Remote, Http2PriorKnowledge],
-    perUserKeyManagerFactory: Option[Long => KeyManagerFactory]
+    http2ConnectionSettings: Http2ConnectionSettings,
+    perUserKeyManagerFactory: Option[Long => KeyManagerFactory],
+    shareTlsSessions: Boolean,
+    prewarmedConnectionsPerEventLoop: Int
 )
 
 final case class HttpProtocolRequestPart(
@@ -187,14 +198,16 @@ final case class HttpProtocolResponsePart(
     checks: List[HttpCheck],
     inferHtmlResources: Boolean,
     inferredHtmlResourcesNaming: Uri => String,
-    htmlResourcesInferringFilters: Option[Filters]
+    htmlResourcesInferringFilters: Option[Filters],
+    incrementalHtmlResourcesInference: Boolean
 )
 
 final case class HttpProtocolWsPart(
     wsBaseUrls: List[String],
     maxReconnects: Int,
     autoReplyTextFrames: String => Option[String],
-    unmatchedInboundMessageBufferSize: Int
+    unmatchedInboundMessageBufferSize: Int,
+    checkTimeouts: Boolean
 )
 
 final case class HttpProtocolSsePart(
@@ -29,7 +29,7 @@ import io.gatling.core.session._
 import io.gatling.core.session.el.El
 import io.gatling.http.{ ResponseBiTransformer, ResponseTransformer }
 import io.gatling.http.check.HttpCheck
-import io.gatling.http.client.{ Http2PriorKnowledge, Request }
+import io.gatling.http.client.{ Http2ConnectionSettings, Http2PriorKnowledge, Request }
 import io.gatling.http.client.realm.Realm
 import io.gatling.http.client.uri.Uri
 import io.gatling.http.fetch.InferredResourceNaming
@@ -86,6 +86,9 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
 
   def maxConnectionsPerHost(max: Int): HttpProtocolBuilder = this.modify(_.protocol.enginePart.maxConnectionsPerHost).setTo(max)
   def perUserKeyManagerFactory(f: Long => KeyManagerFactory): HttpProtocolBuilder = this.modify(_.protocol.enginePart.perUserKeyManagerFactory).setTo(Some(f))
+  def shareTlsSessions: HttpProtocolBuilder = this.modify(_.protocol.enginePart.shareTlsSessions).setTo(true)
+  def prewarmConnections(connectionsPerEventLoop: Int): HttpProtocolBuilder =
+    this.modify(_.protocol.enginePart.prewarmedConnectionsPerEventLoop).setTo(connectionsPerEventLoop)
 
   // requestPart
   def disableAutoReferer: HttpProtocolBuilder = this.modify(_.protocol.requestPart.autoReferer).setTo(false)
@@ -159,6 +162,13 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
         remote -> (if (isHttp2) Http2PriorKnowledge.HTTP2_SUPPORTED else Http2PriorKnowledge.HTTP1_ONLY)
       })
 
+  def http2InitialWindowSize(size: Int): HttpProtocolBuilder = http2ConnectionSettings(_.withInitialWindowSize(size))
+  def http2ConnectionWindowSize(size: Int): HttpProtocolBuilder = http2ConnectionSettings(_.withConnectionWindowSize(size))
+  def http2MaxFrameSize(size: Int): HttpProtocolBuilder = http2ConnectionSettings(_.withMaxFrameSize(size))
+  def http2HeaderTableSize(size: Long): HttpProtocolBuilder = http2ConnectionSettings(_.withHeaderTableSize(size))
+  private def http2ConnectionSettings(f: Http2ConnectionSettings => Http2ConnectionSettings): HttpProtocolBuilder =
+    this.modify(_.protocol.enginePart.http2ConnectionSettings).using(f)
+
   // responsePart
   def disableFollowRedirect: HttpProtocolBuilder = this.modify(_.protocol.responsePart.followRedirect).setTo(false)
   def maxRedirects(max: Int): HttpProtocolBuilder = this.modify(_.protocol.responsePart.maxRedirects).setTo(max)
@@ -202,6 +212,7 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
   def wsAutoReplySocketIo4: HttpProtocolBuilder = wsAutoReplyTextFrame { case "2" => "3" }
   def wsUnmatchedInboundMessageBufferSize(max: Int): HttpProtocolBuilder =
     this.modify(_.protocol.wsPart.unmatchedInboundMessageBufferSize).setTo(max)
+  def wsCheckTimeouts(enabled: Boolean): HttpProtocolBuilder = this.modify(_.protocol.wsPart.checkTimeouts).setTo(enabled)
 
   // ssePart
   def sseUnmatchedInboundMessageBufferSize(max: Int): HttpProtocolBuilder =
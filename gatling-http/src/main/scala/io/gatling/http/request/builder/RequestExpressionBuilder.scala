@@ -16,10 +16,8 @@
 
 package io.gatling.http.request.builder
 
-import java.{ util => ju }
 import java.nio.charset.Charset
 
-import scala.jdk.CollectionConverters._
 import scala.util.control.NonFatal
 
 import io.gatling.commons.util.Throwables._
@@ -112,17 +110,28 @@ abstract class RequestExpressionBuilder(
     val queryParams = commonAttributes.queryParams
 
     commonAttributes.urlOrURI match {
-      case Left(StaticValueExpression(staticUrl)) if (protocolBaseUrls.sizeIs <= 1 || isAbsoluteUrl(staticUrl)) && queryParams.isEmpty =>
-        if (isAbsoluteUrl(staticUrl)) {
-          UriEncoder.uriEncoder(fixUrlEncoding).encode(Uri.create(staticUrl), ju.Collections.emptyList()).expressionSuccess
-        } else {
-          val uriV = resolveRelativeAgainstBaseUrl(staticUrl, protocolBaseUrls.headOption)
-            .map(uri => UriEncoder.uriEncoder(fixUrlEncoding).encode(uri, ju.Collections.emptyList()))
-          _ => uriV
+      case Left(StaticValueExpression(staticUrl)) if protocolBaseUrls.sizeIs <= 1 || isAbsoluteUrl(staticUrl) =>
+        // static url: pre-encode the url and the leading static query params once, only resolve and encode the dynamic ones
+        val (staticQueryParams, dynamicQueryParams) = RequestTemplate.splitStaticQueryParams(queryParams)
+        val uriEncoder = UriEncoder.uriEncoder(fixUrlEncoding)
+        val staticUriV =
+          if (isAbsoluteUrl(staticUrl)) {
+            uriEncoder.encode(Uri.create(staticUrl), staticQueryParams).success
+          } else {
+            resolveRelativeAgainstBaseUrl(staticUrl, protocolBaseUrls.headOption).map(uriEncoder.encode(_, staticQueryParams))
+          }
+
+        if (dynamicQueryParams.isEmpty) {
+          _ => staticUriV
+        } else { session =>
+          for {
+            staticUri <- staticUriV
+            resolvedQueryParams <- resolveParamJList(dynamicQueryParams, session)
+          } yield uriEncoder.encode(staticUri, resolvedQueryParams)
         }
 
       case Left(url) =>
-        // url is not static, or multiple baseUrl, or queryParams
+        // url is not static, or multiple baseUrl
         session =>
           for {
             resolvedUrl <- url(session)
@@ -184,17 +193,16 @@ abstract class RequestExpressionBuilder(
     }
   }
 
-  private def configureCookies(session: Session, requestBuilder: ClientRequestBuilder): Unit = {
-    val cookies = CookieSupport.getStoredCookies(session, requestBuilder.getUri)
-    if (cookies.nonEmpty) {
-      requestBuilder.setCookies(cookies.asJava)
-    }
-  }
+  private def configureCookies(session: Session, requestBuilder: ClientRequestBuilder): Unit =
+    CookieSupport.setStoredCookies(session, requestBuilder.getUri, requestBuilder)
 
   private val addRefererHeader = httpProtocol.requestPart.autoReferer && refererHeaderIsUndefined
-  private val (staticHeaders, dynamicHeaders) = headers.toArray.partitionMap {
-    case (key, StaticValueExpression(value)) => Left(key -> value)
-    case other                               => Right(other)
+  private val (staticHeaders, dynamicHeaders) = {
+    val (rawStaticHeaders, dynamicHeaders) = headers.toArray.partitionMap {
+      case (key, StaticValueExpression(value)) => Left(key -> value)
+      case other                               => Right(other)
+    }
+    (RequestTemplate.preEncodedHeaders(rawStaticHeaders), dynamicHeaders)
   }
   private def configureHeaders(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] = {
     staticHeaders.foreach { case (key, value) => requestBuilder.addHeader(key, value) }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.request.builder
+
+import java.{ util => ju }
+
+import io.gatling.core.session.StaticValueExpression
+import io.gatling.http.client.Param
+
+import io.netty.util.AsciiString
+
+/**
+ * Static parts of a request, pre-encoded once when the scenario is built so that only the dynamic slots have to be resolved for each execution.
+ */
+private[builder] object RequestTemplate {
+  private def isAscii(value: String): Boolean = {
+    var ascii = true
+    var i = 0
+    while (ascii && i < value.length) {
+      ascii = value.charAt(i) <= 127
+      i += 1
+    }
+    ascii
+  }
+
+  /**
+   * Pre-encode static headers into their byte form so they can be copied as is on the wire. Non US-ASCII values are kept as Strings so their encoding is
+   * left to the codec.
+   */
+  def preEncodedHeaders(staticHeaders: Array[(CharSequence, String)]): Array[(CharSequence, CharSequence)] =
+    staticHeaders.map { case (name, value) =>
+      val preEncodedValue: CharSequence = if (isAscii(value)) new AsciiString(value) else value
+      AsciiString.of(name) -> preEncodedValue
+    }
+
+  /**
+   * Split the query params into a leading run of fully static params that can be encoded once and the remaining ones that have to be resolved for each
+   * execution. Only the leading run is extracted so that the params order is preserved.
+   */
+  def splitStaticQueryParams(queryParams: List[HttpParam]): (ju.List[Param], List[HttpParam]) = {
+    val staticParams = new ju.ArrayList[Param]
+    val dynamicParams = queryParams.dropWhile {
+      case SimpleParam(StaticValueExpression(key), StaticValueExpression(value)) =>
+        staticParams.add(new Param(key, value.toString))
+        true
+      case _ => false
+    }
+    (staticParams, dynamicParams)
+  }
+}
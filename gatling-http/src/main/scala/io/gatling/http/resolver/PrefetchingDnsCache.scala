@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+import java.util.concurrent.{ ConcurrentHashMap, RejectedExecutionException, TimeUnit }
+import java.util.concurrent.atomic.LongAdder
+
+import io.gatling.http.client.resolver.InetAddressNameResolver
+
+import io.netty.channel.EventLoop
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.resolver.dns.{ DnsCache, DnsCacheEntry }
+import io.netty.util.concurrent.Future
+
+private object PrefetchingDnsCache {
+  private final class Expiry(val deadlineNanos: Long, val ttlNanos: Long, val loop: EventLoop) {
+    def isPrefetchDue(nowNanos: Long, prefetchThreshold: Double): Boolean = {
+      val remainingNanos = deadlineNanos - nowNanos
+      remainingNanos > 0 && remainingNanos <= ttlNanos * prefetchThreshold
+    }
+  }
+}
+
+/**
+ * A DnsCache shared amongst event loops that counts hits and misses and, when prefetchThreshold is strictly positive, refreshes entries in the background
+ * when they are read while their remaining TTL is below this ratio of their original TTL, so hot hostnames never expire.
+ *
+ * @param delegate
+ *   the actual cache
+ * @param prefetchThreshold
+ *   the ratio of the original TTL below which a hit triggers a prefetch, 0 to disable
+ * @param newPrefetchResolver
+ *   creates the resolver used to prefetch on a given event loop, it must be built with the provided cache
+ */
+private[http] final class PrefetchingDnsCache(
+    delegate: DnsCache,
+    prefetchThreshold: Double,
+    newPrefetchResolver: (EventLoop, DnsCache) => InetAddressNameResolver
+) extends DnsCache {
+  import PrefetchingDnsCache._
+
+  private val hitCount = new LongAdder
+  private val negativeHitCount = new LongAdder
+  private val missCount = new LongAdder
+  private val prefetchCount = new LongAdder
+
+  private val expiries = new ConcurrentHashMap[String, Expiry]
+  private val prefetching = ConcurrentHashMap.newKeySet[String]
+  // hostnames whose stale entries must be evicted when the first prefetched record is received
+  private val awaitingFirstPrefetchedRecord = ConcurrentHashMap.newKeySet[String]
+  private val prefetchResolvers = new ConcurrentHashMap[EventLoop, InetAddressNameResolver]
+
+  // bypasses lookups so prefetch resolvers always query the DNS server
+  private val prefetchCache: DnsCache = new DnsCache {
+    override def clear(): Unit = {}
+
+    override def clear(hostname: String): Boolean = false
+
+    override def get(hostname: String, additionals: Array[DnsRecord]): ju.List[_ <: DnsCacheEntry] = null
+
+    override def cache(hostname: String, additionals: Array[DnsRecord], address: InetAddress, originalTtl: Long, loop: EventLoop): DnsCacheEntry = {
+      if (awaitingFirstPrefetchedRecord.remove(hostname)) {
+        // otherwise, the stale entries would still expire at their original deadline
+        delegate.clear(hostname)
+      }
+      PrefetchingDnsCache.this.cache(hostname, additionals, address, originalTtl, loop)
+    }
+
+    // keep serving the current entries until they expire
+    override def cache(hostname: String, additionals: Array[DnsRecord], cause: Throwable, loop: EventLoop): DnsCacheEntry = null
+  }
+
+  private val prefetchResolverComputer: ju.function.Function[EventLoop, InetAddressNameResolver] =
+    newPrefetchResolver(_, prefetchCache)
+
+  def hits: Long = hitCount.sum
+  def negativeHits: Long = negativeHitCount.sum
+  def misses: Long = missCount.sum
+  def prefetches: Long = prefetchCount.sum
+
+  override def clear(): Unit = {
+    expiries.clear()
+    delegate.clear()
+  }
+
+  override def clear(hostname: String): Boolean = {
+    expiries.remove(hostname)
+    delegate.clear(hostname)
+  }
+
+  override def get(hostname: String, additionals: Array[DnsRecord]): ju.List[_ <: DnsCacheEntry] = {
+    val entries = delegate.get(hostname, additionals)
+    if (entries == null || entries.isEmpty) {
+      missCount.increment()
+    } else if (entries.get(0).cause != null) {
+      negativeHitCount.increment()
+    } else {
+      hitCount.increment()
+      if (prefetchThreshold > 0) {
+        prefetchIfDue(hostname)
+      }
+    }
+    entries
+  }
+
+  private def prefetchIfDue(hostname: String): Unit = {
+    val expiry = expiries.get(hostname)
+    if (expiry != null && expiry.isPrefetchDue(System.nanoTime(), prefetchThreshold) && prefetching.add(hostname)) {
+      awaitingFirstPrefetchedRecord.add(hostname)
+      try {
+        expiry.loop.execute { () =>
+          prefetchResolvers
+            .computeIfAbsent(expiry.loop, prefetchResolverComputer)
+            .resolveAll(hostname, expiry.loop.newPromise[ju.List[InetAddress]], null)
+            .addListener { (_: Future[ju.List[InetAddress]]) =>
+              awaitingFirstPrefetchedRecord.remove(hostname)
+              prefetching.remove(hostname)
+            }
+          ()
+        }
+        prefetchCount.increment()
+      } catch {
+        case _: RejectedExecutionException =>
+          // e.g. the event loop is shutting down, so let a later hit prefetch again
+          awaitingFirstPrefetchedRecord.remove(hostname)
+          prefetching.remove(hostname)
+      }
+    }
+  }
+
+  override def cache(hostname: String, additionals: Array[DnsRecord], address: InetAddress, originalTtl: Long, loop: EventLoop): DnsCacheEntry = {
+    val ttlNanos = TimeUnit.SECONDS.toNanos(originalTtl)
+    expiries.put(hostname, new Expiry(System.nanoTime() + ttlNanos, ttlNanos, loop))
+    delegate.cache(hostname, additionals, address, originalTtl, loop)
+  }
+
+  override def cache(hostname: String, additionals: Array[DnsRecord], cause: Throwable, loop: EventLoop): DnsCacheEntry =
+    delegate.cache(hostname, additionals, cause, loop)
+
+  def closePrefetchResolvers(): Unit =
+    prefetchResolvers.values.forEach(_.close())
+}
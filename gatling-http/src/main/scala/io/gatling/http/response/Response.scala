@@ -20,6 +20,7 @@ import scala.jdk.CollectionConverters._
 
 import io.gatling.core.check.ChecksumAlgorithm
 import io.gatling.http.client.Request
+import io.gatling.http.fetch.HtmlResources
 import io.gatling.http.protocol.HttpProtocol
 import io.gatling.http.util.HttpHelper
 
@@ -47,7 +48,8 @@ final case class Response(
     headers: HttpHeaders,
     body: ResponseBody,
     checksums: Map[ChecksumAlgorithm, String],
-    isHttp2: Boolean
+    isHttp2: Boolean,
+    streamedHtmlResources: Option[HtmlResources]
 ) extends HttpResult {
   val isRedirect: Boolean = HttpHelper.isRedirect(status)
 
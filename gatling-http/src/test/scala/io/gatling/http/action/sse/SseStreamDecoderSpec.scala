@@ -18,6 +18,8 @@ package io.gatling.http.action.sse
 
 import java.nio.charset.StandardCharsets.UTF_8
 
+import scala.collection.mutable.ArrayBuffer
+
 import io.gatling.http.action.sse.fsm.{ ServerSentEvent, SseStreamDecoder }
 
 import io.netty.buffer.Unpooled
@@ -64,32 +66,31 @@ class SseStreamDecoderSpec extends AnyFlatSpecLike with Matchers {
     )
   )
 
-  private def decodeChunks(splitPos: Int) = {
-    val (chunk1, chunk2) = bytes.splitAt(splitPos)
-    val chunks = Seq(Unpooled.wrappedBuffer(chunk1), Unpooled.wrappedBuffer(chunk2))
+  private def decodeChunks(chunks: Seq[Array[Byte]]): Seq[ServerSentEvent] = {
+    val bufs = chunks.map(chunk => Unpooled.wrappedBuffer(chunk))
     try {
-      val decoder = new SseStreamDecoder
-      chunks.flatMap(decoder.decodeStream)
+      val events = ArrayBuffer.empty[ServerSentEvent]
+      val decoder = new SseStreamDecoder(events += _)
+      bufs.foreach(decoder.decodeStream)
+      events.toSeq
     } finally {
-      chunks.foreach(_.release())
+      bufs.foreach(_.release())
     }
   }
 
+  private def decodeChunks(splitPos: Int): Seq[ServerSentEvent] = {
+    val (chunk1, chunk2) = bytes.splitAt(splitPos)
+    decodeChunks(Seq(chunk1, chunk2))
+  }
+
   "SseStreamDecoder" should "be able to decode split UTF-8 chars" in {
     (0 until bytes.length).foreach { splitPos =>
       (splitPos, decodeChunks(splitPos)) shouldBe (splitPos, expected)
     }
   }
 
-  private def decode(input: String): Seq[ServerSentEvent] = {
-    val buf = Unpooled.wrappedBuffer(input.getBytes(UTF_8))
-    try {
-      val decoder = new SseStreamDecoder
-      decoder.decodeStream(buf)
-    } finally {
-      buf.release()
-    }
-  }
+  private def decode(input: String): Seq[ServerSentEvent] =
+    decodeChunks(Seq(input.getBytes(UTF_8)))
 
   it should "join multiple data: lines with newline (multiline JSON object)" in {
     val input =
@@ -189,4 +190,27 @@ class SseStreamDecoderSpec extends AnyFlatSpecLike with Matchers {
       )
     )
   }
+
+  it should "handle CRLF line endings, BOM and retry whatever the chunk boundaries" in {
+    val input = "\uFEFFevent: update\r\ndata: 東京\r\nretry: 1500\r\nid: 42\r\n\r\ndata: next\r\nretry: invalid\r\n\r\n".getBytes(UTF_8)
+
+    val expected = Seq(
+      ServerSentEvent(
+        event = Some("update"),
+        data = Some("東京"),
+        id = Some("42"),
+        retry = Some(1500)
+      ),
+      ServerSentEvent(
+        event = None,
+        data = Some("next"),
+        id = None,
+        retry = None
+      )
+    )
+
+    (1 to 4).foreach { chunkSize =>
+      (chunkSize, decodeChunks(input.grouped(chunkSize).toSeq)) shouldBe (chunkSize, expected)
+    }
+  }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws.fsm
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.TimeoutException
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.action.Action
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session._
+import io.gatling.core.stats.LoggingStatsEngine
+import io.gatling.http.action.ws.WsInboundTextFrame
+import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
+import io.gatling.http.client.{ RequestBuilder, WebSocket }
+import io.gatling.http.client.uri.Uri
+import io.gatling.http.engine.HttpEngine
+import io.gatling.http.protocol.HttpProtocol
+
+import io.netty.buffer.Unpooled
+import io.netty.channel.DefaultEventLoop
+import io.netty.handler.codec.http.HttpMethod
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class WsFsmSpec extends AnyFlatSpecLike with Matchers with MockitoSugar with BeforeAndAfterAll {
+  private val configuration = GatlingConfiguration.loadForTest()
+  private val eventLoop = new DefaultEventLoop
+
+  override def afterAll(): Unit = {
+    eventLoop.shutdownGracefully(0, 1, SECONDS)
+    ()
+  }
+
+  private final class NextAction extends Action {
+    val session: Promise[Session] = Promise[Session]()
+
+    override def name: String = "next"
+
+    override def execute(session: Session): Unit = {
+      this.session.success(session)
+      ()
+    }
+  }
+
+  // the FSM is only ever used from the virtual user's event loop
+  private def onEventLoop(f: => Unit): Unit = {
+    eventLoop.submit[Unit](() => f).sync()
+    ()
+  }
+
+  private def checkResponses(statsEngine: LoggingStatsEngine): List[LoggingStatsEngine.Message.LogResponse] =
+    statsEngine.msgQueue.asScala.toList.collect {
+      case response: LoggingStatsEngine.Message.LogResponse if response.requestName == "check" => response
+    }
+
+  /**
+   * Connects a WebSocket whose connect action waits for a check with a 50ms timeout
+   */
+  private def connectWithCheck(checkTimeouts: Boolean): (WsFsm, LoggingStatsEngine, NextAction) = {
+    val defaultHttpProtocol = HttpProtocol(configuration)
+    val httpProtocol = defaultHttpProtocol.copy(wsPart = defaultHttpProtocol.wsPart.copy(checkTimeouts = checkTimeouts))
+    val statsEngine = new LoggingStatsEngine
+    val next = new NextAction
+    val check = WsFrameCheck.Text("check".expressionSuccess, Nil, Nil, isSilent = false, resolvedName = "check", substringMatchConditions = Nil)
+    val fsm = new WsFsm(
+      "ws",
+      new RequestBuilder("connect", HttpMethod.GET, Uri.create("ws://gatling.io/ws"), null).build(),
+      List(WsFrameCheckSequence(50.millis, List(check))),
+      None,
+      statsEngine,
+      mock[HttpEngine],
+      httpProtocol,
+      eventLoop,
+      new DefaultClock,
+      new WsLogger
+    )
+
+    onEventLoop {
+      fsm.onPerformInitialConnect(Session("Scenario", 0, eventLoop), next)
+      fsm.onWebSocketConnected(mock[WebSocket], Nil, System.currentTimeMillis())
+    }
+    (fsm, statsEngine, next)
+  }
+
+  "WsFsm" should "fail checks that time out" in {
+    val (_, statsEngine, next) = connectWithCheck(checkTimeouts = true)
+
+    Await.result(next.session.future, 5.seconds).isFailed shouldBe true
+    checkResponses(statsEngine) should matchPattern { case List(LoggingStatsEngine.Message.LogResponse(_, _, _, _, _, KO, _, Some("Check check timeout"))) => }
+  }
+
+  it should "keep waiting for checks to match when check timeouts are disabled" in {
+    val (fsm, statsEngine, next) = connectWithCheck(checkTimeouts = false)
+
+    a[TimeoutException] should be thrownBy Await.result(next.session.future, 500.millis)
+    checkResponses(statsEngine) shouldBe empty
+
+    onEventLoop {
+      fsm.onTextFrameReceived(new WsInboundTextFrame(Unpooled.wrappedBuffer("hello".getBytes(UTF_8))), System.currentTimeMillis())
+    }
+    Await.result(next.session.future, 5.seconds).isFailed shouldBe false
+    checkResponses(statsEngine) should matchPattern { case List(LoggingStatsEngine.Message.LogResponse(_, _, _, _, _, OK, _, None)) => }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.check.ws
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.gatling.core.session.StaticValueExpression
+import io.gatling.http.action.ws.WsInboundTextFrame
+
+import io.netty.buffer.Unpooled
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class WsFrameCheckSpec extends AnyFlatSpecLike with Matchers {
+  private val check = WsFrameCheck.Text(StaticValueExpression("check"), Nil, Nil, isSilent = false, resolvedName = "check", substringMatchConditions = Nil)
+
+  private def frame(text: String) = new WsInboundTextFrame(Unpooled.wrappedBuffer(text.getBytes(UTF_8)))
+
+  "matchesSubstrings" should "match any frame when no substring is defined" in {
+    check.matchesSubstrings(frame("""{"type":"quote"}""")) shouldBe true
+  }
+
+  it should "only match frames containing all the substrings" in {
+    val substringCheck = check.matchingSubstring(""""type":"trade"""", "GTLG")
+
+    substringCheck.matchesSubstrings(frame("""{"type":"trade","symbol":"GTLG"}""")) shouldBe true
+    substringCheck.matchesSubstrings(frame("""{"type":"trade","symbol":"ACME"}""")) shouldBe false
+    substringCheck.matchesSubstrings(frame("""{"type":"quote","symbol":"GTLG"}""")) shouldBe false
+  }
+
+  it should "match non ASCII substrings" in {
+    val substringCheck = check.matchingSubstring("café")
+
+    substringCheck.matchesSubstrings(frame("""{"venue":"café"}""")) shouldBe true
+    substringCheck.matchesSubstrings(frame("""{"venue":"cafe"}""")) shouldBe false
+  }
+}
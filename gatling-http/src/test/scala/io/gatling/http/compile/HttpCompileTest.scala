@@ -110,6 +110,8 @@ class HttpCompileTest extends Simulation {
     .inferHtmlResources(allow = AllowList(".*\\.html"))
     .maxConnectionsPerHost(6)
     .shareConnections
+    .shareTlsSessions
+    .prewarmConnections(2)
     .perUserNameResolution
     .localAddress("192.168.1.100")
     .localAddresses(List("192.168.1.100", "192.168.1.101"))
@@ -132,6 +134,10 @@ class HttpCompileTest extends Simulation {
     .hostNameAliases(Map("foo" -> List("127.0.0.1")))
     .enableHttp2
     .http2PriorKnowledge(Map("www.google.com" -> true, "gatling.io" -> false))
+    .http2InitialWindowSize(1024 * 1024)
+    .http2ConnectionWindowSize(16 * 1024 * 1024)
+    .http2MaxFrameSize(32 * 1024)
+    .http2HeaderTableSize(8192)
     .perUserKeyManagerFactory(_ => KeyManagerFactory.getInstance("TLS"))
     .sign(signatureCalculator)
 
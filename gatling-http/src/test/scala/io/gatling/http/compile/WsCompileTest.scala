@@ -32,6 +32,7 @@ class WsCompileTest extends Simulation {
     .wsAutoReplyTextFrame { case "ping" => "pong"; case "1" => "2" }
     .wsAutoReplySocketIo4
     .wsUnmatchedInboundMessageBufferSize(5)
+    .wsCheckTimeouts(true)
 
   private val scn = scenario("WebSocket")
     .exec(http("Home").get("/"))
@@ -45,6 +46,7 @@ class WsCompileTest extends Simulation {
         .subprotocol("FOO")
         .await(1.second)(
           ws.checkTextMessage("checkText")
+            .matchingSubstring("uuid")
             .matching(jsonPath("$.uuid").is("#{correlation}"))
             .check(
               jsonPath("$.code").ofType[Int].is(1),
@@ -345,6 +345,32 @@ class CookieJarSpec extends AnyFlatSpecLike with Matchers {
     cookies.head.isSecure shouldBe true
   }
 
+  "render" should "render the Cookie header of the cookies of the request domain and its parent domains, most specific path first" in {
+    val cookieStore = CookieJar(
+      Uri.create("http://www.foo.com/bar/"),
+      List(decode("ALPHA=VALUE1; Domain=foo.com; Path=/"), decode("BETA=VALUE2; Domain=www.foo.com; Path=/bar/"), decode("GAMMA=VALUE3; Domain=bar.com")),
+      System.currentTimeMillis()
+    )
+
+    val renderedCookies = cookieStore.render(Uri.create("http://sub.www.foo.com/bar/baz"))
+    renderedCookies.header shouldBe "BETA=VALUE2; ALPHA=VALUE1"
+    renderedCookies.header shouldBe encode(renderedCookies.cookies)
+  }
+
+  it should "render a new Cookie header once a cookie is updated" in {
+    val uri = Uri.create("http://www.foo.com")
+    val cookieStore = CookieJar(uri, List(decode("ALPHA=VALUE1")), System.currentTimeMillis())
+    cookieStore.render(uri).header shouldBe "ALPHA=VALUE1"
+    cookieStore.render(uri) should be theSameInstanceAs cookieStore.render(uri)
+
+    val cookieStore2 = cookieStore.add(uri, List(decode("ALPHA=VALUE2")), System.currentTimeMillis())
+    cookieStore2.render(uri).header shouldBe "ALPHA=VALUE2"
+
+    val cookieStore3 = cookieStore2.add(uri, List(decode("ALPHA=VALUE2; Max-Age=0")), System.currentTimeMillis())
+    cookieStore3.render(uri).cookies shouldBe empty
+    cookieStore3.render(uri).header shouldBe null
+  }
+
   "find" should "collect all cookies matching criteria" in {
     val cookie1 = decode("cookie1=VALUE1; Path=/")
     val cookie2 = decode("cookie2=VALUE2; Path=/")
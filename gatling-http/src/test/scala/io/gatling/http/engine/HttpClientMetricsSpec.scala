@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.engine
+
+import java.net.InetAddress
+
+import scala.jdk.CollectionConverters._
+
+import io.gatling.core.stats.LoggingStatsEngine
+import io.gatling.http.client.{ Http2ConnectionStats, Http2Stats, HttpClient }
+import io.gatling.http.client.ssl.TlsHandshakeStats
+import io.gatling.http.resolver.PrefetchingDnsCache
+
+import io.netty.channel.DefaultEventLoop
+
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.resolver.dns.DefaultDnsCache
+import javax.net.ssl.SSLSession
+import org.mockito.Mockito._
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class HttpClientMetricsSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
+  private def sample(http2Stats: Http2Stats): List[Any] = sample(http2Stats, new TlsHandshakeStats, Nil)
+
+  private def sample(http2Stats: Http2Stats, tlsHandshakeStats: TlsHandshakeStats, sharedDnsCaches: List[PrefetchingDnsCache]): List[Any] = {
+    val httpClient = mock[HttpClient]
+    when(httpClient.getHttp2Stats).thenReturn(http2Stats)
+    when(httpClient.getTlsHandshakeStats).thenReturn(tlsHandshakeStats)
+    val statsEngine = new LoggingStatsEngine
+    new HttpClientMetrics(httpClient, sharedDnsCaches.asJava, statsEngine).sample()
+    statsEngine.msgQueue.asScala.toList
+  }
+
+  "HttpClientMetrics" should "sample the stats of the open HTTP/2 connections per remote" in {
+    val connectionStats = new Http2ConnectionStats("gatling.io/1.2.3.4:443")
+    connectionStats.recordStreamActive(1, 100)
+    connectionStats.recordWindowStall()
+    val http2Stats = new Http2Stats
+    http2Stats.recordConnectionOpen(connectionStats)
+    http2Stats.recordStreamLimitWait()
+
+    val labels = List("remote" -> "gatling.io/1.2.3.4:443")
+    sample(http2Stats) shouldBe List(
+      LoggingStatsEngine.Message.LogGauge("http2_stream_limit_waits", Nil, 1),
+      LoggingStatsEngine.Message.LogGauge("http2_connections", labels, 1),
+      LoggingStatsEngine.Message.LogGauge("http2_active_streams", labels, 1),
+      LoggingStatsEngine.Message.LogGauge("http2_max_concurrent_streams", labels, 100),
+      LoggingStatsEngine.Message.LogGauge("http2_peak_active_streams", labels, 1),
+      LoggingStatsEngine.Message.LogGauge("http2_opened_streams", labels, 1),
+      LoggingStatsEngine.Message.LogGauge("http2_window_stalls", labels, 1)
+    )
+
+    http2Stats.recordConnectionClosed(connectionStats)
+    sample(http2Stats) shouldBe List(LoggingStatsEngine.Message.LogGauge("http2_stream_limit_waits", Nil, 1))
+  }
+
+  it should "aggregate the connections to the same remote" in {
+    val first = new Http2ConnectionStats("gatling.io/1.2.3.4:443")
+    first.recordStreamActive(1, 100)
+    first.recordStreamActive(2, 100)
+    first.recordStreamClosed(1)
+    val second = new Http2ConnectionStats("gatling.io/1.2.3.4:443")
+    second.recordStreamActive(1, 50)
+    second.recordWindowStall()
+    val http2Stats = new Http2Stats
+    http2Stats.recordConnectionOpen(first)
+    http2Stats.recordConnectionOpen(second)
+
+    val labels = List("remote" -> "gatling.io/1.2.3.4:443")
+    sample(http2Stats) shouldBe List(
+      LoggingStatsEngine.Message.LogGauge("http2_stream_limit_waits", Nil, 0),
+      LoggingStatsEngine.Message.LogGauge("http2_connections", labels, 2),
+      LoggingStatsEngine.Message.LogGauge("http2_active_streams", labels, 2),
+      LoggingStatsEngine.Message.LogGauge("http2_max_concurrent_streams", labels, 100),
+      LoggingStatsEngine.Message.LogGauge("http2_peak_active_streams", labels, 2),
+      LoggingStatsEngine.Message.LogGauge("http2_opened_streams", labels, 3),
+      LoggingStatsEngine.Message.LogGauge("http2_window_stalls", labels, 1)
+    )
+  }
+
+  it should "not sample anything without HTTP/2 connections" in {
+    sample(new Http2Stats) shouldBe empty
+  }
+
+  it should "sample the TLS handshake stats once there were handshakes" in {
+    val session = mock[SSLSession]
+    when(session.getId).thenReturn(Array[Byte](1, 2, 3))
+    val tlsHandshakeStats = new TlsHandshakeStats
+    tlsHandshakeStats.record(session, 3000000)
+    tlsHandshakeStats.record(session, 1000000)
+
+    sample(new Http2Stats, tlsHandshakeStats, Nil) shouldBe List(
+      LoggingStatsEngine.Message.LogGauge("tls_full_handshakes", Nil, 1),
+      LoggingStatsEngine.Message.LogGauge("tls_full_handshakes_millis", Nil, 3),
+      LoggingStatsEngine.Message.LogGauge("tls_resumptions", Nil, 1),
+      LoggingStatsEngine.Message.LogGauge("tls_resumptions_millis", Nil, 1)
+    )
+  }
+
+  it should "sample the stats of the shared DNS caches" in {
+    val eventLoop = new DefaultEventLoop
+    try {
+      val noAdditionals = Array.empty[DnsRecord]
+      def dnsCache(hostnames: String*): PrefetchingDnsCache = {
+        val cache = new PrefetchingDnsCache(new DefaultDnsCache, 0, (_, _) => throw new UnsupportedOperationException)
+        hostnames.foreach { hostname =>
+          if (cache.get(hostname, noAdditionals) == null) {
+            cache.cache(hostname, noAdditionals, InetAddress.getByAddress(hostname, Array[Byte](10, 0, 0, 1)), 60, eventLoop)
+          }
+        }
+        cache
+      }
+
+      sample(new Http2Stats, new TlsHandshakeStats, List(dnsCache("gatling.io", "gatling.io"), dnsCache("gatling.io"))) shouldBe List(
+        LoggingStatsEngine.Message.LogGauge("dns_cache_hits", Nil, 1),
+        LoggingStatsEngine.Message.LogGauge("dns_cache_negative_hits", Nil, 0),
+        LoggingStatsEngine.Message.LogGauge("dns_cache_misses", Nil, 2),
+        LoggingStatsEngine.Message.LogGauge("dns_cache_prefetches", Nil, 0)
+      )
+    } finally {
+      eventLoop.shutdownGracefully()
+      ()
+    }
+  }
+}
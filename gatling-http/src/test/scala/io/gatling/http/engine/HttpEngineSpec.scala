@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.engine
+
+import java.{ util => ju }
+import java.net.{ InetAddress, InetSocketAddress }
+
+import scala.jdk.CollectionConverters._
+
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.stats.NoopStatsEngine
+import io.gatling.http.cache.HttpCaches
+import io.gatling.http.client.{ HttpClient, Request, SslContextsHolder }
+import io.gatling.http.protocol.{ HttpComponents, HttpProtocol }
+import io.gatling.internal.quicklens._
+
+import io.netty.channel.{ DefaultEventLoopGroup, EventLoop }
+import io.netty.util.concurrent.{ Future, ImmediateEventExecutor }
+import org.mockito.ArgumentCaptor
+import org.mockito.ArgumentMatchers._
+import org.mockito.Mockito._
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class HttpEngineSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
+  private val configuration = GatlingConfiguration.loadForTest()
+
+  private val prewarmed: Future[Void] = ImmediateEventExecutor.INSTANCE.newSucceededFuture[Void](null)
+  private val failed: Future[Void] = ImmediateEventExecutor.INSTANCE.newFailedFuture[Void](new IllegalStateException("failed"))
+
+  private def httpProtocol(connectionsPerEventLoop: Int, baseUrls: List[String]) =
+    HttpProtocol(configuration)
+      .modify(_.baseUrls)
+      .setTo(baseUrls)
+      .modify(_.enginePart.shareConnections)
+      .setTo(true)
+      .modify(_.enginePart.prewarmedConnectionsPerEventLoop)
+      .setTo(connectionsPerEventLoop)
+
+  private def components(engine: HttpEngine, httpProtocol: HttpProtocol): HttpComponents =
+    new HttpComponents(httpProtocol, engine, new HttpCaches(new DefaultClock, configuration), null)
+
+  private def withEngine(f: (HttpEngine, HttpClient) => Unit): Unit = {
+    val eventLoopGroup = new DefaultEventLoopGroup(2)
+    try {
+      val httpClient = mock[HttpClient]
+      when(httpClient.prewarmChannel(any[Request], anyLong, any[EventLoop], any[SslContextsHolder])).thenReturn(prewarmed)
+      f(new HttpEngine(null, httpClient, eventLoopGroup, new DefaultClock, NoopStatsEngine, null, configuration), httpClient)
+    } finally {
+      eventLoopGroup.shutdownGracefully()
+    }
+  }
+
+  "prewarmConnections" should "pre-warm connections to every base url on every event loop" in withEngine { (engine, httpClient) =>
+    engine.prewarmConnections(components(engine, httpProtocol(3, List("http://gatling.io", "https://docs.gatling.io")))) shouldBe 12
+    verify(httpClient, times(12)).prewarmChannel(any[Request], anyLong, any[EventLoop], any[SslContextsHolder])
+  }
+
+  it should "only count the connections that were successfully pre-warmed" in withEngine { (engine, httpClient) =>
+    when(httpClient.prewarmChannel(any[Request], anyLong, any[EventLoop], any[SslContextsHolder])).thenReturn(prewarmed, failed)
+    engine.prewarmConnections(components(engine, httpProtocol(1, List("http://gatling.io")))) shouldBe 1
+  }
+
+  it should "not pre-warm connections that are not shared" in withEngine { (engine, httpClient) =>
+    engine.prewarmConnections(components(engine, httpProtocol(1, List("http://gatling.io")).modify(_.enginePart.shareConnections).setTo(false))) shouldBe 0
+    verify(httpClient, never).prewarmChannel(any[Request], anyLong, any[EventLoop], any[SslContextsHolder])
+  }
+
+  it should "not pre-warm connections when disabled" in withEngine { (engine, httpClient) =>
+    engine.prewarmConnections(components(engine, httpProtocol(0, List("http://gatling.io")))) shouldBe 0
+    verify(httpClient, never).prewarmChannel(any[Request], anyLong, any[EventLoop], any[SslContextsHolder])
+  }
+
+  it should "resolve and bind like the virtual users" in withEngine { (engine, httpClient) =>
+    val aliased = InetAddress.getByAddress("gatling.io", Array[Byte](127, 0, 0, 2))
+    val localAddress = InetAddress.getByAddress(Array[Byte](127, 0, 0, 1))
+    val protocol = httpProtocol(1, List("http://gatling.io"))
+      .modify(_.dnsPart.hostNameAliases)
+      .setTo(Map("gatling.io" -> List(aliased).asJava))
+      .modify(_.enginePart.localAddresses)
+      .setTo(List(localAddress))
+    engine.prewarmConnections(components(engine, protocol)) shouldBe 2
+
+    val requestCaptor = ArgumentCaptor.forClass(classOf[Request])
+    verify(httpClient, times(2)).prewarmChannel(requestCaptor.capture(), anyLong, any[EventLoop], any[SslContextsHolder])
+    val request = requestCaptor.getValue
+    request.getNameResolver.resolveAll("gatling.io", ImmediateEventExecutor.INSTANCE.newPromise[ju.List[InetAddress]](), null).get.asScala shouldBe List(aliased)
+    request.getLocalAddresses.getLocalAddressForRemote(aliased) shouldBe new InetSocketAddress(localAddress, 0)
+  }
+}
@@ -85,6 +85,7 @@ class HttpTxSpec extends AnyFlatSpecLike with Matchers {
       null,
       false,
       null,
+      null,
       null
     )
 
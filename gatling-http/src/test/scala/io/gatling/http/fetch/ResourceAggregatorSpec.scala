@@ -0,0 +1,103 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import io.gatling.commons.stats.{ KO, OK, Status }
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.EmptySession
+import io.gatling.core.action.Action
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session.Session
+import io.gatling.http.cache.HttpCaches
+import io.gatling.http.client.RequestBuilder
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.client.uri.Uri
+import io.gatling.http.engine.tx.{ HttpTxExecutor, ResourceTx }
+import io.gatling.http.protocol.HttpProtocol
+import io.gatling.http.request.{ HttpRequest, HttpRequestConfig }
+
+import io.netty.handler.codec.http.HttpMethod
+import org.mockito.ArgumentCaptor
+import org.mockito.Mockito._
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class ResourceAggregatorSpec extends AnyFlatSpecLike with Matchers with MockitoSugar with EmptySession {
+  private implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+  private val clock = new DefaultClock
+  private val httpProtocol = HttpProtocol(configuration)
+  private val resourceUri = Uri.create("http://gatling.io/img.png")
+
+  private val resource = HttpRequest(
+    "img.png",
+    new RequestBuilder("img.png", HttpMethod.GET, resourceUri, InetAddressNameResolver.JAVA_RESOLVER).build(),
+    HttpRequestConfig(
+      checks = Nil,
+      responseTransformer = None,
+      throttled = false,
+      silent = None,
+      followRedirect = false,
+      checksumAlgorithms = Nil,
+      storeBodyParts = false,
+      defaultCharset = configuration.core.charset,
+      explicitResources = Nil,
+      httpProtocol = httpProtocol
+    )
+  )
+
+  /**
+   * Completes a streamed page, then its resource with a session derived from the one the resource was started with
+   */
+  private def resourceCompletingAfterPage(pageSession: Session => Session, pageStatus: Status): Session = {
+    val next = mock[Action]
+    val aggregator = new DefaultResourceAggregator(
+      throttled = false,
+      httpProtocol,
+      silent = false,
+      next,
+      List(resource),
+      new HttpCaches(clock, configuration),
+      mock[ResourceFetcher],
+      mock[HttpTxExecutor],
+      clock
+    )
+
+    aggregator.startWhilePageIsReceived(emptySession)
+    aggregator.onStreamedPageFetched(pageSession(emptySession), pageStatus, Nil)
+    aggregator.onRegularResourceFetched(ResourceTx(aggregator, resource.requestName, resourceUri), OK, emptySession.set("resource", "fetched"), silent = false)
+
+    val nextSession = ArgumentCaptor.forClass(classOf[Session])
+    verify(next) ! nextSession.capture()
+    nextSession.getValue
+  }
+
+  "DefaultResourceAggregator" should "keep the page's session updates when a streamed resource completes after the page" in {
+    val session = resourceCompletingAfterPage(_.set("title", "Streamed"), OK)
+
+    session.attributes.get("title") shouldBe Some("Streamed")
+    session.attributes.get("resource") shouldBe Some("fetched")
+    session.isFailed shouldBe false
+  }
+
+  it should "keep a failed streamed page failed when a resource completes after the page" in {
+    val session = resourceCompletingAfterPage(_.markAsFailed, KO)
+
+    session.attributes.get("resource") shouldBe Some("fetched")
+    session.isFailed shouldBe true
+  }
+}
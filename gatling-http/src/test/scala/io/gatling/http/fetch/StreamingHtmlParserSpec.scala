@@ -0,0 +1,180 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.util.Using
+
+import io.gatling.http.client.uri.Uri
+
+import io.netty.buffer.Unpooled
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class StreamingHtmlParserSpec extends AnyFlatSpecLike with Matchers {
+  private val akkaIoBytes = Using.resource(getClass.getClassLoader.getResourceAsStream("akka.io.html"))(_.readAllBytes())
+
+  private def streamedEmbeddedResources(documentUri: String, bytes: Array[Byte], chunkSize: Int): List[ConcurrentResource] = {
+    val parser = new StreamingHtmlParser(UTF_8)
+    bytes.grouped(chunkSize).foreach { chunk =>
+      val buf = Unpooled.wrappedBuffer(chunk)
+      try {
+        parser.onChunk(buf)
+      } finally {
+        buf.release()
+      }
+    }
+    parser.end().embeddedResources(Uri.create(documentUri))
+  }
+
+  private def feed(parser: StreamingHtmlParser, html: String): Unit = {
+    val buf = Unpooled.copiedBuffer(html, UTF_8)
+    try {
+      parser.onChunk(buf)
+    } finally {
+      buf.release()
+    }
+  }
+
+  private def lagartoEmbeddedResources(documentUri: String, bytes: Array[Byte]): List[ConcurrentResource] =
+    new HtmlParser().getEmbeddedResources(Uri.create(documentUri), new String(bytes, UTF_8).toCharArray)
+
+  private implicit def string2Uri(string: String): Uri = Uri.create(string)
+
+  "parsing akka.io page chunk by chunk" should "extract the same urls as the Lagarto parser, whatever the chunk size" in {
+    val expected = lagartoEmbeddedResources("http://akka.io", akkaIoBytes)
+    expected should not be empty
+
+    for (chunkSize <- List(1, 7, 64, 1024, akkaIoBytes.length)) {
+      streamedEmbeddedResources("http://akka.io", akkaIoBytes, chunkSize) shouldBe expected
+    }
+  }
+
+  "parsing a page chunk by chunk" should "ignore markup in comments and scripts" in {
+    val html =
+      """<!DOCTYPE html>
+      <html>
+        <head>
+          <!-- <img src="/commented.png"> -->
+          <!---->
+          <script src="/app.js">
+            document.write('<img src="/scripted.png"></scr' + 'ipt>');
+          </script>
+        </head>
+        <body>
+          <img src="/visible.png">
+        </body>
+      </html>
+      """.getBytes(UTF_8)
+
+    for (chunkSize <- List(1, 5, html.length)) {
+      streamedEmbeddedResources("http://example.com/", html, chunkSize) shouldBe List(
+        BasicResource("http://example.com/app.js"),
+        BasicResource("http://example.com/visible.png")
+      )
+    }
+  }
+
+  it should "extract style imports, base and case insensitive tags and attributes" in {
+    val html =
+      """<html>
+        <HEAD>
+          <BASE HREF="http://cdn.example.com/">
+          <style type="text/css">
+            @import url("imported.css");
+            p > a { color: red }
+          </STYLE>
+          <link rel=StyleSheet href=main.css>
+        </HEAD>
+        <body background='bg.png'>
+          <div style="background-image: url(/div.png)"></div>
+          <img src="/image.png?width=10&amp;height=20&#38;dpi=2&#x26;unknown=&foo;"/>
+        </body>
+      </html>
+      """.getBytes(UTF_8)
+
+    for (chunkSize <- List(1, 3, html.length)) {
+      streamedEmbeddedResources("http://example.com/", html, chunkSize) shouldBe List(
+        CssResource("http://cdn.example.com/imported.css"),
+        CssResource("http://cdn.example.com/main.css"),
+        BasicResource("http://cdn.example.com/bg.png"),
+        BasicResource("http://cdn.example.com/div.png"),
+        BasicResource("http://cdn.example.com/image.png?width=10&height=20&dpi=2&unknown=&foo;")
+      )
+    }
+  }
+
+  it should "decode multi-byte characters split over several chunks" in {
+    val html =
+      """<html>
+        <body>
+          <p>Des données très détaillées</p>
+          <img src="/café.png">
+          <img src="/東京.png">
+        </body>
+      </html>
+      """.getBytes(UTF_8)
+
+    val expected = lagartoEmbeddedResources("http://example.com/", html)
+    expected should have size 2
+
+    for (chunkSize <- 1 to 4) {
+      streamedEmbeddedResources("http://example.com/", html, chunkSize) shouldBe expected
+    }
+  }
+
+  "settled resources" should "only be returned once the head is over, and then only the new ones" in {
+    val parser = new StreamingHtmlParser(UTF_8)
+    val documentUri = Uri.create("http://example.com/")
+
+    feed(parser, """<html><head><link rel="stylesheet" href="/main.css">""")
+    parser.settledResources() shouldBe None
+
+    feed(parser, """<base href="http://cdn.example.com/"></head><body><img src="a.png">""")
+    parser.settledResources().map(_.embeddedResources(documentUri)) shouldBe Some(
+      List(CssResource("http://cdn.example.com/main.css"), BasicResource("http://cdn.example.com/a.png"))
+    )
+    parser.settledResources() shouldBe None
+
+    feed(parser, """<img src="b.png">""")
+    parser.settledResources().map(_.embeddedResources(documentUri)) shouldBe Some(List(BasicResource("http://cdn.example.com/b.png")))
+  }
+
+  it should "be returned once the body starts when the head isn't closed" in {
+    val parser = new StreamingHtmlParser(UTF_8)
+
+    feed(parser, """<html><head><script src="/app.js"></script>""")
+    parser.settledResources() shouldBe None
+
+    feed(parser, """<body>""")
+    parser.settledResources().map(_.embeddedResources(Uri.create("http://example.com/"))) shouldBe Some(
+      List(BasicResource("http://example.com/app.js"))
+    )
+  }
+
+  it should "not be resolved against a base found after the head" in {
+    val parser = new StreamingHtmlParser(UTF_8)
+    val documentUri = Uri.create("http://example.com/")
+
+    feed(parser, """<html><head></head><body><img src="a.png"><base href="http://cdn.example.com/"><img src="b.png">""")
+    parser.settledResources().map(_.embeddedResources(documentUri)) shouldBe Some(
+      List(BasicResource("http://example.com/a.png"), BasicResource("http://example.com/b.png"))
+    )
+    parser.end().embeddedResources(documentUri) shouldBe List(BasicResource("http://example.com/a.png"), BasicResource("http://example.com/b.png"))
+  }
+}
@@ -17,14 +17,26 @@
 package io.gatling.http.integration
 
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
 
 import io.gatling.core.CoreDsl
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.{ HttpDsl, HttpSpec }
 
 import io.netty.buffer.Unpooled
-import io.netty.channel.ChannelFutureListener
-import io.netty.handler.codec.http.{ DefaultFullHttpResponse, HttpHeaderNames => NettyHttpHeaderName, HttpMethod, HttpResponseStatus, HttpVersion }
+import io.netty.channel.{ ChannelFuture, ChannelFutureListener, ChannelHandlerContext }
+import io.netty.handler.codec.http.{
+  DefaultFullHttpResponse,
+  DefaultHttpContent,
+  DefaultHttpResponse,
+  DefaultLastHttpContent,
+  HttpHeaderNames => NettyHttpHeaderName,
+  HttpHeaderValues => NettyHttpHeaderValues,
+  HttpMethod,
+  HttpResponseStatus,
+  HttpVersion
+}
 import io.netty.handler.codec.http.cookie._
 
 class HttpIntegrationSpec extends HttpSpec with CoreDsl with HttpDsl {
@@ -123,4 +135,141 @@ class HttpIntegrationSpec extends HttpSpec with CoreDsl with HttpDsl {
       verifyRequestTo("/resourceTest/bad_resource.png", 0)
     }
   }
+
+  /**
+   * Sends the page, with a cookie, up to its first image, and the rest only once this image is requested, so the page can only complete when its
+   * resources are fetched while it's still being received. When imageAfterPage, the image is only answered once the page is complete.
+   */
+  private def streamedPageHandler(pageEnd: String, imageAfterPage: Boolean): Handler = {
+    val pageCtx = new AtomicReference[ChannelHandlerContext]
+
+    def sendFull(bytes: Array[Byte], ctx: ChannelHandlerContext, cookie: Option[String]): Unit = {
+      val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(bytes))
+      response.headers.set(NettyHttpHeaderName.CONTENT_LENGTH, bytes.length)
+      cookie.foreach(name => response.headers.set(NettyHttpHeaderName.SET_COOKIE, ServerCookieEncoder.STRICT.encode(new DefaultCookie(name, "1"))))
+      ctx.channel.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE)
+    }
+
+    {
+      case HttpRequest(HttpMethod.GET, "/page") =>
+        ctx => {
+          pageCtx.set(ctx)
+          val response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK)
+          response.headers
+            .set(NettyHttpHeaderName.CONTENT_TYPE, "text/html; charset=utf-8")
+            .set(NettyHttpHeaderName.TRANSFER_ENCODING, NettyHttpHeaderValues.CHUNKED)
+            .set(NettyHttpHeaderName.SET_COOKIE, ServerCookieEncoder.STRICT.encode(new DefaultCookie("Page", "1")))
+          ctx.write(response)
+          val pageStart = """<html><head><title>Streamed</title></head><body><img src="/early.png">"""
+          ctx.writeAndFlush(new DefaultHttpContent(Unpooled.copiedBuffer(pageStart, StandardCharsets.UTF_8)))
+        }
+
+      case HttpRequest(HttpMethod.GET, "/early.png") =>
+        ctx => {
+          def sendImage(): Unit = sendFull(Array[Byte](1, 2, 3), ctx, Some("Early"))
+          def sendPageEnd(): ChannelFuture =
+            pageCtx.get
+              .writeAndFlush(new DefaultLastHttpContent(Unpooled.copiedBuffer(pageEnd, StandardCharsets.UTF_8)))
+              .addListener(ChannelFutureListener.CLOSE)
+
+          if (imageAfterPage) {
+            // leave the client the time to process the complete page first
+            sendPageEnd().addListener((_: ChannelFuture) => ctx.executor.schedule((() => sendImage()): Runnable, 200, TimeUnit.MILLISECONDS))
+          } else {
+            sendImage()
+            sendPageEnd()
+          }
+        }
+
+      case HttpRequest(HttpMethod.GET, "/late.png") =>
+        ctx => sendFull(Array[Byte](4, 5, 6), ctx, None)
+
+      case HttpRequest(HttpMethod.GET, "/next") =>
+        ctx => sendFull("next".getBytes(StandardCharsets.UTF_8), ctx, None)
+    }
+  }
+
+  private val incrementalInferenceConfiguration = GatlingConfiguration.loadForTest("gatling.http.incrementalHtmlResourcesInference" -> true)
+
+  it should "fetch the resources of a page while it's still being received, when incremental resources inference is enabled" in {
+    runWithHttpServer(streamedPageHandler("""<img src="/late.png"></body></html>""", imageAfterPage = false)) { implicit httpServer =>
+      val session = runScenario(
+        scenario("Streamed resources")
+          .exec(
+            http("/page")
+              .get("/page")
+              .check(css("title").saveAs("title"))
+          )
+          .exec(http("/next").get("/next")),
+        protocolCustomizer = _.inferHtmlResources()
+      )(incrementalInferenceConfiguration)
+
+      session.isFailed shouldBe false
+      session("title").as[String] shouldBe "Streamed"
+
+      verifyRequestTo("/page")
+      verifyRequestTo("/early.png")
+      verifyRequestTo("/late.png")
+      // the cookie set by the resource fetched while the page was received isn't lost when the page completes
+      verifyRequestTo("/next", 1, checkCookie("Early", "1"), checkCookie("Page", "1"))
+    }
+  }
+
+  it should "keep the page's checks and cookies when a streamed resource completes after the page" in {
+    runWithHttpServer(streamedPageHandler("</body></html>", imageAfterPage = true)) { implicit httpServer =>
+      val session = runScenario(
+        scenario("Streamed resource completing after the page")
+          .exec(
+            http("/page")
+              .get("/page")
+              .check(css("title").saveAs("title"))
+          )
+          .exec(http("/next").get("/next")),
+        protocolCustomizer = _.inferHtmlResources()
+      )(incrementalInferenceConfiguration)
+
+      session.isFailed shouldBe false
+      session("title").as[String] shouldBe "Streamed"
+
+      verifyRequestTo("/early.png")
+      verifyRequestTo("/next", 1, checkCookie("Early", "1"), checkCookie("Page", "1"))
+    }
+  }
+
+  it should "keep a streamed page failed when a resource completes after the page" in {
+    runWithHttpServer(streamedPageHandler("</body></html>", imageAfterPage = true)) { implicit httpServer =>
+      val session = runScenario(
+        scenario("Streamed resource completing after the failed page")
+          .exec(
+            http("/page")
+              .get("/page")
+              .check(regexCheck("missing"))
+          ),
+        protocolCustomizer = _.inferHtmlResources()
+      )(incrementalInferenceConfiguration)
+
+      session.isFailed shouldBe true
+      verifyRequestTo("/early.png")
+    }
+  }
+
+  it should "not fetch the remaining resources of a streamed page whose checks fail" in {
+    runWithHttpServer(streamedPageHandler("</body></html>", imageAfterPage = false)) { implicit httpServer =>
+      val session = runScenario(
+        scenario("Streamed resources of failed page")
+          .exec(
+            http("/page")
+              .get("/page")
+              .check(regexCheck("missing"))
+              .resources(http("/late.png").get("/late.png"))
+          ),
+        protocolCustomizer = _.inferHtmlResources()
+      )(incrementalInferenceConfiguration)
+
+      session.isFailed shouldBe true
+
+      verifyRequestTo("/early.png")
+      verifyRequestTo("/late.png", 0)
+    }
+  }
 }
@@ -77,6 +77,28 @@ class HttpRequestBuilderSpec extends AnyFlatSpecLike with Matchers with Validati
       .succeeded shouldBe "/get?foo=do+da"
   }
 
+  it should "preserve query params order when mixing static and dynamic query params" in {
+    val session = sessionBase.set("bar", "BAR BAR")
+
+    httpRequestDef(
+      _.queryParam("foo", "FOO").queryParam("bar", "#{bar}".el).queryParam("baz", "BAZ"),
+      urlOrURI = Left("https://gatling.io/path?q=1".expressionSuccess)
+    )
+      .build(session)
+      .map(_.clientRequest.getUri.toRelativeUrl)
+      .succeeded shouldBe "/path?q=1&foo=FOO&bar=BAR+BAR&baz=BAZ"
+  }
+
+  it should "pre-encode static query params" in {
+    httpRequestDef(
+      _.queryParam("foo", "do da").queryParam("bar", "a&b"),
+      urlOrURI = Left("https://gatling.io/path".expressionSuccess)
+    )
+      .build(sessionBase)
+      .map(_.clientRequest.getUri.toRelativeUrl)
+      .succeeded shouldBe "/path?foo=do+da&bar=a%26b"
+  }
+
   "signature calculator" should "work when passed as a SignatureCalculator instance" in {
     httpRequestDef(_.sign { (request, _) =>
       request.getHeaders.add("X-Token", "foo")
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+import java.util.concurrent.{ RejectedExecutionException, TimeUnit }
+
+import scala.concurrent.{ Await, Promise => ScalaPromise }
+import scala.concurrent.duration._
+import scala.util.Try
+
+import io.gatling.http.client.HttpListener
+import io.gatling.http.client.resolver.InetAddressNameResolver
+
+import io.netty.channel.{ DefaultEventLoop, EventLoop }
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.resolver.dns.{ DefaultDnsCache, DnsCache }
+import io.netty.util.concurrent.{ Future, Promise }
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class PrefetchingDnsCacheSpec extends AnyFlatSpecLike with Matchers with BeforeAndAfterAll {
+  private val NoAdditionals = Array.empty[DnsRecord]
+  private val OldAddress = InetAddress.getByAddress("gatling.io", Array[Byte](10, 0, 0, 1))
+  private val NewAddress = InetAddress.getByAddress("gatling.io", Array[Byte](10, 0, 0, 2))
+
+  private val eventLoop = new DefaultEventLoop
+
+  override def afterAll(): Unit = {
+    eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS)
+    ()
+  }
+
+  // stands in for a DNS server that always answers with NewAddress
+  // runs on the event loop, so assertion failures are passed to the test thread through resolved
+  private final class StandInResolver(cache: DnsCache, loop: EventLoop, resolved: ScalaPromise[Unit]) extends InetAddressNameResolver {
+    override def resolveAll(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Future[ju.List[InetAddress]] = {
+      resolved.tryComplete(Try {
+        cache.get(inetHost, NoAdditionals) shouldBe null
+        cache.cache(inetHost, NoAdditionals, NewAddress, 60, loop)
+        ()
+      })
+      promise.setSuccess(ju.Collections.singletonList(NewAddress))
+      promise
+    }
+
+    override def close(): Unit = {}
+  }
+
+  "PrefetchingDnsCache" should "count hits and misses" in {
+    val cache = new PrefetchingDnsCache(new DefaultDnsCache, 0, (_, _) => throw new UnsupportedOperationException)
+
+    cache.get("gatling.io", NoAdditionals) shouldBe null
+    cache.cache("gatling.io", NoAdditionals, OldAddress, 60, eventLoop)
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+
+    cache.misses shouldBe 1
+    cache.hits shouldBe 2
+    cache.prefetches shouldBe 0
+  }
+
+  it should "count negative hits" in {
+    val cache = new PrefetchingDnsCache(new DefaultDnsCache(0, Int.MaxValue, 60), 0, (_, _) => throw new UnsupportedOperationException)
+
+    cache.cache("gatling.io", NoAdditionals, new ju.concurrent.TimeoutException, eventLoop)
+    cache.get("gatling.io", NoAdditionals).get(0).cause should not be null
+
+    cache.negativeHits shouldBe 1
+    cache.hits shouldBe 0
+  }
+
+  it should "refresh entries in the background when reading them close to their expiry" in {
+    val resolved = ScalaPromise[Unit]()
+    // a threshold of 1 means always prefetching
+    val cache = new PrefetchingDnsCache(new DefaultDnsCache, 1, (loop, prefetchCache) => new StandInResolver(prefetchCache, loop, resolved))
+
+    cache.cache("gatling.io", NoAdditionals, OldAddress, 60, eventLoop)
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+
+    // rethrows the assertion failures of the stand-in resolver
+    Await.result(resolved.future, 5.seconds)
+    val entries = cache.get("gatling.io", NoAdditionals)
+    entries.size shouldBe 1
+    entries.get(0).address shouldBe NewAddress
+    cache.prefetches should be >= 1L
+  }
+
+  it should "prefetch again after the event loop rejected a prefetch" in {
+    val resolved = ScalaPromise[Unit]()
+    val cache = new PrefetchingDnsCache(new DefaultDnsCache, 1, (loop, prefetchCache) => new StandInResolver(prefetchCache, loop, resolved))
+    val rejectingEventLoop = new DefaultEventLoop {
+      @volatile var rejecting = false
+      override def execute(task: Runnable): Unit =
+        if (rejecting) throw new RejectedExecutionException("shutting down") else super.execute(task)
+    }
+
+    try {
+      cache.cache("gatling.io", NoAdditionals, OldAddress, 60, rejectingEventLoop)
+      rejectingEventLoop.rejecting = true
+      cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+      cache.prefetches shouldBe 0
+    } finally {
+      rejectingEventLoop.rejecting = false
+      rejectingEventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS)
+    }
+
+    cache.cache("gatling.io", NoAdditionals, OldAddress, 60, eventLoop)
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+    Await.result(resolved.future, 5.seconds)
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe NewAddress
+  }
+
+  it should "not prefetch when disabled" in {
+    val cache = new PrefetchingDnsCache(new DefaultDnsCache, 0, (_, _) => throw new UnsupportedOperationException)
+
+    cache.cache("gatling.io", NoAdditionals, OldAddress, 60, eventLoop)
+    cache.get("gatling.io", NoAdditionals).get(0).address shouldBe OldAddress
+    cache.prefetches shouldBe 0
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.javaapi.jdbc;
+
+import static io.gatling.javaapi.core.internal.Expressions.*;
+
+import io.gatling.commons.validation.Validation;
+import io.gatling.javaapi.core.Session;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import scala.Function1;
+
+public final class Jdbc {
+  private final io.gatling.jdbc.request.JdbcDslBuilderBase wrapped;
+
+  public Jdbc(Function1<io.gatling.core.session.Session, Validation<String>> name) {
+    wrapped = new io.gatling.jdbc.request.JdbcDslBuilderBase(name);
+  }
+
+  /**
+   * Bootstrap a builder for a SELECT statement
+   *
+   * @param sql the statement, with {@code ?} placeholders for its parameters, expressed as a
+   *     Gatling Expression Language String
+   * @return the next DSL step
+   */
+  public @NonNull JdbcActionBuilder query(@NonNull String sql) {
+    return new JdbcActionBuilder(wrapped.query(toStringExpression(sql)));
+  }
+
+  /**
+   * Bootstrap a builder for a SELECT statement
+   *
+   * @param sql the statement, with {@code ?} placeholders for its parameters, expressed as a
+   *     function
+   * @return the next DSL step
+   */
+  public @NonNull JdbcActionBuilder query(@NonNull Function<Session, String> sql) {
+    return new JdbcActionBuilder(wrapped.query(javaFunctionToExpression(sql)));
+  }
+
+  /**
+   * Bootstrap a builder for an INSERT, UPDATE or DELETE statement
+   *
+   * @param sql the statement, with {@code ?} placeholders for its parameters, expressed as a
+   *     Gatling Expression Language String
+   * @return the next DSL step
+   */
+  public @NonNull JdbcActionBuilder update(@NonNull String sql) {
+    return new JdbcActionBuilder(wrapped.update(toStringExpression(sql)));
+  }
+
+  /**
+   * Bootstrap a builder for an INSERT, UPDATE or DELETE statement
+   *
+   * @param sql the statement, with {@code ?} placeholders for its parameters, expressed as a
+   *     function
+   * @return the next DSL step
+   */
+  public @NonNull JdbcActionBuilder update(@NonNull Function<Session, String> sql) {
+    return new JdbcActionBuilder(wrapped.update(javaFunctionToExpression(sql)));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.javaapi.jdbc;
+
+import static io.gatling.javaapi.core.internal.Converters.*;
+
+import io.gatling.commons.validation.Validation;
+import io.gatling.javaapi.core.ActionBuilder;
+import io.gatling.javaapi.core.internal.Expressions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import scala.Function1;
+
+/**
+ * DSL for building JDBC statement actions.
+ *
+ * <p>Immutable, so all methods return a new occurrence and leave the original unmodified.
+ */
+public final class JdbcActionBuilder implements ActionBuilder {
+
+  private final io.gatling.jdbc.request.JdbcDslBuilder wrapped;
+
+  public JdbcActionBuilder(io.gatling.jdbc.request.JdbcDslBuilder wrapped) {
+    this.wrapped = wrapped;
+  }
+
+  /**
+   * Bind the statement parameters, in the order of their placeholders
+   *
+   * @param params the parameters, expressed as Gatling Expression Language Strings
+   * @return a new JdbcActionBuilder instance
+   */
+  public @NonNull JdbcActionBuilder params(@NonNull String... params) {
+    List<Function1<io.gatling.core.session.Session, Validation<Object>>> expressions =
+        Arrays.stream(params).map(Expressions::toAnyExpression).collect(Collectors.toList());
+    return new JdbcActionBuilder(wrapped.params(toScalaSeq(expressions)));
+  }
+
+  /**
+   * Save the result in the Session: the rows as a List of Maps for a query, the number of affected
+   * rows for an update
+   *
+   * @param key the key to store the result in the Session
+   * @return a new JdbcActionBuilder instance
+   */
+  public @NonNull JdbcActionBuilder saveAs(@NonNull String key) {
+    return new JdbcActionBuilder(wrapped.saveAs(key));
+  }
+
+  @Override
+  public io.gatling.core.action.builder.ActionBuilder asScala() {
+    return wrapped.build();
+  }
+}
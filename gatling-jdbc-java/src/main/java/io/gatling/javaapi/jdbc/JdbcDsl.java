@@ -16,7 +16,11 @@
 
 package io.gatling.javaapi.jdbc;
 
+import static io.gatling.javaapi.core.internal.Expressions.*;
+
 import io.gatling.javaapi.core.FeederBuilder;
+import io.gatling.javaapi.core.Session;
+import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
 
 /** The entrypoint of the Gatling JDBC DSL */
@@ -24,6 +28,29 @@ public final class JdbcDsl {
 
   private JdbcDsl() {}
 
+  /** Prefix to bootstrap a new JDBC protocol builder DSL */
+  public static final JdbcProtocolBuilder.Base jdbc = JdbcProtocolBuilder.Base.INSTANCE;
+
+  /**
+   * Bootstrap a JDBC action builder
+   *
+   * @param name the name of the action, expressed as a Gatling Expression Language String
+   * @return a new Jdbc instance
+   */
+  public static @NonNull Jdbc jdbc(@NonNull String name) {
+    return new Jdbc(toStringExpression(name));
+  }
+
+  /**
+   * Bootstrap a JDBC action builder
+   *
+   * @param name the name of the action, expressed as a function
+   * @return a new Jdbc instance
+   */
+  public static @NonNull Jdbc jdbc(@NonNull Function<Session, String> name) {
+    return new Jdbc(javaFunctionToExpression(name));
+  }
+
   /**
    * Boostrap a feeder that read a stock of data from a database
    *
@@ -42,4 +69,27 @@ public final class JdbcDsl {
         io.gatling.jdbc.Predef.jdbcFeeder(
             url, username, password, sql, io.gatling.core.Predef.configuration()));
   }
+
+  /**
+   * Boostrap a feeder that streams its data from a database instead of loading it all in memory
+   * upfront. The query is run again every time a circular or random feeder reaches the end of the
+   * results, and random and shuffle feeders only shuffle records in windows of 2,000 records.
+   *
+   * @param url the database url
+   * @param username the credentials username
+   * @param password the credentials password
+   * @param sql the SQL query
+   * @param fetchSize the number of rows fetched per database round-trip
+   * @return a FeederBuilder
+   */
+  public static @NonNull FeederBuilder<Object> streamingJdbcFeeder(
+      @NonNull String url,
+      @NonNull String username,
+      @NonNull String password,
+      @NonNull String sql,
+      int fetchSize) {
+    return new FeederBuilder.Impl<>(
+        io.gatling.jdbc.Predef.streamingJdbcFeeder(
+            url, username, password, sql, fetchSize, io.gatling.core.Predef.configuration()));
+  }
 }
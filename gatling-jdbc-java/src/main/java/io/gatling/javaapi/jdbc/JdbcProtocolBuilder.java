@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.javaapi.jdbc;
+
+import io.gatling.core.protocol.Protocol;
+import io.gatling.javaapi.core.ProtocolBuilder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DSL for building JDBC Protocol configurations
+ *
+ * <p>Immutable, so all methods return a new occurrence and leave the original unmodified.
+ */
+public final class JdbcProtocolBuilder implements ProtocolBuilder {
+
+  public static final class Base {
+
+    public static final Base INSTANCE = new Base();
+
+    private Base() {}
+
+    /**
+     * Define the database url
+     *
+     * @param url the JDBC url
+     * @return a new DSL instance
+     */
+    public @NonNull JdbcProtocolBuilder url(@NonNull String url) {
+      return new JdbcProtocolBuilder(io.gatling.jdbc.protocol.JdbcProtocolBuilderBase.url(url));
+    }
+  }
+
+  private final io.gatling.jdbc.protocol.JdbcProtocolBuilder wrapped;
+
+  public JdbcProtocolBuilder(io.gatling.jdbc.protocol.JdbcProtocolBuilder wrapped) {
+    this.wrapped = wrapped;
+  }
+
+  @Override
+  public Protocol protocol() {
+    return wrapped.build();
+  }
+
+  /**
+   * Define the connection credentials
+   *
+   * @param username the username
+   * @param password the password
+   * @return a new instance
+   */
+  public @NonNull JdbcProtocolBuilder credentials(
+      @NonNull String username, @NonNull String password) {
+    return new JdbcProtocolBuilder(wrapped.credentials(username, password));
+  }
+
+  /**
+   * Define the number of connections, each of them used by a dedicated thread. Statements are
+   * queued when all the connections are busy. Default is 10.
+   *
+   * @param max the number of connections
+   * @return a new instance
+   */
+  public @NonNull JdbcProtocolBuilder maxConnections(int max) {
+    return new JdbcProtocolBuilder(wrapped.maxConnections(max));
+  }
+
+  /**
+   * Define the number of prepared statements cached per connection. Default is 50, 0 disables
+   * caching.
+   *
+   * @param size the cache size
+   * @return a new instance
+   */
+  public @NonNull JdbcProtocolBuilder statementCacheSize(int size) {
+    return new JdbcProtocolBuilder(wrapped.statementCacheSize(size));
+  }
+}
@@ -20,8 +20,23 @@ import static io.gatling.javaapi.core.CoreDsl.*;
 import static io.gatling.javaapi.jdbc.JdbcDsl.*;
 
 import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
 
 public class JdbcJavaCompileTest {
 
   ChainBuilder feed = feed(jdbcFeeder("url", "username", "password", "sql"));
+
+  ChainBuilder streamingFeed =
+      feed(streamingJdbcFeeder("url", "username", "password", "sql", 1000).shuffle());
+
+  JdbcProtocolBuilder jdbcProtocol =
+      jdbc.url("jdbc:h2:mem:test").credentials("sa", "").maxConnections(5).statementCacheSize(20);
+
+  ScenarioBuilder scn =
+      scenario("scenario")
+          .exec(
+              jdbc("select").query("SELECT * FROM USERS WHERE ID = ?").params("#{id}").saveAs("rows"),
+              jdbc(session -> "update")
+                  .update(session -> "UPDATE USERS SET NAME = ? WHERE ID = ?")
+                  .params("#{name}", "#{id}"));
 }
@@ -16,11 +16,43 @@
 
 package io.gatling.jdbc
 
+import io.gatling.core.action.builder.ActionBuilder
 import io.gatling.core.config.GatlingConfiguration
-import io.gatling.core.feeder.{ FeederBuilderBase, InMemoryFeederSource, SourceFeederBuilder }
+import io.gatling.core.feeder.{ FeederBuilderBase, InMemoryFeederSource, SourceFeederBuilder, StreamingFeederSource }
+import io.gatling.core.session.Expression
 import io.gatling.jdbc.feeder.JdbcFeederSource
+import io.gatling.jdbc.protocol.{ JdbcProtocol, JdbcProtocolBuilder, JdbcProtocolBuilderBase }
+import io.gatling.jdbc.request.{ JdbcDslBuilder, JdbcDslBuilderBase }
 
 object Predef {
   def jdbcFeeder(url: String, username: String, password: String, sql: String)(implicit configuration: GatlingConfiguration): FeederBuilderBase[Any] =
     SourceFeederBuilder(InMemoryFeederSource(JdbcFeederSource(url, username, password, sql), s"jdbc($sql)"), configuration)
+
+  def streamingJdbcFeeder(url: String, username: String, password: String, sql: String, fetchSize: Int)(implicit
+      configuration: GatlingConfiguration
+  ): FeederBuilderBase[Any] =
+    SourceFeederBuilder(
+      new StreamingFeederSource(
+        JdbcFeederSource.stream(url, username, password, sql, fetchSize),
+        () => JdbcFeederSource.count(url, username, password, sql, fetchSize),
+        s"jdbc($sql)"
+      ),
+      configuration
+    )
+
+  def jdbc(implicit configuration: GatlingConfiguration): JdbcProtocolBuilderBase.type = JdbcProtocolBuilderBase
+
+  /**
+   * DSL text to start the jdbc builder
+   *
+   * @param requestName
+   *   human readable name of request
+   * @return
+   *   a JdbcDslBuilderBase instance which can be used to build up a JDBC action
+   */
+  def jdbc(requestName: Expression[String]): JdbcDslBuilderBase = new JdbcDslBuilderBase(requestName)
+
+  implicit def jdbcProtocolBuilder2jdbcProtocol(builder: JdbcProtocolBuilder): JdbcProtocol = builder.build
+
+  implicit def jdbcDslBuilder2ActionBuilder(builder: JdbcDslBuilder): ActionBuilder = builder.build
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.action
+
+import java.sql.{ PreparedStatement, ResultSet, SQLException }
+
+import scala.util.Using
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.Clock
+import io.gatling.commons.util.Throwables._
+import io.gatling.commons.validation._
+import io.gatling.core.action.{ Action, RequestAction }
+import io.gatling.core.actor.ActorRef
+import io.gatling.core.controller.throttle.Throttler
+import io.gatling.core.session.{ Expression, Session }
+import io.gatling.core.stats.StatsEngine
+import io.gatling.core.util.NameGen
+import io.gatling.jdbc.client.JdbcClient
+import io.gatling.jdbc.request.{ JdbcAttributes, JdbcStatementType }
+
+/**
+ * Runs a JDBC statement on the JdbcClient pool and resumes the virtual user once it completes. The response time covers the statement execution and, for
+ * queries, reading all the rows, but not the time spent waiting for a free connection.
+ */
+final class JdbcQuery(
+    attributes: JdbcAttributes,
+    client: JdbcClient,
+    override val statsEngine: StatsEngine,
+    override val clock: Clock,
+    override val next: Action,
+    throttler: Option[ActorRef[Throttler.Command]]
+) extends RequestAction
+    with NameGen {
+  override val name: String = genName("jdbcQuery")
+
+  override val requestName: Expression[String] = attributes.requestName
+
+  override def sendRequest(session: Session): Validation[Unit] =
+    for {
+      reqName <- requestName(session)
+      sql <- attributes.sql(session)
+      params <- resolveParams(session)
+    } yield {
+      val execute: () => Unit = () =>
+        client.execute[Any](
+          () => clock.nowMillis,
+          _.withStatement(sql)(run(_, params)),
+          (start, result) => {
+            val end = clock.nowMillis
+            statsEngine.logResponse(session.scenario, session.groups, reqName, start, end, OK, None, None)
+            val newSession = attributes.saveAs.fold(session)(session.set(_, result))
+            next ! newSession.logGroupRequestTimings(start, end)
+          },
+          (start, e) => {
+            val end = clock.nowMillis
+            val errorCode = e match {
+              case sqlException: SQLException => Option(sqlException.getSQLState)
+              case _                          => None
+            }
+            logger.debug(s"Statement $reqName failed", e)
+            statsEngine.logResponse(session.scenario, session.groups, reqName, start, end, KO, errorCode, Some(e.detailedMessage))
+            next ! session.markAsFailed.logGroupRequestTimings(start, end)
+          }
+        )
+
+      throttler match {
+        case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, execute)
+        case _        => execute()
+      }
+    }
+
+  private def resolveParams(session: Session): Validation[List[Any]] =
+    attributes.params.foldRight(List.empty[Any].success) { (param, resolvedParams) =>
+      for {
+        resolvedParam <- param(session)
+        resolvedParams <- resolvedParams
+      } yield resolvedParam :: resolvedParams
+    }
+
+  private def run(statement: PreparedStatement, params: List[Any]): Any = {
+    var index = 1
+    params.foreach { param =>
+      statement.setObject(index, param)
+      index += 1
+    }
+
+    attributes.statementType match {
+      case JdbcStatementType.Query =>
+        Using.resource(statement.executeQuery()) { resultSet =>
+          if (attributes.saveAs.isDefined) readRows(resultSet) else countRows(resultSet)
+        }
+      case JdbcStatementType.Update =>
+        statement.executeUpdate()
+    }
+  }
+
+  private def countRows(resultSet: ResultSet): Int = {
+    var count = 0
+    while (resultSet.next()) {
+      count += 1
+    }
+    count
+  }
+
+  private def readRows(resultSet: ResultSet): Vector[Map[String, Any]] = {
+    val metadata = resultSet.getMetaData
+    val columnLabels = Array.tabulate(metadata.getColumnCount)(i => metadata.getColumnLabel(i + 1))
+    val rows = Vector.newBuilder[Map[String, Any]]
+    while (resultSet.next()) {
+      rows += columnLabels.iterator.zipWithIndex.map { case (label, i) => label -> resultSet.getObject(i + 1) }.toMap
+    }
+    rows.result()
+  }
+}
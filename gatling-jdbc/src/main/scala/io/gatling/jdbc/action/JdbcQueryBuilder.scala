@@ -0,0 +1,38 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.action
+
+import io.gatling.core.action.Action
+import io.gatling.core.action.builder.ActionBuilder
+import io.gatling.core.structure.ScenarioContext
+import io.gatling.jdbc.protocol.{ JdbcComponents, JdbcProtocol }
+import io.gatling.jdbc.request.JdbcAttributes
+
+final class JdbcQueryBuilder(attributes: JdbcAttributes) extends ActionBuilder {
+  override def build(ctx: ScenarioContext, next: Action): Action = {
+    val jdbcComponents: JdbcComponents = ctx.protocolComponentsRegistry.components(JdbcProtocol.JdbcProtocolKey)
+
+    new JdbcQuery(
+      attributes,
+      jdbcComponents.jdbcClient,
+      ctx.coreComponents.statsEngine,
+      ctx.coreComponents.clock,
+      next,
+      ctx.coreComponents.throttler.filter(_ => ctx.throttled)
+    )
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.client
+
+import java.sql.DriverManager
+import java.util.concurrent.{ ConcurrentHashMap, ExecutorService, Executors, RejectedExecutionException, TimeUnit }
+
+import scala.util.control.NonFatal
+
+import io.gatling.jdbc.protocol.JdbcProtocol
+
+import io.netty.util.concurrent.DefaultThreadFactory
+
+object JdbcClient {
+  private val JdbcThreadFactory = new DefaultThreadFactory("gatling-jdbc")
+  private val WorkersTerminationTimeoutSeconds = 10L
+}
+
+/**
+ * Runs blocking JDBC calls on a bounded pool of threads, each of them owning a connection, so virtual users' event loops never block on the database. Calls
+ * are queued when all the connections are busy.
+ */
+final class JdbcClient(protocol: JdbcProtocol) {
+  private val executor: ExecutorService = Executors.newFixedThreadPool(protocol.maxConnections, JdbcClient.JdbcThreadFactory)
+  private val connections = ConcurrentHashMap.newKeySet[JdbcConnection]
+  private val threadConnection = new ThreadLocal[JdbcConnection]
+  @volatile private var closed = false
+
+  private def connection(): JdbcConnection = {
+    var connection = threadConnection.get
+    if (connection == null || !connection.isValid) {
+      if (connection != null) {
+        connections.remove(connection)
+        connection.close()
+      }
+      connection = new JdbcConnection(DriverManager.getConnection(protocol.url, protocol.username, protocol.password), protocol.statementCacheSize)
+      connections.add(connection)
+      threadConnection.set(connection)
+    }
+    connection
+  }
+
+  /**
+   * @param f
+   *   the blocking call, executed on one of the pool threads
+   * @param onSuccess
+   *   invoked on the pool thread with the start timestamp of the call and its result
+   * @param onFailure
+   *   invoked with the start timestamp of the call, if it was started, and the failure cause
+   *
+   * The start timestamp is taken once the pool thread holds a valid connection, so opening or replacing it isn't part of the measured response time.
+   */
+  def execute[T](now: () => Long, f: JdbcConnection => T, onSuccess: (Long, T) => Unit, onFailure: (Long, Throwable) => Unit): Unit =
+    try {
+      executor.execute { () =>
+        if (closed) {
+          onFailure(now(), new IllegalStateException("JdbcClient is closed"))
+        } else {
+          val threadConnection =
+            try {
+              Right(connection())
+            } catch {
+              case NonFatal(e) => Left(e)
+            }
+
+          threadConnection match {
+            case Right(connection) =>
+              val start = now()
+              val result =
+                try {
+                  Right(f(connection))
+                } catch {
+                  case NonFatal(e) => Left(e)
+                }
+
+              result match {
+                case Right(value) => onSuccess(start, value)
+                case Left(e)      => onFailure(start, e)
+              }
+
+            case Left(e) => onFailure(now(), e)
+          }
+        }
+      }
+    } catch {
+      case e: RejectedExecutionException => onFailure(now(), e)
+    }
+
+  /**
+   * Stops the pool threads before closing their connections, as connections aren't meant to be used concurrently. Queued calls fail right away, and in-flight
+   * ones are given some time to complete before being interrupted. Connections of threads still stuck in a call after that are closed anyway, to abort it.
+   */
+  def close(): Unit = {
+    closed = true
+    executor.shutdown()
+    if (!executor.awaitTermination(JdbcClient.WorkersTerminationTimeoutSeconds, TimeUnit.SECONDS)) {
+      executor.shutdownNow()
+      executor.awaitTermination(JdbcClient.WorkersTerminationTimeoutSeconds, TimeUnit.SECONDS)
+    }
+    connections.forEach(_.close())
+  }
+}
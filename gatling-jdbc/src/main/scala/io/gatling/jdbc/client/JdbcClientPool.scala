@@ -0,0 +1,32 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.client
+
+import java.util.concurrent.ConcurrentHashMap
+
+import scala.jdk.CollectionConverters._
+
+import io.gatling.jdbc.protocol.JdbcProtocol
+
+final class JdbcClientPool {
+  private val clients = new ConcurrentHashMap[JdbcProtocol, JdbcClient]
+
+  def client(protocol: JdbcProtocol): JdbcClient =
+    clients.computeIfAbsent(protocol, new JdbcClient(_))
+
+  def close(): Unit = clients.values().asScala.foreach(_.close())
+}
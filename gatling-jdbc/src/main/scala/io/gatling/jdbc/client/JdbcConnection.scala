@@ -0,0 +1,99 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.client
+
+import java.{ util => ju }
+import java.sql.{ Connection, PreparedStatement, SQLException, SQLNonTransientConnectionException, SQLTransientConnectionException }
+
+import scala.util.control.NonFatal
+
+import com.typesafe.scalalogging.StrictLogging
+
+object JdbcConnection {
+  // SQLState class 08 is "connection exception"
+  private def isConnectionException(e: SQLException): Boolean =
+    e match {
+      case _: SQLNonTransientConnectionException | _: SQLTransientConnectionException => true
+      case _                                                                          => Option(e.getSQLState).exists(_.startsWith("08"))
+    }
+}
+
+/**
+ * A connection only ever used by a single thread, with its own LRU cache of prepared statements. It's no longer valid once a statement failed with a
+ * connection exception, so it gets replaced without probing the database before every call.
+ */
+final class JdbcConnection(val connection: Connection, statementCacheSize: Int) extends StrictLogging {
+  private var broken = false
+
+  private val statements: ju.LinkedHashMap[String, PreparedStatement] =
+    new ju.LinkedHashMap[String, PreparedStatement](16, 0.75f, true) {
+      override def removeEldestEntry(eldest: ju.Map.Entry[String, PreparedStatement]): Boolean = {
+        val evict = size > statementCacheSize
+        if (evict) {
+          closeQuietly(eldest.getValue)
+        }
+        evict
+      }
+    }
+
+  private def closeQuietly(statement: PreparedStatement): Unit =
+    try {
+      statement.close()
+    } catch {
+      case NonFatal(e) => logger.debug("Failed to close PreparedStatement", e)
+    }
+
+  def withStatement[T](sql: String)(f: PreparedStatement => T): T =
+    try {
+      withStatement0(sql)(f)
+    } catch {
+      case e: SQLException if JdbcConnection.isConnectionException(e) =>
+        broken = true
+        throw e
+    }
+
+  private def withStatement0[T](sql: String)(f: PreparedStatement => T): T =
+    if (statementCacheSize > 0) {
+      var statement = statements.get(sql)
+      if (statement == null) {
+        statement = connection.prepareStatement(sql)
+        statements.put(sql, statement)
+      } else {
+        statement.clearParameters()
+      }
+      f(statement)
+    } else {
+      val statement = connection.prepareStatement(sql)
+      try {
+        f(statement)
+      } finally {
+        closeQuietly(statement)
+      }
+    }
+
+  def isValid: Boolean = !broken && !connection.isClosed
+
+  def close(): Unit = {
+    statements.values.forEach(closeQuietly(_))
+    statements.clear()
+    try {
+      connection.close()
+    } catch {
+      case NonFatal(e) => logger.debug("Failed to close Connection", e)
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.feeder
+
+import java.{ util => ju }
+import java.sql.ResultSet
+
+import scala.collection.immutable.AbstractSeq
+
+import io.gatling.core.feeder.{ ArrayBasedMap, Record }
+
+private[feeder] object ColumnarRecords {
+  private val InitialCapacity = 64
+
+  def load(resultSet: ResultSet, columnLabels: Array[String]): ColumnarRecords = {
+    val metadata = resultSet.getMetaData
+    val columns = Array.tabulate(columnLabels.length)(i => Column(metadata.getColumnClassName(i + 1)))
+
+    var rowCount = 0
+    while (resultSet.next()) {
+      var i = 0
+      while (i < columns.length) {
+        columns(i).load(resultSet, i + 1, rowCount)
+        i += 1
+      }
+      rowCount += 1
+    }
+
+    columns.foreach(_.trim(rowCount))
+    new ColumnarRecords(columnLabels, columns, rowCount)
+  }
+
+  private object Column {
+    def apply(className: String): Column =
+      className match {
+        case "java.lang.Integer" => new IntColumn
+        case "java.lang.Long"    => new LongColumn
+        case "java.lang.Double"  => new DoubleColumn
+        case "java.lang.Boolean" => new BooleanColumn
+        case _                   => new ObjectColumn
+      }
+  }
+
+  /**
+   * Stores the values of a column with the most compact representation for its type, so rows don't cost a Map and boxed values each
+   */
+  private sealed abstract class Column {
+    protected val nulls = new ju.BitSet
+
+    def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit
+
+    def value(row: Int): Any
+
+    def trim(rowCount: Int): Unit
+  }
+
+  private final class IntColumn extends Column {
+    private var values = new Array[Int](InitialCapacity)
+
+    override def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit = {
+      if (row == values.length) {
+        values = ju.Arrays.copyOf(values, row * 2)
+      }
+      values(row) = resultSet.getInt(columnIndex)
+      if (resultSet.wasNull) {
+        nulls.set(row)
+      }
+    }
+
+    override def value(row: Int): Any = if (nulls.get(row)) null else values(row)
+
+    override def trim(rowCount: Int): Unit = values = ju.Arrays.copyOf(values, rowCount)
+  }
+
+  private final class LongColumn extends Column {
+    private var values = new Array[Long](InitialCapacity)
+
+    override def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit = {
+      if (row == values.length) {
+        values = ju.Arrays.copyOf(values, row * 2)
+      }
+      values(row) = resultSet.getLong(columnIndex)
+      if (resultSet.wasNull) {
+        nulls.set(row)
+      }
+    }
+
+    override def value(row: Int): Any = if (nulls.get(row)) null else values(row)
+
+    override def trim(rowCount: Int): Unit = values = ju.Arrays.copyOf(values, rowCount)
+  }
+
+  private final class DoubleColumn extends Column {
+    private var values = new Array[Double](InitialCapacity)
+
+    override def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit = {
+      if (row == values.length) {
+        values = ju.Arrays.copyOf(values, row * 2)
+      }
+      values(row) = resultSet.getDouble(columnIndex)
+      if (resultSet.wasNull) {
+        nulls.set(row)
+      }
+    }
+
+    override def value(row: Int): Any = if (nulls.get(row)) null else values(row)
+
+    override def trim(rowCount: Int): Unit = values = ju.Arrays.copyOf(values, rowCount)
+  }
+
+  private final class BooleanColumn extends Column {
+    private val values = new ju.BitSet
+
+    override def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit = {
+      values.set(row, resultSet.getBoolean(columnIndex))
+      if (resultSet.wasNull) {
+        nulls.set(row)
+      }
+    }
+
+    override def value(row: Int): Any = if (nulls.get(row)) null else values.get(row)
+
+    override def trim(rowCount: Int): Unit = ()
+  }
+
+  private final class ObjectColumn extends Column {
+    private var values = new Array[AnyRef](InitialCapacity)
+
+    override def load(resultSet: ResultSet, columnIndex: Int, row: Int): Unit = {
+      if (row == values.length) {
+        values = ju.Arrays.copyOf(values, row * 2)
+      }
+      values(row) = resultSet.getObject(columnIndex)
+    }
+
+    override def value(row: Int): Any = values(row)
+
+    override def trim(rowCount: Int): Unit = values = ju.Arrays.copyOf(values, rowCount)
+  }
+}
+
+/**
+ * Records loaded from a ResultSet and stored column by column, each record is only materialized when accessed
+ */
+private[feeder] final class ColumnarRecords private (columnLabels: Array[String], columns: Array[ColumnarRecords.Column], override val length: Int)
+    extends AbstractSeq[Record[Any]]
+    with IndexedSeq[Record[Any]] {
+  override def apply(row: Int): Record[Any] = {
+    if (row < 0 || row >= length) {
+      throw new IndexOutOfBoundsException(s"$row is out of bounds (min 0, max ${length - 1})")
+    }
+    ArrayBasedMap(columnLabels, columns.map(_.value(row)))
+  }
+}
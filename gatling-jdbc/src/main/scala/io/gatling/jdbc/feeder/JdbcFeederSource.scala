@@ -16,33 +16,123 @@
 
 package io.gatling.jdbc.feeder
 
-import java.sql.DriverManager
+import java.sql.{ Connection, DriverManager, ResultSet, ResultSetMetaData, SQLException }
 import java.sql.ResultSet.{ CONCUR_READ_ONLY, TYPE_FORWARD_ONLY }
 
-import scala.annotation.tailrec
 import scala.util.Using
+import scala.util.control.NonFatal
 
-import io.gatling.core.feeder.Record
+import io.gatling.core.feeder.{ ArrayBasedMap, CloseableFeeder, Record }
 
-object JdbcFeederSource {
-  def apply(url: String, username: String, password: String, sql: String): Vector[Record[Any]] =
+import com.typesafe.scalalogging.StrictLogging
+
+object JdbcFeederSource extends StrictLogging {
+  def apply(url: String, username: String, password: String, sql: String): IndexedSeq[Record[Any]] =
     Using.resource(DriverManager.getConnection(url, username, password)) { connection =>
       val preparedStatement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)
       val resultSet = preparedStatement.executeQuery
-      val metadata = resultSet.getMetaData
-      val columnCount = metadata.getColumnCount
+      ColumnarRecords.load(resultSet, columnLabels(resultSet.getMetaData))
+    }
 
-      val columnLabels = for (i <- 1 to columnCount) yield metadata.getColumnLabel(i)
+  /**
+   * @return
+   *   a factory of feeders that each run the query and stream its rows, fetching fetchSize of them per database round-trip
+   */
+  def stream(url: String, username: String, password: String, sql: String, fetchSize: Int): () => CloseableFeeder[Any] =
+    () => new ResultSetFeeder(DriverManager.getConnection(url, username, password), sql, fetchSize)
+
+  /**
+   * @return
+   *   the number of rows of the query, counted by the database, or by streaming the rows when the database can't count them with the query as a derived
+   *   table, eg SQL Server with an ORDER BY
+   */
+  def count(url: String, username: String, password: String, sql: String, fetchSize: Int): Int =
+    Using.resource(DriverManager.getConnection(url, username, password)) { connection =>
+      // a trailing semicolon is valid for a standalone query, but not in a derived table
+      val query = sql.trim.reverse.dropWhile(c => c == ';' || c.isWhitespace).reverse
+      try {
+        Using.resource(connection.prepareStatement(s"SELECT COUNT(*) FROM ($query) records")) { preparedStatement =>
+          Using.resource(preparedStatement.executeQuery) { resultSet =>
+            resultSet.next()
+            resultSet.getInt(1)
+          }
+        }
+      } catch {
+        case e: SQLException =>
+          logger.debug(s"Couldn't count the rows of $sql in the database, counting them while streaming", e)
+          countWhileStreaming(connection, sql, fetchSize)
+      }
+    }
+
+  private def countWhileStreaming(connection: Connection, sql: String, fetchSize: Int): Int = {
+    // same as ResultSetFeeder, so the rows are actually streamed
+    connection.setAutoCommit(false)
+    try {
+      Using.resource(connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)) { preparedStatement =>
+        preparedStatement.setFetchSize(fetchSize)
+        Using.resource(preparedStatement.executeQuery) { resultSet =>
+          var count = 0
+          while (resultSet.next()) {
+            count += 1
+          }
+          count
+        }
+      }
+    } finally {
+      connection.rollback()
+    }
+  }
 
-      @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
-      def computeRecord: Record[Any] =
-        (1 to columnCount).view.map(i => columnLabels(i - 1) -> resultSet.getObject(i)).to(Map)
+  private def columnLabels(metadata: ResultSetMetaData): Array[String] =
+    Array.tabulate(metadata.getColumnCount)(i => metadata.getColumnLabel(i + 1))
 
-      @tailrec
-      def loadRec(records: Vector[Record[Any]]): Vector[Record[Any]] =
-        if (!resultSet.next) records
-        else loadRec(records :+ computeRecord)
+  private final class ResultSetFeeder(connection: Connection, sql: String, fetchSize: Int) extends CloseableFeeder[Any] {
+    private var closed = false
 
-      loadRec(Vector.empty)
+    private val resultSet: ResultSet =
+      try {
+        // some drivers, eg PostgreSQL, ignore the fetch size and load everything in auto-commit mode
+        connection.setAutoCommit(false)
+        val preparedStatement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)
+        preparedStatement.setFetchSize(fetchSize)
+        preparedStatement.executeQuery
+      } catch {
+        case NonFatal(e) =>
+          connection.close()
+          throw e
+      }
+
+    private val labels = columnLabels(resultSet.getMetaData)
+    private var fetched = fetch()
+
+    private def fetch(): Boolean = {
+      val hasRow = resultSet.next()
+      if (!hasRow) {
+        // release the connection as soon as the stream is exhausted
+        close()
+      }
+      hasRow
+    }
+
+    override def hasNext: Boolean = fetched
+
+    override def next(): Record[Any] = {
+      if (!fetched) {
+        throw new NoSuchElementException("ResultSet is exhausted")
+      }
+      val values = Array.tabulate[Any](labels.length)(i => resultSet.getObject(i + 1))
+      fetched = fetch()
+      ArrayBasedMap(labels, values)
     }
+
+    override def close(): Unit =
+      if (!closed) {
+        closed = true
+        try {
+          connection.rollback()
+        } finally {
+          connection.close()
+        }
+      }
+  }
 }
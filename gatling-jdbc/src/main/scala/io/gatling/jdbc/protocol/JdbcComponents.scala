@@ -0,0 +1,26 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.protocol
+
+import io.gatling.core.protocol.ProtocolComponents
+import io.gatling.core.session.Session
+import io.gatling.jdbc.client.JdbcClient
+
+final class JdbcComponents(val jdbcProtocol: JdbcProtocol, val jdbcClient: JdbcClient) extends ProtocolComponents {
+  override def onStart: Session => Session = Session.Identity
+  override def onExit: Session => Unit = ProtocolComponents.NoopOnExit
+}
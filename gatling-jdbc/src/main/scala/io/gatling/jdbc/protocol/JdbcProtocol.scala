@@ -0,0 +1,55 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.protocol
+
+import io.gatling.core.CoreComponents
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.protocol.{ Protocol, ProtocolKey }
+import io.gatling.jdbc.client.JdbcClientPool
+
+object JdbcProtocol {
+  val JdbcProtocolKey: ProtocolKey[JdbcProtocol, JdbcComponents] = new ProtocolKey[JdbcProtocol, JdbcComponents] {
+    def protocolClass: Class[io.gatling.core.protocol.Protocol] = classOf[JdbcProtocol].asInstanceOf[Class[io.gatling.core.protocol.Protocol]]
+
+    def defaultProtocolValue(configuration: GatlingConfiguration): JdbcProtocol =
+      throw new IllegalStateException("Can't provide a default value for JdbcProtocol")
+
+    def newComponents(coreComponents: CoreComponents): JdbcProtocol => JdbcComponents = {
+      val jdbcClientPool = new JdbcClientPool
+      coreComponents.actorSystem.registerOnTermination {
+        jdbcClientPool.close()
+      }
+      jdbcProtocol => new JdbcComponents(jdbcProtocol, jdbcClientPool.client(jdbcProtocol))
+    }
+  }
+}
+
+/**
+ * @param maxConnections
+ *   the number of connections, each one is used by its own thread so blocking JDBC calls never run on the virtual users' event loops
+ * @param statementCacheSize
+ *   the number of prepared statements cached per connection, 0 to disable
+ */
+final case class JdbcProtocol(
+    url: String,
+    username: String,
+    password: String,
+    maxConnections: Int,
+    statementCacheSize: Int
+) extends Protocol {
+  type Components = JdbcComponents
+}
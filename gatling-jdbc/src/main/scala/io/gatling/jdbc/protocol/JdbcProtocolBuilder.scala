@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.protocol
+
+/**
+ * JdbcProtocolBuilder allows building of the JDBC protocol <p> This allows multiple scenarios to share a single pool of database connections.
+ */
+case object JdbcProtocolBuilderBase {
+  def url(url: String): JdbcProtocolBuilder = JdbcProtocolBuilder(url, "", "", 10, 50)
+}
+
+final case class JdbcProtocolBuilder(
+    url: String,
+    username: String,
+    password: String,
+    maxConnections: Int,
+    statementCacheSize: Int
+) {
+  def credentials(username: String, password: String): JdbcProtocolBuilder = copy(username = username, password = password)
+  def maxConnections(max: Int): JdbcProtocolBuilder = {
+    require(max > 0, "maxConnections must be strictly positive")
+    copy(maxConnections = max)
+  }
+  def statementCacheSize(size: Int): JdbcProtocolBuilder = {
+    require(size >= 0, "statementCacheSize must be positive")
+    copy(statementCacheSize = size)
+  }
+
+  def build: JdbcProtocol = JdbcProtocol(
+    url = url,
+    username = username,
+    password = password,
+    maxConnections = maxConnections,
+    statementCacheSize = statementCacheSize
+  )
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.request
+
+import io.gatling.core.session.Expression
+
+sealed abstract class JdbcStatementType extends Product with Serializable
+
+object JdbcStatementType {
+
+  /**
+   * Reads the rows of a ResultSet
+   */
+  case object Query extends JdbcStatementType
+
+  /**
+   * Gets the number of rows affected by an INSERT, UPDATE or DELETE
+   */
+  case object Update extends JdbcStatementType
+}
+
+final case class JdbcAttributes(
+    requestName: Expression[String],
+    statementType: JdbcStatementType,
+    sql: Expression[String],
+    params: List[Expression[Any]],
+    saveAs: Option[String]
+)
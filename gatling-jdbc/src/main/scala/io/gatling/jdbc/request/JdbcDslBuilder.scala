@@ -0,0 +1,52 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.request
+
+import io.gatling.core.action.builder.ActionBuilder
+import io.gatling.core.session.Expression
+import io.gatling.internal.quicklens._
+import io.gatling.jdbc.action.JdbcQueryBuilder
+
+final class JdbcDslBuilderBase(requestName: Expression[String]) {
+
+  /**
+   * @param sql
+   *   a SELECT statement, with `?` placeholders for its parameters
+   */
+  def query(sql: Expression[String]): JdbcDslBuilder = JdbcDslBuilder(JdbcAttributes(requestName, JdbcStatementType.Query, sql, Nil, None))
+
+  /**
+   * @param sql
+   *   an INSERT, UPDATE or DELETE statement, with `?` placeholders for its parameters
+   */
+  def update(sql: Expression[String]): JdbcDslBuilder = JdbcDslBuilder(JdbcAttributes(requestName, JdbcStatementType.Update, sql, Nil, None))
+}
+
+final case class JdbcDslBuilder(attributes: JdbcAttributes) {
+
+  /**
+   * Bind the statement parameters, in the order of their placeholders
+   */
+  def params(params: Expression[Any]*): JdbcDslBuilder = this.modify(_.attributes.params).setTo(params.toList)
+
+  /**
+   * Save the result in the Session: the rows as a Seq of Maps for a query, the number of affected rows for an update
+   */
+  def saveAs(key: String): JdbcDslBuilder = this.modify(_.attributes.saveAs).setTo(Some(key))
+
+  def build: ActionBuilder = new JdbcQueryBuilder(attributes)
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.action
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.EmptySession
+import io.gatling.core.action.Action
+import io.gatling.core.session._
+import io.gatling.core.stats.LoggingStatsEngine
+import io.gatling.jdbc.JdbcSpec
+import io.gatling.jdbc.client.JdbcClient
+import io.gatling.jdbc.protocol.JdbcProtocol
+import io.gatling.jdbc.request.{ JdbcAttributes, JdbcStatementType }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class JdbcQuerySpec extends AnyFlatSpecLike with Matchers with JdbcSpec with EmptySession {
+  private final class NextAction extends Action {
+    val session: Promise[Session] = Promise[Session]()
+
+    override def name: String = "next"
+
+    override def execute(session: Session): Unit = {
+      this.session.success(session)
+      ()
+    }
+  }
+
+  private def query(url: String, sql: String): (List[Any], Session) = {
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 10))
+    try {
+      val statsEngine = new LoggingStatsEngine
+      val next = new NextAction
+      val attributes = JdbcAttributes("customers".expressionSuccess, JdbcStatementType.Query, sql.expressionSuccess, Nil, Some("customers"))
+      new JdbcQuery(attributes, client, statsEngine, new DefaultClock, next, None) ! emptySession
+      val session = Await.result(next.session.future, 10.seconds)
+      (statsEngine.msgQueue.asScala.toList, session)
+    } finally {
+      client.close()
+    }
+  }
+
+  "JdbcQuery" should "log an OK response and save the rows" in withDatabase("queryCustomers", "feeder.sql") { url =>
+    val (messages, session) = query(url, "SELECT FIRST_NAME FROM CUSTOMERS ORDER BY USER_ID")
+
+    messages should matchPattern { case List(LoggingStatsEngine.Message.LogResponse("Scenario", Nil, "customers", _, _, OK, None, None)) => }
+    session.isFailed shouldBe false
+    session.attributes.get("customers") shouldBe Some(Vector(Map("FIRST_NAME" -> "Foo"), Map("FIRST_NAME" -> "Toto")))
+  }
+
+  it should "log a KO response with the SQLState when the statement fails" in withDatabase("failingQueryCustomers", "feeder.sql") { url =>
+    val (messages, session) = query(url, "SELECT * FROM MISSING_TABLE")
+
+    messages should matchPattern {
+      case List(LoggingStatsEngine.Message.LogResponse("Scenario", Nil, "customers", _, _, KO, Some("42S02"), Some(_))) =>
+    }
+    session.isFailed shouldBe true
+    session.contains("customers") shouldBe false
+  }
+}
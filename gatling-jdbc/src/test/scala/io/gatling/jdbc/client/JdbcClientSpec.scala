@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.client
+
+import java.sql.SQLException
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+import scala.util.Using
+
+import io.gatling.jdbc.JdbcSpec
+import io.gatling.jdbc.protocol.JdbcProtocol
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class JdbcClientSpec extends AnyFlatSpecLike with Matchers with JdbcSpec {
+  private def execute[T](client: JdbcClient)(f: JdbcConnection => T): T = {
+    val promise = Promise[T]()
+    client.execute[T](() => System.currentTimeMillis(), f, (_, result) => promise.success(result), (_, e) => promise.failure(e))
+    Await.result(promise.future, 10.seconds)
+  }
+
+  private def countCustomers(connection: JdbcConnection): Int =
+    connection.withStatement("SELECT COUNT(*) FROM CUSTOMERS WHERE USER_ID > ?") { statement =>
+      statement.setInt(1, 0)
+      Using.resource(statement.executeQuery()) { resultSet =>
+        resultSet.next()
+        resultSet.getInt(1)
+      }
+    }
+
+  "JdbcClient" should "run statements on its own threads" in withDatabase("clientCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 2, 10))
+    try {
+      execute(client)(countCustomers) shouldBe 2
+      execute(client)(_ => Thread.currentThread.getName) should startWith("gatling-jdbc")
+    } finally {
+      client.close()
+    }
+  }
+
+  it should "reuse cached prepared statements" in withDatabase("cachedCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 10))
+    try {
+      val statement1 = execute(client)(_.withStatement("SELECT * FROM CUSTOMERS")(identity))
+      val statement2 = execute(client)(_.withStatement("SELECT * FROM CUSTOMERS")(identity))
+      statement1 should be theSameInstanceAs statement2
+      execute(client)(countCustomers) shouldBe 2
+    } finally {
+      client.close()
+    }
+  }
+
+  it should "report failures" in withDatabase("failingCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 0))
+    try {
+      a[SQLException] should be thrownBy execute(client)(_.withStatement("SELECT * FROM UNKNOWN")(_.executeQuery()))
+    } finally {
+      client.close()
+    }
+  }
+
+  it should "keep connections after statement failures" in withDatabase("keptCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 0))
+    try {
+      val connection = execute(client)(identity)
+      a[SQLException] should be thrownBy execute(client)(_.withStatement("SELECT * FROM UNKNOWN")(_.executeQuery()))
+      execute(client)(identity) should be theSameInstanceAs connection
+    } finally {
+      client.close()
+    }
+  }
+
+  it should "replace connections after a connection exception" in withDatabase("replacedCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 0))
+    try {
+      val connection = execute(client)(identity)
+      a[SQLException] should be thrownBy execute(client)(_.withStatement("SELECT * FROM CUSTOMERS")(_ => throw new SQLException("Connection reset", "08006")))
+      execute(client)(identity) should not be theSameInstanceAs(connection)
+      connection.connection.isClosed shouldBe true
+      execute(client)(countCustomers) shouldBe 2
+    } finally {
+      client.close()
+    }
+  }
+
+  it should "let in-flight calls complete before closing the connections" in withDatabase("closedCustomers", "feeder.sql") { url =>
+    val client = new JdbcClient(JdbcProtocol(url, Username, Password, 1, 0))
+    val promise = Promise[Boolean]()
+    client.execute[Boolean](
+      () => System.currentTimeMillis(),
+      connection => {
+        Thread.sleep(200)
+        connection.connection.isClosed
+      },
+      (_, closed) => promise.success(closed),
+      (_, e) => promise.failure(e)
+    )
+    Thread.sleep(50)
+    client.close()
+    Await.result(promise.future, 10.seconds) shouldBe false
+  }
+}
@@ -32,4 +32,18 @@ and id not in (select usr_id from usr_role where role_id='ROLE_ADMIN')
 and (select count(*) from usr_account where usr_id=id) >=2"""
   )
 
+  private val jdbcProtocol = jdbc
+    .url("jdbc:h2:mem:test")
+    .credentials("sa", "")
+    .maxConnections(5)
+    .statementCacheSize(20)
+
+  private val scn = scenario("scenario")
+    .exec(
+      jdbc("select").query("SELECT * FROM USERS WHERE ID = ?").params("#{id}").saveAs("rows"),
+      jdbc("update").update("UPDATE USERS SET NAME = ? WHERE ID = ?").params("#{name}", 1)
+    )
+
+  private val streamedTestData = streamingJdbcFeeder("jdbc:postgresql:gatling", "gatling", "gatling", "select login from usr", 1000).shuffle
+
 }
@@ -16,6 +16,8 @@
 
 package io.gatling.jdbc.feeder
 
+import scala.util.Using
+
 import io.gatling.jdbc.JdbcSpec
 
 import org.scalatest.flatspec.AnyFlatSpecLike
@@ -36,4 +38,26 @@ class JdbcFeederSourceSpec extends AnyFlatSpecLike with Matchers with JdbcSpec {
     secondEntry("FIRST_NAME") shouldBe "Toto"
     secondEntry("LAST_NAME") shouldBe "Titi"
   }
+
+  it should "be able to stream data into a feeder" in withDatabase("streamedCustomers", "feeder.sql") { url =>
+    Using.resource(JdbcFeederSource.stream(url, Username, Password, "SELECT * FROM CUSTOMERS", 1)()) { feeder =>
+      feeder.toVector shouldBe Vector(
+        Map("USER_ID" -> 1, "FIRST_NAME" -> "Foo", "LAST_NAME" -> "Bar"),
+        Map("USER_ID" -> 2, "FIRST_NAME" -> "Toto", "LAST_NAME" -> "Titi")
+      )
+    }
+  }
+
+  it should "count the rows of a query" in withDatabase("countedCustomers", "feeder.sql") { url =>
+    JdbcFeederSource.count(url, Username, Password, "SELECT * FROM CUSTOMERS WHERE USER_ID > 1", 1) shouldBe 1
+  }
+
+  it should "count the rows of a query with a trailing semicolon" in withDatabase("semicolonCountedCustomers", "feeder.sql") { url =>
+    JdbcFeederSource.count(url, Username, Password, "SELECT * FROM CUSTOMERS WHERE USER_ID > 1 ; ", 1) shouldBe 1
+  }
+
+  it should "count the rows of a query that can't be a derived table while streaming" in withDatabase("streamCountedCustomers", "feeder.sql") { url =>
+    // duplicate column names are only allowed in a top-level query
+    JdbcFeederSource.count(url, Username, Password, "SELECT USER_ID, USER_ID FROM CUSTOMERS", 1) shouldBe 2
+  }
 }
@@ -22,18 +22,26 @@ import io.gatling.core.actor.ActorRef
 import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.session._
 import io.gatling.core.util.NameGen
-import io.gatling.jms.client.{ JmsConnection, JmsConnectionPool, JmsProducer }
+import io.gatling.jms.client.{ JmsConnection, JmsConnectionPool }
 import io.gatling.jms.protocol.JmsProtocol
 import io.gatling.jms.request._
 
 import jakarta.jms.Message
 
-final class Around(before: () => Unit, after: () => Unit) {
+final class Around(before: () => Unit, after: () => Unit, failed: Throwable => Unit) {
   def apply(f: => Any): Unit = {
     before()
     f
     after()
   }
+
+  /**
+   * Same as apply, except that send completes later, possibly on another thread, and notifies either after or failed
+   */
+  def async(send: (() => Unit, Throwable => Unit) => Unit): Unit = {
+    before()
+    send(after, failed)
+  }
 }
 
 abstract class JmsAction(
@@ -55,16 +63,26 @@ abstract class JmsAction(
       jmsType <- resolveOptionalExpression(attributes.jmsType, session)
       props <- resolveProperties(attributes.messageProperties, session)
       resolvedJmsDestination <- jmsDestination(session)
-      JmsProducer(jmsSession, producer) = jmsConnection.producer(resolvedJmsDestination, protocol.deliveryMode)
-      message <- attributes.message.jmsMessage(session, jmsSession)
+      message <- attributes.message.jmsMessage(session, jmsConnection.jmsSession())
       _ = {
         props.foreachEntry((key, value) => message.setObjectProperty(key, value))
         jmsType.foreach(message.setJMSType)
       }
       around <- aroundSend(reqName, session, message)
-    } yield throttler match {
-      case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, () => around(producer.send(message)))
-      case _        => around(producer.send(message))
+    } yield {
+      val send: () => Unit = jmsConnection.sender match {
+        case Some(sender) =>
+          // hand the message over to the dedicated sender threads instead of blocking the current one
+          () => around.async(sender.send(resolvedJmsDestination, protocol.deliveryMode, message, _, _))
+        case _ =>
+          val producer = jmsConnection.producer(resolvedJmsDestination, protocol.deliveryMode).producer
+          () => around(producer.send(message))
+      }
+
+      throttler match {
+        case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, send)
+        case _        => send()
+      }
     }
 
   private def resolveProperties(
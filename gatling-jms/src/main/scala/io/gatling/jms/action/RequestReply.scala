@@ -18,6 +18,7 @@ package io.gatling.jms.action
 
 import io.gatling.commons.stats.KO
 import io.gatling.commons.util.Clock
+import io.gatling.commons.util.Throwables._
 import io.gatling.commons.validation.Validation
 import io.gatling.core.action._
 import io.gatling.core.actor.ActorRef
@@ -95,6 +96,15 @@ final class RequestReply(
               statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, KO, None, Some("Failed to get a matchId to track"))
               next ! session.markAsFailed
             }
+          },
+        failed = e =>
+          if (matchId != null) {
+            tracker ! JmsTracker.Command.MessageSendFailed(matchId, clock.nowMillis, e.detailedMessage)
+          } else {
+            // the message was never registered on the tracker
+            val now = clock.nowMillis
+            statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, KO, None, Some(e.detailedMessage))
+            next ! session.markAsFailed
           }
       )
     }
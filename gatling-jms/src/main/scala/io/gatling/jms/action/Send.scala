@@ -16,8 +16,9 @@
 
 package io.gatling.jms.action
 
-import io.gatling.commons.stats.OK
+import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.util.Clock
+import io.gatling.commons.util.Throwables._
 import io.gatling.commons.validation._
 import io.gatling.core.action._
 import io.gatling.core.actor.ActorRef
@@ -46,17 +47,22 @@ final class Send(
 ) extends JmsAction(attributes, protocol, jmsConnectionPool, throttler) {
   override val name: String = genName("jmsSend")
 
-  override protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around] =
+  override protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around] = {
+    var sent = 0L
     new Around(
-      before = () => {
+      before = () => { sent = clock.nowMillis },
+      after = () => {
         if (logger.underlying.isDebugEnabled) {
           logMessage(s"Message sent JMSMessageID=${message.getJMSMessageID}", message)
         }
 
-        val now = clock.nowMillis
-        statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, OK, None, None)
+        statsEngine.logResponse(session.scenario, session.groups, requestName, sent, clock.nowMillis, OK, None, None)
         next ! session
       },
-      after = () => ()
+      failed = e => {
+        statsEngine.logResponse(session.scenario, session.groups, requestName, sent, clock.nowMillis, KO, None, Some(e.detailedMessage))
+        next ! session.markAsFailed
+      }
     ).success
+  }
 }
@@ -20,14 +20,14 @@ import java.util.concurrent.ConcurrentHashMap
 
 import io.gatling.commons.model.Credentials
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.ActorSystem
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
 import io.gatling.core.stats.StatsEngine
 import io.gatling.jms.protocol.JmsMessageMatcher
 import io.gatling.jms.request._
 
-import jakarta.jms.{ Connection, Destination }
+import jakarta.jms.{ Connection, Destination, Session => JmsSession }
 
 final class JmsConnection(
     connection: Connection,
@@ -52,17 +52,25 @@ final class JmsConnection(
     }
   }
 
+  def jmsSession(): JmsSession = sessionPool.jmsSession()
+
   private val producerPool = new JmsProducerPool(sessionPool)
 
   def producer(destination: Destination, deliveryMode: Int): JmsProducer =
     producerPool.producer(destination, deliveryMode)
 
+  val sender: Option[JmsSender] =
+    Option.when(configuration.jms.sendThreads > 0)(
+      new JmsSender(connection, configuration.jms.sendThreads, configuration.jms.sendBatchSize, configuration.jms.sendQueueSize)
+    )
+
   private val trackerPool = new JmsTrackerPool(sessionPool, system, statsEngine, clock, configuration)
 
-  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ActorRef[JmsTracker.Command] =
+  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): JmsMessageTracker =
     trackerPool.tracker(destination, selector, listenerThreadCount, messageMatcher)
 
   def close(): Unit = {
+    sender.foreach(_.close())
     producerPool.close()
     sessionPool.close()
     connection.close()
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.{ util => ju }
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.util.control.NonFatal
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.util.concurrent.DefaultThreadFactory
+import jakarta.jms.{ Connection, Destination, Message, MessageProducer, Session => JmsSession }
+
+object JmsSender {
+  private val JmsSenderThreadFactory = new DefaultThreadFactory("gatling-jms-sender")
+
+  private[client] final case class PendingSend(
+      destination: Destination,
+      deliveryMode: Int,
+      message: Message,
+      onSent: () => Unit,
+      onFailure: Throwable => Unit
+  )
+}
+
+/**
+ * Sends messages from a bounded number of dedicated threads so the virtual users' event loops don't block on the broker round-trip. Each thread owns its JMS
+ * session and producers. When batchSize is greater than 1, each thread drains up to batchSize pending messages and sends them in a single transaction, the
+ * callbacks of a batch are only notified once it's committed.
+ *
+ * Each thread queues at most queueSize pending messages. Sending more fails immediately instead of blocking the caller, as do the messages still queued on
+ * close.
+ */
+final class JmsSender(connection: Connection, threadCount: Int, batchSize: Int, queueSize: Int) extends StrictLogging {
+  import JmsSender._
+
+  private val transacted = batchSize > 1
+  private val workers = Array.fill(threadCount)(new Worker)
+  private val nextWorker = new AtomicInteger
+  @volatile private var closed = false
+
+  private val threads = workers.map { worker =>
+    val thread = JmsSenderThreadFactory.newThread(worker)
+    thread.start()
+    thread
+  }
+
+  def send(destination: Destination, deliveryMode: Int, message: Message, onSent: () => Unit, onFailure: Throwable => Unit): Unit =
+    if (closed) {
+      onFailure(new IllegalStateException("JmsSender is closed"))
+    } else {
+      val queue = workers(Math.floorMod(nextWorker.getAndIncrement(), threadCount)).queue
+      val pendingSend = PendingSend(destination, deliveryMode, message, onSent, onFailure)
+      if (!queue.offer(pendingSend)) {
+        onFailure(new IllegalStateException(s"JmsSender queue is full, $queueSize messages are already waiting to be sent"))
+      } else if (closed && queue.remove(pendingSend)) {
+        // raced with close, which might have already drained the queue
+        onFailure(new IllegalStateException("JmsSender is closed"))
+      }
+    }
+
+  def close(): Unit = {
+    closed = true
+    threads.foreach(_.interrupt())
+    workers.foreach(_.failQueued())
+  }
+
+  private final class Worker extends Runnable {
+    val queue: LinkedBlockingQueue[PendingSend] = new LinkedBlockingQueue[PendingSend](queueSize)
+    private val batch = new ju.ArrayList[PendingSend](batchSize)
+    private val producers = new ju.HashMap[CachedProducerKey, MessageProducer]
+
+    private def producer(session: JmsSession, pendingSend: PendingSend): MessageProducer =
+      producers.computeIfAbsent(
+        CachedProducerKey(pendingSend.destination, pendingSend.deliveryMode),
+        key => {
+          val producer = session.createProducer(key.destination)
+          producer.setDeliveryMode(key.deliveryMode)
+          producer
+        }
+      )
+
+    private def notifySent(pendingSend: PendingSend): Unit =
+      try {
+        pendingSend.onSent()
+      } catch {
+        case NonFatal(e) => logger.error("JMS send callback crashed", e)
+      }
+
+    private def notifyFailure(pendingSend: PendingSend, cause: Throwable): Unit =
+      try {
+        pendingSend.onFailure(cause)
+      } catch {
+        case NonFatal(e) => logger.error("JMS send failure callback crashed", e)
+      }
+
+    def failQueued(): Unit = {
+      val queued = new ju.ArrayList[PendingSend]
+      queue.drainTo(queued)
+      val closedException = new IllegalStateException("JmsSender is closed")
+      queued.forEach(notifyFailure(_, closedException))
+    }
+
+    private def sendBatch(session: JmsSession): Unit =
+      if (transacted) {
+        try {
+          batch.forEach(pendingSend => producer(session, pendingSend).send(pendingSend.message))
+          session.commit()
+          batch.forEach(notifySent(_))
+        } catch {
+          case NonFatal(e) =>
+            try {
+              session.rollback()
+            } catch {
+              case NonFatal(rollbackError) => logger.debug("Failed to rollback JMS transaction", rollbackError)
+            }
+            batch.forEach(notifyFailure(_, e))
+        }
+      } else {
+        batch.forEach { pendingSend =>
+          try {
+            producer(session, pendingSend).send(pendingSend.message)
+            notifySent(pendingSend)
+          } catch {
+            case NonFatal(e) => notifyFailure(pendingSend, e)
+          }
+        }
+      }
+
+    override def run(): Unit = {
+      val session =
+        if (transacted) connection.createSession(true, JmsSession.SESSION_TRANSACTED)
+        else connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+
+      try {
+        while (!closed) {
+          batch.add(queue.take())
+          queue.drainTo(batch, batchSize - 1)
+          sendBatch(session)
+          batch.clear()
+        }
+      } catch {
+        case _: InterruptedException => // closing
+      } finally {
+        try {
+          producers.values.forEach(_.close())
+          session.close()
+        } catch {
+          case NonFatal(e) => logger.debug("Failed to close JMS sender session", e)
+        }
+      }
+    }
+  }
+}
@@ -23,7 +23,7 @@ import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Clock
 import io.gatling.commons.validation.Failure
 import io.gatling.core.action.Action
-import io.gatling.core.actor.{ Actor, Behavior }
+import io.gatling.core.actor.{ Actor, ActorRef, Behavior }
 import io.gatling.core.check.Check
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session.Session
@@ -36,6 +36,9 @@ object JmsTracker {
   def actor(actorName: String, statsEngine: StatsEngine, clock: Clock, configuration: GatlingConfiguration): Actor[Command] =
     new JmsTracker(actorName, statsEngine, clock, configuration.jms.replyTimeoutScanPeriod)
 
+  def messageTracker(actor: ActorRef[Command]): JmsMessageTracker =
+    command => actor ! command
+
   sealed trait Command
 
   object Command {
@@ -55,8 +58,51 @@ object JmsTracker {
         message: Message
     ) extends Command
 
+    final case class MessageSendFailed(
+        matchId: String,
+        failed: Long,
+        error: String
+    ) extends Command
+
     case object TimeoutScan extends Command
   }
+
+  private[client] def executeNext(
+      statsEngine: StatsEngine,
+      session: Session,
+      sent: Long,
+      received: Long,
+      status: Status,
+      next: Action,
+      requestName: String,
+      message: Option[String]
+  ): Unit = {
+    statsEngine.logResponse(session.scenario, session.groups, requestName, sent, received, status, None, message)
+    next ! session.logGroupRequestTimings(sent, received)
+  }
+
+  /**
+   * Processes a matched message
+   */
+  private[client] def processMessage(statsEngine: StatsEngine, messageSent: Command.MessageSent, received: Long, message: Message): Unit = {
+    val Command.MessageSent(_, sent, _, checks, session, next, requestName) = messageSent
+    // run all the checks, advise the Gatling API that it is complete and move to next
+    val (newSession, error) = Check.check(CachingMessage(message), session, checks)
+    error match {
+      case Some(Failure(errorMessage)) => executeNext(statsEngine, newSession.markAsFailed, sent, received, KO, next, requestName, Some(errorMessage))
+      case _                           => executeNext(statsEngine, newSession, sent, received, OK, next, requestName, None)
+    }
+  }
+
+  private[client] def executeSendFailure(statsEngine: StatsEngine, messageSent: Command.MessageSent, failed: Long, error: String): Unit = {
+    val Command.MessageSent(_, sent, _, _, session, next, requestName) = messageSent
+    executeNext(statsEngine, session.markAsFailed, sent, failed, KO, next, requestName, Some(error))
+  }
+
+  private[client] def executeTimeout(statsEngine: StatsEngine, messageSent: Command.MessageSent, now: Long): Unit = {
+    val Command.MessageSent(_, sent, replyTimeoutInMs, _, session, next, requestName) = messageSent
+    executeNext(statsEngine, session.markAsFailed, sent, now, KO, next, requestName, Some(s"Reply timeout after $replyTimeoutInMs ms"))
+  }
 }
 
 /**
@@ -65,6 +111,7 @@ object JmsTracker {
 private final class JmsTracker private (actorName: String, statsEngine: StatsEngine, clock: Clock, replyTimeoutScanPeriod: FiniteDuration)
     extends Actor[JmsTracker.Command](actorName) {
 
+  import JmsTracker._
   import JmsTracker.Command._
 
   private val sentMessages = mutable.HashMap.empty[String, MessageSent]
@@ -91,9 +138,12 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
     // message was received; publish stats and remove from the hashmap
     case MessageReceived(matchId, received, message) =>
       // if key is missing, message was already acked and is a dup, or request timedout
-      sentMessages.remove(matchId).foreach { case MessageSent(_, sent, _, checks, session, next, requestName) =>
-        processMessage(session, sent, received, checks, message, next, requestName)
-      }
+      sentMessages.remove(matchId).foreach(processMessage(statsEngine, _, received, message))
+      stay
+
+    // message couldn't be sent; publish a failure and remove from the hashmap
+    case MessageSendFailed(matchId, failed, error) =>
+      sentMessages.remove(matchId).foreach(executeSendFailure(statsEngine, _, failed, error))
       stay
 
     case TimeoutScan =>
@@ -105,44 +155,11 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
         }
       }
 
-      for (MessageSent(matchId, sent, replyTimeoutInMs, _, session, next, requestName) <- timedOutMessages) {
-        sentMessages.remove(matchId)
-        executeNext(session.markAsFailed, sent, now, KO, next, requestName, Some(s"Reply timeout after $replyTimeoutInMs ms"))
+      for (message <- timedOutMessages) {
+        sentMessages.remove(message.matchId)
+        executeTimeout(statsEngine, message, now)
       }
       timedOutMessages.clear()
       stay
   }
-
-  private def executeNext(
-      session: Session,
-      sent: Long,
-      received: Long,
-      status: Status,
-      next: Action,
-      requestName: String,
-      message: Option[String]
-  ): Unit = {
-    statsEngine.logResponse(session.scenario, session.groups, requestName, sent, received, status, None, message)
-    next ! session.logGroupRequestTimings(sent, received)
-  }
-
-  /**
-   * Processes a matched message
-   */
-  private def processMessage(
-      session: Session,
-      sent: Long,
-      received: Long,
-      checks: List[JmsCheck],
-      message: Message,
-      next: Action,
-      requestName: String
-  ): Unit = {
-    // run all the checks, advise the Gatling API that it is complete and move to next
-    val (newSession, error) = Check.check(CachingMessage(message), session, checks)
-    error match {
-      case Some(Failure(errorMessage)) => executeNext(newSession.markAsFailed, sent, received, KO, next, requestName, Some(errorMessage))
-      case _                           => executeNext(newSession, sent, received, OK, next, requestName, None)
-    }
-  }
 }
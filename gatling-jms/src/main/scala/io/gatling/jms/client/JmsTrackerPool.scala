@@ -19,7 +19,7 @@ package io.gatling.jms.client
 import java.util.concurrent.ConcurrentHashMap
 
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.ActorSystem
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.stats.StatsEngine
 import io.gatling.core.util.NameGen
@@ -41,13 +41,24 @@ final class JmsTrackerPool(
     configuration: GatlingConfiguration
 ) extends JmsLogging
     with NameGen {
-  private val trackers = new ConcurrentHashMap[(Destination, Option[String]), ActorRef[JmsTracker.Command]]
+  private val trackers = new ConcurrentHashMap[(Destination, Option[String]), JmsMessageTracker]
 
-  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ActorRef[JmsTracker.Command] =
+  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): JmsMessageTracker =
     trackers.computeIfAbsent(
       (destination, selector),
       _ => {
-        val tracker = system.actorOf(JmsTracker.actor(genName("jmsTrackerActor"), statsEngine, clock, configuration))
+        val tracker =
+          if (configuration.jms.trackerShards > 0) {
+            new ShardedJmsTracker(
+              configuration.jms.trackerShards,
+              statsEngine,
+              clock,
+              system.scheduler,
+              configuration.jms.replyTimeoutScanPeriod
+            )
+          } else {
+            JmsTracker.messageTracker(system.actorOf(JmsTracker.actor(genName("jmsTrackerActor"), statsEngine, clock, configuration)))
+          }
 
         for (_ <- 1 to listenerThreadCount) {
           // jms session pool logic creates a session per thread and stores it in thread local.
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.{ ConcurrentHashMap, ConcurrentSkipListMap }
+import java.util.concurrent.atomic.AtomicBoolean
+
+import scala.concurrent.duration.FiniteDuration
+
+import io.gatling.commons.util.Clock
+import io.gatling.core.actor.Scheduler
+import io.gatling.core.stats.StatsEngine
+
+object ShardedJmsTracker {
+  private final class Shard {
+    val sentMessages = new ConcurrentHashMap[String, JmsTracker.Command.MessageSent]
+    // messages with a reply timeout, by deadline bucket then matchId
+    // answered messages are dropped from their bucket right away so they don't hold their Session until it expires
+    val deadlineBuckets = new ConcurrentSkipListMap[java.lang.Long, ConcurrentHashMap[String, JmsTracker.Command.MessageSent]]
+  }
+}
+
+/**
+ * Correlates request and response JMS messages like the [[JmsTracker]] actor, but without funneling all the messages through a single
+ * mailbox:
+ *   - messages are tracked in one of `shardCount` concurrent maps picked from their matchId hash
+ *   - replies are processed directly on the consumer threads
+ *   - messages with a reply timeout are also registered in a bucket per `replyTimeoutScanPeriod` interval of their deadline, so the periodic
+ *     timeout scan only visits the expired buckets instead of all the pending messages
+ */
+final class ShardedJmsTracker(
+    shardCount: Int,
+    statsEngine: StatsEngine,
+    clock: Clock,
+    scheduler: Scheduler,
+    replyTimeoutScanPeriod: FiniteDuration
+) extends JmsMessageTracker {
+  import JmsTracker._
+  import JmsTracker.Command._
+  import ShardedJmsTracker._
+
+  private val shards = Array.fill(shardCount)(new Shard)
+  private val bucketWidth = replyTimeoutScanPeriod.toMillis.max(1L)
+  private val periodicTimeoutScanTriggered = new AtomicBoolean
+
+  private def shard(matchId: String): Shard = shards(Math.floorMod(matchId.hashCode, shardCount))
+
+  override def !(command: Command): Unit =
+    command match {
+      case messageSent: MessageSent =>
+        track(messageSent)
+
+      case MessageReceived(matchId, received, message) =>
+        // if key is missing, message was already acked and is a dup, or request timedout
+        val shard = this.shard(matchId)
+        val messageSent = shard.sentMessages.remove(matchId)
+        if (messageSent != null) {
+          untrackDeadline(shard, messageSent)
+          processMessage(statsEngine, messageSent, received, message)
+        }
+
+      case MessageSendFailed(matchId, failed, error) =>
+        val shard = this.shard(matchId)
+        val messageSent = shard.sentMessages.remove(matchId)
+        if (messageSent != null) {
+          untrackDeadline(shard, messageSent)
+          executeSendFailure(statsEngine, messageSent, failed, error)
+        }
+
+      case TimeoutScan =>
+        expireBuckets(clock.nowMillis)
+    }
+
+  private def track(messageSent: MessageSent): Unit = {
+    val shard = this.shard(messageSent.matchId)
+    shard.sentMessages.put(messageSent.matchId, messageSent)
+    if (messageSent.replyTimeoutInMs > 0) {
+      shard.deadlineBuckets.computeIfAbsent(deadlineBucket(messageSent), _ => new ConcurrentHashMap[String, MessageSent]).put(messageSent.matchId, messageSent)
+      triggerPeriodicTimeoutScan()
+    }
+  }
+
+  // a bucket expires once all the deadlines it contains have passed
+  private def deadlineBucket(messageSent: MessageSent): Long =
+    Math.floorDiv(messageSent.sent + messageSent.replyTimeoutInMs, bucketWidth) + 1
+
+  // a reply racing with track might find no bucket entry yet, the entry is then dropped when its bucket expires
+  private def untrackDeadline(shard: Shard, messageSent: MessageSent): Unit =
+    if (messageSent.replyTimeoutInMs > 0) {
+      val bucket = shard.deadlineBuckets.get(deadlineBucket(messageSent))
+      if (bucket != null) {
+        bucket.remove(messageSent.matchId, messageSent)
+      }
+    }
+
+  private[jms] def deadlineCount: Int = shards.iterator.map(_.deadlineBuckets.values.stream.mapToInt(_.size).sum).sum
+
+  private def triggerPeriodicTimeoutScan(): Unit =
+    if (!periodicTimeoutScanTriggered.get && periodicTimeoutScanTriggered.compareAndSet(false, true)) {
+      scheduler.scheduleAtFixedRate(replyTimeoutScanPeriod) {
+        this ! TimeoutScan
+      }
+    }
+
+  private def expireBuckets(now: Long): Unit = {
+    val lastExpiredBucket = Math.floorDiv(now, bucketWidth)
+    shards.foreach { shard =>
+      var bucket = shard.deadlineBuckets.firstEntry
+      while (bucket != null && bucket.getKey <= lastExpiredBucket) {
+        shard.deadlineBuckets.remove(bucket.getKey)
+        bucket.getValue.values.forEach { messageSent =>
+          // the reply might have been received in the meantime
+          if (shard.sentMessages.remove(messageSent.matchId, messageSent)) {
+            executeTimeout(statsEngine, messageSent, now)
+          }
+        }
+        bucket = shard.deadlineBuckets.firstEntry
+      }
+    }
+  }
+}
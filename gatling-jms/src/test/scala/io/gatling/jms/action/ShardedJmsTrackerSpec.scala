@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.action
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.util.Clock
+import io.gatling.core.{ CoreDsl, EmptySession }
+import io.gatling.core.action.ActorDelegatingAction
+import io.gatling.core.actor.ActorSpec
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session.Session
+import io.gatling.jms._
+import io.gatling.jms.client.{ JmsTracker, ShardedJmsTracker }
+
+class ShardedJmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage with EmptySession {
+  override val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+
+  private final class ManualClock extends Clock {
+    @volatile var now: Long = 0
+
+    override def nowMillis: Long = now
+  }
+
+  private def newTracker(statsEngine: MockStatsEngine, clock: Clock) =
+    new ShardedJmsTracker(4, statsEngine, clock, actorSystem.scheduler, 1.second)
+
+  "ShardedJmsTracker" should "pass to next actor when matching message is received" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = newTracker(statsEngine, new ManualClock)
+
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "success")
+    tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("test"))
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession
+    statsEngine.messages should contain(MockStatsEngine.Message.Response(emptySession.scenario, Nil, "success", 15, 30, OK, None, None))
+  }
+
+  it should "pass KO to next actor when check fails" in {
+    val failedCheck = simpleCheck(_ => false)
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = newTracker(statsEngine, new ManualClock)
+
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, List(failedCheck), emptySession, new ActorDelegatingAction("next", nextActor), "failure")
+    tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("test"))
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    statsEngine.messages should contain(
+      MockStatsEngine.Message.Response(emptySession.scenario, Nil, "failure", 15, 30, KO, None, Some("JMS check failed"))
+    )
+  }
+
+  it should "ignore duplicated replies" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = newTracker(statsEngine, new ManualClock)
+
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "dup")
+    tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("test"))
+    tracker ! JmsTracker.Command.MessageReceived("1", 40, textMessage("test"))
+
+    nextActor.expectMsgType[Session]()
+    nextActor.expectNoMsg()
+  }
+
+  it should "only time out messages whose deadline has passed" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val next = new ActorDelegatingAction("next", nextActor)
+    val clock = new ManualClock
+    val tracker = newTracker(statsEngine, clock)
+
+    tracker ! JmsTracker.Command.MessageSent("short", 0, 2000, Nil, emptySession, next, "short")
+    tracker ! JmsTracker.Command.MessageSent("long", 0, 10000, Nil, emptySession, next, "long")
+    tracker ! JmsTracker.Command.MessageSent("replied", 0, 2000, Nil, emptySession, next, "replied")
+    tracker ! JmsTracker.Command.MessageReceived("replied", 500, textMessage("test"))
+    nextActor.expectMsgType[Session]()
+
+    clock.now = 1500
+    tracker ! JmsTracker.Command.TimeoutScan
+    nextActor.expectNoMsg()
+
+    clock.now = 3500
+    tracker ! JmsTracker.Command.TimeoutScan
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    nextActor.expectNoMsg()
+    statsEngine.messages should contain(
+      MockStatsEngine.Message.Response(emptySession.scenario, Nil, "short", 0, 3500, KO, None, Some("Reply timeout after 2000 ms"))
+    )
+  }
+
+  it should "stop tracking the deadline of answered messages" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val next = new ActorDelegatingAction("next", nextActor)
+    val tracker = newTracker(statsEngine, new ManualClock)
+
+    tracker ! JmsTracker.Command.MessageSent("replied", 0, 2000, Nil, emptySession, next, "replied")
+    tracker ! JmsTracker.Command.MessageSent("failed", 0, 2000, Nil, emptySession, next, "failed")
+    tracker ! JmsTracker.Command.MessageSent("pending", 0, 2000, Nil, emptySession, next, "pending")
+    tracker.deadlineCount shouldBe 3
+
+    tracker ! JmsTracker.Command.MessageReceived("replied", 500, textMessage("test"))
+    tracker ! JmsTracker.Command.MessageSendFailed("failed", 600, "boom")
+    nextActor.expectMsgType[Session]()
+    nextActor.expectMsgType[Session]()
+
+    tracker.deadlineCount shouldBe 1
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+
+import jakarta.jms.{ Connection, DeliveryMode, Destination, Message, MessageProducer, Session => JmsSession }
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito._
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class JmsSenderSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
+  private val destination = mock[Destination]
+
+  /**
+   * A single non transacted sender thread, whose first send blocks until released so the next messages stay queued
+   */
+  private def blockedSender(queueSize: Int): (JmsSender, CountDownLatch) = {
+    val sending = new CountDownLatch(1)
+    val released = new CountDownLatch(1)
+    val producer = mock[MessageProducer]
+    doAnswer { _ =>
+      sending.countDown()
+      released.await()
+    }.when(producer).send(any[Message])
+    val session = mock[JmsSession]
+    when(session.createProducer(any[Destination])).thenReturn(producer)
+    val connection = mock[Connection]
+    when(connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)).thenReturn(session)
+
+    val sender = new JmsSender(connection, 1, 1, queueSize)
+    send(sender)
+    sending.await(5, TimeUnit.SECONDS) shouldBe true
+    (sender, released)
+  }
+
+  private def send(sender: JmsSender): Promise[Unit] = {
+    val result = Promise[Unit]()
+    sender.send(destination, DeliveryMode.NON_PERSISTENT, mock[Message], () => result.success(()), result.failure)
+    result
+  }
+
+  private def failureMessage(result: Promise[Unit]): Option[String] =
+    result.future.value.flatMap(_.failed.toOption).map(_.getMessage)
+
+  "JmsSender" should "fail sends immediately when its queue is full" in {
+    val (sender, released) = blockedSender(queueSize = 1)
+    try {
+      val queued = send(sender)
+      val rejected = send(sender)
+
+      queued.isCompleted shouldBe false
+      failureMessage(rejected).getOrElse("") should include("queue is full")
+
+      released.countDown()
+      Await.result(queued.future, 5.seconds)
+    } finally {
+      sender.close()
+    }
+  }
+
+  it should "fail the sends still queued when closed" in {
+    val (sender, released) = blockedSender(queueSize = 2)
+    val queued = List.fill(2)(send(sender))
+
+    sender.close()
+    released.countDown()
+
+    queued.map(failureMessage) shouldBe List.fill(2)(Some("JmsSender is closed"))
+    failureMessage(send(sender)) shouldBe Some("JmsSender is closed")
+  }
+}
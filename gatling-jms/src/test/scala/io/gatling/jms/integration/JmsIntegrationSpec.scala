@@ -19,6 +19,7 @@ package io.gatling.jms.integration
 import java.util.Locale
 
 import io.gatling.core.CoreDsl
+import io.gatling.core.config.GatlingConfiguration
 import io.gatling.jms.request.JmsDestination
 
 import jakarta.jms.TextMessage
@@ -58,4 +59,28 @@ class JmsIntegrationSpec extends JmsSpec with CoreDsl {
     session("propertyValue").as[String] shouldBe "test value"
     session("jmsType").as[String] shouldBe "test jmsType"
   }
+
+  it should "send and receive JMS message from dedicated sender threads in transacted batches" in {
+    val requestQueue = JmsDestination.Queue("batchedRequest")
+
+    replier(
+      requestQueue,
+      { case (tm: TextMessage, session) =>
+        session.createTextMessage(tm.getText.toUpperCase(Locale.ROOT))
+      }
+    )
+
+    val session = runScenario(
+      scenario("Jms batched upperCase")
+        .exec(
+          jms("toUpperCase").requestReply
+            .destination(requestQueue)
+            .textMessage("hi")
+            .check(bodyString.saveAs("content"))
+        )
+    )(GatlingConfiguration.loadForTest("gatling.jms.sendThreads" -> 2, "gatling.jms.sendBatchSize" -> 8))
+
+    session.isFailed shouldBe false
+    session("content").as[String] shouldBe "HI"
+  }
 }
@@ -67,6 +67,17 @@ public final class RedisFeederBuilder implements Supplier<Iterator<Map<String, O
     return new RedisFeederBuilder(wrapped.RPOPLPUSH());
   }
 
+  /**
+   * Prefetch values in the background by batches fetched in a single round-trip, either with a
+   * script looping over the command or with its count variant
+   *
+   * @param batchSize the number of values fetched per round-trip
+   * @return a new RedisFeederBuilder instance
+   */
+  public @NonNull RedisFeederBuilder prefetch(int batchSize) {
+    return new RedisFeederBuilder(wrapped.prefetch(batchSize));
+  }
+
   @Override
   public Iterator<Map<String, Object>> get() {
     return toJavaFeeder(wrapped.apply());
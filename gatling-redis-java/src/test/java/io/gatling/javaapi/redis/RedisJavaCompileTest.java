@@ -27,5 +27,6 @@ public class RedisJavaCompileTest extends Simulation {
 
   {
     feed(redisFeeder(redisPool, "key", "keydest").LPOP().SPOP().SRANDMEMBER().RPOPLPUSH());
+    feed(redisFeeder(redisPool, "key").LPOP().prefetch(100));
   }
 }
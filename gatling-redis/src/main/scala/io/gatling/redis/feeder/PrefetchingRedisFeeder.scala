@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.redis.feeder
+
+import java.util.concurrent.{ ArrayBlockingQueue, ExecutorService, Executors, TimeUnit }
+import java.util.concurrent.atomic.AtomicBoolean
+
+import scala.jdk.CollectionConverters._
+import scala.util.control.NonFatal
+
+import io.gatling.core.feeder.{ CloseableFeeder, Record }
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.util.concurrent.DefaultThreadFactory
+
+private[feeder] object PrefetchingRedisFeeder {
+  private val RedisFeederThreadFactory = new DefaultThreadFactory("gatling-redis-feeder", true)
+  private val InFlightFetchTimeoutSeconds = 10L
+}
+
+/**
+ * Serves values from a local ring buffer of twice batchSize values. Whenever it falls under batchSize values, the next batch is fetched in the background.
+ * The feeder ends once a batch comes back incomplete, meaning the source is drained, and the buffer is empty.
+ *
+ * Meant to be consumed by a single thread at a time.
+ *
+ * @param fetch
+ *   fetches at most the requested number of values in a single round-trip
+ * @param restore
+ *   puts back into the source the values that were fetched but not consumed when the feeder is closed, if fetching removed them
+ */
+private[feeder] final class PrefetchingRedisFeeder(key: String, fetch: Int => List[String], restore: Option[List[String] => Unit], batchSize: Int)
+    extends CloseableFeeder[Any]
+    with StrictLogging {
+  private val buffer = new ArrayBlockingQueue[String](batchSize * 2)
+  private val executor: ExecutorService = Executors.newSingleThreadExecutor(PrefetchingRedisFeeder.RedisFeederThreadFactory)
+  private val refilling = new AtomicBoolean
+  @volatile private var drained = false
+  @volatile private var failure: Throwable = _
+  private var nextValue: String = _
+
+  private def refillIfNeeded(): Unit =
+    if (!drained && buffer.size <= batchSize && refilling.compareAndSet(false, true)) {
+      executor.execute { () =>
+        try {
+          val values = fetch(batchSize)
+          values.foreach(buffer.offer(_))
+          if (values.sizeIs < batchSize) {
+            drained = true
+          }
+        } catch {
+          case NonFatal(e) =>
+            failure = e
+            drained = true
+        } finally {
+          refilling.set(false)
+        }
+      }
+    }
+
+  private def take(): String = {
+    refillIfNeeded()
+    var value = buffer.poll()
+    // wait for the in-flight refill, if any
+    while (value == null && !(drained && !refilling.get)) {
+      value = buffer.poll(10, TimeUnit.MILLISECONDS)
+      if (value == null) {
+        refillIfNeeded()
+      }
+    }
+
+    if (value == null) {
+      // the last refill might have completed in the meantime
+      value = buffer.poll()
+    }
+
+    if (value == null) {
+      executor.shutdown()
+      if (failure != null) {
+        throw failure
+      }
+    }
+    value
+  }
+
+  override def hasNext: Boolean = {
+    if (nextValue == null) {
+      nextValue = take()
+    }
+    nextValue != null
+  }
+
+  override def next(): Record[Any] = {
+    if (!hasNext) {
+      throw new NoSuchElementException("Redis feeder is drained")
+    }
+    val value = nextValue
+    nextValue = null
+    Map(key -> value)
+  }
+
+  override def close(): Unit = {
+    executor.shutdown()
+    restore match {
+      case Some(restore) =>
+        // let the in-flight fetch, if any, complete so the values it removed from the source get restored too
+        if (!executor.awaitTermination(PrefetchingRedisFeeder.InFlightFetchTimeoutSeconds, TimeUnit.SECONDS)) {
+          executor.shutdownNow()
+        }
+
+        val unconsumed = new java.util.ArrayList[String](buffer.size + 1)
+        if (nextValue != null) {
+          unconsumed.add(nextValue)
+          nextValue = null
+        }
+        buffer.drainTo(unconsumed)
+
+        if (!unconsumed.isEmpty) {
+          try {
+            restore(unconsumed.asScala.toList)
+            logger.info(s"Pushed ${unconsumed.size} prefetched but unconsumed values back into Redis key $key")
+          } catch {
+            case NonFatal(e) =>
+              logger.warn(s"Failed to push ${unconsumed.size} prefetched but unconsumed values back into Redis key $key, they are lost", e)
+          }
+        }
+
+      case _ =>
+        executor.shutdownNow()
+    }
+  }
+}
@@ -21,7 +21,7 @@ import io.gatling.core.feeder.{ Feeder, NamedFeederBuilder }
 import com.redis.{ RedisClient, RedisClientPool }
 
 /**
- * Class for feeding data from Redis DB, using LPOP, SPOP or SRANDMEMBER, RPOPLPUSH commands.
+ * Class for feeding data from Redis DB, using LPOP, SPOP or SRANDMEMBER, RPOPLPUSH commands, either one value per round-trip or prefetched by batches.
  *
  * Originally contributed by Krishnen Chedambarum. RPOPLPUSH added by Shoaib Khan
  */
@@ -37,25 +37,108 @@ object RedisFeederBuilder {
 
   private val RPOPLPUSH: RedisCommand = (redisClient, keySrc, keyDest) => redisClient.rpoplpush(keySrc, keyDest)
 
+  // Function for fetching at most count values in a single round-trip
+  private type RedisBatchCommand = (RedisClient, String, String, Int) => List[String]
+
+  // LPOP only accepts a count from Redis 6.2 and RPOPLPUSH never does, loop in a script instead
+  private val BatchLPOPScript =
+    """local values = {}
+      |for i = 1, tonumber(ARGV[1]) do
+      |  local value = redis.call('LPOP', KEYS[1])
+      |  if not value then break end
+      |  values[i] = value
+      |end
+      |return values""".stripMargin
+
+  private val BatchRPOPLPUSHScript =
+    """local values = {}
+      |for i = 1, tonumber(ARGV[1]) do
+      |  local value = redis.call('RPOPLPUSH', KEYS[1], KEYS[2])
+      |  if not value then break end
+      |  values[i] = value
+      |end
+      |return values""".stripMargin
+
+  private val BatchLPOP: RedisBatchCommand = (redisClient, keySrc, _, count) =>
+    redisClient.evalMultiBulk[String](BatchLPOPScript, List(keySrc), List(count)).fold(List.empty[String])(_.flatten)
+
+  private val SPOPWithCount: RedisBatchCommand = (redisClient, keySrc, _, count) =>
+    redisClient.spop[String](keySrc, count).fold(List.empty[String])(_.iterator.flatten.toList)
+
+  private val SRANDMEMBERWithCount: RedisBatchCommand = (redisClient, keySrc, _, count) =>
+    // a negative count allows the same member to be returned multiple times, so the batch is never incomplete unless the set is empty
+    redisClient.srandmember[String](keySrc, -count).fold(List.empty[String])(_.iterator.flatten.toList)
+
+  private val BatchRPOPLPUSH: RedisBatchCommand = (redisClient, keySrc, keyDest, count) =>
+    redisClient.evalMultiBulk[String](BatchRPOPLPUSHScript, List(keySrc, keyDest), List(count)).fold(List.empty[String])(_.flatten)
+
+  // Function for putting back into the source the values that were fetched but never consumed
+  private[feeder] type RedisRestoreCommand = (RedisClient, String, List[String]) => Unit
+
+  // LPUSH prepends its arguments one after the other, so the values must be reversed to restore their original order
+  private[feeder] val RestoreLPOP: RedisRestoreCommand = (redisClient, keySrc, values) =>
+    values.reverse match {
+      case head :: tail => redisClient.lpush(keySrc, head, tail: _*)
+      case _            =>
+    }
+
+  private val RestoreSPOP: RedisRestoreCommand = (redisClient, keySrc, values) =>
+    values match {
+      case head :: tail => redisClient.sadd(keySrc, head, tail: _*)
+      case _            =>
+    }
+
   def apply(clientPool: RedisClientPool, keySrc: String, keyDest: String): RedisFeederBuilder =
-    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, keySrc, keyDest)
+    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, RedisFeederBuilder.BatchLPOP, Some(RedisFeederBuilder.RestoreLPOP), keySrc, keyDest, 0)
 }
 
-final case class RedisFeederBuilder(clientPool: RedisClientPool, command: RedisFeederBuilder.RedisCommand, keySrc: String, keyDest: String)
-    extends NamedFeederBuilder {
-  def LPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.LPOP)
-  def SPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.SPOP)
-  def SRANDMEMBER: RedisFeederBuilder = copy(command = RedisFeederBuilder.SRANDMEMBER)
-  def RPOPLPUSH: RedisFeederBuilder = copy(command = RedisFeederBuilder.RPOPLPUSH)
-
-  override def apply(): Feeder[Any] = {
-    def next: Option[Map[String, String]] = clientPool.withClient { client =>
-      val value = command(client, keySrc, keyDest)
-      value.map(value => Map(keySrc -> value))
-    }
+final case class RedisFeederBuilder(
+    clientPool: RedisClientPool,
+    command: RedisFeederBuilder.RedisCommand,
+    batchCommand: RedisFeederBuilder.RedisBatchCommand,
+    restoreCommand: Option[RedisFeederBuilder.RedisRestoreCommand],
+    keySrc: String,
+    keyDest: String,
+    prefetchBatchSize: Int
+) extends NamedFeederBuilder {
+  def LPOP: RedisFeederBuilder =
+    copy(command = RedisFeederBuilder.LPOP, batchCommand = RedisFeederBuilder.BatchLPOP, restoreCommand = Some(RedisFeederBuilder.RestoreLPOP))
+  def SPOP: RedisFeederBuilder =
+    copy(command = RedisFeederBuilder.SPOP, batchCommand = RedisFeederBuilder.SPOPWithCount, restoreCommand = Some(RedisFeederBuilder.RestoreSPOP))
+  def SRANDMEMBER: RedisFeederBuilder =
+    copy(command = RedisFeederBuilder.SRANDMEMBER, batchCommand = RedisFeederBuilder.SRANDMEMBERWithCount, restoreCommand = None)
+  def RPOPLPUSH: RedisFeederBuilder =
+    copy(command = RedisFeederBuilder.RPOPLPUSH, batchCommand = RedisFeederBuilder.BatchRPOPLPUSH, restoreCommand = None)
 
-    Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
+  /**
+   * Fetch values by batches of batchSize in a single round-trip, either with a script looping over the command or with its count variant, in the background so
+   * virtual users don't wait on Redis as long as the local buffer isn't empty.
+   *
+   * With LPOP and SPOP, the values that were fetched but not consumed yet when the feeder is closed are pushed back into keySrc, LPOP ones at the head of the
+   * list in their original order. If pushing them back fails, they're lost and a warning logs how many. With RPOPLPUSH, they're already in keyDest, and
+   * SRANDMEMBER doesn't remove anything.
+   */
+  def prefetch(batchSize: Int): RedisFeederBuilder = {
+    require(batchSize > 0, "prefetch batchSize must be strictly positive")
+    copy(prefetchBatchSize = batchSize)
   }
 
+  override def apply(): Feeder[Any] =
+    if (prefetchBatchSize > 0) {
+      new PrefetchingRedisFeeder(
+        keySrc,
+        count => clientPool.withClient(batchCommand(_, keySrc, keyDest, count)),
+        restoreCommand.map(restore => values => clientPool.withClient(restore(_, keySrc, values))),
+        prefetchBatchSize
+      )
+    } else {
+      def next: Option[Map[String, String]] = clientPool.withClient { client =>
+        val value = command(client, keySrc, keyDest)
+        value.map(value => Map(keySrc -> value))
+      }
+
+      Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
+    }
+
   override val name: String = "redis"
 }
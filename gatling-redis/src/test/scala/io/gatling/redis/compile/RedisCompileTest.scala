@@ -25,6 +25,7 @@ class RedisCompileTest extends Simulation {
   private val redisPool = new RedisClientPool("localhost", 6379)
 
   redisFeeder(redisPool, "key")
+  redisFeeder(redisPool, "key").SPOP.prefetch(100)
 
   after {
     redisPool.close()
@@ -79,4 +79,66 @@ class RedisFeederSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
       redisFeeder(clientPool, KEY, KEYDEST).RPOPLPUSH.apply().toList shouldBe valsLst(KEY, "v3", "v2", "v1")
     }
   }
+
+  "prefetching redis feeder" should "serve all the values of the fetched batches" in {
+    val batches = Iterator(List("v1", "v2"), List("v3", "v4"), List("v5"))
+    val feeder = new PrefetchingRedisFeeder(KEY, _ => batches.next(), None, 2)
+
+    feeder.toList shouldBe valsLst(KEY, "v1", "v2", "v3", "v4", "v5")
+  }
+
+  it should "end when the source is empty" in {
+    new PrefetchingRedisFeeder(KEY, _ => Nil, None, 10).hasNext shouldBe false
+  }
+
+  it should "request batches of the configured size" in {
+    @volatile var requestedCounts = List.empty[Int]
+    val feeder = new PrefetchingRedisFeeder(
+      KEY,
+      count => {
+        requestedCounts = count :: requestedCounts
+        Nil
+      },
+      None,
+      7
+    )
+
+    feeder.hasNext shouldBe false
+    requestedCounts shouldBe List(7)
+  }
+
+  it should "propagate fetch failures" in {
+    val feeder = new PrefetchingRedisFeeder(KEY, _ => throw new IllegalStateException("boom"), None, 10)
+
+    an[IllegalStateException] should be thrownBy feeder.hasNext
+  }
+
+  it should "restore the fetched but unconsumed values on close" in {
+    val batches = Iterator(List("v1", "v2"), List("v3", "v4"))
+    @volatile var fetched = List.empty[String]
+    @volatile var restored = List.empty[String]
+    val feeder = new PrefetchingRedisFeeder(
+      KEY,
+      _ => {
+        val batch = if (batches.hasNext) batches.next() else Nil
+        fetched = fetched ::: batch
+        batch
+      },
+      Some(values => restored = values),
+      2
+    )
+
+    feeder.next() shouldBe Map(KEY -> "v1")
+    feeder.hasNext shouldBe true
+    feeder.close()
+
+    restored shouldBe fetched.tail
+  }
+
+  it should "push unconsumed LPOP values back at the head of the list in their original order" in {
+    new MockContext {
+      RedisFeederBuilder.RestoreLPOP(client, KEY, List("v1", "v2", "v3"))
+      verify(client).lpush(KEY, "v3", "v2", "v1")
+    }
+  }
 }
@@ -185,7 +185,9 @@ object Dependencies {
 
   val chartsDependencies = tdigest +: testDeps
 
-  val benchmarkDependencies = Seq(jmh)
+  val appDependencies = testDeps
+
+  val benchmarkDependencies = Seq(jmh, activemqBroker.withConfigurations(None))
 
   val recorderDependencies = Seq(gatlingSharedCli, scalaSwing, jackson, bouncyCastle, nettyHttp) ++ testDeps
 